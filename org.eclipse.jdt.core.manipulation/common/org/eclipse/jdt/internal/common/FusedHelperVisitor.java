@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Runs several HelperVisitors in a single traversal of the AST instead of one traversal per
+ * HelperVisitor.
+ *
+ * Each HelperVisitor sees the same calls it would get from its own LambdaASTVisitor: when one of
+ * its BiPredicates returns false the children of that node are hidden from this HelperVisitor
+ * only, while the others continue to see them. The BiConsumer for the node itself is still called
+ * when the traversal leaves the node. The HelperVisitors are called in the order they were added,
+ * so they must not depend on side effects of each other.
+ */
+public class FusedHelperVisitor {
+
+	private final List<HelperVisitor<?, ?, ?>> helpervisitors= new ArrayList<>();
+
+	/**
+	 * Add a HelperVisitor whose predicates and consumers should be part of the traversal
+	 *
+	 * @param hv - HelperVisitor
+	 * @return - FusedHelperVisitor
+	 */
+	public FusedHelperVisitor add(HelperVisitor<?, ?, ?> hv) {
+		helpervisitors.add(hv);
+		return this;
+	}
+
+	/**
+	 *
+	 * @return - number of HelperVisitors added
+	 */
+	public int size() {
+		return helpervisitors.size();
+	}
+
+	/**
+	 * Visit node once and dispatch to all HelperVisitors added
+	 *
+	 * @param node - ASTNode
+	 * @return - FusedHelperVisitor
+	 */
+	public FusedHelperVisitor build(ASTNode node) {
+		if (!helpervisitors.isEmpty()) {
+			node.accept(new DispatchingVisitor(helpervisitors.toArray(new HelperVisitor<?, ?, ?>[helpervisitors.size()])));
+		}
+		return this;
+	}
+
+	private static class DispatchingVisitor extends ASTVisitor {
+
+		private final HelperVisitor<?, ?, ?>[] visitors;
+
+		/**
+		 * For each HelperVisitor the node whose BiPredicate returned false, null while the
+		 * HelperVisitor is interested in the nodes visited.
+		 */
+		private final ASTNode[] suspendedat;
+
+		private int active;
+
+		DispatchingVisitor(HelperVisitor<?, ?, ?>[] visitors) {
+			/*
+			 * LambdaASTVisitor overrides visit(Javadoc) and thus always visits doc tags
+			 */
+			super(true);
+			this.visitors= visitors;
+			this.suspendedat= new ASTNode[visitors.length];
+			this.active= visitors.length;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			VisitorEnum kind= VisitorEnum.fromNode(node);
+			if (kind == null) {
+				return true;
+			}
+			for (int i= 0; i < visitors.length; i++) {
+				if (suspendedat[i] == null && !visitors[i].test(kind, node)) {
+					suspendedat[i]= node;
+					active--;
+				}
+			}
+			/*
+			 * postVisit is called even if the children are skipped
+			 */
+			return active > 0;
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			VisitorEnum kind= VisitorEnum.fromNode(node);
+			if (kind == null) {
+				return;
+			}
+			for (int i= 0; i < visitors.length; i++) {
+				if (suspendedat[i] == node) {
+					suspendedat[i]= null;
+					active++;
+				}
+				if (suspendedat[i] == null) {
+					visitors[i].accept(kind, node);
+				}
+			}
+		}
+	}
+}
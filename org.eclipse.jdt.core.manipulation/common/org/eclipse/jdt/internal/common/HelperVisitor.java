@@ -13,9 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -93,10 +92,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
-		this.predicatedata= new HashMap<>();
-		this.consumerdata= new HashMap<>();
+		this.predicatemap= new EnumMap<>(VisitorEnum.class);
+		this.consumermap= new EnumMap<>(VisitorEnum.class);
+		this.predicatedata= new EnumMap<>(VisitorEnum.class);
+		this.consumerdata= new EnumMap<>(VisitorEnum.class);
 
 		this.dataholder= dataholder;
 		dataholder.setHelperVisitor(this);
@@ -181,6 +180,65 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		this.consumermap.remove(ve);
 	}
 
+	/**
+	 * Call the BiPredicate registered for the kind of node, if any. Used by
+	 * {@link FusedHelperVisitor} to dispatch without a LambdaASTVisitor.
+	 *
+	 * @param kind - visitor kind of node
+	 * @param node - ASTNode
+	 * @return - result of the BiPredicate or true if there is none for the node
+	 */
+	@SuppressWarnings("unchecked")
+	boolean test(VisitorEnum kind, ASTNode node) {
+		BiPredicate<ASTNode, E> bs= (BiPredicate<ASTNode, E>) predicatemap.get(kind);
+		if (bs == null || !matches(predicatedata.get(kind), node)) {
+			return true;
+		}
+		return bs.test(node, dataholder);
+	}
+
+	/**
+	 * Call the BiConsumer registered for the kind of node, if any. Used by
+	 * {@link FusedHelperVisitor} to dispatch without a LambdaASTVisitor.
+	 *
+	 * @param kind - visitor kind of node
+	 * @param node - ASTNode
+	 */
+	@SuppressWarnings("unchecked")
+	void accept(VisitorEnum kind, ASTNode node) {
+		BiConsumer<ASTNode, E> bc= (BiConsumer<ASTNode, E>) consumermap.get(kind);
+		if (bc != null && matches(consumerdata.get(kind), node)) {
+			bc.accept(node, dataholder);
+		}
+	}
+
+	/**
+	 * Same filters as the ones applied by LambdaASTVisitor for the additional data of a visitor
+	 * kind: the method name for MethodInvocation and the declared type for
+	 * VariableDeclarationStatement.
+	 *
+	 * @param data - additional data registered for the visitor kind or null
+	 * @param node - ASTNode
+	 * @return - true if the BiPredicate or BiConsumer should be called for the node
+	 */
+	private static boolean matches(Object data, ASTNode node) {
+		if (data == null) {
+			return true;
+		}
+		if (node instanceof MethodInvocation) {
+			return ((MethodInvocation) node).getName().getIdentifier().equals(data);
+		}
+		if (node instanceof VariableDeclarationStatement && data instanceof Class) {
+			VariableDeclarationFragment bli= (VariableDeclarationFragment) ((VariableDeclarationStatement) node).fragments().get(0);
+			IVariableBinding resolveBinding= bli.resolveBinding();
+			if (resolveBinding != null) {
+				String qualifiedName= resolveBinding.getType().getErasure().getQualifiedName();
+				return ((Class<?>) data).getCanonicalName().equals(qualifiedName);
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Get consumer map
 	 *
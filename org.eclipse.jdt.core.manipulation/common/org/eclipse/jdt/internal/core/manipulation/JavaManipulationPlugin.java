@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameIndex;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
@@ -64,6 +65,11 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	 */
 	private volatile TypeFilter fTypeFilter;
 
+	/**
+	 * Index of the qualified names in the text files of the workspace, created on demand.
+	 */
+	private volatile QualifiedNameIndex fQualifiedNameIndex;
+
 	private BundleContext fBundleContext;
 
 	/**
@@ -88,6 +94,10 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 			fTypeFilter.dispose();
 			fTypeFilter= null;
 		}
+		if (fQualifiedNameIndex != null) {
+			fQualifiedNameIndex.dispose();
+			fQualifiedNameIndex= null;
+		}
 	}
 
 	/**
@@ -134,6 +144,19 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 		}
 	}
 
+	public QualifiedNameIndex getQualifiedNameIndex() {
+		QualifiedNameIndex result= fQualifiedNameIndex;
+		if (result != null) {
+			return result;
+		}
+		synchronized(this) {
+			if (fQualifiedNameIndex == null) {
+				fQualifiedNameIndex= new QualifiedNameIndex();
+			}
+			return fQualifiedNameIndex;
+		}
+	}
+
 	public static void log(Throwable e) {
 		ILog.of(JavaManipulationPlugin.class).log(new Status(IStatus.ERROR, JavaManipulation.ID_PLUGIN, IStatusConstants.INTERNAL_ERROR, JavaManipulationMessages.JavaManipulationMessages_internalError, e));
 	}
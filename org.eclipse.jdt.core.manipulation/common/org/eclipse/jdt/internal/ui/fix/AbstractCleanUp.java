@@ -105,6 +105,18 @@ public abstract class AbstractCleanUp implements ICleanUp {
 		return null;
 	}
 
+	/**
+	 * Returns whether {@link #createFix(CleanUpContext)} may be called for several compilation
+	 * units at the same time. The default is <code>false</code>, so that the clean up refactoring
+	 * computes the fixes sequentially. Clean ups that keep no state while creating fixes can
+	 * override this to return <code>true</code>.
+	 *
+	 * @return <code>true</code> if fixes can be created concurrently
+	 */
+	public boolean canCreateFixesConcurrently() {
+		return false;
+	}
+
 	/*
 	 * @see org.eclipse.jdt.ui.cleanup.ICleanUp#checkPostConditions(org.eclipse.core.runtime.IProgressMonitor)
 	 * @since 3.5
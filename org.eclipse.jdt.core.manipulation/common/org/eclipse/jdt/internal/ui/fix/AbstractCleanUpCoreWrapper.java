@@ -52,6 +52,11 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUp> extends Abstr
 		return cleanUpCore.createFix(context);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return cleanUpCore.canCreateFixesConcurrently();
+	}
+
 	@Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
 		return cleanUpCore.checkPostConditions(monitor);
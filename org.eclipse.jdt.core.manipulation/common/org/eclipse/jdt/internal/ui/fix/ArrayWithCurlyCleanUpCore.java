@@ -56,6 +56,11 @@ public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp {
 		return ArrayWithCurlyFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
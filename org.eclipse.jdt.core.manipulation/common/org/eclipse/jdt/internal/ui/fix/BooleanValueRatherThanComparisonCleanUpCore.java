@@ -54,6 +54,11 @@ public class BooleanValueRatherThanComparisonCleanUpCore extends AbstractCleanUp
 		return BooleanValueRatherThanComparisonFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.BOOLEAN_VALUE_RATHER_THAN_COMPARISON)) {
@@ -107,6 +107,11 @@ public class CodeStyleCleanUpCore extends AbstractMultiFix {
 		return result;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
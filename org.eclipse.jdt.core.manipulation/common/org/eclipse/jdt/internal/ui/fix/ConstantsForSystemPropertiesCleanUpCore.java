@@ -93,6 +93,11 @@ public class ConstantsForSystemPropertiesCleanUpCore extends AbstractCleanUp {
 				compilationUnit, operations.toArray(new CompilationUnitRewriteOperationsFixCore.CompilationUnitRewriteOperation[0]));
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	private EnumSet<UpdateProperty> computeFixSet() {
 		EnumSet<UpdateProperty> fixSet= EnumSet.noneOf(UpdateProperty.class);
 
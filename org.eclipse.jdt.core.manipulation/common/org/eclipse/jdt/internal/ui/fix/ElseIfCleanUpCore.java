@@ -49,6 +49,11 @@ public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.ELSE_IF)) {
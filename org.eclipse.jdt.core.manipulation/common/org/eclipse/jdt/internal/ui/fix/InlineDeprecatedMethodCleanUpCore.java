@@ -50,6 +50,11 @@ public class InlineDeprecatedMethodCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REPLACE_DEPRECATED_CALLS)) {
@@ -69,6 +69,11 @@ public class LambdaExpressionsCleanUpCore extends AbstractCleanUp {
 				isEnabled(CleanUpConstants.USE_LAMBDA) && isEnabled(CleanUpConstants.ALSO_SIMPLIFY_LAMBDA));
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
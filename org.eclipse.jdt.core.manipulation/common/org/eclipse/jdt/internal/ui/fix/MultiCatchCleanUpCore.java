@@ -90,6 +90,11 @@ public class MultiCatchCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.MULTI_CATCH)) {
@@ -70,6 +70,11 @@ public class NoStringCreationCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.NO_STRING_CREATION)) {
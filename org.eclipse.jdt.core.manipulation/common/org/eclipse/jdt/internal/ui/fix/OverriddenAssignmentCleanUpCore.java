@@ -48,6 +48,11 @@ public class OverriddenAssignmentCleanUpCore extends AbstractCleanUp {
 		return isEnabled(CleanUpConstants.OVERRIDDEN_ASSIGNMENT);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.OVERRIDDEN_ASSIGNMENT)) {
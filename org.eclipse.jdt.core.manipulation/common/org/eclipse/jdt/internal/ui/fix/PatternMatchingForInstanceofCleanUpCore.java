@@ -59,6 +59,11 @@ public class PatternMatchingForInstanceofCleanUpCore extends AbstractCleanUp {
 		return PatternMatchingForInstanceofFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -96,6 +96,11 @@ public class PotentialProgrammingProblemsCleanUpCore extends AbstractMultiFix {
 		return result;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
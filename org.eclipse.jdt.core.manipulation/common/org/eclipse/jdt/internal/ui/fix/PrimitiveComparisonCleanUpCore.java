@@ -56,6 +56,11 @@ public class PrimitiveComparisonCleanUpCore extends AbstractCleanUp {
 		return PrimitiveComparisonFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -54,6 +54,11 @@ public class PrimitiveRatherThanWrapperCleanUpCore extends AbstractCleanUp {
 		return PrimitiveRatherThanWrapperFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.PRIMITIVE_RATHER_THAN_WRAPPER)) {
@@ -54,6 +54,11 @@ public class PullOutIfFromIfElseCleanUpCore extends AbstractCleanUp {
 		return PullOutIfFromIfElseFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.PULL_OUT_IF_FROM_IF_ELSE)) {
@@ -79,6 +79,12 @@ public class RedundantSemicolonsCleanUpCore extends AbstractMultiFix implements
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		// every fix is a new instance
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS)) {
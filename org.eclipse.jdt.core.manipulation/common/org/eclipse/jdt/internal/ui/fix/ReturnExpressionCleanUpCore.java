@@ -56,6 +56,11 @@ public class ReturnExpressionCleanUpCore extends AbstractCleanUp {
 		return ReturnExpressionFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -89,6 +89,11 @@ public class StaticInnerClassCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.STATIC_INNER_CLASS)) {
@@ -55,6 +55,11 @@ public class StringBufferToStringBuilderCleanUpCore extends AbstractCleanUp {
 		return StringBufferToStringBuilderFixCore.createCleanUp(compilationUnit, isEnabled(CleanUpConstants.STRINGBUFFER_TO_STRINGBUILDER_FOR_LOCALS));
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.STRINGBUFFER_TO_STRINGBUILDER)) {
@@ -55,6 +55,11 @@ public class StringConcatToTextBlockCleanUpCore extends AbstractCleanUp {
 		return StringConcatToTextBlockFixCore.createCleanUp(compilationUnit, isEnabled(CleanUpConstants.STRINGCONCAT_STRINGBUFFER_STRINGBUILDER));
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.STRINGCONCAT_TO_TEXTBLOCK)) {
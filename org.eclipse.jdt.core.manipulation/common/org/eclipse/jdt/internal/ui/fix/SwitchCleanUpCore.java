@@ -62,6 +62,11 @@ public class SwitchCleanUpCore extends AbstractCleanUp {
 		return SwitchFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -59,6 +59,11 @@ public class SwitchExpressionsCleanUpCore extends AbstractCleanUp {
 		return SwitchExpressionsFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -52,6 +52,11 @@ public class UnnecessaryArrayCreationCleanUpCore extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REMOVE_UNNECESSARY_ARRAY_CREATION)) {
@@ -89,6 +89,11 @@ public class UnnecessaryCodeCleanUpCore extends AbstractMultiFix {
 		return result;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
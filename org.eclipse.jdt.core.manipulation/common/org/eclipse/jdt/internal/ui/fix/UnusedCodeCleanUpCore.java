@@ -121,6 +121,11 @@ public class UnusedCodeCleanUpCore extends AbstractMultiFix {
 		return result;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
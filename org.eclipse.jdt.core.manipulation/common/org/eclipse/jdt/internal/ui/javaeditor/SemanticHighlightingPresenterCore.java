@@ -280,6 +280,36 @@ public class SemanticHighlightingPresenterCore {
 		}
 	}
 
+	/**
+	 * Adds the current positions that overlap the given range to the given list.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @param list The list
+	 * @param offset The range offset
+	 * @param length The range length
+	 */
+	public void addPositions(List<Position> list, int offset, int length) {
+		synchronized (fPositionLock) {
+			int end= offset + length;
+			int index= computeIndexAtOffset(fPositions, offset);
+			if (index > 0) {
+				Position previous= fPositions.get(index - 1);
+				if (previous != null && previous.getOffset() + previous.getLength() > offset)
+					index--;
+			}
+			for (int n= fPositions.size(); index < n; index++) {
+				Position position= fPositions.get(index);
+				if (position == null)
+					continue;
+				if (position.getOffset() >= end)
+					break;
+				list.add(position);
+			}
+		}
+	}
+
 	/**
 	 * Create a runnable for updating the presentation.
 	 * <p>
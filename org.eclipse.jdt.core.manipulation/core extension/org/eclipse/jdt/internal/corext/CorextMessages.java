@@ -38,6 +38,7 @@ public final class CorextMessages extends NLS {
 	public static String History_error_serialize;
 	public static String History_error_read;
 	public static String TypeInfoHistory_consistency_check;
+	public static String TypeNameIndex_update;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, CorextMessages.class);
@@ -22,8 +22,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.StringTokenizer;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
@@ -53,8 +62,25 @@ public class CallHierarchyCore {
 
     private String defaultIgnoreFilters= "java.*,javax.*"; //$NON-NLS-1$
 
+    /**
+     * Number of threads used by {@link #expand(MethodWrapper[], int, int, IProgressMonitor)}.
+     */
+    private static final int EXPAND_PARALLELISM= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Interval in milliseconds in which {@link #expand(MethodWrapper[], int, int, IProgressMonitor)}
+     * checks for cancellation while waiting for a search.
+     */
+    private static final long CANCEL_POLL_INTERVAL= 100;
+
     private static CallHierarchyCore fgInstance;
+    /**
+     * Key of the workspace scope used when no search scope is set.
+     */
+    private static final String WORKSPACE_SCOPE_KEY= "workspace"; //$NON-NLS-1$
+
     private IJavaSearchScope fSearchScope;
+    private String fSearchScopeKey;
     private StringMatcher[] fFilters;
 
     public static CallHierarchyCore getDefault() {
@@ -171,15 +197,143 @@ public class CallHierarchyCore {
     public IJavaSearchScope getSearchScope() {
         if (fSearchScope == null) {
             fSearchScope= SearchEngine.createWorkspaceScope();
+            fSearchScopeKey= WORKSPACE_SCOPE_KEY;
         }
 
         return fSearchScope;
     }
 
+    /**
+     * Returns the key of the search scope. Callers found by a search are only cached across
+     * hierarchies if the scope has a key.
+     *
+     * @return the key of the search scope, or <code>null</code> if the scope has none
+     * @see #setSearchScope(IJavaSearchScope, String)
+     */
+    public String getSearchScopeKey() {
+        getSearchScope();
+        return fSearchScopeKey;
+    }
+
     public void setSearchScope(IJavaSearchScope searchScope) {
+        setSearchScope(searchScope, null);
+    }
+
+    /**
+     * Sets the search scope together with a key that identifies it. Search scopes do not
+     * implement <code>equals</code> and a new scope is created whenever a hierarchy is opened, so
+     * the key is what identifies the scope in the caller cache. Two scopes may only have the same
+     * key if they enclose the same elements.
+     *
+     * @param searchScope the search scope, or <code>null</code> for the workspace
+     * @param searchScopeKey the key of the scope, or <code>null</code> if the callers found in the
+     *            scope are not to be cached
+     */
+    public void setSearchScope(IJavaSearchScope searchScope, String searchScopeKey) {
         this.fSearchScope= searchScope;
+        this.fSearchScopeKey= searchScopeKey;
     }
 
+	/**
+	 * Computes the calls of the given wrappers and of their descendants, one level after the
+	 * other. The calls of all wrappers on one level are searched concurrently. Recursive calls
+	 * and members that cannot have children are not expanded.
+	 * <p>
+	 * The results are kept in the wrappers' caches, so that a later
+	 * {@link MethodWrapper#getCalls(IProgressMonitor)} on these wrappers or on other wrappers of
+	 * the same member in the same hierarchy answers without searching.
+	 * </p>
+	 *
+	 * @param wrappers the wrappers to expand
+	 * @param maxDepth the number of levels to expand below the given wrappers
+	 * @param maxNodes the maximum number of wrappers whose calls are computed
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return the number of wrappers whose calls have been computed
+	 * @throws OperationCanceledException if the monitor has been canceled; the calls computed so
+	 *             far remain cached
+	 */
+	public int expand(MethodWrapper[] wrappers, int maxDepth, int maxNodes, IProgressMonitor monitor) {
+		SubMonitor progress= SubMonitor.convert(monitor, CallHierarchyMessages.CallHierarchyCore_expand_taskname, maxNodes);
+		ExecutorService executor= Executors.newFixedThreadPool(EXPAND_PARALLELISM, runnable -> {
+			Thread thread= new Thread(runnable, "Call Hierarchy Expansion"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		int expanded= 0;
+		try {
+			List<MethodWrapper> level= Arrays.asList(wrappers);
+			for (int depth= 0; depth < maxDepth && !level.isEmpty() && expanded < maxNodes; depth++) {
+				List<Future<MethodWrapper[]>> searches= new ArrayList<>();
+				for (MethodWrapper wrapper : level) {
+					if (expanded + searches.size() >= maxNodes)
+						break;
+					if (!wrapper.canHaveChildren() || wrapper.isRecursive())
+						continue;
+					// the search engine reports progress through the monitor, which is not thread safe
+					IProgressMonitor searchMonitor= new NullProgressMonitor() {
+						@Override
+						public boolean isCanceled() {
+							return super.isCanceled() || progress.isCanceled();
+						}
+					};
+					searches.add(executor.submit(() -> wrapper.getCalls(searchMonitor)));
+				}
+
+				List<MethodWrapper> next= new ArrayList<>();
+				for (Future<MethodWrapper[]> search : searches) {
+					next.addAll(Arrays.asList(waitFor(search, progress)));
+					progress.worked(1);
+				}
+				expanded+= searches.size();
+				level= next;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return expanded;
+	}
+
+	private static MethodWrapper[] waitFor(Future<MethodWrapper[]> search, IProgressMonitor monitor) {
+		try {
+			while (true) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				try {
+					return search.get(CANCEL_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check for cancellation again
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Clears the callers that are kept across call hierarchy sessions.
+	 */
+	public void clearCallerCache() {
+		CallerCache.getDefault().clear();
+	}
+
+	/**
+	 * Returns how often callers were taken from the callers kept across call hierarchy sessions
+	 * instead of searched.
+	 *
+	 * @return the number of hits in the caller cache
+	 */
+	public int getCallerCacheHitCount() {
+		return CallerCache.getDefault().getHitCount();
+	}
+
 	/**
 	 * Checks whether the fully qualified name is ignored by the set filters.
 	 *
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * Caches the callers found by {@link CallerMethodWrapper} across call hierarchy sessions, so that
+ * opening the hierarchy of a method again, or of a method whose callers were already expanded
+ * elsewhere, does not run the same reference search a second time.
+ * <p>
+ * Results are keyed by member, field search mode, the key of the search scope and filter settings.
+ * A new search scope is created whenever a hierarchy is opened, so results are only cached for
+ * scopes that have a key, see {@link CallHierarchyCore#setSearchScope(IJavaSearchScope, String)}.
+ * </p>
+ * <p>
+ * The whole cache is cleared as soon as a Java element delta reports a saved change that can add
+ * or remove references: a change to the content of a compilation unit, added or removed elements,
+ * and classpath or archive changes. The search engine also finds references in the primary
+ * working copies, but a reconcile only changes the references in the reconciled unit. Hence a
+ * reconcile delta marks that unit as stale in the cached results, and
+ * {@link CallerMethodWrapper} searches the stale units again instead of the whole scope.
+ * </p>
+ */
+final class CallerCache implements IElementChangedListener {
+
+	/**
+	 * Cached callers together with the compilation units that were reconciled after the callers
+	 * had been found.
+	 */
+	static final class CachedCallers {
+
+		private final Map<String, MethodCall> fCallers;
+		private final Set<String> fStaleUnits;
+		private final long fStamp;
+
+		CachedCallers(Map<String, MethodCall> callers, Set<String> staleUnits, long stamp) {
+			fCallers= callers;
+			fStaleUnits= staleUnits;
+			fStamp= stamp;
+		}
+
+		/**
+		 * @return the cached callers, the map is a copy and can be modified
+		 */
+		Map<String, MethodCall> getCallers() {
+			return fCallers;
+		}
+
+		/**
+		 * @return the handle identifiers of the primary compilation units whose callers are
+		 *         outdated
+		 */
+		Set<String> getStaleUnits() {
+			return fStaleUnits;
+		}
+
+		/**
+		 * @return the stamp of the cache at the time the callers were read
+		 */
+		long getStamp() {
+			return fStamp;
+		}
+	}
+
+	private static final class Entry {
+
+		final Map<String, MethodCall> fCallers;
+		final Set<String> fStaleUnits= new HashSet<>();
+
+		Entry(Map<String, MethodCall> callers) {
+			fCallers= callers;
+		}
+	}
+
+	private static final int MAX_ENTRIES= 200;
+
+	private static CallerCache fgInstance;
+
+	private final Map<Key, Entry> fCallers= new LRUMap<>(MAX_ENTRIES); // guarded by this
+
+	/**
+	 * Incremented whenever cached callers are invalidated, guarded by this.
+	 */
+	private long fStamp;
+
+	private int fHitCount; // guarded by this
+
+	private CallerCache() {
+	}
+
+	static synchronized CallerCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CallerCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Returns the cached callers of the given member.
+	 *
+	 * @param member the member
+	 * @param fieldSearchMode the field search mode of the wrapper
+	 * @param scopeKey the key of the search scope, or <code>null</code>
+	 * @return the cached callers, or <code>null</code> if the callers are not known
+	 */
+	synchronized CachedCallers get(IMember member, int fieldSearchMode, String scopeKey) {
+		Entry entry= scopeKey != null ? fCallers.get(new Key(member, fieldSearchMode, scopeKey)) : null;
+		if (entry == null)
+			return null;
+		fHitCount++;
+		return new CachedCallers(new HashMap<>(entry.fCallers), new HashSet<>(entry.fStaleUnits), fStamp);
+	}
+
+	/**
+	 * Returns the stamp to pass to {@link #put(IMember, int, String, Map, long)} for callers that
+	 * are searched now.
+	 *
+	 * @return the current stamp
+	 */
+	synchronized long getStamp() {
+		return fStamp;
+	}
+
+	/**
+	 * Caches the callers of the given member, unless cached callers were invalidated since the
+	 * given stamp was read. In that case the callers may miss changes made during the search.
+	 *
+	 * @param member the member
+	 * @param fieldSearchMode the field search mode of the wrapper
+	 * @param scopeKey the key of the search scope, or <code>null</code> to not cache the callers
+	 * @param callers the callers
+	 * @param stamp the stamp read before the search
+	 */
+	synchronized void put(IMember member, int fieldSearchMode, String scopeKey, Map<String, MethodCall> callers, long stamp) {
+		if (scopeKey != null && stamp == fStamp)
+			fCallers.put(new Key(member, fieldSearchMode, scopeKey), new Entry(new HashMap<>(callers)));
+	}
+
+	/**
+	 * Removes all cached callers of the given member.
+	 *
+	 * @param member the member
+	 */
+	synchronized void remove(IMember member) {
+		String handle= member.getHandleIdentifier();
+		for (Iterator<Key> iter= fCallers.keySet().iterator(); iter.hasNext();) {
+			if (iter.next().fHandle.equals(handle))
+				iter.remove();
+		}
+	}
+
+	synchronized void clear() {
+		fCallers.clear();
+		fStamp++;
+	}
+
+	/**
+	 * @return the number of lookups that found cached callers
+	 */
+	synchronized int getHitCount() {
+		return fHitCount;
+	}
+
+	private synchronized void markStale(Set<String> units) {
+		for (Entry entry : fCallers.values()) {
+			entry.fStaleUnits.addAll(units);
+		}
+		fStamp++;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (isEmpty())
+			return;
+		IJavaElementDelta delta= event.getDelta();
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			Set<String> units= new HashSet<>();
+			collectReconciledUnits(delta, units);
+			if (!units.isEmpty())
+				markStale(units);
+		} else if (affectsReferences(delta)) {
+			clear();
+		}
+	}
+
+	private synchronized boolean isEmpty() {
+		return fCallers.isEmpty();
+	}
+
+	private static void collectReconciledUnits(IJavaElementDelta delta, Set<String> units) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			ICompilationUnit unit= (ICompilationUnit) element;
+			// only primary working copies are seen by the search engine
+			if (unit.getOwner() == null && affectsReferences(delta))
+				units.add(unit.getPrimary().getHandleIdentifier());
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectReconciledUnits(child, units);
+		}
+	}
+
+	private static boolean affectsReferences(IJavaElementDelta delta) {
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				return childrenAffectReferences(delta);
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+								| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0)
+					return true;
+				return childrenAffectReferences(delta);
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+								| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0)
+					return true;
+				return childrenAffectReferences(delta);
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind != IJavaElementDelta.CHANGED)
+					return true;
+				return childrenAffectReferences(delta);
+			case IJavaElement.COMPILATION_UNIT:
+				// F_PRIMARY_WORKING_COPY: a discarded working copy reverts to the saved contents
+				return kind != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED
+								| IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0;
+			default:
+				return true;
+		}
+	}
+
+	private static boolean childrenAffectReferences(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsReferences(child))
+				return true;
+		}
+		return false;
+	}
+
+	private static final class Key {
+
+		private final String fHandle;
+		private final int fFieldSearchMode;
+		private final String fScopeKey;
+		private final String fFilters;
+
+		Key(IMember member, int fieldSearchMode, String scopeKey) {
+			fHandle= member.getHandleIdentifier();
+			fFieldSearchMode= fieldSearchMode;
+			fScopeKey= scopeKey;
+			CallHierarchyCore core= CallHierarchyCore.getDefault();
+			fFilters= core.isFilterEnabled() + ";" + core.getFilters() + ";" + core.isFilterTestCode(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fHandle, Integer.valueOf(fFieldSearchMode), fScopeKey, fFilters);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fHandle.equals(other.fHandle) && fFieldSearchMode == other.fFieldSearchMode
+					&& fScopeKey.equals(other.fScopeKey) && fFilters.equals(other.fFilters);
+		}
+	}
+}
@@ -17,14 +17,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IJavaElement;
@@ -32,6 +37,7 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
@@ -105,6 +111,14 @@ public class CallerMethodWrapper extends MethodWrapper {
 			checkCanceled(progressMonitor);
 
 			IMember member= getMember();
+			IJavaSearchScope defaultSearchScope= getSearchScope();
+			String scopeKey= CallHierarchyCore.getDefault().getSearchScopeKey();
+			CallerCache callerCache= CallerCache.getDefault();
+			CallerCache.CachedCallers cachedCallers= callerCache.get(member, getFieldSearchMode(), scopeKey);
+			if (cachedCallers != null && cachedCallers.getStaleUnits().isEmpty()) {
+				return cachedCallers.getCallers();
+			}
+
 			SearchPattern pattern= null;
 			IType type= null;
 			if (member instanceof IType) {
@@ -149,12 +163,27 @@ public class CallerMethodWrapper extends MethodWrapper {
 
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
-			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
-					monitor);
-			return searchRequestor.getCallers();
+			Map<String, MethodCall> callers;
+			long stamp;
+			if (cachedCallers != null) {
+				// only the units reconciled since the callers were found need to be searched again
+				callers= cachedCallers.getCallers();
+				stamp= cachedCallers.getStamp();
+				searchScope= removeStaleCallers(callers, cachedCallers.getStaleUnits(), searchScope);
+			} else {
+				callers= new HashMap<>();
+				stamp= callerCache.getStamp();
+			}
+			if (searchScope != null) {
+				searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
+						monitor);
+				callers.putAll(searchRequestor.getCallers());
+			}
+			// only reached when the search was neither canceled nor failed
+			callerCache.put(member, getFieldSearchMode(), scopeKey, callers, stamp);
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +191,36 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CallerCache.getDefault().remove(getMember());
+	}
+
+	/**
+	 * Removes the callers declared in stale compilation units.
+	 *
+	 * @param callers the cached callers, will be modified
+	 * @param staleUnits the handle identifiers of the stale compilation units
+	 * @param searchScope the scope of the search
+	 * @return a scope of the stale units that the search scope encloses, or <code>null</code> if
+	 *         there are none
+	 */
+	private static IJavaSearchScope removeStaleCallers(Map<String, MethodCall> callers, Set<String> staleUnits, IJavaSearchScope searchScope) {
+		for (Iterator<MethodCall> iter= callers.values().iterator(); iter.hasNext();) {
+			ICompilationUnit unit= iter.next().getMember().getCompilationUnit();
+			if (unit != null && staleUnits.contains(unit.getPrimary().getHandleIdentifier()))
+				iter.remove();
+		}
+		List<IJavaElement> units= new ArrayList<>(staleUnits.size());
+		for (String handle : staleUnits) {
+			IJavaElement unit= JavaCore.create(handle);
+			if (unit != null && unit.exists() && searchScope.encloses(unit))
+				units.add(unit);
+		}
+		return units.isEmpty() ? null : SearchEngine.createJavaSearchScope(units.toArray(new IJavaElement[units.size()]));
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (!JdtFlags.isPrivate(member) || isRecordComponent(member))
 			return defaultSearchScope;
@@ -38,7 +38,14 @@ class ASTMatchingFragmentFinder extends GenericVisitor {
 	}
 	private IASTFragment[] findMatches(ASTNode scope) {
 		fMatches.clear();
-		scope.accept(this);
+		if (fFragmentToMatch instanceof SimpleFragment) {
+			// only nodes with the structural hash of the fragment's node can match it
+			for (ASTNode candidate : StructuralHasher.findCandidates(scope, fFragmentToMatch.getAssociatedNode())) {
+				visitNode(candidate);
+			}
+		} else {
+			scope.accept(this);
+		}
 		return getMatches();
 	}
 	private IASTFragment[] getMatches() {
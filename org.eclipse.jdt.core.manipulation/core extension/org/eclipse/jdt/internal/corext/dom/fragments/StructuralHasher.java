@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.dom.fragments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+import org.eclipse.jdt.internal.corext.dom.JdtASTMatcher;
+
+/**
+ * Computes structural hashes of the nodes of a subtree in one pass. The hash of a node combines
+ * the node types of its subtree with identifiers, literal tokens and operators, so nodes that
+ * match with a {@link JdtASTMatcher} have equal hashes. Javadoc comments only contribute their
+ * node type, like they are skipped by the {@link ASTMatchingFragmentFinder}.
+ */
+final class StructuralHasher extends ASTVisitor {
+
+	/**
+	 * Returns the nodes in the given scope, outside of Javadoc comments, that have the structural
+	 * hash of the given node and hence may match it.
+	 *
+	 * @param scope the subtree to search
+	 * @param toMatch the node to match
+	 * @return the candidate nodes
+	 */
+	public static List<ASTNode> findCandidates(ASTNode scope, ASTNode toMatch) {
+		StructuralHasher target= new StructuralHasher(0, false);
+		toMatch.accept(target);
+		StructuralHasher hasher= new StructuralHasher(target.fLastHash, true);
+		scope.accept(hasher);
+		return hasher.fCandidates;
+	}
+
+	private final int fTargetHash;
+
+	private final boolean fCollect;
+
+	private final List<ASTNode> fCandidates= new ArrayList<>();
+
+	private int[] fHashes= new int[32];
+
+	private int fDepth;
+
+	private int fLastHash;
+
+	private StructuralHasher(int targetHash, boolean collect) {
+		fTargetHash= targetHash;
+		fCollect= collect;
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		if (fDepth == fHashes.length)
+			fHashes= Arrays.copyOf(fHashes, fDepth * 2);
+		fHashes[fDepth++]= 31 * node.getNodeType() + getTokenHash(node);
+		return true;
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		int hash= fHashes[--fDepth];
+		if (fDepth > 0)
+			fHashes[fDepth - 1]= 31 * fHashes[fDepth - 1] + hash;
+		fLastHash= hash;
+		if (fCollect && hash == fTargetHash && !(node instanceof Javadoc))
+			fCandidates.add(node);
+	}
+
+	@Override
+	public boolean visit(Javadoc node) {
+		return false;
+	}
+
+	private static int getTokenHash(ASTNode node) {
+		switch (node.getNodeType()) {
+			case ASTNode.SIMPLE_NAME:
+				return ((SimpleName) node).getIdentifier().hashCode();
+			case ASTNode.NUMBER_LITERAL:
+				return ((NumberLiteral) node).getToken().hashCode();
+			case ASTNode.STRING_LITERAL:
+				return ((StringLiteral) node).getEscapedValue().hashCode();
+			case ASTNode.CHARACTER_LITERAL:
+				return ((CharacterLiteral) node).getEscapedValue().hashCode();
+			case ASTNode.BOOLEAN_LITERAL:
+				return ((BooleanLiteral) node).booleanValue() ? 1 : 2;
+			case ASTNode.INFIX_EXPRESSION:
+				return ((InfixExpression) node).getOperator().toString().hashCode();
+			case ASTNode.PREFIX_EXPRESSION:
+				return ((PrefixExpression) node).getOperator().toString().hashCode();
+			case ASTNode.POSTFIX_EXPRESSION:
+				return ((PostfixExpression) node).getOperator().toString().hashCode();
+			case ASTNode.ASSIGNMENT:
+				return ((Assignment) node).getOperator().toString().hashCode();
+			default:
+				return 0;
+		}
+	}
+}
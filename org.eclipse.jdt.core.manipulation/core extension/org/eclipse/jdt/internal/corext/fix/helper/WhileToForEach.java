@@ -54,6 +54,7 @@ import org.eclipse.jdt.core.dom.WhileStatement;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
 import org.eclipse.jdt.internal.common.HelperVisitor;
 import org.eclipse.jdt.internal.common.ReferenceHolder;
 import org.eclipse.jdt.internal.core.manipulation.StubUtility;
@@ -218,7 +219,12 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 		if (iterBinding == null) {
 			return false;
 		}
-		HelperVisitor.callMethodInvocationVisitor(iterDeclarationParent, dataholder, nodesprocessed, (mi, holder2) -> {
+		/*
+		 * Both checks walk the same statements, so they share one traversal. A check that returns
+		 * false only skips the children of the node for itself, as in a traversal of its own.
+		 */
+		HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> invocationVisitor= new HelperVisitor<>(nodesprocessed, dataholder);
+		invocationVisitor.addMethodInvocation((mi, holder2) -> {
 			SimpleName sn= ASTNodes.as(mi.getExpression(), SimpleName.class);
 			if (sn != null && sn.getIdentifier().equals(hit.iteratorName)) {
 				if (mi.getStartPosition() < hit.whileStatement.getStartPosition()) {
@@ -241,7 +247,8 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 			}
 			return true;
 		});
-		HelperVisitor.callSimpleNameVisitor(iterDeclarationParent, dataholder, nodesprocessed, (sn, holder2) -> {
+		HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> nameVisitor= new HelperVisitor<>(nodesprocessed, dataholder);
+		nameVisitor.addSimpleName((sn, holder2) -> {
 			if (sn.getIdentifier().equals(hit.iteratorName)) {
 				Statement parentStatement= ASTNodes.getFirstAncestorOrNull(sn, Statement.class);
 				if (parentStatement == null) {
@@ -258,6 +265,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 			}
 			return true;
 		});
+		new FusedHelperVisitor().add(invocationVisitor).add(nameVisitor).build(iterDeclarationParent);
 		return !hit.isInvalid;
 	}
 	private static String computeNextVarname(WhileStatement whilestatement) {
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code.flow;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * The access modes of the local variables of a flow context, packed into three bits per local.
+ * <p>
+ * An access mode is one of the single bit constants of {@link FlowInfo}, so it is stored as the
+ * number of its trailing zeros. {@link FlowInfo#UNUSED} is stored as zero, hence a new instance
+ * has all locals unused and merges can skip the words in which all locals are unused.
+ * </p>
+ */
+public final class AccessModes {
+
+	private static final int BITS_PER_LOCAL= 3;
+
+	private static final int LOCALS_PER_WORD= Long.SIZE / BITS_PER_LOCAL;
+
+	private static final long LOCAL_MASK= (1L << BITS_PER_LOCAL) - 1;
+
+	private final long[] fWords;
+
+	private final int fLength;
+
+	public AccessModes(int length) {
+		fLength= length;
+		fWords= new long[(length + LOCALS_PER_WORD - 1) / LOCALS_PER_WORD];
+	}
+
+	public int length() {
+		return fLength;
+	}
+
+	public int get(int index) {
+		long word= fWords[index / LOCALS_PER_WORD];
+		return decode(word >>> shift(index % LOCALS_PER_WORD));
+	}
+
+	public void set(int index, int accessMode) {
+		int w= index / LOCALS_PER_WORD;
+		int shift= shift(index % LOCALS_PER_WORD);
+		fWords[w]= fWords[w] & ~(LOCAL_MASK << shift) | encode(accessMode) << shift;
+	}
+
+	/**
+	 * Replaces the access mode of every local by the result of the given function, which receives
+	 * the access mode in this instance and the one in <code>others</code>. The function must map
+	 * two {@link FlowInfo#UNUSED} modes to {@link FlowInfo#UNUSED}; locals that are unused in both
+	 * instances may not be passed to it.
+	 *
+	 * @param others the other access modes of the same flow context, or <code>null</code> if all
+	 *            other locals are unused
+	 * @param function the merge function
+	 */
+	public void merge(AccessModes others, IntBinaryOperator function) {
+		for (int w= 0; w < fWords.length; w++) {
+			long word= fWords[w];
+			long otherWord= others != null ? others.fWords[w] : 0;
+			if (word == 0 && otherWord == 0)
+				continue;
+			int count= Math.min(LOCALS_PER_WORD, fLength - w * LOCALS_PER_WORD);
+			long result= 0;
+			for (int i= 0; i < count; i++) {
+				int shift= shift(i);
+				int accessMode= function.applyAsInt(decode(word >>> shift), decode(otherWord >>> shift));
+				result|= encode(accessMode) << shift;
+			}
+			fWords[w]= result;
+		}
+	}
+
+	private static int shift(int indexInWord) {
+		return indexInWord * BITS_PER_LOCAL;
+	}
+
+	private static int decode(long bits) {
+		return 1 << (int) (bits & LOCAL_MASK);
+	}
+
+	private static long encode(int accessMode) {
+		return Integer.numberOfTrailingZeros(accessMode);
+	}
+}
@@ -16,7 +16,6 @@
 package org.eclipse.jdt.internal.corext.refactoring.code.flow;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -90,7 +89,7 @@ public abstract class FlowInfo {
 	protected static final IVariableBinding[] EMPTY_ARRAY= new IVariableBinding[0];
 
 	protected int fReturnKind;
-	protected int[] fAccessModes;
+	protected AccessModes fAccessModes;
 	protected Set<String> fBranches;
 	//protected Set<ITypeBinding> fExceptions;
 	protected Set<ITypeBinding> fTypeVariables;
@@ -258,11 +257,11 @@ public abstract class FlowInfo {
 	 */
 	public IVariableBinding[] get(FlowContext context, int mode) {
 		List<IVariableBinding> result= new ArrayList<>();
-		int[] locals= getAccessModes();
+		AccessModes locals= fAccessModes;
 		if (locals == null)
 			return EMPTY_ARRAY;
-		for (int i= 0; i < locals.length; i++) {
-			int accessMode= locals[i];
+		for (int i= 0; i < locals.length(); i++) {
+			int accessMode= locals.get(i);
 			if ((accessMode & mode) != 0)
 				result.add(context.getLocalFromIndex(i));
 		}
@@ -287,7 +286,7 @@ public abstract class FlowInfo {
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return unusedMode;
-		return (fAccessModes[index] & mode) != 0;
+		return (fAccessModes.get(index) & mode) != 0;
 	}
 
 	/**
@@ -303,32 +302,27 @@ public abstract class FlowInfo {
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return UNUSED;
-		return fAccessModes[index];
-	}
-
-	protected int[] getAccessModes() {
-		return fAccessModes;
+		return fAccessModes.get(index);
 	}
 
 	protected void clearAccessMode(IVariableBinding binding, FlowContext context) {
 		if (fAccessModes == null)	// all are unused
 			return;
-		fAccessModes[binding.getVariableId() - context.getStartingIndex()]= UNUSED;
+		fAccessModes.set(binding.getVariableId() - context.getStartingIndex(), UNUSED);
 	}
 
 	protected void mergeAccessModeSequential(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		AccessModes others= otherInfo.fAccessModes;
 		if (others == null)	// others are all unused. So nothing to do
 			return;
 
 		// Must not consider return kind since a return statement can't control execution flow
 		// inside a method. It always leaves the method.
 		if (branches()) {
-			for (int i= 0; i < others.length; i++)
-				others[i]= ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(others[i])];
+			others.merge(null, (otherMode, unused) -> ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(otherMode)]);
 		}
 
 		if (fAccessModes == null) {	// all current variables are unused
@@ -345,56 +339,48 @@ public abstract class FlowInfo {
 		}
 	}
 
-	private void handleComputeReturnValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessmode= fAccessModes[i];
-			int othermode= others[i];
+	private void handleComputeReturnValues(AccessModes others) {
+		fAccessModes.merge(others, (accessmode, othermode) -> {
 			if (accessmode == WRITE)
-				continue;
-			if (accessmode == WRITE_POTENTIAL) {
-				if (othermode == WRITE)
-					fAccessModes[i]= WRITE;
-				continue;
-			}
+				return accessmode;
+			if (accessmode == WRITE_POTENTIAL)
+				return othermode == WRITE ? WRITE : accessmode;
 
-			if (others[i] != UNUSED)
-				fAccessModes[i]= othermode;
-		}
+			return othermode != UNUSED ? othermode : accessmode;
+		});
 	}
 
-	private void handleComputeArguments(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessMode= fAccessModes[i];
-			int otherMode= others[i];
+	private void handleComputeArguments(AccessModes others) {
+		fAccessModes.merge(others, (accessMode, otherMode) -> {
 			if (accessMode == UNUSED
 					|| (accessMode == WRITE_POTENTIAL && (otherMode == READ || otherMode == READ_POTENTIAL))) {
 				// Read always supersedes a potential write even if the read is potential as well
 				// (we have to consider the potential read as an argument then).
-				fAccessModes[i]= otherMode;
+				return otherMode;
 			} else if (accessMode == WRITE_POTENTIAL && otherMode == WRITE) {
-				fAccessModes[i]= WRITE;
+				return WRITE;
 			}
-		}
+			return accessMode;
+		});
 	}
 
-	private void handleMergeValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[getIndex(others[i])];
-		}
+	private void handleMergeValues(AccessModes others) {
+		fAccessModes.merge(others, FlowInfo::getConditionalAccessMode);
+	}
+
+	private static int getConditionalAccessMode(int accessMode, int otherMode) {
+		return ACCESS_MODE_CONDITIONAL_TABLE[getIndex(accessMode)][getIndex(otherMode)];
 	}
 
 	protected void createAccessModeArray(FlowContext context) {
-		fAccessModes= new int[context.getArrayLength()];
-		Arrays.fill(fAccessModes, UNUSED);
+		fAccessModes= new AccessModes(context.getArrayLength());
 	}
 
 	protected void mergeAccessModeConditional(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		AccessModes others= otherInfo.fAccessModes;
 		// first access
 		if (fAccessModes == null) {
 			if (others != null)
@@ -403,20 +389,8 @@ public abstract class FlowInfo {
 				createAccessModeArray(context);
 			return;
 		} else {
-			if (others == null) {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					int unused_index= getIndex(UNUSED);
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[unused_index];
-				}
-			} else {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[getIndex(others[i])];
-				}
-			}
+			// others == null means that all others are unused
+			fAccessModes.merge(others, FlowInfo::getConditionalAccessMode);
 		}
 	}
 
@@ -432,12 +406,7 @@ public abstract class FlowInfo {
 			return;
 		}
 
-		int unused_index= getIndex(UNUSED);
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[unused_index];
-		}
+		fAccessModes.merge(null, FlowInfo::getConditionalAccessMode);
 	}
 
 	private static int getIndex(int accessMode) {
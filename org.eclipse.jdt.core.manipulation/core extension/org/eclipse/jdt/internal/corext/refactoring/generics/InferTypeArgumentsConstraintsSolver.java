@@ -15,15 +15,16 @@
 package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -68,18 +69,24 @@ public class InferTypeArgumentsConstraintsSolver {
 	private TypeSetEnvironment fTypeSetEnvironment;
 
 	/**
-	 * The work-list used by the type constraint solver to hold the set of
-	 * nodes in the constraint graph that remain to be (re-)processed. Entries
-	 * are <code>ConstraintVariable2</code>s.
+	 * The work-list used by the type constraint solver to hold the
+	 * equivalence sets whose type estimate has changed and whose constraints
+	 * remain to be (re-)processed. A set is at most once in the work-list.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private ArrayDeque<TypeEquivalenceSet> fWorkList;
+
+	/**
+	 * The equivalence sets that are in the work-list.
+	 */
+	private HashSet<TypeEquivalenceSet> fQueuedSets;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
+		fWorkList= new ArrayDeque<>();
+		fQueuedSets= new HashSet<>();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -107,7 +114,8 @@ public class InferTypeArgumentsConstraintsSolver {
 				allTypeEquivalenceSets.add(typeEquivalenceSet);
 		}
 		for (TypeEquivalenceSet typeEquivalenceSet : allTypeEquivalenceSets) {
-			ConstraintVariable2[] contributingVariables= typeEquivalenceSet.getContributingVariables();
+			// variables without element variables don't contribute element constraints
+			ConstraintVariable2[] contributingVariables= getVariablesWithElements(typeEquivalenceSet);
 			for (int i= 0; i < contributingVariables.length; i++) {
 				for (int j= i + 1; j < contributingVariables.length; j++) {
 					ConstraintVariable2 first= contributingVariables[i];
@@ -123,13 +131,25 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
+		for (ConstraintVariable2 cv : allConstraintVariables) {
+			enqueue(cv.getTypeEquivalenceSet());
+		}
 		runSolver(Progress.subMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, Progress.subMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
 		return fUpdate;
 	}
 
+	private ConstraintVariable2[] getVariablesWithElements(TypeEquivalenceSet set) {
+		ConstraintVariable2[] contributingVariables= set.getContributingVariables();
+		List<ConstraintVariable2> result= new ArrayList<>(contributingVariables.length);
+		for (ConstraintVariable2 cv : contributingVariables) {
+			if (!fTCModel.getElementVariables(cv).isEmpty() || fTCModel.getArrayElementVariable(cv) != null)
+				result.add(cv);
+		}
+		return result.size() == contributingVariables.length ? contributingVariables : result.toArray(new ConstraintVariable2[result.size()]);
+	}
+
 	private void initializeTypeEstimates(ConstraintVariable2[] allConstraintVariables) {
 		for (ConstraintVariable2 cv : allConstraintVariables) {
 			//TODO: not necessary for types that are not used in a TypeConstraint but only as type in CollectionElementVariable
@@ -190,10 +210,13 @@ public class InferTypeArgumentsConstraintsSolver {
 	private void runSolver(IProgressMonitor pm) {
 		pm.beginTask("", fWorkList.size() * 3); //$NON-NLS-1$
 		while (! fWorkList.isEmpty()) {
-			// Get a variable whose type estimate has changed
-			ConstraintVariable2 cv= fWorkList.removeFirst();
-			List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
-			processConstraints(usedIn);
+			// Get an equivalence set whose type estimate has changed
+			TypeEquivalenceSet set= fWorkList.removeFirst();
+			fQueuedSets.remove(set);
+			for (ConstraintVariable2 cv : set.getContributingVariables()) {
+				List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
+				processConstraints(usedIn);
+			}
 			pm.worked(1);
 			if (pm.isCanceled())
 				throw new OperationCanceledException();
@@ -201,6 +224,11 @@ public class InferTypeArgumentsConstraintsSolver {
 		pm.done();
 	}
 
+	private void enqueue(TypeEquivalenceSet set) {
+		if (fQueuedSets.add(set))
+			fWorkList.addLast(set);
+	}
+
 	/**
 	 * Given a list of <code>ITypeConstraint2</code>s that all refer to a
 	 * given <code>ConstraintVariable2</code> (whose type bound has presumably
@@ -249,7 +277,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			enqueue(leftSet);
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -258,18 +286,25 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			enqueue(rightSet);
 		}
 	}
 
 	private void chooseTypes(ConstraintVariable2[] allConstraintVariables, IProgressMonitor pm) {
 		pm.beginTask("", allConstraintVariables.length); //$NON-NLS-1$
+		// the type is chosen once per equivalence set
+		HashMap<TypeEquivalenceSet, TType> chosenTypes= new HashMap<>();
 		for (ConstraintVariable2 cv : allConstraintVariables) {
 			TypeEquivalenceSet set= cv.getTypeEquivalenceSet();
 			if (set == null)
 				continue; //TODO: should not happen iff all unused constraint variables got pruned
-			//TODO: should calculate only once per EquivalenceRepresentative; can throw away estimate TypeSet afterwards
-			TType type= chooseSingleType((TypeSet) cv.getTypeEstimate()); //TODO: is null for Universe TypeSet
+			TType type;
+			if (chosenTypes.containsKey(set)) {
+				type= chosenTypes.get(set);
+			} else {
+				type= chooseSingleType((TypeSet) set.getTypeEstimate()); //TODO: is null for Universe TypeSet
+				chosenTypes.put(set, type);
+			}
 			setChosenType(cv, type);
 
 			if (cv instanceof CollectionElementVariable2) {
@@ -19,16 +19,34 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IResource;
 
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.RangeMarker;
+import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 
 import org.eclipse.jface.text.IRegion;
@@ -61,6 +79,9 @@ import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.MethodDeclarationMatch;
 import org.eclipse.jdt.core.search.SearchMatch;
 
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.SourceRangeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
@@ -154,6 +175,35 @@ public class RenameAnalyzeUtil {
 		}
 	}
 
+	/**
+	 * Maximum number of compilation units that are processed concurrently. Set
+	 * <code>-Dorg.eclipse.jdt.ui.rename.parallelism=1</code> to process them one after the other.
+	 */
+	private static final int PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.rename.parallelism", //$NON-NLS-1$
+			Math.min(4, Runtime.getRuntime().availableProcessors())).intValue());
+
+	/**
+	 * Fewer compilation units are processed on the calling thread.
+	 */
+	static final int MIN_PARALLEL_UNITS= 16;
+
+	private static final long PROGRESS_INTERVAL= 100;
+
+	private static final ThreadPoolExecutor EXECUTOR;
+	static {
+		EXECUTOR= new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Rename Analysis"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	@FunctionalInterface
+	interface UnitTask<T> {
+		T run(int index, IProgressMonitor pm) throws CoreException;
+	}
+
 	private RenameAnalyzeUtil() {
 		//no instance
 	}
@@ -183,26 +233,144 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Creates working copies with the preview contents of the changes of the given compilation
+	 * units and reconciles them. Many working copies are reconciled concurrently.
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the text change manager with the changes of the compilation units
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return the new working copies, in the order of <code>compilationUnitsToModify</code>
+	 * @throws CoreException if a working copy could not be created; no working copies are left
+	 *             open in this case
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
-		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
+		// the text changes are not thread safe, so compute their previews up front
+		String[] previewContents= new String[compilationUnitsToModify.length];
 		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+			previewContents[i]= manager.get(compilationUnitsToModify[i]).getPreviewContent(new NullProgressMonitor());
+		}
+		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
+		boolean created= false;
+		try {
+			runForEachUnit(newWorkingCopies, MIN_PARALLEL_UNITS, (i, monitor) -> createNewWorkingCopy(compilationUnitsToModify[i], previewContents[i], owner, monitor), pm);
+			created= true;
+		} finally {
+			if (!created) {
+				for (ICompilationUnit newWorkingCopy : newWorkingCopies) {
+					if (newWorkingCopy != null)
+						newWorkingCopy.discardWorkingCopy();
+				}
+			}
+			pm.done();
 		}
-		pm.done();
 		return newWorkingCopies;
 	}
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
-		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
 		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
+		return createNewWorkingCopy(cu, previewContent, owner, pm);
+	}
+
+	private static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, String previewContent,
+			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
 		newWc.getBuffer().setContents(previewContent);
 		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
 		return newWc;
 	}
 
+	/**
+	 * Runs a task for each of <code>results.length</code> compilation units and stores the
+	 * results by index. Unless there are only a few units, the tasks run concurrently on at most
+	 * {@link #PARALLELISM} threads. All started tasks have finished when this method returns.
+	 *
+	 * @param results the array for the results
+	 * @param minParallelUnits the minimum number of units that are processed concurrently
+	 * @param task the task, receives the index of the unit
+	 * @param pm the progress monitor, one tick per unit
+	 * @throws CoreException the exception of the failed task with the lowest index
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	static <T> void runForEachUnit(T[] results, int minParallelUnits, UnitTask<T> task, IProgressMonitor pm) throws CoreException {
+		int count= results.length;
+		if (PARALLELISM == 1 || count < minParallelUnits) {
+			for (int i= 0; i < count; i++) {
+				results[i]= task.run(i, Progress.subMonitor(pm, 1));
+			}
+			return;
+		}
+
+		AtomicInteger next= new AtomicInteger();
+		AtomicInteger finished= new AtomicInteger();
+		AtomicBoolean stop= new AtomicBoolean();
+		Throwable[] failures= new Throwable[count];
+		List<Future<?>> workers= new ArrayList<>(PARALLELISM);
+		for (int w= 0; w < PARALLELISM; w++) {
+			workers.add(EXECUTOR.submit(() -> {
+				for (int i= next.getAndIncrement(); i < count && !stop.get(); i= next.getAndIncrement()) {
+					try {
+						results[i]= task.run(i, new NullProgressMonitor());
+					} catch (Throwable e) {
+						failures[i]= e;
+						stop.set(true);
+					}
+					finished.incrementAndGet();
+				}
+			}));
+		}
+
+		// the monitor is only used on this thread; wait for all workers, also when canceled
+		boolean interrupted= false;
+		int reported= 0;
+		try {
+			for (Future<?> worker : workers) {
+				while (true) {
+					try {
+						worker.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+						break;
+					} catch (TimeoutException e) {
+						if (pm.isCanceled())
+							stop.set(true);
+					} catch (InterruptedException e) {
+						interrupted= true;
+						stop.set(true);
+					} catch (ExecutionException e) {
+						// the workers catch all failures of the tasks
+						throwFailure(e.getCause());
+					}
+					int done= finished.get();
+					pm.worked(done - reported);
+					reported= done;
+				}
+			}
+		} finally {
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+		pm.worked(finished.get() - reported);
+
+		for (Throwable failure : failures) {
+			if (failure != null)
+				throwFailure(failure);
+		}
+		if (stop.get())
+			throw new OperationCanceledException();
+	}
+
+	private static void throwFailure(Throwable failure) throws CoreException {
+		if (failure instanceof CoreException)
+			throw (CoreException) failure;
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		throw new CoreException(new Status(IStatus.ERROR, JavaManipulation.ID_PLUGIN, failure.getLocalizedMessage(), failure));
+	}
+
 	private static boolean existsInNewOccurrences(SearchMatch searchResult, SearchResultGroup[] newOccurrences, TextChangeManager manager) {
 		SearchResultGroup newGroup= findOccurrenceGroup(searchResult.getResource(), newOccurrences);
 		if (newGroup == null)
@@ -267,20 +435,46 @@ public class RenameAnalyzeUtil {
 				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
 		}
 
+		// look up the changes up front, the text change manager is not thread safe
+		List<ICompilationUnit> cus= new ArrayList<>(oldReferences.length);
+		List<SearchMatch[]> oldMatchesPerCu= new ArrayList<>(oldReferences.length);
+		List<SearchMatch[]> newMatchesPerCu= new ArrayList<>(oldReferences.length);
+		List<Map<Integer, Integer>> offsetUpdatesPerCu= new ArrayList<>(oldReferences.length);
 		for (SearchResultGroup oldGroup : oldReferences) {
-			SearchMatch[] oldMatches= oldGroup.getSearchResults();
 			ICompilationUnit cu= oldGroup.getCompilationUnit();
 			if (cu == null)
 				continue;
 
 			SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
-			if (newSearchMatches == null) {
-				for (SearchMatch oldMatch : oldMatches) {
-					addShadowsError(cu, oldMatch, result);
+			cus.add(cu);
+			oldMatchesPerCu.add(oldGroup.getSearchResults());
+			newMatchesPerCu.add(newSearchMatches);
+			offsetUpdatesPerCu.add(newSearchMatches != null ? getEditChangeOffsetUpdates(manager.get(cu)) : null);
+		}
+
+		// analyze the compilation units concurrently and merge their statuses in a stable order
+		RefactoringStatus[] statuses= new RefactoringStatus[cus.size()];
+		try {
+			runForEachUnit(statuses, MIN_PARALLEL_UNITS, (i, pm) -> {
+				RefactoringStatus status= new RefactoringStatus();
+				ICompilationUnit cu= cus.get(i);
+				SearchMatch[] oldMatches= oldMatchesPerCu.get(i);
+				SearchMatch[] newSearchMatches= newMatchesPerCu.get(i);
+				if (newSearchMatches == null) {
+					for (SearchMatch oldMatch : oldMatches) {
+						addShadowsError(cu, oldMatch, status);
+					}
+				} else {
+					analyzeChanges(cu, offsetUpdatesPerCu.get(i), oldMatches, newSearchMatches, newElementName, status);
 				}
-			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
-			}
+				return status;
+			}, new NullProgressMonitor());
+		} catch (CoreException e) {
+			// not thrown by the analysis
+			throw new IllegalStateException(e);
+		}
+		for (RefactoringStatus status : statuses) {
+			result.merge(status);
 		}
 
 		for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
@@ -292,9 +486,9 @@ public class RenameAnalyzeUtil {
 		return result;
 	}
 
-	private static void analyzeChanges(ICompilationUnit cu, TextChange change,
+	private static void analyzeChanges(ICompilationUnit cu, Map<Integer, Integer> oldToUpdatedOffsets,
 			SearchMatch[] oldMatches, SearchMatch[] newMatches, String newElementName, RefactoringStatus result) {
-		Map<Integer, SearchMatch> updatedOldOffsets= getUpdatedChangeOffsets(change, oldMatches);
+		Map<Integer, SearchMatch> updatedOldOffsets= getUpdatedChangeOffsets(oldToUpdatedOffsets, oldMatches);
 		for (SearchMatch newMatch : newMatches) {
 			Integer offsetInNew= newMatch.getOffset();
 			SearchMatch oldMatch= updatedOldOffsets.remove(offsetInNew);
@@ -311,9 +505,8 @@ public class RenameAnalyzeUtil {
 	 *
 	 * @return Map &lt;Integer updatedOffset, SearchMatch oldMatch&gt;
 	 */
-	private static Map<Integer, SearchMatch> getUpdatedChangeOffsets(TextChange change, SearchMatch[] oldMatches) {
+	private static Map<Integer, SearchMatch> getUpdatedChangeOffsets(Map<Integer, Integer> oldToUpdatedOffsets, SearchMatch[] oldMatches) {
 		Map<Integer, SearchMatch> updatedOffsets= new HashMap<>();
-		Map<Integer, Integer> oldToUpdatedOffsets= getEditChangeOffsetUpdates(change);
 		for (SearchMatch oldMatch : oldMatches) {
 			Integer updatedOffset= oldToUpdatedOffsets.get(Integer.valueOf(oldMatch.getOffset()));
 			if (updatedOffset == null)
@@ -324,25 +517,98 @@ public class RenameAnalyzeUtil {
 	}
 
 	/**
+	 * Returns the offsets of the text edit change groups of the given change in the preview. If
+	 * the change only replaces, inserts and deletes text, the offsets are computed from the
+	 * lengths of the edits that precede a group, and neither the preview nor copies of the edits
+	 * are created.
 	 *
+	 * @param change the change
 	 * @return Map &lt;Integer oldOffset, Integer updatedOffset&gt;
 	 */
-	private static Map<Integer, Integer> getEditChangeOffsetUpdates(TextChange change) {
+	public static Map<Integer, Integer> getEditChangeOffsetUpdates(TextChange change) {
 		TextEditChangeGroup[] editChanges= change.getTextEditChangeGroups();
 		Map<Integer, Integer> offsetUpdates= new HashMap<>(editChanges.length);
+		if (editChanges.length == 0)
+			return offsetUpdates;
+
+		Map<TextEdit, Integer> newOffsets= new IdentityHashMap<>();
+		if (change.getEdit() == null || !computeNewOffsets(change.getEdit(), new int[1], newOffsets))
+			return getPreviewOffsetUpdates(change, editChanges);
+
 		for (TextEditChangeGroup editChange : editChanges) {
 			IRegion oldRegion= editChange.getRegion();
 			if (oldRegion == null)
 				continue;
-			IRegion updatedRegion= TextEdit.getCoverage(change.getPreviewEdits(editChange.getTextEdits()));
-			if (updatedRegion == null)
+			int updatedOffset= Integer.MAX_VALUE;
+			for (TextEdit edit : editChange.getTextEdits()) {
+				Integer newOffset= newOffsets.get(edit);
+				if (newOffset != null)
+					updatedOffset= Math.min(updatedOffset, newOffset);
+			}
+			if (updatedOffset == Integer.MAX_VALUE)
 				continue;
 
-			offsetUpdates.put(oldRegion.getOffset(), updatedRegion.getOffset());
+			offsetUpdates.put(oldRegion.getOffset(), updatedOffset);
 		}
 		return offsetUpdates;
 	}
 
+	/**
+	 * Computes the offsets of the given edit and its descendants after all edits have been
+	 * applied.
+	 *
+	 * @param edit the edit
+	 * @param shift the difference between the new and the old offsets at the start of the edit;
+	 *            updated to the difference after the edit
+	 * @param newOffsets receives the new offsets by edit
+	 * @return <code>false</code> iff the tree contains edits that do not only replace, insert or
+	 *         delete text, and whose effect can hence not be computed from their lengths
+	 */
+	private static boolean computeNewOffsets(TextEdit edit, int[] shift, Map<TextEdit, Integer> newOffsets) {
+		newOffsets.put(edit, Integer.valueOf(edit.getOffset() + shift[0]));
+		if (edit instanceof ReplaceEdit || edit instanceof InsertEdit || edit instanceof DeleteEdit) {
+			if (edit.hasChildren())
+				return false;
+			String text= edit instanceof ReplaceEdit ? ((ReplaceEdit) edit).getText() : edit instanceof InsertEdit ? ((InsertEdit) edit).getText() : ""; //$NON-NLS-1$
+			shift[0]+= text.length() - edit.getLength();
+			return true;
+		}
+		if (!(edit instanceof MultiTextEdit) && !(edit instanceof RangeMarker))
+			return false;
+		for (TextEdit child : edit.getChildren()) {
+			if (!computeNewOffsets(child, shift, newOffsets))
+				return false;
+		}
+		return true;
+	}
+
+	private static Map<Integer, Integer> getPreviewOffsetUpdates(TextChange change, TextEditChangeGroup[] editChanges) {
+		boolean keepPreviewEdits= change.getKeepPreviewEdits();
+		try {
+			if (!keepPreviewEdits) {
+				change.setKeepPreviewEdits(true);
+				change.getPreviewContent(new NullProgressMonitor());
+			}
+			Map<Integer, Integer> offsetUpdates= new HashMap<>(editChanges.length);
+			for (TextEditChangeGroup editChange : editChanges) {
+				IRegion oldRegion= editChange.getRegion();
+				if (oldRegion == null)
+					continue;
+				IRegion updatedRegion= TextEdit.getCoverage(change.getPreviewEdits(editChange.getTextEdits()));
+				if (updatedRegion == null)
+					continue;
+
+				offsetUpdates.put(oldRegion.getOffset(), updatedRegion.getOffset());
+			}
+			return offsetUpdates;
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+			return new HashMap<>();
+		} finally {
+			change.setKeepPreviewEdits(keepPreviewEdits);
+		}
+	}
+
 	private static void addReferenceShadowedError(ICompilationUnit cu, SearchMatch newMatch, String newElementName, RefactoringStatus result) {
 		//Found a new match with no corresponding old match.
 		//-> The new match is a reference which was pointing to another element,
@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.Assert;
@@ -63,8 +64,9 @@ public class RippleMethodFinder2 {
 	private MultiMap<IType, IMethod> fTypeToMethod;
 	private Set<IType> fRootTypes;
 	private MultiMap<IType, IType> fRootReps;
-	private Map<IType, ITypeHierarchy> fRootHierarchies;
+	private HierarchyCache fHierarchyCache;
 	private UnionFind fUnionFind;
+	private Set<IType> fUnitedTypes;
 
 	private final boolean fExcludeBinaries;
 	private final ReferencesInBinaryContext fBinaryRefs;
@@ -87,60 +89,103 @@ public class RippleMethodFinder2 {
 			return fImplementation.get(key);
 		}
 	}
+	/**
+	 * Union-find over the types that declare a ripple method. The types are mapped to dense
+	 * indices once, so that finding a representative neither allocates nor hashes more than once,
+	 * even for hierarchies with thousands of implementors.
+	 */
 	private static class UnionFind {
-		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
-
-		public void init(IType type) {
-			fElementToRepresentative.put(type, type);
+		private final Map<IType, Integer> fIndices;
+		private final IType[] fTypes;
+		private final int[] fParents;
+		private final int[] fSizes;
+
+		public UnionFind(Collection<IType> types) {
+			int size= types.size();
+			fIndices= new HashMap<>(size * 4 / 3 + 1);
+			fTypes= new IType[size];
+			fParents= new int[size];
+			fSizes= new int[size];
+			int index= 0;
+			for (IType type : types) {
+				fIndices.put(type, Integer.valueOf(index));
+				fTypes[index]= type;
+				fParents[index]= index;
+				fSizes[index]= 1;
+				index++;
+			}
 		}
 
-		//path compression:
+		/**
+		 * @param element the type
+		 * @return the representative of the type, or <code>null</code> if the type is unknown
+		 */
 		public IType find(IType element) {
-			IType root= element;
-			IType rep= fElementToRepresentative.get(root);
-			Set<IType> visited=new HashSet<>();
-			while (rep != null && visited.add(root)) {
-				root= rep;
-				rep= fElementToRepresentative.get(root);
-			}
-			if (rep == null)
+			Integer index= fIndices.get(element);
+			if (index == null)
 				return null;
+			return fTypes[findRoot(index.intValue())];
+		}
 
-			rep= fElementToRepresentative.get(element);
-			while (! rep.equals(root)) {
-				IType temp= element;
-				element= rep;
-				fElementToRepresentative.put(temp, root);
-				rep= fElementToRepresentative.get(element);
+		//path compression:
+		private int findRoot(int index) {
+			int root= index;
+			while (fParents[root] != root)
+				root= fParents[root];
+			while (fParents[index] != root) {
+				int next= fParents[index];
+				fParents[index]= root;
+				index= next;
 			}
 			return root;
 		}
 
-//		//straightforward:
-//		public IType find(IType element) {
-//			IType current= element;
-//			IType rep= (IType) fElementToRepresentative.get(current);
-//			while (rep != null && ! rep.equals(current)) {
-//				current= rep;
-//				rep= (IType) fElementToRepresentative.get(current);
-//			}
-//			if (rep == null)
-//				return null;
-//			else
-//				return current;
-//		}
+		//union by size:
+		public void union(IType element1, IType element2) {
+			int root1= findRoot(fIndices.get(element1).intValue());
+			int root2= findRoot(fIndices.get(element2).intValue());
+			if (root1 == root2)
+				return;
+			if (fSizes[root1] > fSizes[root2]) {
+				int temp= root1;
+				root1= root2;
+				root2= temp;
+			}
+			fParents[root1]= root2;
+			fSizes[root2]+= fSizes[root1];
+		}
+	}
+
+	/**
+	 * Type hierarchies that are shared by the searches for ripple methods of one refactoring, e.g.
+	 * for the similarly named methods of a renamed type. The hierarchies are keyed by their focus
+	 * type and are not updated, so a cache must only be used with one working copy owner and must
+	 * not outlive the condition checking of the refactoring.
+	 */
+	public static final class HierarchyCache {
+		private final Map<IType, ITypeHierarchy> fHierarchies= new ConcurrentHashMap<>();
+
+		ITypeHierarchy get(IType type) {
+			return fHierarchies.get(type);
+		}
 
-		public void union(IType rep1, IType rep2) {
-			fElementToRepresentative.put(rep1, rep2);
+		void put(IType type, ITypeHierarchy hierarchy) {
+			fHierarchies.put(type, hierarchy);
 		}
 	}
 
+	/**
+	 * Fewer hierarchies of root types are created on the calling thread.
+	 */
+	private static final int MIN_PARALLEL_HIERARCHIES= 2;
+
 
 	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit){
 		fMethod= method;
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		fHierarchyCache= new HierarchyCache();
 	}
 
 	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
@@ -148,6 +193,7 @@ public class RippleMethodFinder2 {
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fHierarchyCache= new HierarchyCache();
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
@@ -174,6 +220,30 @@ public class RippleMethodFinder2 {
 		return getRelatedMethods(method, true, pm, owner);
 	}
 
+	/**
+	 * Finds the ripple methods of a method, excluding binaries, and reuses the type hierarchies of
+	 * earlier searches in the same refactoring.
+	 *
+	 * @param method the method
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @param cache the hierarchies shared with other searches of the refactoring
+	 * @return the ripple methods
+	 * @throws CoreException if the search or a type hierarchy fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, IProgressMonitor pm, WorkingCopyOwner owner, HierarchyCache cache) throws CoreException {
+		try{
+			if (! MethodChecks.isVirtual(method))
+				return new IMethod[]{ method };
+
+			RippleMethodFinder2 finder= new RippleMethodFinder2(method, true, false);
+			finder.fHierarchyCache= cache;
+			return finder.getAllRippleMethods(pm, owner);
+		} finally{
+			pm.done();
+		}
+	}
+
 	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		try {
 			if (! MethodChecks.isVirtual(method))
@@ -289,6 +359,10 @@ public class RippleMethodFinder2 {
 			}
 		}
 
+		Set<IType> typesToProcess= new LinkedHashSet<>(relatedTypes);
+		typesToProcess.addAll(alienTypes);
+		createRootHierarchies(typesToProcess, owner, Progress.subMonitor(pm, 1));
+
 		//find all subtypes of related types:
 		HashSet<IType> relatedSubTypes= new HashSet<>();
 		List<IType> relatedTypesToProcess= new ArrayList<>(relatedTypes);
@@ -335,7 +409,7 @@ public class RippleMethodFinder2 {
 		}
 
 		fRootReps= null;
-		fRootHierarchies= null;
+		fHierarchyCache= null;
 		fTypeToMethod= null;
 		fUnionFind= null;
 
@@ -359,7 +433,11 @@ public class RippleMethodFinder2 {
 
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+			ITypeHierarchy subtypeHierarchy= fHierarchyCache.get(methodTypeSubtype);
+			if (subtypeHierarchy == null) {
+				subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+				fHierarchyCache.put(methodTypeSubtype, subtypeHierarchy);
+			}
 			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
@@ -405,10 +483,49 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		if (hierarchy == null)
+			hierarchy= fHierarchyCache.get(type);
+		if (hierarchy == null) {
 			hierarchy= type.newTypeHierarchy(owner, Progress.subMonitor(pm, 1));
+			fHierarchyCache.put(type, hierarchy);
+		}
 		return hierarchy;
 	}
 
+	/**
+	 * Creates the missing hierarchies of the first root types of the partitions of the given types
+	 * concurrently. {@link #getCachedHierarchy(IType, WorkingCopyOwner, IProgressMonitor)} always
+	 * needs the hierarchy of the first root of a partition and only creates those of the other
+	 * roots if the first one does not contain the type, so these are left to it.
+	 *
+	 * @param types the types whose hierarchies will be needed
+	 * @param owner the working copy owner
+	 * @param pm the progress monitor
+	 * @throws CoreException if creating a type hierarchy fails
+	 */
+	private void createRootHierarchies(Collection<IType> types, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		Set<IType> roots= new LinkedHashSet<>();
+		for (IType type : types) {
+			IType rep= fUnionFind.find(type);
+			Collection<IType> repRoots= rep != null ? fRootReps.get(rep) : null;
+			if (repRoots == null || repRoots.isEmpty())
+				continue;
+			IType root= repRoots.iterator().next();
+			if (fHierarchyCache.get(root) == null)
+				roots.add(root);
+		}
+		IType[] rootTypes= roots.toArray(new IType[roots.size()]);
+		ITypeHierarchy[] hierarchies= new ITypeHierarchy[rootTypes.length];
+		pm.beginTask("", rootTypes.length); //$NON-NLS-1$
+		try {
+			RenameAnalyzeUtil.runForEachUnit(hierarchies, MIN_PARALLEL_HIERARCHIES, (i, monitor) -> rootTypes[i].newTypeHierarchy(owner, monitor), pm);
+		} finally {
+			pm.done();
+		}
+		for (int i= 0; i < rootTypes.length; i++) {
+			fHierarchyCache.put(rootTypes[i], hierarchies[i]);
+		}
+	}
+
 	private void addMissedSuperTypes() throws JavaModelException {
 		Set<IMethod> newDeclarations = new HashSet<>();
 		for (IMethod method : fDeclarations) {
@@ -423,10 +540,10 @@ public class RippleMethodFinder2 {
 		IType rep= fUnionFind.find(type);
 		if (rep != null) {
 			for (IType root : fRootReps.get(rep)) {
-				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
+				ITypeHierarchy hierarchy= fHierarchyCache.get(root);
 				if (hierarchy == null) {
 					hierarchy= root.newTypeHierarchy(owner, Progress.subMonitor(monitor, 1));
-					fRootHierarchies.put(root, hierarchy);
+					fHierarchyCache.put(root, hierarchy);
 				}
 				if (hierarchy.contains(type))
 					return hierarchy;
@@ -499,20 +616,31 @@ public class RippleMethodFinder2 {
 
 	private void createUnionFind() throws JavaModelException {
 		fRootTypes= new HashSet<>(fTypeToMethod.fImplementation.keySet());
-		fUnionFind= new UnionFind();
+		fUnionFind= new UnionFind(fTypeToMethod.fImplementation.keySet());
+		fUnitedTypes= new HashSet<>();
 		for (IType type : fTypeToMethod.fImplementation.keySet()) {
-			fUnionFind.init(type);
-		}
-		for (IType type : fTypeToMethod.fImplementation.keySet()) {
-			uniteWithSupertypes(type, type);
+			uniteWithSupertypes(type);
 		}
+		fUnitedTypes= null;
 		fRootReps= new MultiMap<>();
 		for (IType type : fRootTypes) {
 			IType rep= fUnionFind.find(type);
 			if (rep != null)
 				fRootReps.put(rep, type);
 		}
-		fRootHierarchies= new HashMap<>();
+	}
+
+	/**
+	 * Unites a type that declares the method with the types that declare the overridden methods.
+	 * This only depends on the type, so it is done once per type, also if thousands of subtypes
+	 * override the method of the type.
+	 *
+	 * @param type the type
+	 * @throws JavaModelException if the declaring types cannot be accessed
+	 */
+	private void uniteWithSupertypes(IType type) throws JavaModelException {
+		if (fUnitedTypes.add(type))
+			uniteWithSupertypes(type, type);
 	}
 
 	private void uniteWithSupertypes(IType anchor, IType type) throws JavaModelException {
@@ -526,11 +654,10 @@ public class RippleMethodFinder2 {
 				Collection<IMethod> superMethods= fTypeToMethod.get(supertype);
 				for (IMethod superMethod : superMethods) {
 					if (JavaModelUtil.isVisibleInHierarchy(superMethod, anchor.getPackageFragment())) {
-						IType rep= fUnionFind.find(anchor);
-						fUnionFind.union(rep, superRep);
+						fUnionFind.union(anchor, superRep);
 						// current type is no root anymore
 						fRootTypes.remove(anchor);
-						uniteWithSupertypes(supertype, supertype);
+						uniteWithSupertypes(supertype);
 					} else {
 						//Not overridden -> overriding chain ends here.
 					}
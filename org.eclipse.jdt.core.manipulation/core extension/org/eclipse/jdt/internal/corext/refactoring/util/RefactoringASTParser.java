@@ -38,8 +38,11 @@ public class RefactoringASTParser {
 
 	private ASTParser fParser;
 
+	private final int fLevel;
+
 	public RefactoringASTParser(int level) {
 		fParser= ASTParser.newParser(level);
+		fLevel= level;
 	}
 
 	public CompilationUnit parse(ITypeRoot typeRoot, boolean resolveBindings) {
@@ -54,7 +57,28 @@ public class RefactoringASTParser {
 		return parse(typeRoot, owner, resolveBindings, false, false, pm);
 	}
 
+	/**
+	 * Parses the given type root. While a {@link RefactoringASTPool} session is active, the AST of a
+	 * compilation unit is taken from the pool if it has been created before with the same settings.
+	 *
+	 * @param typeRoot the type root
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @param resolveBindings whether bindings are to be resolved
+	 * @param statementsRecovery whether statements recovery should be enabled
+	 * @param bindingsRecovery whether bindings recovery should be enabled
+	 * @param pm an {@link IProgressMonitor}, or <code>null</code>
+	 * @return the parsed CompilationUnit
+	 */
 	public CompilationUnit parse(ITypeRoot typeRoot, WorkingCopyOwner owner, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery, IProgressMonitor pm) {
+		RefactoringASTPool pool= RefactoringASTPool.getActivePool();
+		if (pool != null && typeRoot instanceof ICompilationUnit) {
+			return pool.getAST((ICompilationUnit) typeRoot, owner, fLevel, resolveBindings, statementsRecovery, bindingsRecovery,
+					() -> createAST(typeRoot, owner, resolveBindings, statementsRecovery, bindingsRecovery, pm));
+		}
+		return createAST(typeRoot, owner, resolveBindings, statementsRecovery, bindingsRecovery, pm);
+	}
+
+	private CompilationUnit createAST(ITypeRoot typeRoot, WorkingCopyOwner owner, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery, IProgressMonitor pm) {
 		fParser.setResolveBindings(resolveBindings);
 		fParser.setStatementsRecovery(statementsRecovery);
 		fParser.setBindingsRecovery(bindingsRecovery);
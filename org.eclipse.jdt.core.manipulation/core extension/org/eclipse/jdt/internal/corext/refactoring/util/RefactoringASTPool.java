@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * A pool of the ASTs created by the {@link RefactoringASTParser} while a refactoring session is
+ * active, which lets the parts of a refactoring share the AST of a compilation unit instead of
+ * parsing it again.
+ * <p>
+ * A session is opened with {@link #beginSession()} and must be closed with {@link #endSession()} in
+ * a <code>finally</code> block. A session is confined to the thread that opened it: parsers running
+ * on other threads, for example for other refactorings or quick assists, never get pooled ASTs.
+ * Sessions can be nested; the pool is cleared when the outermost session of the thread ends. ASTs
+ * are keyed by compilation unit, working copy owner, AST level and parser flags, and are only reused
+ * while the modification stamp of the resource and the contents of the working copy buffer are
+ * unchanged. The pool holds the ASTs softly and keeps at most
+ * {@link #MAX_ENTRIES} of them, evicting the least recently used one first.
+ * </p>
+ * <p>
+ * Clients must not modify the ASTs that they get from a pool, since the ASTs are shared. Use an
+ * {@link org.eclipse.jdt.core.dom.rewrite.ASTRewrite} to describe changes.
+ * </p>
+ */
+public final class RefactoringASTPool {
+
+	private static final boolean ENABLED= !"false".equals(System.getProperty("org.eclipse.jdt.ui.refactoring.astPool")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * The maximal number of ASTs in a pool.
+	 */
+	static final int MAX_ENTRIES= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.refactoring.astPoolSize", 32).intValue()); //$NON-NLS-1$
+
+	private static final ThreadLocal<RefactoringASTPool> fgActivePool= new ThreadLocal<>();
+
+	private static final class Key {
+
+		private final ICompilationUnit fUnit;
+		private final WorkingCopyOwner fOwner;
+		private final int fLevel;
+		private final int fFlags;
+
+		Key(ICompilationUnit unit, WorkingCopyOwner owner, int level, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery) {
+			fUnit= unit;
+			fOwner= owner;
+			fLevel= level;
+			fFlags= (resolveBindings ? 1 : 0) | (statementsRecovery ? 2 : 0) | (bindingsRecovery ? 4 : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fUnit, fOwner, Integer.valueOf(fLevel), Integer.valueOf(fFlags));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fLevel == other.fLevel && fFlags == other.fFlags && fUnit.equals(other.fUnit) && Objects.equals(fOwner, other.fOwner);
+		}
+	}
+
+	private static final class Entry {
+
+		final long fModificationStamp;
+		final String fContents; // the contents of a working copy, null for other units
+		final SoftReference<CompilationUnit> fAST;
+
+		Entry(long modificationStamp, String contents, CompilationUnit ast) {
+			fModificationStamp= modificationStamp;
+			fContents= contents;
+			fAST= new SoftReference<>(ast);
+		}
+	}
+
+	private final Map<Key, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+
+	private final IElementChangedListener fListener= event -> clear();
+
+	private int fSessionCount;
+
+	private int fHits;
+
+	private int fMisses;
+
+	private int fEvictions;
+
+	private RefactoringASTPool() {
+	}
+
+	/**
+	 * Opens a refactoring session on the current thread. Until the session is closed with
+	 * {@link #endSession()}, ASTs created by the {@link RefactoringASTParser} on this thread are
+	 * pooled.
+	 */
+	public static void beginSession() {
+		if (!ENABLED)
+			return;
+		RefactoringASTPool pool= fgActivePool.get();
+		if (pool == null) {
+			pool= new RefactoringASTPool();
+			JavaCore.addElementChangedListener(pool.fListener, ElementChangedEvent.POST_CHANGE);
+			fgActivePool.set(pool);
+		}
+		pool.fSessionCount++;
+	}
+
+	/**
+	 * Closes a refactoring session that was opened with {@link #beginSession()} on the current
+	 * thread.
+	 */
+	public static void endSession() {
+		if (!ENABLED)
+			return;
+		RefactoringASTPool pool= fgActivePool.get();
+		if (pool == null || --pool.fSessionCount > 0)
+			return;
+		fgActivePool.remove();
+		JavaCore.removeElementChangedListener(pool.fListener);
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+			System.out.println("RefactoringASTPool: " + pool.toString()); //$NON-NLS-1$
+		pool.clear();
+	}
+
+	/**
+	 * Returns the pool of the session that is active on the current thread.
+	 *
+	 * @return the pool, or <code>null</code> if no session is active on the current thread
+	 */
+	public static RefactoringASTPool getActivePool() {
+		return fgActivePool.get();
+	}
+
+	/**
+	 * Returns the pooled AST of the given compilation unit, or creates and pools it.
+	 *
+	 * @param unit the compilation unit
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @param level the AST level
+	 * @param resolveBindings whether bindings are resolved
+	 * @param statementsRecovery whether statements recovery is enabled
+	 * @param bindingsRecovery whether bindings recovery is enabled
+	 * @param parser creates the AST if it is not pooled
+	 * @return the AST
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, WorkingCopyOwner owner, int level, boolean resolveBindings, boolean statementsRecovery, boolean bindingsRecovery,
+			Supplier<CompilationUnit> parser) {
+		long modificationStamp;
+		String contents;
+		try {
+			IResource resource= unit.getResource();
+			modificationStamp= resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+			contents= unit.isWorkingCopy() ? unit.getSource() : null;
+		} catch (JavaModelException e) {
+			return parser.get();
+		}
+
+		Key key= new Key(unit, owner, level, resolveBindings, statementsRecovery, bindingsRecovery);
+		synchronized (this) {
+			Entry entry= fEntries.get(key);
+			if (entry != null && entry.fModificationStamp == modificationStamp && Objects.equals(entry.fContents, contents)) {
+				CompilationUnit ast= entry.fAST.get();
+				if (ast != null) {
+					fHits++;
+					return ast;
+				}
+			}
+			fMisses++;
+		}
+
+		CompilationUnit ast= parser.get();
+		if (ast != null) {
+			synchronized (this) {
+				fEntries.put(key, new Entry(modificationStamp, contents, ast));
+				evict();
+			}
+		}
+		return ast;
+	}
+
+	private void evict() {
+		for (Iterator<Entry> iter= fEntries.values().iterator(); iter.hasNext();) {
+			Entry entry= iter.next();
+			if (fEntries.size() > MAX_ENTRIES || entry.fAST.get() == null) {
+				iter.remove();
+				fEvictions++;
+			}
+		}
+	}
+
+	/**
+	 * Removes all ASTs from the pool.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	public synchronized int getMissCount() {
+		return fMisses;
+	}
+
+	public synchronized int getEvictionCount() {
+		return fEvictions;
+	}
+
+	/**
+	 * Returns the share of the requests that were answered from the pool.
+	 *
+	 * @return the hit rate between 0 and 1, or 0 if there were no requests
+	 */
+	public synchronized double getHitRate() {
+		int requests= fHits + fMisses;
+		return requests == 0 ? 0 : (double) fHits / requests;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "hits=" + fHits + ", misses=" + fMisses + ", evictions=" + fEvictions + ", hit rate=" + Math.round(getHitRate() * 100) + '%'; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
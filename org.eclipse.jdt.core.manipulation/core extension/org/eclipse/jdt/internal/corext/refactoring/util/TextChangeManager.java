@@ -39,6 +39,14 @@ public class TextChangeManager {
 		this(false);
 	}
 
+	/**
+	 * Creates a manager whose text changes keep the copies of their edits that were executed on
+	 * the preview document, see {@link TextChange#setKeepPreviewEdits(boolean)}. Keeping the
+	 * preview edits costs a copy of every edit tree whose preview has been computed, so only
+	 * request it if clients call {@link TextChange#getPreviewEdits(org.eclipse.text.edits.TextEdit[])}.
+	 *
+	 * @param keepExecutedTextEdits whether the changes keep their preview edits
+	 */
 	public TextChangeManager(boolean keepExecutedTextEdits) {
 		fKeepExecutedTextEdits= keepExecutedTextEdits;
 	}
@@ -13,9 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,30 +26,126 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The cache is bounded by the total number of types in the cached hierarchies (see
+ * {@link #setCapacity(int)}). When the capacity is exceeded, the least recently accessed
+ * hierarchies are evicted. Hierarchies not accessed for longer than the idle timeout (see
+ * {@link #setIdleTimeout(long)}) are evicted as well. Lookups do not block each other.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
+	/**
+	 * A snapshot of the counters of the cache.
+	 */
+	public static final class CacheStatistics {
+
+		private final long fHits;
+		private final long fMisses;
+		private final long fEvictions;
+		private final long fIdleEvictions;
+		private final long fInvalidations;
+		private final int fSize;
+		private final int fWeight;
+
+		CacheStatistics(long hits, long misses, long evictions, long idleEvictions, long invalidations, int size, int weight) {
+			fHits= hits;
+			fMisses= misses;
+			fEvictions= evictions;
+			fIdleEvictions= idleEvictions;
+			fInvalidations= invalidations;
+			fSize= size;
+			fWeight= weight;
+		}
+
+		/**
+		 * @return the number of requests answered from the cache
+		 */
+		public long getHits() {
+			return fHits;
+		}
+
+		/**
+		 * @return the number of requests for which a hierarchy had to be built
+		 */
+		public long getMisses() {
+			return fMisses;
+		}
+
+		/**
+		 * @return the number of hierarchies evicted because the capacity was exceeded
+		 */
+		public long getEvictions() {
+			return fEvictions;
+		}
+
+		/**
+		 * @return the number of hierarchies evicted because they were not accessed for longer than
+		 *         the idle timeout
+		 */
+		public long getIdleEvictions() {
+			return fIdleEvictions;
+		}
+
+		/**
+		 * @return the number of hierarchies removed because they changed, no longer existed or
+		 *         were replaced by a hierarchy containing their focus type
+		 */
+		public long getInvalidations() {
+			return fInvalidations;
+		}
+
+		/**
+		 * @return the number of hierarchies in the cache
+		 */
+		public int getSize() {
+			return fSize;
+		}
+
+		/**
+		 * @return the total number of types in the cached hierarchies
+		 */
+		public int getWeight() {
+			return fWeight;
+		}
+
+		@Override
+		public String toString() {
+			return "hits: " + fHits + ", misses: " + fMisses + ", evictions: " + fEvictions //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", idle evictions: " + fIdleEvictions + ", invalidations: " + fInvalidations //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", size: " + fSize + ", weight: " + fWeight; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private volatile ITypeHierarchy fTypeHierarchy;
+		private final int fWeight;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fWeight= Math.max(1, hierarchy.getAllTypes().length);
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
 
 		@Override
 		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
-			removeHierarchyEntryFromCache(this);
+			if (removeHierarchyEntryFromCache(this)) {
+				fgInvalidations.increment();
+			}
 		}
 
 		public ITypeHierarchy getTypeHierarchy() {
 			return fTypeHierarchy;
 		}
 
+		public int getWeight() {
+			return fWeight;
+		}
+
 		public void markAsAccessed() {
 			fLastAccess= System.currentTimeMillis();
 		}
@@ -58,28 +154,55 @@ public class SuperTypeHierarchyCache {
 			return fLastAccess;
 		}
 
+		public boolean isIdle(long now) {
+			long idleTimeout= fgIdleTimeout;
+			return idleTimeout > 0 && now - fLastAccess > idleTimeout;
+		}
+
 		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			if (hierarchy != null) {
+				hierarchy.removeTypeHierarchyChangedListener(this);
 				fTypeHierarchy= null;
 			}
 		}
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			return "Super hierarchy of: " + (hierarchy == null ? null : hierarchy.getType().getElementName()); //$NON-NLS-1$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Default for the maximal number of types in all cached hierarchies.
+	 */
+	private static final int DEFAULT_CAPACITY= Integer.getInteger("org.eclipse.jdt.ui.typeHierarchyCache.capacity", 1000).intValue(); //$NON-NLS-1$
+
+	/**
+	 * Default for the time in milliseconds after which a hierarchy that was not accessed is evicted.
+	 */
+	private static final long DEFAULT_IDLE_TIMEOUT= Long.getLong("org.eclipse.jdt.ui.typeHierarchyCache.idleTimeout", 5 * 60 * 1000L).longValue(); //$NON-NLS-1$
+
+	// Most recently added entries first. Modified only while holding fgLock.
+	private static final CopyOnWriteArrayList<HierarchyCacheEntry> fgHierarchyCache= new CopyOnWriteArrayList<>();
+	private static final Object fgLock= new Object();
+	// Guarded by fgLock.
+	private static int fgWeight= 0;
+
+	// Each tester belongs to a type in a cached hierarchy, which bounds the number of testers.
+	private static final ConcurrentHashMap<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new ConcurrentHashMap<>();
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static volatile int fgCapacity= DEFAULT_CAPACITY;
+	private static volatile long fgIdleTimeout= DEFAULT_IDLE_TIMEOUT;
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgEvictions= new LongAdder();
+	private static final LongAdder fgIdleEvictions= new LongAdder();
+	private static final LongAdder fgInvalidations= new LongAdder();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +220,20 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
+		MethodOverrideTester test= fgMethodOverrideTesterCache.get(type);
 		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
+			ITypeHierarchy hierarchy= getTypeHierarchy(type);
+			test= fgMethodOverrideTesterCache.computeIfAbsent(type, t -> new MethodOverrideTester(t, hierarchy));
+			if (!isCached(test.getTypeHierarchy())) {
+				// the hierarchy was evicted in the meantime, don't keep a tester for it
+				fgMethodOverrideTesterCache.remove(type, test);
 			}
 		}
 		return test;
 	}
 
 	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		fgMethodOverrideTesterCache.values().removeIf(curr -> curr.getTypeHierarchy().equals(hierarchy));
 	}
 
 	/**
@@ -140,42 +251,62 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.increment();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.increment();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
+		synchronized (fgLock) {
+			// remove obsolete and idle entries
+			long now= System.currentTimeMillis();
+			for (HierarchyCacheEntry entry : fgHierarchyCache) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (curr == null) {
+					continue;
+				}
+				if (!curr.exists() || hierarchy.contains(curr.getType())) {
+					if (removeHierarchyEntryFromCache(entry)) {
+						fgInvalidations.increment();
+					}
+				} else if (entry.isIdle(now)) {
+					if (removeHierarchyEntryFromCache(entry)) {
+						fgIdleEvictions.increment();
+					}
+				}
+			}
+			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+			fgHierarchyCache.add(0, newEntry);
+			fgWeight+= newEntry.getWeight();
+			evictToCapacity(newEntry);
+		}
+	}
+
+	/*
+	 * Removes the least recently accessed entries until the capacity is no longer exceeded. The
+	 * given entry is kept even if it exceeds the capacity on its own.
+	 */
+	private static void evictToCapacity(HierarchyCacheEntry keep) {
+		synchronized (fgLock) {
+			while (fgWeight > fgCapacity) {
 				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
+				// newest entries come first, so on equal access times the older entry wins
 				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
+					if (entry != keep && (oldest == null || entry.getLastAccess() <= oldest.getLastAccess())) {
+						oldest= entry;
 					}
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+				if (oldest == null) {
+					return;
+				}
+				if (removeHierarchyEntryFromCache(oldest)) {
+					fgEvictions.increment();
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
 		}
 	}
 
@@ -191,46 +322,132 @@ public class SuperTypeHierarchyCache {
 
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
+		long now= System.currentTimeMillis();
+		for (HierarchyCacheEntry curr : fgHierarchyCache) {
+			ITypeHierarchy hierarchy= curr.getTypeHierarchy();
+			if (hierarchy == null) {
+				continue; // removed concurrently
+			}
+			if (!hierarchy.exists()) {
+				if (removeHierarchyEntryFromCache(curr)) {
+					fgInvalidations.increment();
+				}
+			} else if (curr.isIdle(now)) {
+				if (removeHierarchyEntryFromCache(curr)) {
+					fgIdleEvictions.increment();
 				}
+			} else if (hierarchy.contains(type)) {
+				curr.markAsAccessed();
+				return hierarchy;
 			}
 		}
 		return null;
 	}
 
-	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+	private static boolean isCached(ITypeHierarchy hierarchy) {
+		for (HierarchyCacheEntry curr : fgHierarchyCache) {
+			if (curr.getTypeHierarchy() == hierarchy) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
+		synchronized (fgLock) {
+			if (!fgHierarchyCache.remove(entry)) {
+				return false;
+			}
+			fgWeight-= entry.getWeight();
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy != null) {
+				removeMethodOverrideTester(hierarchy);
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
+			return true;
+		}
+	}
+
+	/**
+	 * Sets the maximal number of types in all cached hierarchies. Hierarchies are evicted
+	 * immediately if the cache exceeds the new capacity.
+	 *
+	 * @param capacity the new capacity, at least 1
+	 */
+	public static void setCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException();
 		}
+		fgCapacity= capacity;
+		evictToCapacity(null);
 	}
 
+	/**
+	 * @return the maximal number of types in all cached hierarchies
+	 */
+	public static int getCapacity() {
+		return fgCapacity;
+	}
+
+	/**
+	 * Sets the time after which a hierarchy that was not accessed is evicted.
+	 *
+	 * @param millis the timeout in milliseconds, a value &lt;= 0 disables idle eviction
+	 */
+	public static void setIdleTimeout(long millis) {
+		fgIdleTimeout= millis;
+	}
+
+	/**
+	 * @return the time in milliseconds after which a hierarchy that was not accessed is evicted,
+	 *         a value &lt;= 0 if idle eviction is disabled
+	 */
+	public static long getIdleTimeout() {
+		return fgIdleTimeout;
+	}
+
+	/**
+	 * Returns a snapshot of the counters of the cache.
+	 *
+	 * @return the statistics of the cache
+	 */
+	public static CacheStatistics getStatistics() {
+		int size;
+		int weight;
+		synchronized (fgLock) {
+			size= fgHierarchyCache.size();
+			weight= fgWeight;
+		}
+		return new CacheStatistics(fgCacheHits.sum(), fgCacheMisses.sum(), fgEvictions.sum(), fgIdleEvictions.sum(), fgInvalidations.sum(), size, weight);
+	}
+
+	/**
+	 * Resets the hit, miss, eviction and invalidation counters to zero.
+	 */
+	public static void resetStatistics() {
+		fgCacheHits.reset();
+		fgCacheMisses.reset();
+		fgEvictions.reset();
+		fgIdleEvictions.reset();
+		fgInvalidations.reset();
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
+	 * @see #getStatistics()
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return (int) fgCacheHits.sum();
 	}
 
 	/**
 	 * Gets the number of times the hierarchy was build. Used for testing.
 	 * @return Returns a int
+	 * @see #getStatistics()
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return (int) fgCacheMisses.sum();
 	}
 
 	private SuperTypeHierarchyCache() {
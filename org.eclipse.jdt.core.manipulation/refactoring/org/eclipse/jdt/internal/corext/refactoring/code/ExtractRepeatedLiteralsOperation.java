@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.CheckConditionsOperation;
+import org.eclipse.ltk.core.refactoring.PerformRefactoringOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+
+/**
+ * Extracts the string literals that occur repeatedly in a type into constants, for all
+ * compilation units of a project, without user interaction.
+ * <p>
+ * For every type and repeated literal, an {@link ExtractConstantRefactoring} that replaces all
+ * occurrences is performed with the first suggested constant name. Literals that occur in
+ * annotations, or that already initialize a constant of the type, are left alone. Literals that
+ * cannot be extracted are skipped, and the problems are reported in the returned status.
+ * </p>
+ */
+public class ExtractRepeatedLiteralsOperation {
+
+	private final IJavaProject fProject;
+
+	private final int fMinOccurrences;
+
+	private int fExtractedCount;
+
+	/**
+	 * @param project the project whose source compilation units are processed
+	 * @param minOccurrences the number of occurrences in a type from which on a literal is
+	 *            extracted, at least 2
+	 */
+	public ExtractRepeatedLiteralsOperation(IJavaProject project, int minOccurrences) {
+		fProject= project;
+		fMinOccurrences= Math.max(2, minOccurrences);
+	}
+
+	/**
+	 * Returns the number of constants that were extracted by {@link #run(IProgressMonitor)}.
+	 *
+	 * @return the number of extracted constants
+	 */
+	public int getExtractedCount() {
+		return fExtractedCount;
+	}
+
+	/**
+	 * Extracts the repeated literals in all source compilation units of the project.
+	 *
+	 * @param pm the progress monitor, or <code>null</code>
+	 * @return the problems of the literals that were not extracted
+	 * @throws CoreException if a compilation unit could not be accessed or changed
+	 */
+	public RefactoringStatus run(IProgressMonitor pm) throws CoreException {
+		List<ICompilationUnit> units= new ArrayList<>();
+		for (IPackageFragmentRoot root : fProject.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (IJavaElement child : root.getChildren()) {
+				for (ICompilationUnit unit : ((IPackageFragment) child).getCompilationUnits()) {
+					units.add(unit);
+				}
+			}
+		}
+
+		SubMonitor progress= SubMonitor.convert(pm, RefactoringCoreMessages.ExtractConstantRefactoring_name, units.size());
+		RefactoringStatus result= new RefactoringStatus();
+		fExtractedCount= 0;
+		for (ICompilationUnit unit : units) {
+			extractRepeatedLiterals(unit, result, progress.split(1));
+		}
+		return result;
+	}
+
+	private void extractRepeatedLiterals(ICompilationUnit unit, RefactoringStatus result, IProgressMonitor pm) throws CoreException {
+		// literals are extracted one after the other, so remember the ones that have been handled
+		Set<String> handled= new HashSet<>();
+		while (true) {
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
+			CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(unit, true, null);
+			StringLiteral literal= findRepeatedLiteral(root, handled);
+			if (literal == null)
+				return;
+			handled.add(getKey(literal));
+
+			ExtractConstantRefactoring refactoring= new ExtractConstantRefactoring(root, literal.getStartPosition(), literal.getLength());
+			refactoring.setReplaceAllOccurrences(true);
+			RefactoringStatus status= refactoring.checkInitialConditions(new NullProgressMonitor());
+			if (!status.hasFatalError()) {
+				refactoring.setConstantName(refactoring.guessConstantName());
+				status.merge(refactoring.checkConstantNameOnChange());
+			}
+			if (!status.hasError()) {
+				PerformRefactoringOperation operation= new PerformRefactoringOperation(refactoring, CheckConditionsOperation.FINAL_CONDITIONS);
+				ResourcesPlugin.getWorkspace().run(operation, new NullProgressMonitor());
+				status.merge(operation.getConditionStatus());
+				if (operation.getValidationStatus() != null)
+					status.merge(operation.getValidationStatus());
+				if (!status.hasError())
+					fExtractedCount++;
+			}
+			if (status.hasError())
+				result.merge(status);
+		}
+	}
+
+	private StringLiteral findRepeatedLiteral(CompilationUnit root, Set<String> handled) {
+		Map<String, List<StringLiteral>> occurrences= new LinkedHashMap<>();
+		root.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(Annotation node) {
+				return false;
+			}
+
+			@Override
+			public boolean visit(StringLiteral node) {
+				String key= getKey(node);
+				if (key != null) {
+					occurrences.computeIfAbsent(key, k -> new ArrayList<>()).add(node);
+					if (isConstantInitializer(node))
+						handled.add(key);
+				}
+				return false;
+			}
+		});
+		for (Map.Entry<String, List<StringLiteral>> entry : occurrences.entrySet()) {
+			if (entry.getValue().size() >= fMinOccurrences && !handled.contains(entry.getKey()))
+				return entry.getValue().get(0);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a key for the literal that is stable across modifications of the compilation unit.
+	 *
+	 * @param literal the literal
+	 * @return the key, or <code>null</code> if the literal is not in a type
+	 */
+	private static String getKey(StringLiteral literal) {
+		AbstractTypeDeclaration type= ASTNodes.getParent(literal, AbstractTypeDeclaration.class);
+		if (type == null)
+			return null;
+		ITypeBinding binding= type.resolveBinding();
+		String typeKey= binding != null ? binding.getKey() : type.getName().getIdentifier();
+		return typeKey + ' ' + literal.getEscapedValue();
+	}
+
+	private static boolean isConstantInitializer(StringLiteral literal) {
+		if (!(literal.getParent() instanceof VariableDeclarationFragment) || !(literal.getParent().getParent() instanceof FieldDeclaration))
+			return false;
+		int modifiers= ((FieldDeclaration) literal.getParent().getParent()).getModifiers();
+		return Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers);
+	}
+}
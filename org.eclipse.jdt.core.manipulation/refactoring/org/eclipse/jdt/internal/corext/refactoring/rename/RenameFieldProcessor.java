@@ -140,7 +140,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	 * @param field the field, or <code>null</code> if invoked by scripting
 	 */
 	public RenameFieldProcessor(IField field) {
-		this(field, new TextChangeManager(true), null);
+		this(field, new TextChangeManager(), null);
 		fIsComposite= false;
 	}
 
@@ -1008,6 +1008,8 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		RenameAnalyzeUtil.LocalAnalyzePackage[] analyzePackages= new RenameAnalyzeUtil.LocalAnalyzePackage[1];
 		RenameAnalyzeUtil.LocalAnalyzePackage analyzePackage= fRenameLocalVariableProcessor.getLocalAnalyzePackage();
 		analyzePackages[current]= analyzePackage;
+		// only the analysis of the renamed record component needs the preview edits
+		fChangeManager.get(cu).setKeepPreviewEdits(true);
 		for (TextEdit occurenceEdit : analyzePackage.fOccurenceEdits) {
 			addTextEdit(fChangeManager.get(cu), newName, occurenceEdit);
 		}
@@ -122,7 +122,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	 * @param method the method, or <code>null</code> if invoked by scripting
 	 */
 	protected RenameMethodProcessor(IMethod method) {
-		this(method, new TextChangeManager(true), null);
+		this(method, new TextChangeManager(), null);
 		fIsComposite= false;
 	}
 	/**
@@ -99,7 +99,7 @@ public class RenameModuleProcessor extends JavaRenameProcessor implements IRefer
 	 *            the module to be renamed
 	 */
 	public RenameModuleProcessor(IModuleDescription moduleDesc) {
-		this(moduleDesc, new TextChangeManager(true), null);
+		this(moduleDesc, new TextChangeManager(), null);
 	}
 
 	/**
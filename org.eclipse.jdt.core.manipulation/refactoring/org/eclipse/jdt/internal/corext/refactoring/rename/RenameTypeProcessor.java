@@ -981,31 +981,14 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		ICompilationUnit[] 	cusWithReferencesToRenamedType= getCus(fReferences);
 
 		Set<ICompilationUnit> conflicts= getIntersection(cusWithReferencesToRenamedType, cusWithReferencesToConflictingTypes);
-		if (cusWithReferencesToConflictingTypes.length > 0) {
-			cus: for (ICompilationUnit cu : cusWithReferencesToConflictingTypes) {
-				String packageName= fType.getPackageFragment().getElementName();
-				if (((IPackageFragment) cu.getParent()).getElementName().equals(packageName)) {
-					boolean hasOnDemandImport= false;
-					IImportDeclaration[] imports= cu.getImports();
-					for (IImportDeclaration importDecl : imports) {
-						if (importDecl.isOnDemand()) {
-							hasOnDemandImport= true;
-						} else {
-							String importName= importDecl.getElementName();
-							int packageLength= importName.length() - getNewElementName().length() - 1;
-							if (packageLength > 0
-									&& importName.endsWith(getNewElementName())
-									&& importName.charAt(packageLength) == '.') {
-								continue cus; // explicit import from another package => no problem
-							}
-						}
-					}
-					if (hasOnDemandImport) {
-						// the renamed type in the same package will shadow the *-imported type
-						conflicts.add(cu);
-					}
-				}
-			}
+		// reading the imports opens the compilation units, so many units are checked concurrently
+		String packageName= fType.getPackageFragment().getElementName();
+		Boolean[] shadowed= new Boolean[cusWithReferencesToConflictingTypes.length];
+		RenameAnalyzeUtil.runForEachUnit(shadowed, RenameAnalyzeUtil.MIN_PARALLEL_UNITS,
+				(i, monitor) -> Boolean.valueOf(isShadowedInPackage(cusWithReferencesToConflictingTypes[i], packageName)), new NullProgressMonitor());
+		for (int i= 0; i < shadowed.length; i++) {
+			if (shadowed[i].booleanValue())
+				conflicts.add(cusWithReferencesToConflictingTypes[i]);
 		}
 
 		for (ICompilationUnit conflict : conflicts) {
@@ -1017,6 +1000,32 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return result;
 	}
 
+	/*
+	 * Returns whether the renamed type would shadow a type of the same name that the given
+	 * compilation unit in the package of the renamed type imports on demand.
+	 */
+	private boolean isShadowedInPackage(ICompilationUnit cu, String packageName) throws JavaModelException {
+		if (!((IPackageFragment) cu.getParent()).getElementName().equals(packageName))
+			return false;
+		boolean hasOnDemandImport= false;
+		IImportDeclaration[] imports= cu.getImports();
+		for (IImportDeclaration importDecl : imports) {
+			if (importDecl.isOnDemand()) {
+				hasOnDemandImport= true;
+			} else {
+				String importName= importDecl.getElementName();
+				int packageLength= importName.length() - getNewElementName().length() - 1;
+				if (packageLength > 0
+						&& importName.endsWith(getNewElementName())
+						&& importName.charAt(packageLength) == '.') {
+					return false; // explicit import from another package => no problem
+				}
+			}
+		}
+		// the renamed type in the same package will shadow the *-imported type
+		return hasOnDemandImport;
+	}
+
 	private static Set<ICompilationUnit> getIntersection(ICompilationUnit[] a1, ICompilationUnit[] a2){
 		Set<ICompilationUnit> set1= new HashSet<>(Arrays.asList(a1));
 		Set<ICompilationUnit> set2= new HashSet<>(Arrays.asList(a2));
@@ -1293,6 +1302,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 		final RefactoringStatus status= new RefactoringStatus();
 		final Set<IMethod> handledTopLevelMethods= new HashSet<>();
+		final RippleMethodFinder2.HierarchyCache hierarchyCache= new RippleMethodFinder2.HierarchyCache();
 		final Set<Warning> warnings= new HashSet<>();
 		final List<RefactoringProcessor> processors= new ArrayList<>();
 		fFinalSimilarElementToName= new HashMap<>();
@@ -1377,7 +1387,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					if (handledTopLevelMethods.contains(currentMethod))
 						continue;
 					handledTopLevelMethods.add(currentMethod);
-					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null);
+					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null, hierarchyCache);
 
 					if (checkForWarnings(warnings, newName, ripples))
 						continue;
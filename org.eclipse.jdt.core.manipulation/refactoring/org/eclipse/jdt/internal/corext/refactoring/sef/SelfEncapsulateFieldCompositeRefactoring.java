@@ -52,6 +52,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTester
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationRefactoringChange;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTPool;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
@@ -140,8 +141,15 @@ public class SelfEncapsulateFieldCompositeRefactoring extends Refactoring {
 	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException, OperationCanceledException {
 		clearResources();
 		RefactoringStatus fFinalConditions = new RefactoringStatus();
-		for(SelfEncapsulateFieldRefactoring selfEncapsulateFieldRefactoring : getSelectedRefactorings()) {
-			fFinalConditions.merge(selfEncapsulateFieldRefactoring.checkFinalConditions(pm));
+		// every field refactoring parses the units that reference its field again to check them,
+		// the pool lets them share these ASTs with each other and with getRootForUnit
+		RefactoringASTPool.beginSession();
+		try {
+			for(SelfEncapsulateFieldRefactoring selfEncapsulateFieldRefactoring : getSelectedRefactorings()) {
+				fFinalConditions.merge(selfEncapsulateFieldRefactoring.checkFinalConditions(pm));
+			}
+		} finally {
+			RefactoringASTPool.endSession();
 		}
 		makeDeclarationsPrivate();
 		TextChangeManager fChangeManager = new TextChangeManager();
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -45,6 +46,7 @@ import org.eclipse.ltk.core.refactoring.TextChange;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
 
@@ -75,20 +77,7 @@ public class QualifiedNameFinder {
 
 		@Override
 		public boolean acceptFile(IFile file) throws CoreException {
-			IJavaElement element= JavaCore.create(file);
-			if ((element != null && element.exists()))
-				return false;
-
-			// Only touch text files (see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=114153 ):
-			if (! FileBuffers.getTextFileBufferManager().isTextFileLocation(file.getFullPath(), false))
-				return false;
-
-			IPath path= file.getProjectRelativePath();
-			String segment= path.segment(0);
-			if (segment != null && (segment.startsWith(".refactorings") || segment.startsWith(".deprecations"))) //$NON-NLS-1$ //$NON-NLS-2$
-				return false;
-
-			return true;
+			return isSearchedFile(file);
 		}
 
 		@Override
@@ -126,6 +115,23 @@ public class QualifiedNameFinder {
 	private QualifiedNameFinder() {
 	}
 
+	private static boolean isSearchedFile(IFile file) {
+		IJavaElement element= JavaCore.create(file);
+		if ((element != null && element.exists()))
+			return false;
+
+		// Only touch text files (see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=114153 ):
+		if (! FileBuffers.getTextFileBufferManager().isTextFileLocation(file.getFullPath(), false))
+			return false;
+
+		IPath path= file.getProjectRelativePath();
+		String segment= path.segment(0);
+		if (segment != null && (segment.startsWith(".refactorings") || segment.startsWith(".deprecations"))) //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+
+		return true;
+	}
+
 	public static void process(QualifiedNameSearchResult result, String pattern, String newValue, String filePatterns, IProject root, IProgressMonitor monitor) {
 		Assert.isNotNull(pattern);
 		Assert.isNotNull(newValue);
@@ -141,21 +147,35 @@ public class QualifiedNameFinder {
 			return;
 		}
 
-		ResultCollector collector= new ResultCollector(result, newValue);
-		TextSearchEngine engine= TextSearchEngine.create();
-		Pattern searchPattern= PatternConstructor.createPattern(pattern, true, false);
-
-		engine.search(createScope(filePatterns, root), collector, searchPattern, monitor);
-	}
-
-	private static TextSearchScope createScope(String filePatterns, IProject root) {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, 2);
 		HashSet<IProject> res= new HashSet<>();
 		res.add(root);
 		addReferencingProjects(root, res);
 		IResource[] resArr= res.toArray(new IResource[res.size()]);
 		Pattern filePattern= getFilePattern(filePatterns);
 
-		return TextSearchScope.newSearchScope(resArr, filePattern, false);
+		QualifiedNameIndex index= QualifiedNameIndex.getDefault();
+		if (index != null) {
+			// only search the files that contain the name
+			try {
+				IFile[] candidates= index.findCandidates(resArr, filePattern, pattern, QualifiedNameFinder::isSearchedFile, subMonitor.split(1));
+				if (candidates != null) {
+					if (candidates.length == 0) {
+						subMonitor.done();
+						return;
+					}
+					resArr= candidates;
+				}
+			} catch (CoreException e) {
+				JavaManipulationPlugin.log(e);
+			}
+		}
+
+		ResultCollector collector= new ResultCollector(result, newValue);
+		TextSearchEngine engine= TextSearchEngine.create();
+		Pattern searchPattern= PatternConstructor.createPattern(pattern, true, false);
+
+		engine.search(TextSearchScope.newSearchScope(resArr, filePattern, false), collector, searchPattern, subMonitor.newChild(1));
 	}
 
 	private static Pattern getFilePattern(String filePatterns) {
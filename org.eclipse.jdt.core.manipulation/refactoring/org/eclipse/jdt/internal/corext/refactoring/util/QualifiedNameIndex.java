@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * An index of the qualified names that occur in the text files of the workspace, used by the
+ * {@link QualifiedNameFinder} to open only the files that can contain a match.
+ * <p>
+ * For every indexed file, the index holds all dotted prefixes of the qualified names in the file,
+ * e.g. <code>a.b</code>, <code>a.b.C</code> and <code>a.b.C.m</code> for <code>a.b.C.m</code>. A
+ * name that is preceded by a dot or an identifier part is not recorded, like the
+ * {@link QualifiedNameFinder} skips such matches. Files are indexed lazily when they are first
+ * queried and are dropped from the index when a resource delta reports a change.
+ * </p>
+ */
+public final class QualifiedNameIndex implements IResourceChangeListener {
+
+	private static final boolean ENABLED= !"false".equals(System.getProperty("org.eclipse.jdt.ui.qualifiedNameIndex")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final int CHANGED_CONTENT= IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.ENCODING;
+
+	private static final class Entry {
+
+		final long fModificationStamp;
+
+		final Set<String> fNames;
+
+		Entry(long modificationStamp, Set<String> names) {
+			fModificationStamp= modificationStamp;
+			fNames= names;
+		}
+	}
+
+	private final Map<IFile, Entry> fEntries= new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the index and registers it as resource change listener.
+	 *
+	 * @see #dispose()
+	 */
+	public QualifiedNameIndex() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the index, or <code>null</code> if the index is disabled or not available
+	 */
+	public static QualifiedNameIndex getDefault() {
+		if (!ENABLED)
+			return null;
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		return plugin != null ? plugin.getQualifiedNameIndex() : null;
+	}
+
+	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		fEntries.clear();
+	}
+
+	/**
+	 * Returns the files below the given roots that may contain the given qualified name. Files with
+	 * unsaved changes in a text file buffer are always returned.
+	 *
+	 * @param roots the resources to search
+	 * @param fileNamePattern the pattern that the names of the searched files must match
+	 * @param qualifiedName the qualified name
+	 * @param filter the filter that files must pass to be searched
+	 * @param pm the progress monitor
+	 * @return the candidate files, or <code>null</code> if the name cannot be looked up in the
+	 *         index and all files have to be searched
+	 * @throws CoreException if the resources could not be visited
+	 */
+	public IFile[] findCandidates(IResource[] roots, Pattern fileNamePattern, String qualifiedName, Predicate<IFile> filter, IProgressMonitor pm) throws CoreException {
+		if (!isQualifiedName(qualifiedName))
+			return null;
+
+		List<IFile> candidates= new ArrayList<>();
+		for (IResource root : roots) {
+			root.accept(proxy -> {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				if (proxy.isDerived())
+					return false;
+				if (proxy.getType() == IResource.FILE) {
+					if (fileNamePattern.matcher(proxy.getName()).matches()) {
+						IFile file= (IFile) proxy.requestResource();
+						if (filter.test(file) && mayContain(file, proxy, qualifiedName))
+							candidates.add(file);
+					}
+					return false;
+				}
+				return true;
+			}, IResource.NONE);
+		}
+		return candidates.toArray(new IFile[candidates.size()]);
+	}
+
+	private boolean mayContain(IFile file, IResourceProxy proxy, String qualifiedName) {
+		ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		if (buffer != null && buffer.isDirty())
+			return true;
+
+		long modificationStamp= proxy.getModificationStamp();
+		Entry entry= fEntries.get(file);
+		if (entry == null || entry.fModificationStamp != modificationStamp) {
+			try {
+				entry= new Entry(modificationStamp, collectQualifiedNames(readContents(file)));
+			} catch (CoreException e) {
+				// let the search report the problem
+				return true;
+			}
+			fEntries.put(file, entry);
+		}
+		return entry.fNames.contains(qualifiedName);
+	}
+
+	private static String readContents(IFile file) throws CoreException {
+		try (InputStream stream= file.getContents()) {
+			return new String(stream.readAllBytes(), file.getCharset());
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulation.ID_PLUGIN, e.getLocalizedMessage(), e));
+		}
+	}
+
+	/**
+	 * Returns whether the given string is a sequence of at least two Java identifiers separated by
+	 * dots, and hence can be looked up in the index.
+	 *
+	 * @param name the string
+	 * @return <code>true</code> iff the name is a qualified name
+	 */
+	static boolean isQualifiedName(String name) {
+		int length= name.length();
+		int segments= 0;
+		int i= 0;
+		while (i < length) {
+			if (!Character.isJavaIdentifierStart(name.charAt(i)))
+				return false;
+			i= skipIdentifier(name, i);
+			segments++;
+			if (i < length) {
+				if (name.charAt(i) != '.' || i + 1 == length)
+					return false;
+				i++;
+			}
+		}
+		return segments > 1;
+	}
+
+	/**
+	 * Collects all dotted prefixes with at least two segments of the qualified names in the given
+	 * text.
+	 *
+	 * @param text the text
+	 * @return the prefixes
+	 */
+	static Set<String> collectQualifiedNames(String text) {
+		Set<String> names= new HashSet<>();
+		int length= text.length();
+		int i= 0;
+		while (i < length) {
+			char ch= text.charAt(i);
+			if (!Character.isJavaIdentifierPart(ch)) {
+				i++;
+				continue;
+			}
+			boolean embedded= i > 0 && text.charAt(i - 1) == '.';
+			int start= i;
+			int end= skipIdentifier(text, i);
+			if (!embedded && Character.isJavaIdentifierStart(ch)) {
+				while (end + 1 < length && text.charAt(end) == '.' && Character.isJavaIdentifierStart(text.charAt(end + 1))) {
+					end= skipIdentifier(text, end + 1);
+					names.add(text.substring(start, end));
+				}
+			}
+			i= end;
+		}
+		return names;
+	}
+
+	private static int skipIdentifier(String text, int start) {
+		int i= start + 1;
+		while (i < text.length() && Character.isJavaIdentifierPart(text.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null || fEntries.isEmpty())
+			return;
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				int kind= child.getKind();
+				int flags= child.getFlags();
+				if (resource.getType() == IResource.FILE) {
+					if (kind == IResourceDelta.REMOVED || (flags & CHANGED_CONTENT) != 0)
+						fEntries.remove(resource);
+					return false;
+				}
+				if (kind == IResourceDelta.REMOVED || (flags & (IResourceDelta.OPEN | IResourceDelta.ENCODING)) != 0) {
+					removeEntries(resource.getFullPath());
+					return false;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+			fEntries.clear();
+		}
+	}
+
+	private void removeEntries(IPath container) {
+		for (Iterator<IFile> iter= fEntries.keySet().iterator(); iter.hasNext();) {
+			if (container.isPrefixOf(iter.next().getFullPath()))
+				iter.remove();
+		}
+	}
+}
@@ -38,6 +38,10 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.TestImpactIndex;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -86,6 +90,8 @@ public class JUnitCorePlugin extends Plugin {
 
 	private final JUnitModel fJUnitModel= new JUnitModel();
 
+	private TestImpactIndex fTestImpactIndex;
+
 
 	/**
 	 * List storing the registered test run listeners
@@ -144,6 +150,12 @@ public class JUnitCorePlugin extends Plugin {
 		try {
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
 			fJUnitModel.stop();
+			synchronized (this) {
+				if (fTestImpactIndex != null) {
+					JavaCore.removeElementChangedListener(fTestImpactIndex);
+					fTestImpactIndex= null;
+				}
+			}
 		} finally {
 			super.stop(context);
 		}
@@ -168,6 +180,23 @@ public class JUnitCorePlugin extends Plugin {
 		return getDefault().fJUnitModel;
 	}
 
+	/**
+	 * Returns the index of the references between compilation units. It is created on first use,
+	 * since building it parses the source folders of the launched projects.
+	 *
+	 * @return the test impact index
+	 */
+	public static TestImpactIndex getTestImpactIndex() {
+		JUnitCorePlugin plugin= getDefault();
+		synchronized (plugin) {
+			if (plugin.fTestImpactIndex == null) {
+				plugin.fTestImpactIndex= new TestImpactIndex();
+				JavaCore.addElementChangedListener(plugin.fTestImpactIndex, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			return plugin.fTestImpactIndex;
+		}
+	}
+
 	/**
 	 * Initializes TestRun Listener extensions
 	 * @deprecated to avoid deprecation warning
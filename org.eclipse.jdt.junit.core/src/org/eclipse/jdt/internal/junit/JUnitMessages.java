@@ -53,6 +53,7 @@ public final class JUnitMessages extends NLS {
 	public static String JUnitLaunchConfigurationDelegate_error_no_socket;
 
 	public static String JUnitLaunchConfigurationDelegate_error_notests_kind;
+	public static String JUnitLaunchConfigurationDelegate_error_noimpactedtests;
 
 	public static String JUnitLaunchConfigurationDelegate_error_wrong_input;
 
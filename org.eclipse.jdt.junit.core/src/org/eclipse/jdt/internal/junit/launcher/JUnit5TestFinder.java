@@ -13,14 +13,30 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.launcher;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
@@ -30,6 +46,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.IAnnotationBinding;
@@ -46,6 +63,31 @@ import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 
 public class JUnit5TestFinder implements ITestFinder {
 
+	/**
+	 * Whether the types of a container are checked in parallel, one package fragment root per
+	 * task. Can be disabled with <code>-Dorg.eclipse.jdt.junit.parallelTestDiscovery=false</code>.
+	 */
+	private static final boolean PARALLEL= !"false".equals(System.getProperty("org.eclipse.jdt.junit.parallelTestDiscovery")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final int THREAD_COUNT= Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	private static final ExecutorService EXECUTOR;
+
+	static {
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "JUnit Test Discovery"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR= executor;
+	}
+
+	/**
+	 * Verdicts of {@link #isTest(ITypeBinding)} for the types of recently searched containers.
+	 */
+	private static final TestVerdictCache VERDICTS= new TestVerdictCache();
+
 	private static class Annotation {
 
 		private static final Annotation RUN_WITH= new Annotation("org.junit.runner.RunWith"); //$NON-NLS-1$
@@ -217,10 +259,8 @@ public class JUnit5TestFinder implements ITestFinder {
 		IType[] allClasses= hierarchy.getAllClasses();
 
 		// search for all types with references to RunWith and Test and all subclasses
-		for (IType type : allClasses) {
-			if (region.contains(type) && internalIsTest(type, pm)) {
-				addTypeAndSubtypes(type, result, hierarchy);
-			}
+		for (IType type : findTests(allClasses, region, subMonitor.split(2))) {
+			addTypeAndSubtypes(type, result, hierarchy);
 		}
 
 		// add all classes implementing JUnit 3.8's Test interface in the region
@@ -233,6 +273,141 @@ public class JUnit5TestFinder implements ITestFinder {
 		CoreTestSearchEngine.findSuiteMethods(element, result, subMonitor.split(1));
 	}
 
+	/**
+	 * Returns the tests among the given types. Cached verdicts are used for types whose files
+	 * have not changed. The other types are grouped by package fragment root, and the compilation
+	 * units of each root are parsed in one batch, in parallel to the other roots.
+	 *
+	 * @param types the types
+	 * @param region the region to search in
+	 * @param monitor the progress monitor
+	 * @return the types that are tests, in the order of <code>types</code>
+	 * @throws CoreException if a type could not be checked
+	 */
+	private List<IType> findTests(IType[] types, IRegion region, IProgressMonitor monitor) throws CoreException {
+		Map<IType, Boolean> verdicts= new ConcurrentHashMap<>();
+		Map<IPackageFragmentRoot, List<IType>> shards= new LinkedHashMap<>();
+		for (IType type : types) {
+			if (!region.contains(type))
+				continue;
+			if (!CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)) {
+				verdicts.put(type, Boolean.FALSE);
+				continue;
+			}
+			Boolean cached= VERDICTS.get(type);
+			if (cached != null) {
+				verdicts.put(type, cached);
+				continue;
+			}
+			IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			shards.computeIfAbsent(root, r -> new ArrayList<>()).add(type);
+		}
+
+		SubMonitor subMonitor= SubMonitor.convert(monitor, shards.size());
+		if (PARALLEL && shards.size() > 1) {
+			List<Future<?>> futures= new ArrayList<>(shards.size());
+			for (List<IType> shard : shards.values()) {
+				futures.add(EXECUTOR.submit(() -> {
+					findTestsInShard(shard, verdicts, subMonitor::isCanceled);
+					return null;
+				}));
+			}
+			try {
+				for (Future<?> future : futures) {
+					while (true) {
+						if (subMonitor.isCanceled())
+							throw new OperationCanceledException();
+						try {
+							future.get(100, TimeUnit.MILLISECONDS);
+							subMonitor.worked(1);
+							break;
+						} catch (TimeoutException e) {
+							// check for cancellation
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException)
+					throw (CoreException) cause;
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				throw new IllegalStateException(cause);
+			} finally {
+				for (Future<?> future : futures) {
+					future.cancel(false);
+				}
+			}
+		} else {
+			for (List<IType> shard : shards.values()) {
+				findTestsInShard(shard, verdicts, subMonitor::isCanceled);
+				subMonitor.worked(1);
+			}
+		}
+
+		List<IType> tests= new ArrayList<>();
+		for (IType type : types) {
+			if (Boolean.TRUE.equals(verdicts.get(type)))
+				tests.add(type);
+		}
+		return tests;
+	}
+
+	/**
+	 * Checks the given types of one package fragment root. Types in compilation units are checked
+	 * on ASTs that are created in one batch, without method bodies. Binary types are checked one
+	 * by one.
+	 *
+	 * @param types the types to check
+	 * @param verdicts receives the verdicts
+	 * @param canceled tells whether the search has been canceled
+	 * @throws JavaModelException if a type could not be checked
+	 */
+	private void findTestsInShard(List<IType> types, Map<IType, Boolean> verdicts, BooleanSupplier canceled) throws JavaModelException {
+		Map<ICompilationUnit, List<IType>> typesByUnit= new LinkedHashMap<>();
+		for (IType type : types) {
+			if (canceled.getAsBoolean())
+				throw new OperationCanceledException();
+			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
+				verdicts.put(type, Boolean.TRUE);
+			} else if (type.getCompilationUnit() != null) {
+				typesByUnit.computeIfAbsent(type.getCompilationUnit(), cu -> new ArrayList<>()).add(type);
+			} else {
+				verdicts.put(type, Boolean.valueOf(internalIsTest(type, null)));
+			}
+		}
+		if (typesByUnit.isEmpty())
+			return;
+
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(types.get(0).getJavaProject());
+		parser.setResolveBindings(true);
+		parser.setIgnoreMethodBodies(true);
+		ICompilationUnit[] units= typesByUnit.keySet().toArray(new ICompilationUnit[typesByUnit.size()]);
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				if (canceled.getAsBoolean())
+					throw new OperationCanceledException();
+				for (IType type : typesByUnit.get(source)) {
+					boolean isTest= false;
+					ASTNode node= ast.findDeclaringNode(type.getKey());
+					if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
+						ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
+						if (binding != null) {
+							isTest= isTest(binding);
+							VERDICTS.put(type, binding, isTest);
+						}
+					}
+					verdicts.put(type, Boolean.valueOf(isTest));
+				}
+			}
+		}, null);
+	}
+
 	private void addTypeAndSubtypes(IType type, Set<IType> result, ITypeHierarchy hierarchy) {
 		if (result.add(type)) {
 			IType[] subclasses= hierarchy.getSubclasses(type);
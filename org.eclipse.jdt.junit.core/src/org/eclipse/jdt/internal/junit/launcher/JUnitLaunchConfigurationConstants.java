@@ -42,6 +42,41 @@ public class JUnitLaunchConfigurationConstants {
 
 	public static final String ATTR_PORT= JUnitCorePlugin.PLUGIN_ID+".PORT"; //$NON-NLS-1$
 
+	/**
+	 * Launch attribute with the comma-separated ports of the test runner VMs of a launch whose tests
+	 * are distributed to several VMs. It is set before {@link #ATTR_PORT}, which holds the port of
+	 * the first VM.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID + ".SHARD_PORTS"; //$NON-NLS-1$
+
+	/**
+	 * The number of test runner VMs that the test classes of the launch are distributed to, or 1 iff
+	 * all tests run in one VM.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID + ".SHARD_COUNT"; //$NON-NLS-1$
+
+	/**
+	 * If set to true, tests that failed in recent runs of the launch configuration and tests that
+	 * were changed since the latest run run first.
+	 *
+	 * @see TestRunHistoryPriorities
+	 */
+	public static final String ATTR_PRIORITIZE_BY_HISTORY= JUnitCorePlugin.PLUGIN_ID + ".PRIORITIZE_BY_HISTORY"; //$NON-NLS-1$
+
+	/**
+	 * If set to true together with {@link #ATTR_PRIORITIZE_BY_HISTORY}, the remaining tests run
+	 * ordered by their durations in the latest run, shortest first.
+	 */
+	public static final String ATTR_SHORTEST_FIRST= JUnitCorePlugin.PLUGIN_ID + ".SHORTEST_FIRST"; //$NON-NLS-1$
+
+	/**
+	 * If set to true, a launch of a test container only runs the tests that are affected by changes
+	 * since the latest run of the launch configuration, and the tests that failed in that run.
+	 *
+	 * @see TestImpactIndex
+	 */
+	public static final String ATTR_ONLY_IMPACTED_TESTS= JUnitCorePlugin.PLUGIN_ID + ".ONLY_IMPACTED_TESTS"; //$NON-NLS-1$
+
 	public static final String ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY= JUnitCorePlugin.PLUGIN_ID + ".DONT_ADD_MISSING_JUNIT5_DEPENDENCY"; //$NON-NLS-1$
 
 	/**
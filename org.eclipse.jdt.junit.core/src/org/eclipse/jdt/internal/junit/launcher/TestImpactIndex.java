@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSummary;
+
+/**
+ * In-memory index of the references between the compilation units of the source folders of the
+ * workspace, used to find the tests that are affected by changes.
+ * <p>
+ * A test class is affected by a compilation unit if it references a type, method or field
+ * declared in it, directly or through other compilation units. The index is built for the source
+ * folders on the class path of a launched project when it is first queried, and is updated from
+ * Java element deltas: changed compilation units are parsed again on the next query, the tests that
+ * referenced a removed compilation unit are affected by its removal, and changes of class paths
+ * drop the index.
+ * </p>
+ */
+public final class TestImpactIndex implements IElementChangedListener {
+
+	/**
+	 * Number of compilation units that are parsed together.
+	 */
+	private static final int BATCH_SIZE= 500;
+
+	/**
+	 * The compilation units referenced by each indexed compilation unit.
+	 */
+	private final Map<ICompilationUnit, Set<ICompilationUnit>> fReferences= new HashMap<>();
+
+	/**
+	 * The compilation units that reference each compilation unit.
+	 */
+	private final Map<ICompilationUnit, Set<ICompilationUnit>> fReferencedBy= new HashMap<>();
+
+	private final Set<IPackageFragmentRoot> fIndexedRoots= new HashSet<>();
+
+	/**
+	 * Compilation units that changed since they were indexed, filled from element deltas.
+	 */
+	private final Set<ICompilationUnit> fDirty= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The time in milliseconds at which each compilation unit was removed, filled from element
+	 * deltas. The units that referenced a removed unit stay in {@link #fReferencedBy}.
+	 */
+	private final Map<ICompilationUnit, Long> fRemoved= new ConcurrentHashMap<>();
+
+	private volatile boolean fReset;
+
+	/**
+	 * Returns the tests that are affected by changes since the latest run of a launch
+	 * configuration. Tests that failed in that run are always affected.
+	 *
+	 * @param configuration the launch configuration
+	 * @param tests the tests of the launch
+	 * @param monitor the progress monitor
+	 * @return the affected tests, or <code>null</code> if the configuration has not run before
+	 * @throws CoreException if the index could not be updated
+	 */
+	public IType[] getImpactedTests(ILaunchConfiguration configuration, IType[] tests, IProgressMonitor monitor) throws CoreException {
+		IJavaProject project= JUnitLaunchConfigurationConstants.getJavaProject(configuration);
+		TestRunSession latest= null;
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (!session.isRunning() && !session.isStarting() && configuration.getName().equals(session.getTestRunName())) {
+				latest= session;
+				break;
+			}
+		}
+		if (project == null || latest == null)
+			return null;
+
+		// the summary is kept when the session is swapped out, so it is not read back in
+		Set<String> failedClassNames= new HashSet<>();
+		TestRunSummary summary= latest.getSummary();
+		if (summary != null) {
+			for (int i= 0; i < summary.getTestCount(); i++) {
+				if (summary.isErrorOrFailure(i))
+					failedClassNames.add(TestElement.extractRawClassName(summary.getTestName(i)));
+			}
+		}
+		Set<IType> impacted= new HashSet<>(Arrays.asList(getImpactedTests(project, tests, latest.getStartTime(), monitor)));
+		List<IType> result= new ArrayList<>();
+		for (IType test : tests) {
+			if (impacted.contains(test) || failedClassNames.contains(test.getFullyQualifiedName()))
+				result.add(test);
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	/**
+	 * Returns the tests that are affected by compilation units that have unsaved changes or were
+	 * modified after the given time.
+	 *
+	 * @param project the project of the tests
+	 * @param tests the candidate tests
+	 * @param time the time in milliseconds
+	 * @param monitor the progress monitor
+	 * @return the affected tests, in the order of <code>tests</code>. Binary tests are always
+	 *         affected.
+	 * @throws CoreException if the index could not be updated
+	 */
+	public synchronized IType[] getImpactedTests(IJavaProject project, IType[] tests, long time, IProgressMonitor monitor) throws CoreException {
+		update(project, monitor);
+
+		Set<ICompilationUnit> impacted= new HashSet<>();
+		ArrayDeque<ICompilationUnit> queue= new ArrayDeque<>();
+		for (ICompilationUnit cu : fReferences.keySet()) {
+			if (hasChangedSince(cu, time) && impacted.add(cu))
+				queue.add(cu);
+		}
+		for (Map.Entry<ICompilationUnit, Long> entry : fRemoved.entrySet()) {
+			Set<ICompilationUnit> referencing= fReferencedBy.get(entry.getKey());
+			if (entry.getValue().longValue() > time && referencing != null) {
+				for (ICompilationUnit cu : referencing) {
+					if (impacted.add(cu))
+						queue.add(cu);
+				}
+			}
+		}
+		while (!queue.isEmpty()) {
+			Set<ICompilationUnit> referencing= fReferencedBy.get(queue.poll());
+			if (referencing != null) {
+				for (ICompilationUnit cu : referencing) {
+					if (impacted.add(cu))
+						queue.add(cu);
+				}
+			}
+		}
+
+		List<IType> result= new ArrayList<>();
+		for (IType test : tests) {
+			ICompilationUnit cu= test.getCompilationUnit();
+			if (cu == null || impacted.contains(cu.getPrimary()))
+				result.add(test);
+		}
+		return result.toArray(new IType[result.size()]);
+	}
+
+	private static boolean hasChangedSince(ICompilationUnit cu, long time) {
+		if (cu.hasUnsavedChanges())
+			return true;
+		IResource resource= cu.getResource();
+		return resource != null && resource.getLocalTimeStamp() > time;
+	}
+
+	/**
+	 * Indexes the source folders on the class path of the given project and parses the compilation
+	 * units that changed since they were indexed.
+	 *
+	 * @param project the project
+	 * @param monitor the progress monitor
+	 * @throws JavaModelException if the class path could not be resolved
+	 */
+	private void update(IJavaProject project, IProgressMonitor monitor) throws JavaModelException {
+		if (fReset) {
+			fReset= false;
+			fReferences.clear();
+			fReferencedBy.clear();
+			fIndexedRoots.clear();
+			fDirty.clear();
+			fRemoved.clear();
+		}
+
+		Set<ICompilationUnit> toParse= new LinkedHashSet<>();
+		for (Iterator<ICompilationUnit> iter= fDirty.iterator(); iter.hasNext();) {
+			ICompilationUnit cu= iter.next();
+			iter.remove();
+			removeUnit(cu);
+			if (fIndexedRoots.contains(cu.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)) && cu.exists())
+				toParse.add(cu);
+		}
+		for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE && fIndexedRoots.add(root)) {
+				for (IJavaElement child : root.getChildren()) {
+					toParse.addAll(Arrays.asList(((IPackageFragment) child).getCompilationUnits()));
+				}
+			}
+		}
+		if (toParse.isEmpty())
+			return;
+
+		// bindings are resolved in the context of the project of each compilation unit
+		Map<IJavaProject, List<ICompilationUnit>> byProject= new HashMap<>();
+		for (ICompilationUnit cu : toParse) {
+			byProject.computeIfAbsent(cu.getJavaProject(), p -> new ArrayList<>()).add(cu);
+		}
+		SubMonitor subMon= SubMonitor.convert(monitor, toParse.size());
+		for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : byProject.entrySet()) {
+			List<ICompilationUnit> units= entry.getValue();
+			for (int i= 0; i < units.size(); i+= BATCH_SIZE) {
+				List<ICompilationUnit> batch= units.subList(i, Math.min(units.size(), i + BATCH_SIZE));
+				parse(entry.getKey(), batch.toArray(new ICompilationUnit[batch.size()]), subMon.split(batch.size()));
+			}
+		}
+	}
+
+	private void parse(IJavaProject project, ICompilationUnit[] units, SubMonitor monitor) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(project);
+		parser.setResolveBindings(true);
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				addUnit(source, collectReferences(source, ast));
+				monitor.worked(1);
+			}
+		}, null);
+	}
+
+	private static Set<ICompilationUnit> collectReferences(ICompilationUnit cu, CompilationUnit ast) {
+		Set<ICompilationUnit> references= new HashSet<>();
+		Map<String, ICompilationUnit> declaringUnits= new HashMap<>();
+		ast.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				IBinding binding= node.resolveBinding();
+				ITypeBinding type= null;
+				if (binding instanceof ITypeBinding) {
+					type= (ITypeBinding) binding;
+				} else if (binding instanceof IMethodBinding) {
+					type= ((IMethodBinding) binding).getDeclaringClass();
+				} else if (binding instanceof IVariableBinding) {
+					type= ((IVariableBinding) binding).getDeclaringClass(); // null for local variables
+				}
+				if (type != null) {
+					ITypeBinding declaration= type.getTypeDeclaration();
+					ICompilationUnit declaringUnit= declaringUnits.computeIfAbsent(declaration.getKey(), key -> getCompilationUnit(declaration));
+					if (declaringUnit != null && !declaringUnit.equals(cu))
+						references.add(declaringUnit);
+				}
+				return true;
+			}
+		});
+		return references;
+	}
+
+	private static ICompilationUnit getCompilationUnit(ITypeBinding declaration) {
+		IJavaElement element= declaration.getJavaElement();
+		if (element instanceof IType) {
+			ICompilationUnit cu= ((IType) element).getCompilationUnit();
+			if (cu != null)
+				return cu.getPrimary();
+		}
+		return null;
+	}
+
+	private void addUnit(ICompilationUnit cu, Set<ICompilationUnit> references) {
+		fReferences.put(cu, references);
+		for (ICompilationUnit reference : references) {
+			fReferencedBy.computeIfAbsent(reference, r -> new HashSet<>()).add(cu);
+		}
+	}
+
+	private void removeUnit(ICompilationUnit cu) {
+		Set<ICompilationUnit> references= fReferences.remove(cu);
+		if (references != null) {
+			for (ICompilationUnit reference : references) {
+				Set<ICompilationUnit> referencing= fReferencedBy.get(reference);
+				if (referencing != null)
+					referencing.remove(cu);
+			}
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				int classpathFlags= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+						| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+						| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & classpathFlags) != 0) {
+					fReset= true;
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					fReset= true;
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= ((ICompilationUnit) element).getPrimary();
+				if (delta.getKind() == IJavaElementDelta.REMOVED)
+					fRemoved.put(cu, Long.valueOf(System.currentTimeMillis()));
+				fDirty.add(cu);
+				return;
+			default:
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+}
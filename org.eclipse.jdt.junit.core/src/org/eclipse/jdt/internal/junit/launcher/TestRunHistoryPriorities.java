@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSummary;
+
+/**
+ * Computes the order of the tests of a launch from the recent runs of its launch configuration in
+ * the test run history, for the <code>-testpriorities</code> argument of the test runner.
+ * <p>
+ * Tests that failed in the latest run come first, then tests that failed in an earlier recent
+ * run, then test classes that were changed or added since the latest run. Within these groups,
+ * shorter tests come first. Optionally, all other tests follow shortest first; otherwise they keep
+ * their order.
+ * </p>
+ */
+public final class TestRunHistoryPriorities {
+
+	/**
+	 * Number of recent runs that are considered.
+	 */
+	private static final int MAX_SESSIONS= 5;
+
+	private static final int FAILED_LAST= 0;
+	private static final int FAILED_RECENTLY= 1;
+	private static final int CHANGED= 2;
+	private static final int OTHER= 3;
+
+	private static final class Priority {
+
+		final String fName;
+
+		int fTier= OTHER;
+
+		double fDuration= Double.NaN;
+
+		Priority(String name) {
+			fName= name;
+		}
+	}
+
+	private final Map<String, Priority> fTests= new HashMap<>();
+
+	private final Map<String, Priority> fClasses= new HashMap<>();
+
+	private TestRunHistoryPriorities() {
+	}
+
+	/**
+	 * Writes the order of the tests of a launch to a temporary file.
+	 *
+	 * @param configuration the launch configuration
+	 * @param testElements the test elements of the launch
+	 * @param shortestFirst whether tests without failures or changes run shortest first
+	 * @return the absolute path of the file, or <code>null</code> if there is no recent run of the
+	 *         configuration
+	 * @throws CoreException if the file could not be written
+	 */
+	public static String createPrioritiesFile(ILaunchConfiguration configuration, IJavaElement[] testElements, boolean shortestFirst) throws CoreException {
+		List<TestRunSession> sessions= new ArrayList<>();
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (session.isRunning() || session.isStarting() || !configuration.getName().equals(session.getTestRunName()))
+				continue;
+			sessions.add(session);
+			if (sessions.size() == MAX_SESSIONS)
+				break;
+		}
+		if (sessions.isEmpty())
+			return null;
+
+		List<TestRunSummary> summaries= new ArrayList<>(sessions.size());
+		for (TestRunSession session : sessions) {
+			// the summary is kept when the session is swapped out, so it is not read back in
+			TestRunSummary summary= session.getSummary();
+			if (summary != null)
+				summaries.add(summary);
+		}
+		List<String> ordered= computeOrder(summaries, JUnitLaunchConfigurationConstants.getJavaProject(configuration), testElements,
+				sessions.get(0).getStartTime(), shortestFirst);
+		if (ordered.isEmpty())
+			return null;
+
+		try {
+			File file= File.createTempFile("testPriorities", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			file.deleteOnExit();
+			try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+				for (String name : ordered) {
+					bw.write(name);
+					bw.newLine();
+				}
+			}
+			return file.getAbsolutePath();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Computes the order of the tests of a launch.
+	 *
+	 * @param summaries the summaries of the recent runs, from the latest to the oldest run
+	 * @param project the project of the launch, or <code>null</code>
+	 * @param testElements the test elements of the launch
+	 * @param time the start time of the latest run, test classes changed after it run early
+	 * @param shortestFirst whether tests without failures or changes run shortest first
+	 * @return the names of the test methods and classes in the order they should run
+	 */
+	public static List<String> computeOrder(List<TestRunSummary> summaries, IJavaProject project, IJavaElement[] testElements, long time, boolean shortestFirst) {
+		TestRunHistoryPriorities priorities= new TestRunHistoryPriorities();
+		for (int i= 0; i < summaries.size(); i++) {
+			priorities.collect(summaries.get(i), i == 0 ? FAILED_LAST : FAILED_RECENTLY);
+		}
+		priorities.markChanged(project, testElements, time);
+
+		List<Priority> ordered= new ArrayList<>();
+		for (Priority priority : priorities.fTests.values()) {
+			if (shortestFirst || priority.fTier != OTHER)
+				ordered.add(priority);
+		}
+		for (Priority priority : priorities.fClasses.values()) {
+			if (shortestFirst || priority.fTier != OTHER)
+				ordered.add(priority);
+		}
+		ordered.sort(Comparator.<Priority> comparingInt(p -> p.fTier)
+				.thenComparingDouble(p -> Double.isNaN(p.fDuration) ? Double.MAX_VALUE : p.fDuration)
+				.thenComparing(p -> p.fName));
+
+		List<String> names= new ArrayList<>(ordered.size());
+		for (Priority priority : ordered) {
+			names.add(priority.fName);
+		}
+		return names;
+	}
+
+	/**
+	 * Collects the tests of a run, from the latest to the oldest run.
+	 *
+	 * @param summary the summary of the run
+	 * @param failedTier the tier of tests that failed in this run
+	 */
+	private void collect(TestRunSummary summary, int failedTier) {
+		for (int i= 0; i < summary.getTestCount(); i++) {
+			String testName= summary.getTestName(i);
+			Priority priority= fTests.computeIfAbsent(testName, Priority::new);
+			if (summary.isErrorOrFailure(i))
+				priority.fTier= Math.min(priority.fTier, failedTier);
+			if (Double.isNaN(priority.fDuration))
+				priority.fDuration= summary.getElapsedTimeInSeconds(i);
+
+			Priority classPriority= fClasses.computeIfAbsent(TestElement.extractRawClassName(testName), Priority::new);
+			classPriority.fTier= Math.min(classPriority.fTier, priority.fTier);
+			if (failedTier == FAILED_LAST && !Double.isNaN(priority.fDuration))
+				classPriority.fDuration= Double.isNaN(classPriority.fDuration) ? priority.fDuration : classPriority.fDuration + priority.fDuration;
+		}
+	}
+
+	/**
+	 * Moves the test classes that were changed or added since the given time to the tier
+	 * {@link #CHANGED}.
+	 *
+	 * @param project the project of the launch, or <code>null</code>
+	 * @param testElements the test elements of the launch
+	 * @param time the start time of the latest run
+	 */
+	private void markChanged(IJavaProject project, IJavaElement[] testElements, long time) {
+		Map<String, IType> types= new HashMap<>();
+		for (IJavaElement element : testElements) {
+			if (element instanceof IType)
+				types.put(((IType) element).getFullyQualifiedName(), (IType) element);
+		}
+		for (IType type : types.values()) {
+			String className= type.getFullyQualifiedName();
+			if (!fClasses.containsKey(className)) {
+				// a new test class
+				fClasses.put(className, new Priority(className));
+				fClasses.get(className).fTier= CHANGED;
+			}
+		}
+		for (Priority classPriority : fClasses.values()) {
+			if (classPriority.fTier <= CHANGED)
+				continue;
+			IType type= types.get(classPriority.fName);
+			try {
+				if (type == null && project != null)
+					type= project.findType(classPriority.fName.replace('$', '.'));
+			} catch (JavaModelException e) {
+				continue;
+			}
+			IResource resource= type != null ? type.getResource() : null;
+			if (resource != null && resource.getLocalTimeStamp() > time)
+				classPriority.fTier= CHANGED;
+		}
+		for (Priority priority : fTests.values()) {
+			if (priority.fTier > CHANGED) {
+				Priority classPriority= fClasses.get(TestElement.extractRawClassName(priority.fName));
+				if (classPriority != null && classPriority.fTier == CHANGED)
+					priority.fTier= CHANGED;
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSummary;
+
+/**
+ * Distributes the test classes of a launch to several test runner VMs.
+ * <p>
+ * The classes are balanced by their elapsed times in the latest run of the same launch
+ * configuration that is still in the test run history. Classes without a previous time are assumed
+ * to take the average time of the others.
+ * </p>
+ */
+public final class TestShardPartitioner {
+
+	private TestShardPartitioner() {
+	}
+
+	/**
+	 * Distributes the given types to at most <code>shardCount</code> shards. Each type is assigned
+	 * to the shard with the smallest total time so far, longest types first.
+	 *
+	 * @param types the test classes
+	 * @param shardCount the maximal number of shards
+	 * @param durations elapsed time in seconds by fully qualified class name
+	 * @return the non-empty shards
+	 */
+	public static List<IType[]> partition(IType[] types, int shardCount, Map<String, Double> durations) {
+		int count= Math.min(shardCount, types.length);
+		if (count <= 1)
+			return List.of(types);
+
+		double total= 0;
+		int known= 0;
+		for (IType type : types) {
+			Double duration= durations.get(type.getFullyQualifiedName('.'));
+			if (duration != null) {
+				total+= duration.doubleValue();
+				known++;
+			}
+		}
+		double defaultDuration= known > 0 ? total / known : 1;
+
+		Map<IType, Double> weights= new HashMap<>();
+		for (IType type : types) {
+			Double duration= durations.get(type.getFullyQualifiedName('.'));
+			weights.put(type, duration != null ? duration : Double.valueOf(defaultDuration));
+		}
+		IType[] sorted= types.clone();
+		Arrays.sort(sorted, Comparator.comparing(weights::get, Comparator.reverseOrder()));
+
+		List<List<IType>> shards= new ArrayList<>(count);
+		double[] loads= new double[count];
+		for (int i= 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (IType type : sorted) {
+			int lightest= 0;
+			for (int i= 1; i < count; i++) {
+				if (loads[i] < loads[lightest])
+					lightest= i;
+			}
+			shards.get(lightest).add(type);
+			loads[lightest]+= weights.get(type).doubleValue();
+		}
+
+		List<IType[]> result= new ArrayList<>(count);
+		for (List<IType> shard : shards) {
+			result.add(shard.toArray(new IType[shard.size()]));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the elapsed times of the test classes in the latest finished run of the given launch
+	 * configuration.
+	 *
+	 * @param configuration the launch configuration
+	 * @return elapsed time in seconds by fully qualified class name, empty if there is no previous
+	 *         run
+	 */
+	public static Map<String, Double> getPreviousDurations(ILaunchConfiguration configuration) {
+		for (TestRunSession session : JUnitCorePlugin.getModel().getTestRunSessions()) {
+			if (session.isRunning() || session.isStarting() || !configuration.getName().equals(session.getTestRunName()))
+				continue;
+			// the summary is kept when the session is swapped out, so it is not read back in
+			TestRunSummary summary= session.getSummary();
+			return summary != null ? new HashMap<>(summary.getClassDurations()) : new HashMap<>();
+		}
+		return new HashMap<>();
+	}
+}
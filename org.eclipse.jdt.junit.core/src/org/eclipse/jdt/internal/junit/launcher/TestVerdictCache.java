@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * Caches whether types are tests, so that repeated launches of the same container do not parse
+ * all its types again.
+ * <p>
+ * Whether a type is a test depends on the type and on its super types. A verdict is therefore
+ * stored with the modification stamps of the files that declare the type and its super types, and
+ * is only used while none of them has changed.
+ * </p>
+ */
+final class TestVerdictCache {
+
+	/**
+	 * Number of verdicts after which the cache is cleared, to bound its size.
+	 */
+	private static final int MAX_SIZE= 100000;
+
+	private static final class Verdict {
+
+		final boolean fIsTest;
+
+		final IType[] fDependencies;
+
+		final long[] fStamps;
+
+		Verdict(boolean isTest, IType[] dependencies, long[] stamps) {
+			fIsTest= isTest;
+			fDependencies= dependencies;
+			fStamps= stamps;
+		}
+	}
+
+	private final ConcurrentHashMap<IType, Verdict> fVerdicts= new ConcurrentHashMap<>();
+
+	/**
+	 * @param type the type
+	 * @return the cached verdict, or <code>null</code> if there is none or a file that it depends
+	 *         on has changed
+	 */
+	Boolean get(IType type) {
+		Verdict verdict= fVerdicts.get(type);
+		if (verdict == null)
+			return null;
+		for (int i= 0; i < verdict.fDependencies.length; i++) {
+			if (getStamp(verdict.fDependencies[i]) != verdict.fStamps[i]) {
+				fVerdicts.remove(type, verdict);
+				return null;
+			}
+		}
+		return Boolean.valueOf(verdict.fIsTest);
+	}
+
+	/**
+	 * Stores a verdict.
+	 *
+	 * @param type the type
+	 * @param binding the binding of the type, used to find the super types
+	 * @param isTest whether the type is a test
+	 */
+	void put(IType type, ITypeBinding binding, boolean isTest) {
+		Set<IType> dependencies= new LinkedHashSet<>();
+		dependencies.add(type);
+		collectSuperTypes(binding, dependencies);
+
+		IType[] types= new IType[dependencies.size()];
+		long[] stamps= new long[types.length];
+		int count= 0;
+		for (IType dependency : dependencies) {
+			long stamp= getStamp(dependency);
+			if (stamp == IResource.NULL_STAMP) {
+				if (dependency.isBinary())
+					continue; // e.g. a type of the JRE, assume it does not change
+				return; // unsaved changes, don't cache
+			}
+			types[count]= dependency;
+			stamps[count]= stamp;
+			count++;
+		}
+		if (fVerdicts.size() >= MAX_SIZE)
+			fVerdicts.clear();
+		fVerdicts.put(type, new Verdict(isTest, Arrays.copyOf(types, count), Arrays.copyOf(stamps, count)));
+	}
+
+	private static void collectSuperTypes(ITypeBinding binding, Set<IType> result) {
+		if (binding == null)
+			return;
+		ITypeBinding superclass= binding.getSuperclass();
+		if (superclass != null)
+			addSuperType(superclass, result);
+		for (ITypeBinding intf : binding.getInterfaces()) {
+			addSuperType(intf, result);
+		}
+	}
+
+	private static void addSuperType(ITypeBinding binding, Set<IType> result) {
+		IJavaElement element= binding.getTypeDeclaration().getJavaElement();
+		if (element instanceof IType && result.add((IType) element))
+			collectSuperTypes(binding.getTypeDeclaration(), result);
+	}
+
+	/**
+	 * Returns the modification stamp of the file that declares the given type.
+	 *
+	 * @param type the type
+	 * @return the stamp, or {@link IResource#NULL_STAMP} if it is not known or the type has
+	 *         unsaved changes
+	 */
+	private static long getStamp(IType type) {
+		try {
+			ICompilationUnit cu= type.getCompilationUnit();
+			if (cu != null) {
+				if (cu.hasUnsavedChanges())
+					return IResource.NULL_STAMP;
+				IResource resource= cu.getResource();
+				return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+			}
+			IClassFile classFile= type.getClassFile();
+			if (classFile != null) {
+				IResource resource= classFile.getResource();
+				if (resource != null && resource.getType() == IResource.FILE)
+					return resource.getModificationStamp();
+			}
+			IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root != null && root.isArchive()) {
+				IResource resource= root.getResource();
+				if (resource != null)
+					return resource.getModificationStamp();
+				IPath path= root.getPath();
+				File file= path.toFile();
+				if (file.isFile())
+					return file.lastModified();
+			}
+		} catch (JavaModelException e) {
+			// not known
+		}
+		return IResource.NULL_STAMP;
+	}
+}
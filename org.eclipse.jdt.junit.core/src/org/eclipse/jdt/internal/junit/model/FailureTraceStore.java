@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Append-only file that holds the long failure traces of a test run session, so that a run with
+ * many failures does not keep all its traces on the heap. A trace is referenced by the offset and
+ * the length of its UTF-8 encoding in the file.
+ * <p>
+ * The file belongs to the session while its test tree is in memory. It is deleted when the session
+ * is swapped out, since the swap file contains all traces.
+ * </p>
+ */
+final class FailureTraceStore {
+
+	/**
+	 * Traces shorter than this number of characters are kept in memory.
+	 */
+	static final int MIN_LENGTH= 512;
+
+	/**
+	 * Reference to a trace in a store.
+	 */
+	static final class StoredTrace {
+
+		private final FailureTraceStore fStore;
+
+		private final long fOffset;
+
+		private final int fLength;
+
+		StoredTrace(FailureTraceStore store, long offset, int length) {
+			fStore= store;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		/**
+		 * @return the trace, or <code>null</code> if the store has been deleted
+		 * @throws IOException if the trace could not be read
+		 */
+		String get() throws IOException {
+			return fStore.read(fOffset, fLength);
+		}
+	}
+
+	private final File fFile;
+
+	/**
+	 * The opened file, or <code>null</code> if nothing has been appended yet or the store is
+	 * deleted.
+	 */
+	private RandomAccessFile fAccess;
+
+	private long fLength;
+
+	private boolean fDeleted;
+
+	/**
+	 * @param file the file to store the traces in, created on the first append
+	 */
+	FailureTraceStore(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Appends a trace.
+	 *
+	 * @param trace the trace
+	 * @return the reference to the stored trace
+	 * @throws IOException if the trace could not be written
+	 */
+	StoredTrace append(String trace) throws IOException {
+		byte[] bytes= trace.getBytes(StandardCharsets.UTF_8);
+		synchronized (this) {
+			if (fDeleted)
+				throw new IOException("Trace store deleted: " + fFile); //$NON-NLS-1$
+			if (fAccess == null)
+				fAccess= new RandomAccessFile(fFile, "rw"); //$NON-NLS-1$
+			long offset= fLength;
+			fAccess.seek(offset);
+			fAccess.write(bytes);
+			fLength+= bytes.length;
+			return new StoredTrace(this, offset, bytes.length);
+		}
+	}
+
+	/**
+	 * Reads a trace.
+	 *
+	 * @param offset the offset of the trace
+	 * @param length the length of the UTF-8 encoded trace
+	 * @return the trace, or <code>null</code> if the store has been deleted
+	 * @throws IOException if the trace could not be read
+	 */
+	private synchronized String read(long offset, int length) throws IOException {
+		if (fDeleted)
+			return null;
+		if (fAccess == null)
+			throw new IOException("Trace store not available: " + fFile); //$NON-NLS-1$
+		byte[] bytes= new byte[length];
+		fAccess.seek(offset);
+		fAccess.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Closes and deletes the file. Further appends fail.
+	 */
+	synchronized void delete() {
+		fDeleted= true;
+		if (fAccess != null) {
+			try {
+				fAccess.close();
+			} catch (IOException e) {
+				// the file is deleted anyway
+			}
+			fAccess= null;
+		}
+		if (fFile.exists())
+			fFile.delete();
+	}
+}
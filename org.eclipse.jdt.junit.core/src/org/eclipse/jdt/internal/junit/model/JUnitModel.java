@@ -15,6 +15,7 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -506,24 +507,49 @@ public final class JUnitModel {
 
 	public static void exportTestRunSession(TestRunSession testRunSession, OutputStream out)
 			throws TransformerFactoryConfigurationError, TransformerException {
+		exportTestRunSession(testRunSession, out, true);
+	}
+
+	/**
+	 * Writes the given test run session to its swap file. Unlike an export, the swap file is not
+	 * indented, since it is only read by {@link #importIntoTestRunSession(File, TestRunSession)}.
+	 * The session is streamed from its test tree to the file, so that swapping out a large session
+	 * does not build another copy of it in memory.
+	 *
+	 * @param testRunSession the test run session
+	 * @param swapFile the swap file
+	 * @throws CoreException if an error occurred
+	 */
+	static void swapOutTestRunSession(TestRunSession testRunSession, File swapFile) throws CoreException {
+		try (OutputStream out= new BufferedOutputStream(new FileOutputStream(swapFile), 64 * 1024)) {
+			exportTestRunSession(testRunSession, out, false);
+		} catch (IOException | TransformerException e) {
+			throwExportError(swapFile, e);
+		}
+	}
+
+	private static void exportTestRunSession(TestRunSession testRunSession, OutputStream out, boolean indent)
+			throws TransformerFactoryConfigurationError, TransformerException {
 
 		Transformer transformer= XmlProcessorFactoryJdtJunit.createTransformerFactoryWithErrorOnDOCTYPE().newTransformer();
 		InputSource inputSource= new InputSource();
 		SAXSource source= new SAXSource(new TestRunSessionSerializer(testRunSession), inputSource);
 		StreamResult result= new StreamResult(out);
 		transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
-		transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
-		/*
-		 * Bug in Xalan: Only indents if proprietary property
-		 * org.apache.xalan.templates.OutputProperties.S_KEY_INDENT_AMOUNT is set.
-		 *
-		 * Bug in Xalan as shipped with J2SE 5.0:
-		 * Does not read the indent-amount property at all >:-(.
-		 */
-		try {
-			transformer.setOutputProperty("{http://xml.apache.org/xalan}indent-amount", "2"); //$NON-NLS-1$ //$NON-NLS-2$
-		} catch (IllegalArgumentException e) {
-			// no indentation today...
+		if (indent) {
+			transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+			/*
+			 * Bug in Xalan: Only indents if proprietary property
+			 * org.apache.xalan.templates.OutputProperties.S_KEY_INDENT_AMOUNT is set.
+			 *
+			 * Bug in Xalan as shipped with J2SE 5.0:
+			 * Does not read the indent-amount property at all >:-(.
+			 */
+			try {
+				transformer.setOutputProperty("{http://xml.apache.org/xalan}indent-amount", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+			} catch (IllegalArgumentException e) {
+				// no indentation today...
+			}
 		}
 		transformer.transform(source, result);
 	}
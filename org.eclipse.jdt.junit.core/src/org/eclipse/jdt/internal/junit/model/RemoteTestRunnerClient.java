@@ -15,8 +15,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -237,6 +241,10 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input stream if the RemoteTestRunner uses the binary protocol
+	 */
+	private DataInputStream fBinaryInput;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -275,11 +283,17 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				InputStream input= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				if (readProtocolHeader(input)) {
+					fBinaryInput= new DataInputStream(input);
+					readFrames();
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -335,6 +349,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -355,6 +376,67 @@ public class RemoteTestRunnerClient {
 		return fSocket != null;
 	}
 
+	/**
+	 * Reads the header of the binary protocol if the RemoteTestRunner has sent one.
+	 *
+	 * @param in the input stream, must support mark and reset
+	 * @return <code>true</code> if the binary protocol is used, <code>false</code> if the
+	 *         text protocol is used and the stream is still at its start
+	 * @throws IOException if reading fails
+	 */
+	private boolean readProtocolHeader(InputStream in) throws IOException {
+		String expected= MessageIds.PROTOCOL_HEADER + MessageIds.BINARY_PROTOCOL_VERSION + '\n';
+		in.mark(expected.length());
+		for (int i= 0; i < expected.length(); i++) {
+			if (in.read() != expected.charAt(i)) {
+				in.reset();
+				return false;
+			}
+		}
+		if (fDebug)
+			System.out.println("binary protocol " + MessageIds.BINARY_PROTOCOL_VERSION); //$NON-NLS-1$
+		return true;
+	}
+
+	/**
+	 * Reads the frames of the binary protocol and processes their messages like the lines of the
+	 * text protocol. Since traces and comparison values are sent as one message, each message is
+	 * treated as a line terminated by <code>'\n'</code>.
+	 *
+	 * @throws IOException if reading fails
+	 * @see org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter
+	 */
+	private void readFrames() throws IOException {
+		fLastLineDelimiter= "\n"; //$NON-NLS-1$
+		byte[] frame= new byte[8 * 1024];
+		while (true) {
+			DataInputStream in= fBinaryInput;
+			if (in == null)
+				return;
+			int length;
+			try {
+				length= in.readInt();
+			} catch (EOFException e) {
+				return;
+			}
+			if (length < 0)
+				throw new IOException("Invalid frame length: " + length); //$NON-NLS-1$
+			if (length > frame.length)
+				frame= new byte[Math.max(length, frame.length * 2)];
+			in.readFully(frame, 0, length);
+
+			int offset= 0;
+			while (offset < length) {
+				int messageLength= (frame[offset] & 0xFF) << 24 | (frame[offset + 1] & 0xFF) << 16 | (frame[offset + 2] & 0xFF) << 8 | (frame[offset + 3] & 0xFF);
+				offset+= 4;
+				if (messageLength < 0 || messageLength > length - offset)
+					throw new IOException("Invalid message length: " + messageLength); //$NON-NLS-1$
+				receiveMessage(new String(frame, offset, messageLength, StandardCharsets.UTF_8));
+				offset+= messageLength;
+			}
+		}
+	}
+
 	private String readMessage(PushbackReader in) throws IOException {
 		StringBuilder buf= new StringBuilder(128);
 		int ch;
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges the events of several test runner VMs into the events of one test run.
+ * <p>
+ * Each VM numbers its tests on its own, so the test ids of shard <code>s</code> of
+ * <code>n</code> shards are mapped: a numeric id <code>i</code> becomes
+ * <code>i * n + s</code>, any other id is prefixed with <code>s:</code>. The tree entries of a
+ * shard are forwarded together once its tree is complete, since the test tree is built from the
+ * order of the entries. The run starts with the first shard and ends when all shards have ended.
+ * </p>
+ * <p>
+ * The events of the shards arrive in different threads and are forwarded under a common lock.
+ * </p>
+ */
+class ShardedTestRunListener {
+
+	interface TotalCountListener {
+		/**
+		 * Called when a shard has started after the run has been started by another shard.
+		 *
+		 * @param testCount the number of tests of the shard
+		 */
+		void shardStarted(int testCount);
+	}
+
+	private final ITestRunListener2 fTarget;
+
+	private final TotalCountListener fTotalCountListener;
+
+	private final int fShardCount;
+
+	private final Object fLock= new Object();
+
+	private boolean fStarted;
+
+	private int fFinishedCount;
+
+	private boolean fStopped;
+
+	private boolean fTerminated;
+
+	private long fElapsedTime;
+
+	/**
+	 * @param target the listener to receive the merged events
+	 * @param totalCountListener notified about the tests of shards that start later
+	 * @param shardCount the number of shards
+	 */
+	ShardedTestRunListener(ITestRunListener2 target, TotalCountListener totalCountListener, int shardCount) {
+		fTarget= target;
+		fTotalCountListener= totalCountListener;
+		fShardCount= shardCount;
+	}
+
+	/**
+	 * @param shard the index of the shard
+	 * @return the listener for the events of the given shard
+	 */
+	ITestRunListener2 getShardListener(int shard) {
+		return new ShardListener(shard);
+	}
+
+	/**
+	 * Maps a test id of a shard to the id in the merged run.
+	 *
+	 * @param id the id sent by the test runner of the shard
+	 * @param shard the index of the shard
+	 * @param shardCount the number of shards
+	 * @return the id in the merged run
+	 */
+	static String mapId(String id, int shard, int shardCount) {
+		int length= id.length();
+		if (length > 0 && length <= 9 && (length == 1 || id.charAt(0) != '0')) {
+			long value= 0;
+			for (int i= 0; i < length; i++) {
+				char c= id.charAt(i);
+				if (c < '0' || c > '9')
+					return shard + ":" + id; //$NON-NLS-1$
+				value= value * 10 + c - '0';
+			}
+			return String.valueOf(value * shardCount + shard);
+		}
+		return shard + ":" + id; //$NON-NLS-1$
+	}
+
+	private class ShardListener implements ITestRunListener2 {
+
+		private final int fShard;
+
+		private final List<String> fPendingTreeEntries= new ArrayList<>();
+
+		private boolean fFinished;
+
+		ShardListener(int shard) {
+			fShard= shard;
+		}
+
+		private String map(String id) {
+			return mapId(id, fShard, fShardCount);
+		}
+
+		/**
+		 * Maps the ids of a tree entry.
+		 *
+		 * @param description the tree entry, see {@link ITestRunListener2#testTreeEntry(String)}
+		 * @return the tree entry with the test id and the parent id mapped
+		 */
+		private String mapTreeEntry(String description) {
+			// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","...
+			int index0= description.indexOf(',');
+			if (index0 == -1)
+				return description;
+			StringBuilder result= new StringBuilder(description.length() + 8);
+			result.append(map(description.substring(0, index0)));
+
+			// skip the escaped test name
+			int index1= index0 + 1;
+			while (index1 < description.length() && description.charAt(index1) != ',') {
+				if (description.charAt(index1) == '\\')
+					index1++;
+				index1++;
+			}
+			// skip isSuite, testcount and isDynamicTest
+			int index4= index1;
+			for (int i= 0; i < 3 && index4 != -1; i++) {
+				index4= description.indexOf(',', index4 + 1);
+			}
+			int index5= index4 != -1 ? description.indexOf(',', index4 + 1) : -1;
+			if (index5 == -1) {
+				result.append(description, index0, description.length());
+			} else {
+				String parentId= description.substring(index4 + 1, index5);
+				result.append(description, index0, index4 + 1);
+				result.append("-1".equals(parentId) ? parentId : map(parentId)); //$NON-NLS-1$
+				result.append(description, index5, description.length());
+			}
+			return result.toString();
+		}
+
+		/**
+		 * Forwards the tree entries received so far. Must be called with the lock held.
+		 */
+		private void flushTreeEntries() {
+			for (String entry : fPendingTreeEntries) {
+				fTarget.testTreeEntry(entry);
+			}
+			fPendingTreeEntries.clear();
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fLock) {
+				if (fStarted) {
+					fTotalCountListener.shardStarted(testCount);
+				} else {
+					fStarted= true;
+					fTarget.testRunStarted(testCount);
+				}
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fLock) {
+				fPendingTreeEntries.add(mapTreeEntry(description));
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fLock) {
+				flushTreeEntries();
+				fTarget.testStarted(map(testId), testName);
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fLock) {
+				flushTreeEntries();
+				fTarget.testEnded(map(testId), testName);
+			}
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fLock) {
+				flushTreeEntries();
+				fTarget.testFailed(status, map(testId), testName, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			synchronized (fLock) {
+				flushTreeEntries();
+				fTarget.testReran(map(testId), testClass, testName, status, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			finished(elapsedTime, false, false);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			finished(elapsedTime, true, false);
+		}
+
+		@Override
+		public void testRunTerminated() {
+			finished(0, false, true);
+		}
+
+		private void finished(long elapsedTime, boolean stopped, boolean terminated) {
+			synchronized (fLock) {
+				if (fFinished)
+					return;
+				fFinished= true;
+				if (fStarted)
+					flushTreeEntries();
+				fStopped|= stopped;
+				fTerminated|= terminated;
+				fElapsedTime= Math.max(fElapsedTime, elapsedTime);
+				if (++fFinishedCount < fShardCount)
+					return;
+				if (fTerminated) {
+					fTarget.testRunTerminated();
+				} else if (fStopped) {
+					fTarget.testRunStopped(fElapsedTime);
+				} else {
+					fTarget.testRunEnded(fElapsedTime);
+				}
+			}
+		}
+	}
+}
@@ -17,12 +17,17 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
 import org.eclipse.jdt.junit.model.ITestRunSession;
 
 import org.eclipse.core.runtime.Assert;
 
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.FailureTraceStore.StoredTrace;
+
 public abstract class TestElement implements ITestElement {
 	public final static class Status {
 		public static final Status RUNNING_ERROR= new Status("RUNNING_ERROR", 5); //$NON-NLS-1$
@@ -191,6 +196,11 @@ public abstract class TestElement implements ITestElement {
 
 	private Status fStatus;
 	private String fTrace;
+	/**
+	 * The trace if it is kept in the session's {@link FailureTraceStore}, otherwise
+	 * <code>null</code> and the trace is {@link #fTrace}.
+	 */
+	private StoredTrace fStoredTrace;
 	private String fExpected;
 	private String fActual;
 
@@ -262,8 +272,8 @@ public abstract class TestElement implements ITestElement {
 	public FailureTrace getFailureTrace() {
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
-				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+				|| (testResult == Result.IGNORED && hasTrace())) {
+			return new FailureTrace(getTraceInternal(), fExpected, fActual);
 		}
 		return null;
 	}
@@ -304,11 +314,12 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
-		if (trace != null && fTrace != null) {
+		if (trace != null && hasTrace()) {
 			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
+			String previous= getTraceInternal();
+			setTrace(previous != null ? previous + trace : trace);
 		} else {
-			fTrace= trace;
+			setTrace(trace);
 			fExpected= expected;
 			fActual= actual;
 		}
@@ -320,7 +331,48 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getTrace() {
-		return fTrace;
+		return getTraceInternal();
+	}
+
+	private boolean hasTrace() {
+		return fTrace != null || fStoredTrace != null;
+	}
+
+	private String getTraceInternal() {
+		if (fStoredTrace == null)
+			return fTrace;
+		try {
+			return fStoredTrace.get();
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the trace. Long traces are moved to the session's {@link FailureTraceStore} if it
+	 * is available.
+	 *
+	 * @param trace the trace, can be <code>null</code>
+	 */
+	private void setTrace(String trace) {
+		fTrace= trace;
+		fStoredTrace= null;
+		if (trace == null || trace.length() < FailureTraceStore.MIN_LENGTH)
+			return;
+		ITestRunSession session= getTestRunSession();
+		if (!(session instanceof TestRunSession))
+			return;
+		FailureTraceStore store= ((TestRunSession) session).getFailureTraceStore();
+		if (store == null)
+			return;
+		try {
+			fStoredTrace= store.append(trace);
+			fTrace= null;
+		} catch (IOException e) {
+			// keep the trace in memory
+			JUnitCorePlugin.log(e);
+		}
 	}
 
 	public String getExpected() {
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Map from test id to test element.
+ * <p>
+ * The test runners number the tests from 1, so elements with such ids are kept in an array
+ * indexed by the id instead of a hash map with one entry object per test. Other ids are kept in a
+ * map.
+ * </p>
+ */
+final class TestElementIndex {
+
+	/**
+	 * Largest gap between the array size and an id that is still put into the array.
+	 */
+	private static final int MAX_GAP= 1024;
+
+	private TestElement[] fElements= new TestElement[256];
+
+	/**
+	 * Elements whose id is not a small non-negative number, or <code>null</code> if there are none.
+	 */
+	private HashMap<String, TestElement> fOtherElements;
+
+	void put(String id, TestElement element) {
+		int index= toIndex(id);
+		if (index >= 0 && index < fElements.length + MAX_GAP) {
+			if (index >= fElements.length)
+				fElements= Arrays.copyOf(fElements, Math.max(index + 1, fElements.length * 2));
+			fElements[index]= element;
+		} else {
+			if (fOtherElements == null)
+				fOtherElements= new HashMap<>();
+			fOtherElements.put(id, element);
+		}
+	}
+
+	TestElement get(String id) {
+		int index= toIndex(id);
+		if (index >= 0 && index < fElements.length) {
+			TestElement element= fElements[index];
+			if (element != null)
+				return element;
+		}
+		return fOtherElements != null ? fOtherElements.get(id) : null;
+	}
+
+	/**
+	 * @param id the test id
+	 * @return the id as array index, or <code>-1</code> if the id is not the canonical decimal
+	 *         representation of a non-negative <code>int</code>
+	 */
+	private static int toIndex(String id) {
+		int length= id.length();
+		if (length == 0 || length > 9 || (length > 1 && id.charAt(0) == '0'))
+			return -1;
+		int index= 0;
+		for (int i= 0; i < length; i++) {
+			char c= id.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			index= index * 10 + c - '0';
+		}
+		return index;
+	}
+}
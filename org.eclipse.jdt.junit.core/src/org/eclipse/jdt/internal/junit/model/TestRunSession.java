@@ -67,9 +67,9 @@ public class TestRunSession implements ITestRunSession {
 	private final ITestKind fTestRunnerKind;
 
 	/**
-	 * Test runner client or <code>null</code>.
+	 * Test runner clients, one for each test runner VM, or <code>null</code>.
 	 */
-	private RemoteTestRunnerClient fTestRunnerClient;
+	private RemoteTestRunnerClient[] fTestRunnerClients;
 
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
@@ -83,10 +83,26 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private Result fTestResult;
 
+	/**
+	 * The summary of the finished run, or <code>null</code> if it has not been computed yet. Kept
+	 * when the session is swapped out.
+	 */
+	private TestRunSummary fSummary;
+
 	/**
 	 * Map from testId to testElement.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private TestElementIndex fIdToTest;
+
+	/**
+	 * Strings that are shared between test elements, like parameter types.
+	 */
+	private HashMap<String, String> fSharedStrings;
+
+	/**
+	 * Store for long failure traces, or <code>null</code> if it has not been needed yet.
+	 */
+	private FailureTraceStore fFailureTraceStore;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -102,6 +118,12 @@ public class TestRunSession implements ITestRunSession {
 
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
+	/**
+	 * Whether long failure traces are kept in a {@link FailureTraceStore} instead of the heap. Can
+	 * be disabled with <code>-Dorg.eclipse.jdt.junit.storeTraces=false</code>.
+	 */
+	private static final boolean STORE_TRACES= !"false".equals(System.getProperty("org.eclipse.jdt.junit.storeTraces")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/**
 	 * Tags included in this test run.
 	 */
@@ -167,9 +189,10 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
+		fSharedStrings= new HashMap<>();
 
-		fTestRunnerClient= null;
+		fTestRunnerClients= null;
 
 		fSessionListeners= new ListenerList<>();
 	}
@@ -191,28 +214,36 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
-
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		fIdToTest= new TestElementIndex();
+		fSharedStrings= new HashMap<>();
+
+		int[] ports= getShardPorts(launch, port);
+		fTestRunnerClients= new RemoteTestRunnerClient[ports.length];
+		if (ports.length == 1) {
+			fTestRunnerClients[0]= new RemoteTestRunnerClient();
+			fTestRunnerClients[0].startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		} else {
+			// the tests are distributed to several VMs, merge their events into this session
+			ShardedTestRunListener merger= new ShardedTestRunListener(new TestSessionNotifier(), testCount -> fTotalCount+= testCount, ports.length);
+			for (int i= 0; i < ports.length; i++) {
+				fTestRunnerClients[i]= new RemoteTestRunnerClient();
+				fTestRunnerClients[i].startListening(new ITestRunListener2[] { merger.getShardListener(i) }, ports[i]);
+			}
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -228,6 +259,38 @@ public class TestRunSession implements ITestRunSession {
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	/**
+	 * @param launch the launch
+	 * @param port the port of the launch
+	 * @return the ports of all test runner VMs of the launch
+	 */
+	private static int[] getShardPorts(ILaunch launch, int port) {
+		String shardPorts= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+		if (shardPorts != null) {
+			try {
+				String[] split= shardPorts.split(","); //$NON-NLS-1$
+				int[] ports= new int[split.length];
+				for (int i= 0; i < split.length; i++) {
+					ports[i]= Integer.parseInt(split[i]);
+				}
+				if (ports.length > 0 && ports[0] == port)
+					return ports;
+			} catch (NumberFormatException e) {
+				// use the port of the launch
+			}
+		}
+		return new int[] { port };
+	}
+
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopWaiting();
+			}
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -238,7 +301,10 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fSummary= null;
+		fIdToTest= new TestElementIndex();
+		fSharedStrings= new HashMap<>();
+		deleteFailureTraceStore();
 	}
 
 	@Override
@@ -370,11 +436,15 @@ public class TestRunSession implements ITestRunSession {
 		try {
 			File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+			JUnitModel.swapOutTestRunSession(this, swapFile);
+			getSummary(); // keep the summary in memory
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
-			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fTestRunnerClients= null;
+			fIdToTest= new TestElementIndex();
+			fSharedStrings= new HashMap<>();
+			// the swap file contains all traces
+			deleteFailureTraceStore();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
@@ -393,15 +463,70 @@ public class TestRunSession implements ITestRunSession {
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
+		synchronized (this) {
+			deleteFailureTraceStore();
+		}
 	}
 
 	private File getSwapFile() throws IllegalStateException {
+		return getHistoryFile(".xml"); //$NON-NLS-1$
+	}
+
+	private File getHistoryFile(String extension) throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
-		return new File(historyDir, swapFileName);
+		return new File(historyDir, isoTime + extension);
 	}
 
+	/**
+	 * Returns the store for long failure traces of the current test tree. The store is created
+	 * on first use and deleted when the session is swapped out or removed.
+	 *
+	 * @return the store, or <code>null</code> if traces are kept in memory
+	 */
+	synchronized FailureTraceStore getFailureTraceStore() {
+		if (fFailureTraceStore == null && STORE_TRACES) {
+			try {
+				fFailureTraceStore= new FailureTraceStore(getHistoryFile(".traces")); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// no state location, keep traces in memory
+			}
+		}
+		return fFailureTraceStore;
+	}
+
+	private void deleteFailureTraceStore() {
+		if (fFailureTraceStore != null) {
+			fFailureTraceStore.delete();
+			fFailureTraceStore= null;
+		}
+	}
+
+	/**
+	 * Returns the shared instance of a string that is equal to the given one.
+	 *
+	 * @param string the string, can be <code>null</code>
+	 * @return the shared string
+	 */
+	private String share(String string) {
+		if (string == null)
+			return null;
+		String shared= fSharedStrings.putIfAbsent(string, string);
+		return shared != null ? shared : string;
+	}
+
+
+	/**
+	 * Returns the names, results and elapsed times of the tests of this session, without reading
+	 * a session that is swapped out back in.
+	 *
+	 * @return the summary, or <code>null</code> if the session is starting or running
+	 */
+	public synchronized TestRunSummary getSummary() {
+		if (fSummary == null && fTestRoot != null && !isRunning() && !isStarting())
+			fSummary= new TestRunSummary(fTestRoot);
+		return fSummary;
+	}
 
 	public synchronized void swapIn() {
 		if (fTestRoot != null)
@@ -419,17 +544,22 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
-			fTestRunnerClient.stopTest();
+		RemoteTestRunnerClient[] clients= fTestRunnerClients;
+		if (clients != null) {
+			for (RemoteTestRunnerClient client : clients) {
+				client.stopTest();
+			}
+		}
 	}
 
 	/**
 	 * @return <code>true</code> iff the runtime VM of this test session is still alive
 	 */
 	public boolean isKeptAlive() {
-		if (fTestRunnerClient != null
+		if (fTestRunnerClients != null
+				&& fTestRunnerClients.length == 1
 				&& fLaunch != null
-				&& fTestRunnerClient.isRunning()
+				&& fTestRunnerClients[0].isRunning()
 				&& ILaunchManager.DEBUG_MODE.equals(fLaunch.getLaunchMode())) {
 			ILaunchConfiguration config= fLaunch.getLaunchConfiguration();
 			try {
@@ -467,7 +597,7 @@ public class TestRunSession implements ITestRunSession {
 			} else if (status == Status.FAILURE) {
 				fFailureCount--;
 			}
-			fTestRunnerClient.rerunTest(testId, className, testName);
+			fTestRunnerClients[0].rerunTest(testId, className, testName);
 			return true;
 		}
 		return false;
@@ -568,6 +698,12 @@ public class TestRunSession implements ITestRunSession {
 		if (parameterTypes != null && parameterTypes.length > 1) {
 			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
 		}
+		if (parameterTypes != null) {
+			for (int i= 0; i < parameterTypes.length; i++) {
+				parameterTypes[i]= share(parameterTypes[i]);
+			}
+		}
+		displayName= share(displayName);
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
@@ -639,6 +775,7 @@ public class TestRunSession implements ITestRunSession {
 
 			fStartTime= System.currentTimeMillis();
 			fIsRunning= true;
+			fSummary= null;
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStarted();
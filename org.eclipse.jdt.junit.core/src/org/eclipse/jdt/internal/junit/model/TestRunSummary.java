@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+/**
+ * The names, results and elapsed times of the tests of a finished test run session. A summary
+ * stays in memory when the test tree of its session is swapped out to disk, so the test run
+ * history can be evaluated without reading the sessions back in.
+ */
+public final class TestRunSummary {
+
+	private String[] fTestNames= new String[16];
+
+	private double[] fElapsedTimes= new double[16];
+
+	private final BitSet fFailed= new BitSet();
+
+	private int fTestCount;
+
+	private final Map<String, Double> fClassDurations= new HashMap<>();
+
+	TestRunSummary(TestRoot testRoot) {
+		for (ITestElement child : testRoot.getChildren()) {
+			collect(child, false);
+		}
+		fTestNames= Arrays.copyOf(fTestNames, fTestCount);
+		fElapsedTimes= Arrays.copyOf(fElapsedTimes, fTestCount);
+	}
+
+	/**
+	 * @param element the test element
+	 * @param inClassSuite whether the element is in the suite of a test class, whose time already
+	 *            includes the time of the element
+	 */
+	private void collect(ITestElement element, boolean inClassSuite) {
+		if (element instanceof TestSuiteElement) {
+			TestSuiteElement suite= (TestSuiteElement) element;
+			double time= suite.getElapsedTimeInSeconds();
+			String testName= suite.getTestName();
+			if (!inClassSuite && !Double.isNaN(time) && !testName.startsWith("[") && TestElement.extractRawClassName(testName).equals(testName)) { //$NON-NLS-1$
+				// a suite for a test class
+				fClassDurations.merge(suite.getClassName(), Double.valueOf(time), Double::sum);
+				inClassSuite= true;
+			}
+			for (ITestElement child : suite.getChildren()) {
+				collect(child, inClassSuite);
+			}
+		} else if (element instanceof TestCaseElement) {
+			TestCaseElement testCase= (TestCaseElement) element;
+			if (fTestCount == fTestNames.length) {
+				fTestNames= Arrays.copyOf(fTestNames, fTestCount * 2);
+				fElapsedTimes= Arrays.copyOf(fElapsedTimes, fTestCount * 2);
+			}
+			fTestNames[fTestCount]= testCase.getTestName();
+			fElapsedTimes[fTestCount]= testCase.getElapsedTimeInSeconds();
+			fFailed.set(fTestCount, testCase.getStatus().isErrorOrFailure());
+			fTestCount++;
+		}
+	}
+
+	/**
+	 * @return the number of test cases
+	 */
+	public int getTestCount() {
+		return fTestCount;
+	}
+
+	/**
+	 * @param index the index of the test case
+	 * @return the name of the test case, see {@link TestElement#getTestName()}
+	 */
+	public String getTestName(int index) {
+		return fTestNames[index];
+	}
+
+	/**
+	 * @param index the index of the test case
+	 * @return whether the test case had an error or failure
+	 */
+	public boolean isErrorOrFailure(int index) {
+		return fFailed.get(index);
+	}
+
+	/**
+	 * @param index the index of the test case
+	 * @return the elapsed time of the test case in seconds, or {@link Double#NaN}
+	 */
+	public double getElapsedTimeInSeconds(int index) {
+		return fElapsedTimes[index];
+	}
+
+	/**
+	 * Returns the elapsed times of the test classes. The time of a test class is the time of its
+	 * suite, including the time that is not spent in its test cases.
+	 *
+	 * @return elapsed time in seconds by fully qualified class name
+	 */
+	public Map<String, Double> getClassDurations() {
+		return Collections.unmodifiableMap(fClassDurations);
+	}
+}
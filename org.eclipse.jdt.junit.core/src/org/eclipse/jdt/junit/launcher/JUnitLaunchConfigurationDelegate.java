@@ -71,6 +71,9 @@ import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestRunHistoryPriorities;
+import org.eclipse.jdt.internal.junit.launcher.TestShardPartitioner;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -93,10 +96,27 @@ import org.eclipse.jdt.launching.VMRunnerConfiguration;
  */
 public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigurationDelegate {
 
+	/**
+	 * Whether the test runner is asked to use the binary protocol. Can be disabled with
+	 * <code>-Dorg.eclipse.jdt.junit.binaryProtocol=false</code>.
+	 */
+	private static final boolean BINARY_PROTOCOL= !"false".equals(System.getProperty("org.eclipse.jdt.junit.binaryProtocol")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	private boolean fKeepAlive= false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
 
+	/**
+	 * The test classes for each test runner VM, or <code>null</code> if all tests run in one VM.
+	 */
+	private List<IType[]> fShards;
+	private int[] fShardPorts;
+
+	/**
+	 * The file with the order of the tests from the test run history, or <code>null</code>.
+	 */
+	private String fPrioritiesFile;
+
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
 	@Override
@@ -123,7 +143,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	}
 
 	private VMRunnerConfiguration getVMRunnerConfiguration(ILaunchConfiguration configuration, ILaunch launch, String mode, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 4);
+		SubMonitor subMon= SubMonitor.convert(monitor, JUnitMessages.JUnitLaunchConfigurationDelegate_verifying_attriburtes_description, 5);
 		// check for cancellation
 		if (subMon.isCanceled()) {
 			return null;
@@ -149,8 +169,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			}
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
-			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
+			int shardCount= fKeepAlive ? 1 : configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+			boolean onlyImpactedTests= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_ONLY_IMPACTED_TESTS, false)
+					&& configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_CONTAINER, "").length() > 0; //$NON-NLS-1$
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -158,12 +179,43 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				fTestElements= evaluateTests(configuration, subMon.newChild( 1));
 			} else {
 				IJavaElement testTarget= getTestTarget(configuration, javaProject);
-				if (testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject) {
+				if ((testTarget instanceof IPackageFragment || testTarget instanceof IPackageFragmentRoot || testTarget instanceof IJavaProject) && shardCount <= 1 && !onlyImpactedTests) {
 					fTestElements= new IJavaElement[] { testTarget };
 				} else {
+					// the test classes of a container are needed to distribute them to several VMs or to select the affected ones
 					fTestElements= evaluateTests(configuration, subMon.newChild(1));
 				}
 			}
+			if (onlyImpactedTests) {
+				fTestElements= evaluateImpactedTests(configuration, fTestElements, subMon.newChild(1));
+			}
+
+			fPrioritiesFile= null;
+			if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_HISTORY, false)
+					&& configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_FAILURES_NAMES, "").isEmpty()) { //$NON-NLS-1$
+				// computed once for all shards, before the test run session of this launch is added
+				boolean shortestFirst= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHORTEST_FIRST, false);
+				fPrioritiesFile= TestRunHistoryPriorities.createPrioritiesFile(configuration, fTestElements, shortestFirst);
+			}
+
+			fShards= computeShards(configuration, shardCount);
+			if (fShards != null) {
+				// the test run session connects to all VMs once the port is set, so set their ports first
+				fShardPorts= new int[fShards.size()];
+				StringBuilder ports= new StringBuilder();
+				for (int i= 0; i < fShardPorts.length; i++) {
+					fShardPorts[i]= evaluateShardPort(i);
+					if (i > 0)
+						ports.append(',');
+					ports.append(fShardPorts[i]);
+				}
+				launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, ports.toString());
+				fTestElements= fShards.get(0);
+				fPort= fShardPorts[0];
+			} else {
+				fPort= evaluatePort();
+			}
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			String mainTypeName= verifyMainTypeName(configuration);
 
@@ -177,14 +229,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Environment variables
 			String[] envp= getEnvironment(configuration);
 
-			ArrayList<String> vmArguments= new ArrayList<>();
-			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
-
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
 
@@ -233,8 +277,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			// Create VM config
 			VMRunnerConfiguration runConfig= new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+			setExecutionArguments(configuration, mode, runConfig);
 			runConfig.setEnvironment(envp);
 			runConfig.setWorkingDirectory(workingDirName);
 			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
@@ -285,16 +328,107 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			// Launch the VMs for the other shards with the same configuration
+			if (fShards != null) {
+				for (int i= 1; i < fShards.size(); i++) {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					fTestElements= fShards.get(i);
+					fPort= fShardPorts[i];
+					setExecutionArguments(configuration, mode, runConfig);
+					runner.run(runConfig, launch, monitor);
+				}
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
+			fPrioritiesFile= null;
 			monitor.done();
 		}
 	}
 
+	private void setExecutionArguments(ILaunchConfiguration configuration, String mode, VMRunnerConfiguration runConfig) throws CoreException {
+		ArrayList<String> vmArguments= new ArrayList<>();
+		ArrayList<String> programArguments= new ArrayList<>();
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(getJavaProject(configuration))) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+	}
+
+	/**
+	 * Selects the test classes that are affected by changes since the latest run of the launch
+	 * configuration, and the ones that failed in that run.
+	 *
+	 * @param configuration the launch configuration
+	 * @param testElements the test elements of the launch
+	 * @param monitor the progress monitor
+	 * @return the affected test classes, or <code>testElements</code> if they are not all test
+	 *         classes or the configuration has not run before
+	 * @throws CoreException if the affected tests could not be computed, or no test is affected
+	 */
+	private IJavaElement[] evaluateImpactedTests(ILaunchConfiguration configuration, IJavaElement[] testElements, IProgressMonitor monitor) throws CoreException {
+		IType[] types= new IType[testElements.length];
+		for (int i= 0; i < types.length; i++) {
+			if (!(testElements[i] instanceof IType))
+				return testElements;
+			types[i]= (IType) testElements[i];
+		}
+		IType[] impacted= JUnitCorePlugin.getTestImpactIndex().getImpactedTests(configuration, types, monitor);
+		if (impacted == null) {
+			// no earlier run to compare with
+			return testElements;
+		}
+		if (impacted.length == 0) {
+			String msg= Messages.format(JUnitMessages.JUnitLaunchConfigurationDelegate_error_noimpactedtests, configuration.getName());
+			abort(msg, null, IJavaLaunchConfigurationConstants.ERR_UNSPECIFIED_MAIN_TYPE);
+		}
+		return impacted;
+	}
+
+	/**
+	 * Distributes the test classes to the given number of test runner VMs, balanced by their
+	 * durations in the previous run.
+	 *
+	 * @param configuration the launch configuration
+	 * @param shardCount the requested number of VMs
+	 * @return the test classes for each VM, or <code>null</code> if all tests run in one VM
+	 */
+	private List<IType[]> computeShards(ILaunchConfiguration configuration, int shardCount) {
+		if (shardCount <= 1 || fTestElements.length <= 1)
+			return null;
+		IType[] types= new IType[fTestElements.length];
+		for (int i= 0; i < types.length; i++) {
+			if (!(fTestElements[i] instanceof IType))
+				return null;
+			types[i]= (IType) fTestElements[i];
+		}
+		List<IType[]> shards= TestShardPartitioner.partition(types, shardCount, TestShardPartitioner.getPreviousDurations(configuration));
+		return shards.size() > 1 ? shards : null;
+	}
+
+	private int evaluateShardPort(int shard) throws CoreException {
+		while (true) {
+			int port= evaluatePort();
+			boolean used= false;
+			for (int i= 0; i < shard; i++) {
+				used|= fShardPorts[i] == port;
+			}
+			if (!used)
+				return port;
+		}
+	}
+
 	private int evaluatePort() throws CoreException {
 		int port= SocketUtil.findFreePort();
 		if (port == -1) {
@@ -435,6 +569,16 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		programArguments.add("-port"); //$NON-NLS-1$
 		programArguments.add(String.valueOf(fPort));
 
+		/*
+		 * Request the binary protocol, which sends the messages in batches. A runtime that does not
+		 * know the argument ignores it and uses the text protocol, which RemoteTestRunnerClient
+		 * still understands.
+		 */
+		if (BINARY_PROTOCOL) {
+			programArguments.add("-protocol"); //$NON-NLS-1$
+			programArguments.add(MessageIds.BINARY_PROTOCOL_VERSION);
+		}
+
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
 
@@ -494,6 +638,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (testFailureNames.length() > 0) {
 			programArguments.add("-testfailures"); //$NON-NLS-1$
 			programArguments.add(testFailureNames);
+		} else if (fPrioritiesFile != null) {
+			programArguments.add("-testpriorities"); //$NON-NLS-1$
+			programArguments.add(fPrioritiesFile);
 		}
 
 		String uniqueId= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, ""); //$NON-NLS-1$
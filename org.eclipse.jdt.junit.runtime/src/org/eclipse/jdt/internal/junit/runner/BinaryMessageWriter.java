@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sends messages of the RemoteTestRunner in the binary protocol
+ * {@link MessageIds#BINARY_PROTOCOL_VERSION}.
+ * <p>
+ * The protocol starts with the line <code>MessageIds.PROTOCOL_HEADER + version</code>, encoded in
+ * ASCII and terminated by <code>'\n'</code>. It is followed by frames until the end of the
+ * stream:
+ * </p>
+ * <pre>
+ * frame   := length:int message*   (length is the number of bytes of all messages)
+ * message := length:int bytes      (the message encoded in UTF-8)
+ * </pre>
+ * <p>
+ * All integers are big-endian. The messages are the messages of the text protocol, but a stack
+ * trace, an expected or an actual value is sent as one message with embedded line delimiters,
+ * instead of one message per line.
+ * </p>
+ * <p>
+ * Messages are collected into a frame until the frame is large enough or until the oldest message
+ * has waited for {@link #MAX_DELAY} milliseconds, so that a run with many short tests does not
+ * need one write per message.
+ * </p>
+ */
+public class BinaryMessageWriter {
+
+	/**
+	 * Size in bytes after which a frame is sent immediately.
+	 */
+	private static final int MAX_FRAME_SIZE= 64 * 1024;
+
+	/**
+	 * Maximum time in milliseconds a message waits in the current frame.
+	 */
+	private static final long MAX_DELAY= 50;
+
+	/**
+	 * Frame buffer that can be written with its length prefix without copying.
+	 */
+	private static class FrameBuffer extends ByteArrayOutputStream {
+
+		FrameBuffer() {
+			super(8 * 1024);
+			reset();
+		}
+
+		@Override
+		public synchronized void reset() {
+			super.reset();
+			// reserve the length of the frame
+			count= 4;
+		}
+
+		boolean isEmpty() {
+			return count == 4;
+		}
+
+		void writeInt(int value) {
+			write(value >>> 24);
+			write(value >>> 16);
+			write(value >>> 8);
+			write(value);
+		}
+
+		void writeFrameTo(OutputStream out) throws IOException {
+			int length= count - 4;
+			buf[0]= (byte) (length >>> 24);
+			buf[1]= (byte) (length >>> 16);
+			buf[2]= (byte) (length >>> 8);
+			buf[3]= (byte) length;
+			out.write(buf, 0, count);
+		}
+	}
+
+	/**
+	 * Sends frames that have waited too long, when the test run is not sending further messages.
+	 */
+	private class Flusher extends Thread {
+
+		public Flusher() {
+			super("BinaryMessageWriter"); //$NON-NLS-1$
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			synchronized (BinaryMessageWriter.this) {
+				while (!fClosed) {
+					try {
+						if (fFrame.isEmpty()) {
+							BinaryMessageWriter.this.wait();
+						} else {
+							long delay= fFirstMessageTime + MAX_DELAY - System.currentTimeMillis();
+							if (delay > 0)
+								BinaryMessageWriter.this.wait(delay);
+							else
+								sendFrame();
+						}
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	private final OutputStream fOut;
+
+	private final FrameBuffer fFrame= new FrameBuffer();
+
+	/**
+	 * Time when the first message of the current frame was added.
+	 */
+	private long fFirstMessageTime;
+
+	private boolean fClosed;
+
+	/**
+	 * Creates a new writer and sends the protocol header.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the header cannot be sent
+	 */
+	public BinaryMessageWriter(OutputStream out) throws IOException {
+		fOut= out;
+		fOut.write((MessageIds.PROTOCOL_HEADER + MessageIds.BINARY_PROTOCOL_VERSION + '\n').getBytes(StandardCharsets.US_ASCII));
+		fOut.flush();
+		new Flusher().start();
+	}
+
+	/**
+	 * Adds a message to the current frame.
+	 *
+	 * @param message the message
+	 */
+	public synchronized void sendMessage(String message) {
+		if (fClosed)
+			return;
+		byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+		if (fFrame.isEmpty()) {
+			fFirstMessageTime= System.currentTimeMillis();
+			notifyAll();
+		}
+		fFrame.writeInt(bytes.length);
+		fFrame.write(bytes, 0, bytes.length);
+		if (fFrame.size() >= MAX_FRAME_SIZE)
+			sendFrame();
+	}
+
+	/**
+	 * Requests that the current frame is sent. It is sent at the latest {@link #MAX_DELAY}
+	 * milliseconds after its first message was added, or immediately if that time has already
+	 * passed.
+	 */
+	public synchronized void flush() {
+		if (!fClosed && !fFrame.isEmpty() && System.currentTimeMillis() - fFirstMessageTime >= MAX_DELAY)
+			sendFrame();
+	}
+
+	/**
+	 * Sends the current frame and closes the stream.
+	 */
+	public synchronized void close() {
+		if (!fClosed && !fFrame.isEmpty())
+			sendFrame();
+		fClosed= true;
+		notifyAll();
+		try {
+			fOut.close();
+		} catch (IOException e) {
+			// the connection is already gone
+		}
+	}
+
+	private void sendFrame() {
+		try {
+			fFrame.writeFrameTo(fOut);
+			fOut.flush();
+		} catch (IOException e) {
+			// like the text protocol, ignore errors of a closed connection
+			fClosed= true;
+		}
+		fFrame.reset();
+	}
+}
@@ -133,6 +133,19 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Header of the binary protocol, sent once before the first message if the IDE has requested
+	 * the binary protocol with the <code>-protocol</code> argument.
+	 * PROTOCOL_HEADER + version + '\n'. All following messages are sent in binary frames.
+	 *
+	 * @see BinaryMessageWriter
+	 */
+	public static final String PROTOCOL_HEADER= "%PROTO  "; //$NON-NLS-1$
+	/**
+	 * Version of the binary protocol, passed as the value of the <code>-protocol</code> argument.
+	 */
+	public static final String BINARY_PROTOCOL_VERSION= "b1"; //$NON-NLS-1$
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import junit.extensions.TestDecorator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Orders the tests of each suite by the ranks of {@link TestPriorities}. A suite ranks like its
+ * best ranked test.
+ */
+public class PriorityListPrioritizer implements ITestPrioritizer {
+
+	private final TestPriorities fPriorities;
+
+	private final Map<Test, Integer> fRanks= new IdentityHashMap<>();
+
+	public PriorityListPrioritizer(TestPriorities priorities) {
+		fPriorities= priorities;
+	}
+
+	@Override
+	public Test prioritize(Test input) {
+		rank(input);
+		fRanks.clear();
+		return input;
+	}
+
+	/**
+	 * Sorts the given test and returns its rank.
+	 *
+	 * @param test the test
+	 * @return the rank of the test
+	 */
+	private int rank(Test test) {
+		int rank;
+		if (test instanceof TestCase) {
+			rank= fPriorities.getRank(test.toString());
+		} else if (test instanceof TestSuite) {
+			TestSuite suite= (TestSuite) test;
+			rank= suite.getName() != null ? fPriorities.getRank(suite.getName()) : TestPriorities.UNLISTED;
+			for (Enumeration<Test> e= suite.tests(); e.hasMoreElements();) {
+				rank= Math.min(rank, rank(e.nextElement()));
+			}
+			@SuppressWarnings("unchecked")
+			Vector<Test> tests= (Vector<Test>) FailuresFirstPrioritizer.getField(suite, "fTests"); //$NON-NLS-1$
+			if (tests != null)
+				tests.sort(Comparator.comparingInt(fRanks::get));
+		} else if (test instanceof TestDecorator) {
+			rank= rank(((TestDecorator) test).getTest());
+		} else {
+			rank= TestPriorities.UNLISTED;
+		}
+		fRanks.put(test, Integer.valueOf(rank));
+		return rank;
+	}
+}
@@ -91,6 +91,16 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages in the binary protocol, or <code>null</code> if the text
+	 * protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * The protocol requested by the client (argument -protocol), or <code>null</code> for the
+	 * text protocol
+	 */
+	private String fProtocol;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -131,6 +141,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private String[] fFailureNames;
 
+	/**
+	 * The order requested by the IDE, or <code>null</code>.
+	 */
+	private TestPriorities fTestPriorities;
+
 	private ITestLoader fLoader;
 
 	private MessageSender fSender;
@@ -202,6 +217,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -protocol: the version of the binary protocol supported by the client
      * </pre>
      */
 	public static void main(String[] args) {
@@ -286,6 +302,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 				}
 				i++;
 
+			} else if ("-testpriorities".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				String testPrioritiesFile= args[i+1];
+				try {
+					fTestPriorities= TestPriorities.read(testPrioritiesFile);
+				} catch (IOException e) {
+					throw new IllegalArgumentException("Cannot read testpriorities file.");		 //$NON-NLS-1$
+				}
+				i++;
+
 			} else if("-port".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fPort= Integer.parseInt(args[i+1]);
 				i++;
@@ -301,6 +326,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-protocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fProtocol= args[i+1];
+				i++;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -649,6 +678,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
+				if (MessageIds.BINARY_PROTOCOL_VERSION.equals(fProtocol))
+					fBinaryWriter= new BinaryMessageWriter(fClientSocket.getOutputStream());
 				try {
 				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
 	            } catch (UnsupportedEncodingException e1) {
@@ -678,6 +709,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.close();
+			fBinaryWriter= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -711,6 +746,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -751,13 +790,27 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
 	public void runTests(TestExecution execution) {
+		if (fTestPriorities != null && fTestName == null)
+			fTestPriorities.sortClassNames(fTestClassNames);
 		runTests(fTestClassNames, fTestName, execution);
 	}
 
+	/**
+	 * @return the order requested by the IDE, or <code>null</code> if the tests run in their
+	 *         original order
+	 */
+	public TestPriorities getTestPriorities() {
+		return fTestPriorities;
+	}
+
 	public ITestLoader getTestLoader() {
 		return fLoader;
 	}
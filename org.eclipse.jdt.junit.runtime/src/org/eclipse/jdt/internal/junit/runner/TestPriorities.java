@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The order in which the IDE wants tests to run, e.g. recently failed tests first.
+ * <p>
+ * The priorities file lists test names, one per line, in the order of their priority. Test
+ * methods are named like failure names, <code>method(class)</code>, and test classes by their
+ * fully qualified names. Tests that are not listed run after the listed ones, in their original
+ * order.
+ * </p>
+ */
+public class TestPriorities {
+
+	/**
+	 * Rank of tests that are not listed.
+	 */
+	public static final int UNLISTED= Integer.MAX_VALUE;
+
+	private static TestPriorities fgLastRead;
+
+	private final String fFileName;
+
+	private final Map<String, Integer> fRanks= new HashMap<>();
+
+	private TestPriorities(String fileName) {
+		fFileName= fileName;
+	}
+
+	/**
+	 * Reads a priorities file. The last read file is cached, since test engines create their
+	 * orderers on their own and look the priorities up by the file name.
+	 *
+	 * @param fileName the name of the priorities file
+	 * @return the priorities
+	 * @throws IOException if the file could not be read
+	 */
+	public static synchronized TestPriorities read(String fileName) throws IOException {
+		if (fgLastRead != null && fgLastRead.fFileName.equals(fileName))
+			return fgLastRead;
+		TestPriorities priorities= new TestPriorities(fileName);
+		try (BufferedReader br= new BufferedReader(new InputStreamReader(new FileInputStream(new File(fileName)), StandardCharsets.UTF_8))) {
+			String line;
+			int rank= 0;
+			while ((line= br.readLine()) != null) {
+				if (!line.isEmpty())
+					priorities.fRanks.putIfAbsent(line, Integer.valueOf(rank++));
+			}
+		}
+		fgLastRead= priorities;
+		return priorities;
+	}
+
+	/**
+	 * @return the name of the priorities file
+	 */
+	public String getFileName() {
+		return fFileName;
+	}
+
+	/**
+	 * @param testName the name of a test method or class
+	 * @return the rank of the test, lower ranks run first, or {@link #UNLISTED}
+	 */
+	public int getRank(String testName) {
+		Integer rank= fRanks.get(testName);
+		return rank != null ? rank.intValue() : UNLISTED;
+	}
+
+	/**
+	 * @param methodName the name of the test method
+	 * @param className the name of the test class
+	 * @return the rank of the test method
+	 */
+	public int getRank(String methodName, String className) {
+		return getRank(methodName + '(' + className + ')');
+	}
+
+	/**
+	 * Sorts test classes by their ranks. Classes with the same rank keep their order.
+	 *
+	 * @param classNames the names of the test classes, sorted in place
+	 */
+	public void sortClassNames(String[] classNames) {
+		Arrays.sort(classNames, Comparator.comparingInt(this::getRank));
+	}
+}
@@ -27,6 +27,7 @@ import org.eclipse.jdt.internal.junit.runner.ITestPrioritizer;
 import org.eclipse.jdt.internal.junit.runner.ITestReference;
 import org.eclipse.jdt.internal.junit.runner.JUnitMessages;
 import org.eclipse.jdt.internal.junit.runner.NullPrioritizer;
+import org.eclipse.jdt.internal.junit.runner.PriorityListPrioritizer;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
 import junit.framework.Test;
@@ -47,6 +48,8 @@ public class JUnit3TestLoader implements ITestLoader {
 
 		if (failureNames != null)
 			prioritizer= new FailuresFirstPrioritizer(failureNames);
+		else if (listener.getTestPriorities() != null)
+			prioritizer= new PriorityListPrioritizer(listener.getTestPriorities());
 		else
 			prioritizer= new NullPrioritizer();
 
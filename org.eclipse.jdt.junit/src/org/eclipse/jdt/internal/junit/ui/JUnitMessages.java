@@ -143,6 +143,10 @@ public final class JUnitMessages extends NLS {
 	public static String JUnitLaunchConfigurationTab_label_containerTest;
 
 	public static String JUnitLaunchConfigurationTab_label_keeprunning;
+	public static String JUnitLaunchConfigurationTab_label_shardcount;
+	public static String JUnitLaunchConfigurationTab_label_prioritizebyhistory;
+	public static String JUnitLaunchConfigurationTab_label_shortestfirst;
+	public static String JUnitLaunchConfigurationTab_label_onlyimpactedtests;
 
 	public static String JUnitLaunchConfigurationTab_label_method;
 
@@ -169,6 +169,18 @@ public class TestRunnerViewPart extends ViewPart {
 
 	static final int REFRESH_INTERVAL= 200;
 
+	/**
+	 * Longest interval in milliseconds between two refreshes while tests are running.
+	 */
+	private static final int MAX_REFRESH_INTERVAL= 2000;
+
+	/**
+	 * The interval between two refreshes is at least this factor times the duration of the last
+	 * refresh, so that refreshing the view takes at most a fraction of the UI thread's time while
+	 * many tests finish per second.
+	 */
+	private static final int REFRESH_TIME_FACTOR= 4;
+
 	public static final int LAYOUT_FLAT= 0;
 	public static final int LAYOUT_HIERARCHICAL= 1;
 
@@ -336,6 +348,17 @@ public class TestRunnerViewPart extends ViewPart {
 	 */
 	private UpdateUIJob fUpdateJob;
 
+	/**
+	 * Time in milliseconds the last refresh of the view took, accessed in the UI thread only.
+	 */
+	private long fLastRefreshTime;
+
+	/**
+	 * Number of test elements that waited for an update of the viewers when the view was last
+	 * refreshed, accessed in the UI thread only.
+	 */
+	private int fLastRefreshQueueDepth;
+
 	/**
 	 * A Job that runs as long as a test run is running.
 	 * It is used to show busyness for running jobs in the view (title in italics).
@@ -877,10 +900,12 @@ public class TestRunnerViewPart extends ViewPart {
 		}
 		@Override
 		public IStatus runInUIThread(IProgressMonitor monitor) {
+			long delay= REFRESH_INTERVAL;
 			if (!isDisposed()) {
 				processChangesInUI();
+				delay= getRefreshDelay(fLastRefreshTime);
 			}
-			schedule(REFRESH_INTERVAL);
+			schedule(delay);
 			return Status.OK_STATUS;
 		}
 
@@ -1375,10 +1400,37 @@ public class TestRunnerViewPart extends ViewPart {
 		postSyncProcessChanges();
 	}
 
+	/**
+	 * Returns the interval between two refreshes while tests are running.
+	 *
+	 * @param refreshTime the time in milliseconds the last refresh took
+	 * @return the delay in milliseconds until the next refresh
+	 */
+	public static long getRefreshDelay(long refreshTime) {
+		return Math.min(Math.max(REFRESH_INTERVAL, REFRESH_TIME_FACTOR * refreshTime), MAX_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * @return the time in milliseconds the last refresh of the view took
+	 */
+	public long getLastRefreshTime() {
+		return fLastRefreshTime;
+	}
+
+	/**
+	 * @return the number of test elements that waited for an update of the viewers when the view
+	 *         was last refreshed
+	 */
+	public int getLastRefreshQueueDepth() {
+		return fLastRefreshQueueDepth;
+	}
+
 	private void processChangesInUI() {
 		if (fSashForm.isDisposed())
 			return;
 
+		long start= System.currentTimeMillis();
+		fLastRefreshQueueDepth= fTestViewer.getPendingUpdateCount();
 		doShowInfoMessage();
 		refreshCounters();
 
@@ -1390,6 +1442,7 @@ public class TestRunnerViewPart extends ViewPart {
 		updateNextPreviousActions();
 
 		fTestViewer.processChangesInUI();
+		fLastRefreshTime= System.currentTimeMillis() - start;
 	}
 
 	private void updateNextPreviousActions() {
@@ -709,17 +709,8 @@ public class TestViewer {
 				if (fTreeHasFilter)
 					for (Object element : toUpdate)
 						updateElementInTree((TestElement) element);
-				else {
-					HashSet<Object> toUpdateWithParents= new HashSet<>(Arrays.asList(toUpdate));
-					for (Object element : toUpdate) {
-						TestElement parent= ((TestElement) element).getParent();
-						while (parent != null) {
-							toUpdateWithParents.add(parent);
-							parent= parent.getParent();
-						}
-					}
-					fTreeViewer.update(toUpdateWithParents.toArray(), null);
-				}
+				else
+					fTreeViewer.update(addParents(toUpdate), null);
 			}
 			if (! fTableNeedsRefresh && toUpdate.length > 0) {
 				if (fTableHasFilter)
@@ -732,6 +723,34 @@ public class TestViewer {
 		autoScrollInUI();
 	}
 
+	/**
+	 * Returns the changed elements together with their parents, whose status depends on their
+	 * children.
+	 *
+	 * @param elements the changed elements
+	 * @return the elements to update
+	 */
+	private static Object[] addParents(Object[] elements) {
+		HashSet<Object> result= new HashSet<>(Arrays.asList(elements));
+		for (Object element : elements) {
+			TestElement parent= ((TestElement) element).getParent();
+			// stop at the first parent that was already added, its parents are added as well
+			while (parent != null && result.add(parent)) {
+				parent= parent.getParent();
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the number of elements that are registered for an update of the viewers.
+	 *
+	 * @return the number of pending updates
+	 */
+	public synchronized int getPendingUpdateCount() {
+		return fNeedUpdate.size();
+	}
+
 	private void updateElementInTree(final TestElement testElement) {
 		if (isShown(testElement)) {
 			updateShownElementInTree(testElement);
@@ -33,6 +33,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.Text;
 
 import org.eclipse.core.runtime.CoreException;
@@ -143,6 +144,14 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 
 	private Button fKeepRunning;
 
+	private Spinner fShardCount;
+
+	private Button fPrioritizeByHistory;
+
+	private Button fShortestFirst;
+
+	private Button fOnlyImpactedTests;
+
 	// Test class UI widgets
 	private Text fTestText;
 
@@ -213,6 +222,9 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		createSpacer(comp);
 
 		createKeepAliveGroup(comp);
+		createShardCountGroup(comp);
+		createPrioritiesGroup(comp);
+		createImpactedTestsGroup(comp);
 		Dialog.applyDialogFont(comp);
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(getControl(), IJUnitHelpContextIds.LAUNCH_CONFIGURATION_DIALOG_JUNIT_MAIN_TAB);
 		validatePage();
@@ -463,6 +475,63 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		fKeepRunning.setLayoutData(gd);
 	}
 
+	private void createShardCountGroup(Composite comp) {
+		Label label= new Label(comp, SWT.NONE);
+		label.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_shardcount);
+		GridData gd= new GridData();
+		gd.horizontalSpan= 2;
+		label.setLayoutData(gd);
+
+		fShardCount= new Spinner(comp, SWT.BORDER);
+		fShardCount.setValues(1, 1, 64, 0, 1, 4);
+		fShardCount.addModifyListener(e -> updateLaunchConfigurationDialog());
+	}
+
+	private void createPrioritiesGroup(Composite comp) {
+		fPrioritizeByHistory= new Button(comp, SWT.CHECK);
+		fPrioritizeByHistory.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_prioritizebyhistory);
+		fPrioritizeByHistory.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				fShortestFirst.setEnabled(fPrioritizeByHistory.getSelection());
+				updateLaunchConfigurationDialog();
+			}
+		});
+		GridData gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 3;
+		fPrioritizeByHistory.setLayoutData(gd);
+
+		fShortestFirst= new Button(comp, SWT.CHECK);
+		fShortestFirst.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_shortestfirst);
+		fShortestFirst.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateLaunchConfigurationDialog();
+			}
+		});
+		gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 3;
+		gd.horizontalIndent= 20;
+		fShortestFirst.setLayoutData(gd);
+	}
+
+	private void createImpactedTestsGroup(Composite comp) {
+		fOnlyImpactedTests= new Button(comp, SWT.CHECK);
+		fOnlyImpactedTests.setText(JUnitMessages.JUnitLaunchConfigurationTab_label_onlyimpactedtests);
+		fOnlyImpactedTests.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				updateLaunchConfigurationDialog();
+			}
+		});
+		GridData gd= new GridData();
+		gd.horizontalAlignment= GridData.FILL;
+		gd.horizontalSpan= 3;
+		fOnlyImpactedTests.setLayoutData(gd);
+	}
+
 	private static Image createImage(String path) {
 		return JUnitPlugin.getImageDescriptor(path).createImage();
 	}
@@ -485,6 +554,9 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 				updateTestTypeFromConfig(config);
 			}
 			updateKeepRunning(config);
+			updateShardCount(config);
+			updatePriorities(config);
+			updateOnlyImpactedTests(config);
 			updateTestLoaderFromConfig(config);
 
 			calculateMethodsCache();
@@ -522,6 +594,37 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 		fKeepRunning.setSelection(running);
 	}
 
+	private void updateShardCount(ILaunchConfiguration config) {
+		int shardCount= 1;
+		try {
+			shardCount= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, 1);
+		} catch (CoreException ce) {
+		}
+		fShardCount.setSelection(shardCount);
+	}
+
+	private void updatePriorities(ILaunchConfiguration config) {
+		boolean prioritize= false;
+		boolean shortestFirst= false;
+		try {
+			prioritize= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_HISTORY, false);
+			shortestFirst= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHORTEST_FIRST, false);
+		} catch (CoreException ce) {
+		}
+		fPrioritizeByHistory.setSelection(prioritize);
+		fShortestFirst.setSelection(shortestFirst);
+		fShortestFirst.setEnabled(prioritize);
+	}
+
+	private void updateOnlyImpactedTests(ILaunchConfiguration config) {
+		boolean onlyImpacted= false;
+		try {
+			onlyImpacted= config.getAttribute(JUnitLaunchConfigurationConstants.ATTR_ONLY_IMPACTED_TESTS, false);
+		} catch (CoreException ce) {
+		}
+		fOnlyImpactedTests.setSelection(onlyImpacted);
+	}
+
 	private void updateProjectFromConfig(ILaunchConfiguration config) {
 		String projectName= ""; //$NON-NLS-1$
 		try {
@@ -592,6 +695,23 @@ public class JUnitLaunchConfigurationTab extends AbstractLaunchConfigurationTab
 			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, fTestMethodText.getText());
 		}
 		config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, fKeepRunning.getSelection());
+		if (fShardCount.getSelection() > 1) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, fShardCount.getSelection());
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT);
+		}
+		if (fPrioritizeByHistory.getSelection()) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_HISTORY, true);
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHORTEST_FIRST, fShortestFirst.getSelection());
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_PRIORITIZE_BY_HISTORY);
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_SHORTEST_FIRST);
+		}
+		if (fOnlyImpactedTests.getSelection()) {
+			config.setAttribute(JUnitLaunchConfigurationConstants.ATTR_ONLY_IMPACTED_TESTS, true);
+		} else {
+			config.removeAttribute(JUnitLaunchConfigurationConstants.ATTR_ONLY_IMPACTED_TESTS);
+		}
 		try {
 			mapResources(config);
 		} catch (CoreException e) {
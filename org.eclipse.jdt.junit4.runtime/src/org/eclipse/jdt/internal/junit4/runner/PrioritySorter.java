@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit4.runner;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
+
+/**
+ * Comparator for descriptions to sort according to the ranks of {@link TestPriorities}. A
+ * description ranks like its own display name or its best ranked transitive child. Descriptions
+ * with the same rank compare as equal, so that they keep their order.
+ */
+public class PrioritySorter implements Comparator<Description> {
+
+	private final TestPriorities fPriorities;
+
+	private final Map<Description, Integer> fRanks= new HashMap<>();
+
+	/**
+	 * Creates a sorter.
+	 *
+	 * @param priorities the order requested by the IDE
+	 */
+	public PrioritySorter(TestPriorities priorities) {
+		fPriorities= priorities;
+	}
+
+	@Override
+	public int compare(Description d1, Description d2) {
+		return Integer.compare(getRank(d1), getRank(d2));
+	}
+
+	private int getRank(Description d) {
+		Integer cached= fRanks.get(d);
+		if (cached != null)
+			return cached.intValue();
+		int rank= fPriorities.getRank(d.getDisplayName());
+		for (Description child : d.getChildren()) {
+			rank= Math.min(rank, getRank(child));
+		}
+		fRanks.put(d, Integer.valueOf(rank));
+		return rank;
+	}
+}
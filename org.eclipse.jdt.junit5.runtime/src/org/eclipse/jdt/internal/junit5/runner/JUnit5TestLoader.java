@@ -29,11 +29,14 @@ import org.junit.platform.launcher.core.LauncherFactory;
 import org.eclipse.jdt.internal.junit.runner.ITestLoader;
 import org.eclipse.jdt.internal.junit.runner.ITestReference;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
 
 public class JUnit5TestLoader implements ITestLoader {
 
 	public final static String FAILURE_NAMES= "org.eclipse.jdt.junit5.runtime.failureNames"; //$NON-NLS-1$
 
+	public final static String PRIORITIES_FILE= "org.eclipse.jdt.junit5.runtime.prioritiesFile"; //$NON-NLS-1$
+
 	private Launcher fLauncher= LauncherFactory.create();
 
 	private RemoteTestRunner fRemoteTestRunner;
@@ -83,11 +86,22 @@ public class JUnit5TestLoader implements ITestLoader {
 			}
 			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
 			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
+		} else {
+			orderByPriorities(requestBuilder);
 		}
 		LauncherDiscoveryRequest request= requestBuilder.build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
+	private void orderByPriorities(LauncherDiscoveryRequestBuilder requestBuilder) {
+		TestPriorities priorities= fRemoteTestRunner.getTestPriorities();
+		if (priorities != null) {
+			requestBuilder.configurationParameter(PRIORITIES_FILE, priorities.getFileName());
+			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", PriorityMethodOrderer.class.getName()); //$NON-NLS-1$
+			requestBuilder.configurationParameter("junit.jupiter.testclass.order.default", PriorityClassOrderer.class.getName()); //$NON-NLS-1$
+		}
+	}
+
 	private ITestReference createTest(String pkg, String[][] includeExcludeTags) {
 		if (pkg == null) {
 			return null;
@@ -99,11 +113,12 @@ public class JUnit5TestLoader implements ITestLoader {
 		} else {
 			pattern= "^" + pkg + "\\.[^.]+$"; //$NON-NLS-1$//$NON-NLS-2$
 		}
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request()
+		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request()
 				.selectors(DiscoverySelectors.selectPackage(pkg))
 				.filters(ClassNameFilter.includeClassNamePatterns(pattern))
-				.filters(getTagFilters(includeExcludeTags))
-				.build();
+				.filters(getTagFilters(includeExcludeTags));
+		orderByPriorities(requestBuilder);
+		LauncherDiscoveryRequest request= requestBuilder.build();
 
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
+
+/**
+ * Orders the test classes of one discovery request, e.g. of a package, by the ranks of the
+ * {@link TestPriorities} file that is passed in the configuration parameter
+ * {@link JUnit5TestLoader#PRIORITIES_FILE}. Classes with the same rank keep their order.
+ */
+public class PriorityClassOrderer implements ClassOrderer {
+
+	public PriorityClassOrderer() {
+	}
+
+	@Override
+	public void orderClasses(ClassOrdererContext context) {
+		Optional<String> fileName= context.getConfigurationParameter(JUnit5TestLoader.PRIORITIES_FILE);
+		if (!fileName.isPresent())
+			return;
+		TestPriorities priorities;
+		try {
+			priorities= TestPriorities.read(fileName.get());
+		} catch (IOException e) {
+			return; // keep the default order
+		}
+		context.getClassDescriptors().sort(Comparator.comparingInt(
+				(ClassDescriptor d) -> priorities.getRank(d.getTestClass().getName())));
+	}
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
+
+/**
+ * Orders test methods by the ranks of the {@link TestPriorities} file that is passed in the
+ * configuration parameter {@link JUnit5TestLoader#PRIORITIES_FILE}. Methods with the same rank
+ * keep their order.
+ */
+public class PriorityMethodOrderer implements MethodOrderer {
+
+	public PriorityMethodOrderer() {
+	}
+
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		Optional<String> fileName= context.getConfigurationParameter(JUnit5TestLoader.PRIORITIES_FILE);
+		if (!fileName.isPresent())
+			return;
+		TestPriorities priorities;
+		try {
+			priorities= TestPriorities.read(fileName.get());
+		} catch (IOException e) {
+			return; // keep the default order
+		}
+		// method names are of form METHOD_NAME(CLASS_NAME), like failure names
+		context.getMethodDescriptors().sort(Comparator.comparingInt(
+				(MethodDescriptor d) -> priorities.getRank(d.getMethod().getName(), d.getMethod().getDeclaringClass().getName())));
+	}
+}
@@ -109,6 +109,10 @@ public class AbstractSemanticHighlightingTest {
 		disableAllSemanticHighlightings();
 	}
 
+	protected SourceViewer getSourceViewer() {
+		return fSourceViewer;
+	}
+
 	protected void assertEqualPositions(Position[] expected, Position[] actual) {
 		assertEquals(expected.length, actual.length);
 		for (int i= 0, n= expected.length; i < n; i++) {
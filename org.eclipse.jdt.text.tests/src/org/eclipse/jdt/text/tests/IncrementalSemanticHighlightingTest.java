@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Tests that the positions computed when only the edited method body is reconciled are those of
+ * a reconcile of the whole compilation unit.
+ */
+public class IncrementalSemanticHighlightingTest extends AbstractSemanticHighlightingTest {
+	@Rule
+	public SemanticHighlightingTestSetup shts= new SemanticHighlightingTestSetup( "/SHTest/src/SHTest.java");
+
+	@Test
+	public void editInMethodBody() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE_DECLARATION);
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE);
+		setUpSemanticHighlighting(SemanticHighlightings.PARAMETER_VARIABLE);
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		setUpSemanticHighlighting(SemanticHighlightings.STATIC_METHOD_INVOCATION);
+
+		// insert statements before local++ in method(int)
+		SourceViewer sourceViewer= getSourceViewer();
+		IDocument document= sourceViewer.getDocument();
+		int offset= document.getLineOffset(9);
+		String statement= "\t\tint added= local + field + staticField;\n\t\tstaticMethod();\n";
+		document.replace(offset, 0, statement);
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+		Position[] incremental= getSemanticHighlightingPositions();
+
+		boolean hasAdded= false;
+		for (Position position : incremental) {
+			if (position.getOffset() == offset + statement.indexOf("added") && position.getLength() == "added".length())
+				hasAdded= true;
+		}
+		assertTrue("declaration of the added local variable is not highlighted", hasAdded);
+
+		// the changed region has been consumed, so this reconciles the whole compilation unit
+		EditorTestHelper.forceReconcile(sourceViewer);
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+		assertEqualPositions(getSemanticHighlightingPositions(), incremental);
+	}
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCounter;
+
+/**
+ * Tests the reference counts that {@link JavaReferenceCounter} computes for the reference code
+ * minings.
+ */
+public class JavaReferenceCounterTest {
+
+	private IJavaProject fProject;
+	private IType fTypeA;
+	private ICompilationUnit fUnitB;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar_17(fProject, true);
+		IPackageFragment pack= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("p", true, null);
+		String a= """
+			package p;
+			public class A {
+				int foo;
+				void bar(int i) {}
+				void baz() {}
+			}
+			""";
+		fTypeA= pack.createCompilationUnit("A.java", a, true, null).getType("A");
+		String b= """
+			package p;
+			public class B {
+				void use(A a) {
+					a.bar(a.foo);
+					a.bar(0);
+					a.baz();
+					int bar= a.foo;
+					a.foo= bar;
+				}
+			}
+			""";
+		fUnitB= pack.createCompilationUnit("B.java", b, true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private static long[] count(IJavaElement... elements) throws Exception {
+		JavaReferenceCounter counter= new JavaReferenceCounter(true);
+		for (IJavaElement element : elements) {
+			counter.add(element);
+		}
+		long[] result= new long[elements.length];
+		for (int i= 0; i < elements.length; i++) {
+			result[i]= counter.getReferenceCount(elements[i], new NullProgressMonitor()).get(30, TimeUnit.SECONDS).longValue();
+		}
+		return result;
+	}
+
+	@Test
+	public void testBatchAttribution() throws Exception {
+		IJavaElement foo= fTypeA.getField("foo");
+		IJavaElement bar= fTypeA.getMethod("bar", new String[] { "I" });
+		IJavaElement baz= fTypeA.getMethod("baz", new String[0]);
+
+		// the range of a.bar(a.foo) starts with bar, the local variable bar is not a reference
+		long[] counts= count(foo, bar, baz, fTypeA);
+		assertEquals(3, counts[0]);
+		assertEquals(2, counts[1]);
+		assertEquals(1, counts[2]);
+		// types are counted by a search of their own
+		assertEquals(1, counts[3]);
+	}
+
+	@Test
+	public void testBatchEqualsSingleSearches() throws Exception {
+		IJavaElement foo= fTypeA.getField("foo");
+		IJavaElement bar= fTypeA.getMethod("bar", new String[] { "I" });
+		IJavaElement baz= fTypeA.getMethod("baz", new String[0]);
+
+		long[] batch= count(foo, bar, baz);
+		// a single added element is not batched; discard the cached counts in between
+		fUnitB.getResource().touch(null);
+		long fooCount= count(foo)[0];
+		fUnitB.getResource().touch(null);
+		long barCount= count(bar)[0];
+		fUnitB.getResource().touch(null);
+		long bazCount= count(baz)[0];
+		assertEquals(fooCount, batch[0]);
+		assertEquals(barCount, batch[1]);
+		assertEquals(bazCount, batch[2]);
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		IJavaElement foo= fTypeA.getField("foo");
+		IJavaElement baz= fTypeA.getMethod("baz", new String[0]);
+		long[] counts= count(foo, baz);
+		assertEquals(3, counts[0]);
+		assertEquals(1, counts[1]);
+
+		// a saved change of the referencing unit discards the cached counts
+		String source= fUnitB.getSource();
+		fUnitB.getBuffer().setContents(source.replace("a.baz();", "a.baz();\n\t\ta.baz();"));
+		fUnitB.save(null, true);
+		counts= count(foo, baz);
+		assertEquals(3, counts[0]);
+		assertEquals(2, counts[1]);
+
+		// so does a reconciled change of the working copy of an editor, whose references are found as well
+		fUnitB.becomeWorkingCopy(null);
+		try {
+			fUnitB.getBuffer().setContents(fUnitB.getSource().replace("a.foo= bar;", ""));
+			fUnitB.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			counts= count(foo, baz);
+			assertEquals(2, counts[0]);
+			assertEquals(2, counts[1]);
+		} finally {
+			fUnitB.discardWorkingCopy();
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+
+/**
+ * Measures the time the semantic highlighting reconciler needs per keystroke when typing a
+ * statement into a method of a large file, once with a reconcile caused by typing and once with a
+ * forced reconcile, which visits the whole AST.
+ *
+ * @since 3.33
+ */
+public class SemanticHighlightingReconcileTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingReconcileTest> THIS= SemanticHighlightingReconcileTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final String STATEMENT= "int foobar= 42;\n";
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private JavaEditor fEditor;
+
+	private IDocument fDocument;
+
+	private ICompilationUnit fUnit;
+
+	private SemanticHighlightingManager fManager;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+		fDocument= EditorTestHelper.getDocument(fEditor);
+		fUnit= (ICompilationUnit) EditorUtility.getEditorInputJavaElement(fEditor, false);
+
+		// a second reconciler on the editor's viewer, which is only called by this test
+		fManager= new SemanticHighlightingManager() {
+			@Override
+			protected SemanticHighlightingReconciler createSemanticHighlightingReconciler() {
+				fReconciler= new SemanticHighlightingReconciler() {
+					@Override
+					protected boolean registerAsEditorReconcilingListener() {
+						return false;
+					}
+				};
+				return fReconciler;
+			}
+		};
+		JavaSourceViewer viewer= (JavaSourceViewer) EditorTestHelper.getSourceViewer(fEditor);
+		fManager.install(fEditor, viewer, JavaPlugin.getDefault().getJavaTextTools().getColorManager(), JavaPlugin.getDefault().getCombinedPreferenceStore());
+		reconcile(true);
+
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		fManager.uninstall();
+		EditorTestHelper.revertEditor(fEditor, true);
+		EditorTestHelper.closeAllEditors();
+	}
+
+	/**
+	 * Measures the reconcile after each keystroke as done while typing.
+	 *
+	 * @throws Exception if the document cannot be changed
+	 */
+	public void testTypingReconcile() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), false);
+		measure(createPerformanceMeter(), getMeasuredRuns(), false);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	/**
+	 * Measures a forced reconcile after each keystroke, which visits the whole AST.
+	 *
+	 * @throws Exception if the document cannot be changed
+	 */
+	public void testForcedReconcile() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
+		measure(createPerformanceMeter(), getMeasuredRuns(), true);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, boolean forced) throws Exception {
+		int offset= getOffsetInLargestMethod();
+		for (int i= 0; i < runs; i++) {
+			for (int j= 0; j < STATEMENT.length(); j++) {
+				fDocument.replace(offset + j, 0, STATEMENT.substring(j, j + 1));
+				CompilationUnit ast= createAST();
+				performanceMeter.start();
+				fReconciler.aboutToBeReconciled();
+				fReconciler.reconciled(ast, forced, new NullProgressMonitor());
+				performanceMeter.stop();
+				EditorTestHelper.runEventQueue();
+			}
+			fDocument.replace(offset, STATEMENT.length(), "");
+			reconcile(true);
+		}
+	}
+
+	private void reconcile(boolean forced) {
+		fReconciler.aboutToBeReconciled();
+		fReconciler.reconciled(createAST(), forced, new NullProgressMonitor());
+		EditorTestHelper.runEventQueue();
+	}
+
+	private CompilationUnit createAST() {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(fUnit);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private int getOffsetInLargestMethod() {
+		MethodDeclaration[] largest= new MethodDeclaration[1];
+		createAST().accept(new ASTVisitor() {
+			@Override
+			public boolean visit(MethodDeclaration node) {
+				if (node.getBody() != null && (largest[0] == null || node.getLength() > largest[0].getLength()))
+					largest[0]= node;
+				return false;
+			}
+		});
+		assertNotNull(largest[0]);
+		return largest[0].getBody().getStartPosition() + 1;
+	}
+}
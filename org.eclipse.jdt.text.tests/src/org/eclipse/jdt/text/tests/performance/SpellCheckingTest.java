@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.text.tests.performance;
 
+import java.util.Locale;
+
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
@@ -32,6 +34,7 @@ import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Region;
 
 import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
 import org.eclipse.ui.texteditor.spelling.SpellingContext;
@@ -42,9 +45,17 @@ import org.eclipse.ui.editors.text.EditorsUI;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+
 
 /**
- * Measures the time to spell check a large compilation unit.
+ * Measures the time to spell check a large compilation unit. The whole file is also checked as
+ * one region, once with all words checked in the calling thread and once in parallel.
  *
  * @since 3.6
  */
@@ -107,6 +118,48 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 		assertAllPerformance();
 	}
 
+	public void testSequentialRegion() throws Exception {
+		ISpellChecker checker= createSpellChecker(false);
+		measureRegion(checker, getNullPerformanceMeter(), getWarmUpRuns());
+		measureRegion(checker, createPerformanceMeter("Spell checking one region: sequential"), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	public void testParallelRegion() throws Exception {
+		ISpellChecker checker= createSpellChecker(true);
+		measureRegion(checker, getNullPerformanceMeter(), getWarmUpRuns());
+		measureRegion(checker, createPerformanceMeter("Spell checking one region: parallel"), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private ISpellChecker createSpellChecker(final boolean parallel) {
+		ISpellCheckEngine engine= SpellCheckEngine.getInstance();
+		Locale locale= engine.getSpellChecker().getLocale();
+		DefaultSpellChecker checker= new DefaultSpellChecker(PreferenceConstants.getPreferenceStore(), locale) {
+			@Override
+			protected boolean checksInParallel() {
+				return parallel;
+			}
+		};
+		ISpellDictionary dictionary= engine.findDictionary(locale);
+		assertNotNull(dictionary);
+		checker.addDictionary(dictionary);
+		return checker;
+	}
+
+	private void measureRegion(ISpellChecker checker, PerformanceMeter performanceMeter, int runs) {
+		Region region= new Region(0, fDocument.getLength());
+		for (int i= 0; i < runs; i++) {
+			int[] problemCount= new int[1];
+			performanceMeter.start();
+			checker.execute(event -> problemCount[0]++, new SpellCheckIterator(fDocument, region, checker.getLocale(), null));
+			performanceMeter.stop();
+			assertTrue(problemCount[0] > 0);
+		}
+	}
+
 	private void measure(PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) {
 		SpellingService spellingService= EditorsUI.getSpellingService();
 		for (int i= 0; i < runs; i++) {
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.PreferenceStore;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckIterator;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+/**
+ * Tests that {@link DefaultSpellChecker} reports the same events when large regions are checked
+ * in parallel as when all words are checked one after the other.
+ */
+public class DefaultSpellCheckerTest {
+
+	private static final int WORD_COUNT= 30000;
+
+	private static final Set<String> CORRECT_WORDS= new HashSet<>(Arrays.asList("alpha", "beta", "gamma", "Alpha", "Beta", "Gamma"));
+
+	private int fThreshold;
+
+	@Before
+	public void setUp() {
+		fThreshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
+	}
+
+	@After
+	public void tearDown() {
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, fThreshold);
+	}
+
+	@Test
+	public void testSameEventsInParallel() {
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, WORD_COUNT);
+		List<String> sequential= check(false);
+		List<String> parallel= check(true);
+		// every seventh word is misspelled and some correct words are not capitalized
+		assertTrue(String.valueOf(sequential.size()), sequential.size() > WORD_COUNT / 7);
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testProblemsThresholdInParallel() {
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD, 5000);
+		List<String> sequential= check(false);
+		List<String> parallel= check(true);
+		// the problem that exceeds the threshold is still reported
+		assertEquals(5001, sequential.size());
+		assertEquals(sequential, parallel);
+	}
+
+	private static List<String> check(boolean parallel) {
+		IPreferenceStore store= new PreferenceStore();
+		DefaultSpellChecker checker= new DefaultSpellChecker(store, Locale.ENGLISH) {
+			@Override
+			protected boolean checksInParallel() {
+				return parallel;
+			}
+		};
+		checker.addDictionary(new TestDictionary());
+		List<String> events= new ArrayList<>();
+		checker.execute(event -> events.add(event.getWord() + "@" + event.getBegin() + "-" + event.getEnd() + (event.isStart() ? " start" : "") + (event.isMatch() ? " match" : "")), new TestIterator());
+		return events;
+	}
+
+	private static String getWord(int index) {
+		if (index % 7 == 0)
+			return "wrongword";
+		switch (index % 3) {
+			case 0:
+				return "alpha";
+			case 1:
+				return "beta";
+			default:
+				return "gamma";
+		}
+	}
+
+	private static final class TestIterator implements ISpellCheckIterator {
+
+		private int fIndex= -1;
+
+		private int fBegin;
+
+		private int fEnd= -1;
+
+		@Override
+		public boolean hasNext() {
+			return fIndex + 1 < WORD_COUNT;
+		}
+
+		@Override
+		public String next() {
+			fIndex++;
+			String word= getWord(fIndex);
+			fBegin= fEnd + 1;
+			fEnd= fBegin + word.length();
+			return word;
+		}
+
+		@Override
+		public int getBegin() {
+			return fBegin;
+		}
+
+		@Override
+		public int getEnd() {
+			return fEnd;
+		}
+
+		@Override
+		public boolean startsSentence() {
+			return fIndex % 5 == 0;
+		}
+
+		@Override
+		public void setIgnoreSingleLetters(boolean state) {
+			// the words have several letters
+		}
+	}
+
+	private static final class TestDictionary implements ISpellDictionary {
+
+		@Override
+		public boolean acceptsWords() {
+			return false;
+		}
+
+		@Override
+		public void addWord(String word) {
+			// read-only
+		}
+
+		@Override
+		public Set<RankedWordProposal> getProposals(String word, boolean sentence) {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public boolean isCorrect(String word) {
+			return CORRECT_WORDS.contains(word);
+		}
+
+		@Override
+		public boolean isLoaded() {
+			return true;
+		}
+
+		@Override
+		public void unload() {
+			// nothing to unload
+		}
+
+		@Override
+		public void setStripNonLetters(boolean state) {
+			// the words only have letters
+		}
+	}
+}
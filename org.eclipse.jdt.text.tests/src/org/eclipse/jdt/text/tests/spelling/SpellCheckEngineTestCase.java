@@ -18,9 +18,15 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
@@ -57,6 +63,33 @@ public class SpellCheckEngineTestCase {
 		}
 	}
 
+	private static class CompactTestDictionary extends AbstractSpellDictionary {
+
+		private final Path fWordList;
+
+		private final File fCompactFile;
+
+		public CompactTestDictionary(Path wordList, File compactFile) {
+			fWordList= wordList;
+			fCompactFile= compactFile;
+		}
+
+		@Override
+		protected URL getURL() throws MalformedURLException {
+			return fWordList.toUri().toURL();
+		}
+
+		@Override
+		protected File getCompactFile(URL url) {
+			return fCompactFile;
+		}
+
+		@Override
+		protected String getEncoding() {
+			return StandardCharsets.UTF_8.name();
+		}
+	}
+
 	public static final String GLOBAL= "Global"; //$NON-NLS-1$
 	public static final String LASTWAGEN= "Lastwagen"; //$NON-NLS-1$
 	public static final String LORRY= "Lorry"; //$NON-NLS-1$
@@ -117,6 +150,41 @@ public class SpellCheckEngineTestCase {
 		assertTrue(result.size() >= 0);
 	}
 
+	@Test
+	public void testCompactDictionary() throws IOException {
+		Path folder= Files.createTempDirectory("spelling"); //$NON-NLS-1$
+		Path wordList= folder.resolve("words.dictionary"); //$NON-NLS-1$
+		File compactFile= folder.resolve("words.dict").toFile(); //$NON-NLS-1$
+		try {
+			Files.write(wordList, (TRUCK + "\n" + LORRY + "\n" + SENTENCESTART + "\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			CompactTestDictionary dictionary= new CompactTestDictionary(wordList, compactFile);
+			assertTrue(dictionary.isCorrect(TRUCK));
+			assertFalse(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(compactFile.isFile());
+			dictionary.unload();
+
+			// loaded from the compact file
+			dictionary= new CompactTestDictionary(wordList, compactFile);
+			assertTrue(dictionary.isCorrect(TRUCK));
+			assertTrue(dictionary.isCorrect(LORRY));
+			assertFalse(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(contains(dictionary.getProposals(SENTENCECONTENT, false), SENTENCESTART));
+			dictionary.unload();
+
+			// a changed word list replaces the compact file
+			Files.write(wordList, (LASTWAGEN + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND); //$NON-NLS-1$
+			dictionary= new CompactTestDictionary(wordList, compactFile);
+			assertTrue(dictionary.isCorrect(LASTWAGEN));
+			assertTrue(dictionary.isCorrect(TRUCK));
+			dictionary.unload();
+		} finally {
+			Files.deleteIfExists(wordList);
+			compactFile.delete();
+			folder.toFile().delete();
+		}
+	}
+
 	@Test
 	public void testDefaultLocale() {
 		assertEquals(SpellCheckEngine.getDefaultLocale(), Locale.getDefault());
@@ -0,0 +1,34 @@
+package p;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class A {
+	private List fNames= new ArrayList();
+	private Map fIndex= new HashMap();
+
+	List getNames() {
+		return fNames;
+	}
+
+	void add(String name) {
+		List names= getNames();
+		names.add(name);
+		fIndex.put(name, Integer.valueOf(names.size()));
+	}
+
+	int indexOf(String name) {
+		Integer index= (Integer) fIndex.get(name);
+		return index.intValue();
+	}
+
+	void print() {
+		for (Iterator iter= getNames().iterator(); iter.hasNext();) {
+			String name= (String) iter.next();
+			System.out.println(name + indexOf(name));
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package p;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class A {
+	private List<String> fNames= new ArrayList<String>();
+	private Map<String, Integer> fIndex= new HashMap<String, Integer>();
+
+	List<String> getNames() {
+		return fNames;
+	}
+
+	void add(String name) {
+		List<String> names= getNames();
+		names.add(name);
+		fIndex.put(name, Integer.valueOf(names.size()));
+	}
+
+	int indexOf(String name) {
+		Integer index= fIndex.get(name);
+		return index.intValue();
+	}
+
+	void print() {
+		for (Iterator<String> iter= getNames().iterator(); iter.hasNext();) {
+			String name= iter.next();
+			System.out.println(name + indexOf(name));
+		}
+	}
+}
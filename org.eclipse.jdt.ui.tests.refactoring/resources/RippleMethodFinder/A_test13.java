@@ -0,0 +1,40 @@
+package p;
+
+interface I1 {
+	void /*target*/m();
+}
+
+interface I2 {
+	void /*ripple*/m();
+}
+
+class Both implements I1, I2 {
+	public void /*ripple*/m() {}
+}
+
+interface J1 {
+	void /*ripple*/m();
+}
+
+interface J2 {
+	void /*ripple*/m();
+}
+
+class Other implements J1, J2 {
+	public void /*ripple*/m() {}
+}
+
+class Base {
+	public void /*ripple*/m() {}
+}
+
+class Married extends Base implements I2, J2 {
+}
+
+interface K {
+	void m();
+}
+
+class Unrelated implements K {
+	public void m() {}
+}
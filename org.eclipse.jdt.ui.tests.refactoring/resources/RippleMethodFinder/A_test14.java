@@ -0,0 +1,40 @@
+package p;
+
+interface Top {
+	void /*target*/m();
+}
+
+interface Left extends Top {
+	void /*ripple*/m();
+}
+
+interface Right extends Top {
+	void /*ripple*/m();
+}
+
+class Diamond implements Left, Right {
+	public void /*ripple*/m() {}
+}
+
+abstract class Inheriting implements Left, Right {
+}
+
+class Sub1 extends Diamond {
+	public void /*ripple*/m() {}
+}
+
+class Sub2 extends Diamond {
+	public void /*ripple*/m() {}
+}
+
+class SubSub extends Sub1 {
+	public void /*ripple*/m() {}
+}
+
+class Concrete extends Inheriting {
+	public void /*ripple*/m() {}
+}
+
+class Unrelated {
+	public void m() {}
+}
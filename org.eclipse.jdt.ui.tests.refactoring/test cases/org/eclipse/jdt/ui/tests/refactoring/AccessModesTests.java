@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.AccessModes;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowInfo;
+
+/**
+ * Tests the access modes of more locals than fit into one word of {@link AccessModes}.
+ */
+public class AccessModesTests {
+
+	// 21 locals fit into a word, so these are two full words and one of 8 locals
+	private static final int LENGTH= 50;
+
+	private static final int[] MODES= { FlowInfo.UNUSED, FlowInfo.READ, FlowInfo.READ_POTENTIAL, FlowInfo.WRITE, FlowInfo.WRITE_POTENTIAL, FlowInfo.UNKNOWN };
+
+	@Test
+	public void testGetSet() {
+		AccessModes modes= new AccessModes(LENGTH);
+		assertEquals(LENGTH, modes.length());
+		for (int i= 0; i < LENGTH; i++) {
+			assertEquals(FlowInfo.UNUSED, modes.get(i));
+		}
+
+		for (int i= 0; i < LENGTH; i++) {
+			modes.set(i, MODES[i % MODES.length]);
+		}
+		for (int i= 0; i < LENGTH; i++) {
+			assertEquals("local " + i, MODES[i % MODES.length], modes.get(i));
+		}
+
+		// overwriting a local at a word boundary leaves its neighbours alone
+		modes.set(20, FlowInfo.UNKNOWN);
+		modes.set(21, FlowInfo.READ);
+		modes.set(49, FlowInfo.WRITE_POTENTIAL);
+		assertEquals(MODES[19 % MODES.length], modes.get(19));
+		assertEquals(FlowInfo.UNKNOWN, modes.get(20));
+		assertEquals(FlowInfo.READ, modes.get(21));
+		assertEquals(MODES[22 % MODES.length], modes.get(22));
+		assertEquals(MODES[48 % MODES.length], modes.get(48));
+		assertEquals(FlowInfo.WRITE_POTENTIAL, modes.get(49));
+
+		modes.set(20, FlowInfo.UNUSED);
+		assertEquals(FlowInfo.UNUSED, modes.get(20));
+	}
+
+	@Test
+	public void testMerge() {
+		AccessModes modes= new AccessModes(LENGTH);
+		modes.set(0, FlowInfo.READ);
+		modes.set(21, FlowInfo.WRITE);
+		AccessModes others= new AccessModes(LENGTH);
+		others.set(0, FlowInfo.WRITE);
+		others.set(22, FlowInfo.READ_POTENTIAL);
+		others.set(49, FlowInfo.UNKNOWN);
+
+		List<Integer> merged= new ArrayList<>();
+		modes.merge(others, (accessMode, otherMode) -> {
+			merged.add(Integer.valueOf(accessMode | otherMode));
+			return accessMode == FlowInfo.UNUSED ? otherMode : accessMode;
+		});
+		// every local of every word is passed, the last word only up to the length
+		assertEquals(LENGTH, merged.size());
+		assertEquals(FlowInfo.READ, modes.get(0));
+		assertEquals(FlowInfo.WRITE, modes.get(21));
+		assertEquals(FlowInfo.READ_POTENTIAL, modes.get(22));
+		assertEquals(FlowInfo.UNKNOWN, modes.get(49));
+		assertEquals(FlowInfo.UNUSED, modes.get(48));
+		assertEquals(FlowInfo.WRITE, others.get(0));
+	}
+
+	@Test
+	public void testMergeNullOthers() {
+		AccessModes modes= new AccessModes(LENGTH);
+		modes.set(3, FlowInfo.READ);
+		modes.set(45, FlowInfo.WRITE);
+
+		List<Integer> otherModes= new ArrayList<>();
+		modes.merge(null, (accessMode, otherMode) -> {
+			otherModes.add(Integer.valueOf(otherMode));
+			return accessMode == FlowInfo.READ ? FlowInfo.READ_POTENTIAL : accessMode;
+		});
+		// the second word has only unused locals and is skipped
+		assertEquals(21 + 8, otherModes.size());
+		for (Integer otherMode : otherModes) {
+			assertEquals(FlowInfo.UNUSED, otherMode.intValue());
+		}
+		assertEquals(FlowInfo.READ_POTENTIAL, modes.get(3));
+		assertEquals(FlowInfo.WRITE, modes.get(45));
+		for (int i= 21; i < 42; i++) {
+			assertEquals(FlowInfo.UNUSED, modes.get(i));
+		}
+	}
+
+	@Test
+	public void testMergeSkipsUnusedWords() {
+		AccessModes modes= new AccessModes(LENGTH);
+		AccessModes others= new AccessModes(LENGTH);
+		others.set(30, FlowInfo.READ);
+
+		List<Integer> merged= new ArrayList<>();
+		modes.merge(others, (accessMode, otherMode) -> {
+			merged.add(Integer.valueOf(accessMode | otherMode));
+			return otherMode;
+		});
+		// only the word that holds local 30 is merged
+		assertEquals(21, merged.size());
+		assertEquals(FlowInfo.READ, modes.get(30));
+
+		merged.clear();
+		new AccessModes(LENGTH).merge(null, (accessMode, otherMode) -> {
+			merged.add(Integer.valueOf(accessMode | otherMode));
+			return accessMode;
+		});
+		assertEquals(0, merged.size());
+	}
+}
@@ -115,6 +115,7 @@ import org.junit.runners.Suite;
 
 	//--helpers
 	RenamingNameSuggestorTests.class,
+	AccessModesTests.class,
 	DelegateCreatorTests.class
 })
 public class AllRefactoringTests {
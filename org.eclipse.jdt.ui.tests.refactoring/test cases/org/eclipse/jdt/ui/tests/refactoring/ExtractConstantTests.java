@@ -37,6 +37,7 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.corext.refactoring.base.RefactoringStatusCodes;
 import org.eclipse.jdt.internal.corext.refactoring.code.ExtractConstantRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractRepeatedLiteralsOperation;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.refactoring.infra.TextRangeUtil;
@@ -524,4 +525,31 @@ public class ExtractConstantTests extends GenericRefactoringTest {
 	public void testGuessFromGetterName1() throws Exception {
 		guessHelper(4, 23, 4, 33, "FOO_BAR");
 	}
+
+	@Test
+	public void testExtractRepeatedLiterals() throws Exception {
+		ICompilationUnit cu= createCU(getPackageP(), "A.java", """
+			package p;
+			class A {
+				static final String KNOWN= "known";
+				@SuppressWarnings("unused")
+				void f() {
+					String a= "repeated";
+					String b= "repeated";
+					String c= "once";
+					String d= "known";
+					String e= "known";
+				}
+			}
+			""");
+		ExtractRepeatedLiteralsOperation operation= new ExtractRepeatedLiteralsOperation(rts.getProject(), 2);
+		RefactoringStatus status= operation.run(new NullProgressMonitor());
+		assertTrue(status.toString(), status.isOK());
+		assertEquals(1, operation.getExtractedCount());
+
+		String source= cu.getSource();
+		assertEquals(source, source.indexOf("\"repeated\""), source.lastIndexOf("\"repeated\""));
+		assertEquals(source, 1, source.split("\"once\"", -1).length - 1);
+		assertEquals(source, 3, source.split("\"known\"", -1).length - 1);
+	}
 }
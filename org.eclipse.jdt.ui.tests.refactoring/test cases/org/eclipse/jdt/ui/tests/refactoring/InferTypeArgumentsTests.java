@@ -246,6 +246,12 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 		performCuOK();
 	}
 
+	@Test
+	public void testCuFieldMethodPropagation() throws Exception {
+		// the element types reach the locals only after several rounds of the solver's work-list
+		performCuOK();
+	}
+
 	@Test
 	public void testJUnit() throws Exception {
 		fAssumeCloneReturnsSameType= false;
@@ -35,6 +35,7 @@ import org.eclipse.core.resources.IFolder;
 
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 import org.eclipse.ltk.core.refactoring.participants.RenameArguments;
 import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 
@@ -506,6 +507,68 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		assertEqualLines(getExpectedFileConent("messages"), getContents(file));
 	}
 
+	@Test
+	public void testManyReferencingUnits() throws Exception {
+		// enough compilation units to analyze them concurrently
+		ICompilationUnit[] cus= createReferencingUnits(40, -1);
+		helperManyUnits(null);
+		for (int i= 0; i < cus.length; i++) {
+			assertEqualLines("invalid renaming", getReferencingUnit(i, "g", false), cus[i].getSource());
+		}
+	}
+
+	@Test
+	public void testManyReferencingUnitsShadowed() throws Exception {
+		createReferencingUnits(40, 23);
+		helperManyUnits("B23.java");
+	}
+
+	private void helperManyUnits(String shadowingUnit) throws Exception {
+		IField field= getType(getPackageP().getCompilationUnit("A.java"), "A").getField("f");
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(field);
+		descriptor.setUpdateReferences(true);
+		descriptor.setNewName("g");
+		RefactoringStatus result= performRefactoring(descriptor);
+		if (shadowingUnit == null) {
+			assertNull("was supposed to pass", result);
+		} else {
+			assertNotNull("precondition was supposed to fail", result);
+			assertTrue(result.hasError());
+			int shadowed= 0;
+			for (RefactoringStatusEntry entry : result.getEntries()) {
+				if (entry.isError() && entry.getMessage().contains(shadowingUnit))
+					shadowed++;
+			}
+			assertTrue(result.toString(), shadowed > 0);
+		}
+	}
+
+	private ICompilationUnit[] createReferencingUnits(int count, int shadowing) throws Exception {
+		getPackageP().createCompilationUnit("A.java", """
+			package p;
+			public class A {
+			    public int f;
+			}
+			""", true, null);
+		ICompilationUnit[] cus= new ICompilationUnit[count];
+		for (int i= 0; i < count; i++) {
+			cus[i]= getPackageP().createCompilationUnit("B" + i + ".java", getReferencingUnit(i, "f", i == shadowing), true, null);
+		}
+		return cus;
+	}
+
+	private static String getReferencingUnit(int i, String fieldName, boolean shadowing) {
+		String local= shadowing ? "        int g= 1;\n" : "";
+		return "package p;\n"
+				+ "public class B" + i + " extends A {\n"
+				+ "    int m() {\n"
+				+ local
+				+ "        return " + fieldName + " + " + i + ";\n"
+				+ "    }\n"
+				+ "}\n";
+	}
+
 	private String getExpectedFileConent(String propertyName) throws IOException {
 		String fileName= getOutputTestFileName(propertyName);
 		fileName= fileName.substring(0, fileName.length() - ".java".length()) + ".properties";
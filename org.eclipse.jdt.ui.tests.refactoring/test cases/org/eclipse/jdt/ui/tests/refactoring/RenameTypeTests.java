@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.refactoring;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -40,6 +41,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.ltk.core.refactoring.Refactoring;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 import org.eclipse.ltk.core.refactoring.participants.RenameArguments;
 import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 
@@ -62,6 +64,8 @@ import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatur
 import org.eclipse.jdt.internal.corext.refactoring.rename.RenameTypeProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RenamingNameSuggestor;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.INameUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameFinder;
+import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameSearchResult;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.DebugUtils;
 import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
@@ -1410,6 +1414,29 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		assertEqualLines("invalid updating", definedContent, newContent.toString());
 	}
 
+	@Test
+	public void testQualifiedNameIndex() throws Exception {
+		IProject project= getPackageP().getJavaProject().getProject();
+		IFile embedded= project.getFile("embedded.xml");
+		embedded.create(new ByteArrayInputStream("<a class=\"q.p.A\"/>".getBytes()), true, null);
+		IFile other= project.getFile("other.xml");
+		other.create(new ByteArrayInputStream("<b/>".getBytes()), true, null);
+		try {
+			QualifiedNameSearchResult result= new QualifiedNameSearchResult();
+			QualifiedNameFinder.process(result, "p.A", "p.B", "*.xml", project, null);
+			assertEquals(0, result.getAllFiles().length);
+
+			// the index is updated from the resource delta
+			other.setContents(new ByteArrayInputStream("<b class=\"p.A\"/>".getBytes()), true, false, null);
+			result= new QualifiedNameSearchResult();
+			QualifiedNameFinder.process(result, "p.A", "p.B", "*.xml", project, null);
+			assertArrayEquals(new IFile[] { other }, result.getAllFiles());
+		} finally {
+			embedded.delete(true, null);
+			other.delete(true, null);
+		}
+	}
+
 	@Test
 	public void testGenerics1() throws Exception {
 		helper2("A", "B");
@@ -1481,6 +1508,35 @@ public class RenameTypeTests extends GenericRefactoringTest {
 
 	// --------------- Similarly named elements -----------------
 
+	@Test
+	public void testFailManyOnDemandImports() throws Exception {
+		// enough compilation units to check their imports concurrently
+		IPackageFragment packageQ= getRoot().createPackageFragment("q", true, null);
+		packageQ.createCompilationUnit("B.java", "package q;\npublic class B {\n}\n", true, null);
+		IType classA= getType(getPackageP().createCompilationUnit("A.java", "package p;\npublic class A {\n}\n", true, null), "A");
+		for (int i= 0; i < 40; i++) {
+			String importName= i % 2 == 0 ? "q.*" : "q.B";
+			String source= "package p;\nimport " + importName + ";\npublic class C" + i + " {\n    B b;\n}\n";
+			getPackageP().createCompilationUnit("C" + i + ".java", source, true, null);
+		}
+
+		RefactoringStatus result= performRefactoring(createRefactoringDescriptor(classA, "B"));
+		assertNotNull("precondition was supposed to fail", result);
+		// only the units that import q.B on demand would see p.B instead
+		List<String> conflicts= new ArrayList<>();
+		for (int i= 0; i < 40; i++) {
+			for (RefactoringStatusEntry entry : result.getEntries()) {
+				if (entry.isError() && entry.getMessage().contains("C" + i + ".java"))
+					conflicts.add("C" + i);
+			}
+		}
+		List<String> expected= new ArrayList<>();
+		for (int i= 0; i < 40; i+= 2) {
+			expected.add("C" + i);
+		}
+		assertEquals(expected, conflicts);
+	}
+
 	@Test
 	public void testSimilarElements00() throws Exception {
 		// Very basic test, one field, two methods
@@ -138,5 +138,15 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 	public void test12() throws Exception {
 		perform();
 	}
+	@Test
+	public void test13() throws Exception {
+		// partitions with several root types that are married through one subtype
+		perform();
+	}
+	@Test
+	public void test14() throws Exception {
+		// types that are reached through several paths are united once
+		perform();
+	}
 
 }
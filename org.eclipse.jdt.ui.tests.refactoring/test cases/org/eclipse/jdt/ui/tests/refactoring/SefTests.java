@@ -18,7 +18,11 @@
 package org.eclipse.jdt.ui.tests.refactoring;
 
 import static org.eclipse.jdt.ui.tests.refactoring.AbstractJunit4SelectionTestCase.TestMode.COMPARE_WITH_OUTPUT;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Hashtable;
@@ -36,10 +40,14 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTester;
 import org.eclipse.jdt.internal.corext.refactoring.sef.SelfEncapsulateFieldRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTPool;
 
 public class SefTests extends AbstractJunit4SelectionTestCase {
 
@@ -356,4 +364,44 @@ public class SefTests extends AbstractJunit4SelectionTestCase {
 	public void testTwoFragmentsWithSetter() throws Exception {
 		existingTest("field");
 	}
+
+	//=====================================================================================
+	// AST pool
+	//=====================================================================================
+
+	@Test
+	public void testASTPool() throws Exception {
+		ICompilationUnit unit= createCU(fgTestSetup.getObjectPackage(), "PoolTest.java", "package object_in;\npublic class PoolTest {\n\tint field;\n}\n");
+		try {
+			RefactoringASTParser parser= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL);
+			RefactoringASTPool.beginSession();
+			try {
+				RefactoringASTPool pool= RefactoringASTPool.getActivePool();
+				RefactoringASTPool[] otherThreadPool= { pool };
+				Thread otherThread= new Thread(() -> otherThreadPool[0]= RefactoringASTPool.getActivePool());
+				otherThread.start();
+				otherThread.join();
+				assertNull(otherThreadPool[0]);
+
+				CompilationUnit first= parser.parse(unit, true);
+				assertSame(first, parser.parse(unit, true));
+				assertNotSame(first, parser.parse(unit, false));
+
+				unit.becomeWorkingCopy(null);
+				try {
+					unit.getBuffer().append("\n");
+					assertNotSame(first, parser.parse(unit, true));
+				} finally {
+					unit.discardWorkingCopy();
+				}
+				assertEquals(1, pool.getHitCount());
+				assertEquals(3, pool.getMissCount());
+			} finally {
+				RefactoringASTPool.endSession();
+			}
+			assertNull(RefactoringASTPool.getActivePool());
+		} finally {
+			unit.delete(true, null);
+		}
+	}
 }
@@ -19,7 +19,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	TrackPositionTest.class,
-	TextDiffContentTest.class
+	TextDiffContentTest.class,
+	EditChangeOffsetUpdatesTest.class
 })
 public class AllTests {
 }
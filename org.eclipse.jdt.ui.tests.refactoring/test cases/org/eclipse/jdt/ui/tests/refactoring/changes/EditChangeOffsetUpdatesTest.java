@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.text.edits.CopySourceEdit;
+import org.eclipse.text.edits.CopyTargetEdit;
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.RangeMarker;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.TextEditGroup;
+
+import org.eclipse.jface.text.Document;
+
+import org.eclipse.ltk.core.refactoring.DocumentChange;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameAnalyzeUtil;
+
+/**
+ * Tests that the offsets {@link RenameAnalyzeUtil#getEditChangeOffsetUpdates(TextChange)} computes
+ * from the lengths of the edits are those of the preview edits.
+ */
+public class EditChangeOffsetUpdatesTest {
+
+	private static final String NN= "N.N";
+
+	@Test
+	public void testNestedTrees() throws Exception {
+		DocumentChange change= new DocumentChange(NN, new Document("0123456789abcdefghij"));
+		MultiTextEdit root= new MultiTextEdit();
+		change.setEdit(root);
+
+		TextEdit replace= new ReplaceEdit(1, 2, "xyz");
+		root.addChild(replace);
+		MultiTextEdit multi= new MultiTextEdit(4, 8);
+		root.addChild(multi);
+		TextEdit insert= new InsertEdit(4, "ab");
+		multi.addChild(insert);
+		RangeMarker marker= new RangeMarker(6, 4);
+		multi.addChild(marker);
+		TextEdit delete= new DeleteEdit(7, 2);
+		marker.addChild(delete);
+		TextEdit emptyReplace= new ReplaceEdit(10, 1, "");
+		multi.addChild(emptyReplace);
+		RangeMarker outerMarker= new RangeMarker(13, 3);
+		root.addChild(outerMarker);
+		TextEdit nestedInsert= new InsertEdit(15, "uvw");
+		outerMarker.addChild(nestedInsert);
+		TextEdit lastDelete= new DeleteEdit(17, 1);
+		root.addChild(lastDelete);
+
+		change.addTextEditGroup(new TextEditGroup(NN, replace));
+		change.addTextEditGroup(new TextEditGroup(NN, new TextEdit[] { insert, delete }));
+		change.addTextEditGroup(new TextEditGroup(NN, marker));
+		change.addTextEditGroup(new TextEditGroup(NN, emptyReplace));
+		change.addTextEditGroup(new TextEditGroup(NN, nestedInsert));
+		change.addTextEditGroup(new TextEditGroup(NN, lastDelete));
+
+		Map<Integer, Integer> offsetUpdates= RenameAnalyzeUtil.getEditChangeOffsetUpdates(change);
+		assertFalse(change.getKeepPreviewEdits());
+		assertEquals(6, offsetUpdates.size());
+		assertEquals(getPreviewOffsetUpdates(change), offsetUpdates);
+	}
+
+	@Test
+	public void testCopiedText() throws Exception {
+		// copies cannot be computed from the lengths of the edits, so the preview is used
+		DocumentChange change= new DocumentChange(NN, new Document("0123456789abcdefghij"));
+		MultiTextEdit root= new MultiTextEdit();
+		change.setEdit(root);
+
+		CopySourceEdit source= new CopySourceEdit(2, 3);
+		root.addChild(source);
+		TextEdit replace= new ReplaceEdit(8, 2, "x");
+		root.addChild(replace);
+		CopyTargetEdit target= new CopyTargetEdit(12, source);
+		root.addChild(target);
+		TextEdit insert= new InsertEdit(16, "yz");
+		root.addChild(insert);
+
+		change.addTextEditGroup(new TextEditGroup(NN, replace));
+		change.addTextEditGroup(new TextEditGroup(NN, insert));
+
+		Map<Integer, Integer> offsetUpdates= RenameAnalyzeUtil.getEditChangeOffsetUpdates(change);
+		assertFalse(change.getKeepPreviewEdits());
+		assertEquals(Integer.valueOf(8), offsetUpdates.get(Integer.valueOf(8)));
+		assertEquals(Integer.valueOf(18), offsetUpdates.get(Integer.valueOf(16)));
+		assertEquals(getPreviewOffsetUpdates(change), offsetUpdates);
+	}
+
+	private static Map<Integer, Integer> getPreviewOffsetUpdates(TextChange change) throws Exception {
+		change.setKeepPreviewEdits(true);
+		try {
+			change.getPreviewContent(new NullProgressMonitor());
+			Map<Integer, Integer> offsetUpdates= new HashMap<>();
+			for (TextEditChangeGroup editChange : change.getTextEditChangeGroups()) {
+				int offset= TextEdit.getCoverage(change.getPreviewEdits(editChange.getTextEdits())).getOffset();
+				offsetUpdates.put(Integer.valueOf(editChange.getRegion().getOffset()), Integer.valueOf(offset));
+			}
+			return offsetUpdates;
+		} finally {
+			change.setKeepPreviewEdits(false);
+		}
+	}
+}
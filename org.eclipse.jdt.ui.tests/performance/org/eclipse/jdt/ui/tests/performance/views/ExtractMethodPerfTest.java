@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractMethodRefactoring;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the flow analysis of Extract Method on a generated method with many locals and
+ * statements, like the methods of generated parsers.
+ */
+public class ExtractMethodPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int LOCALS= 500;
+
+	private static final int STATEMENTS= 5000;
+
+	private static final String SELECTION_START= "/*[*/";
+
+	private static final String SELECTION_END= "/*]*/";
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static ICompilationUnit fUnit;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("p", true, null);
+			fUnit= pack.createCompilationUnit("Generated.java", createLongMethod(), true, null);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+
+		private static String createLongMethod() {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package p;\npublic class Generated {\n\tpublic int compute(int seed) {\n");
+			for (int i= 0; i < LOCALS; i++) {
+				buf.append("\t\tint v").append(i).append("= seed + ").append(i).append(";\n");
+			}
+			for (int i= 0; i < STATEMENTS; i++) {
+				if (i == STATEMENTS / 2)
+					buf.append("\t\t").append(SELECTION_START).append('\n');
+				int target= i % LOCALS;
+				int source= (i * 7 + 1) % LOCALS;
+				if (i % 10 == 0) {
+					buf.append("\t\tif (v").append(source).append(" > 0) {\n\t\t\tv").append(target).append("= v").append(source).append(" - 1;\n\t\t}\n");
+				} else {
+					buf.append("\t\tv").append(target).append("+= v").append(source).append(";\n");
+				}
+				if (i == STATEMENTS / 2 + STATEMENTS / 10)
+					buf.append("\t\t").append(SELECTION_END).append('\n');
+			}
+			buf.append("\t\treturn v0");
+			for (int i= 1; i < LOCALS; i++) {
+				buf.append(" + v").append(i);
+			}
+			buf.append(";\n\t}\n}\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testExtractFromLongMethod() throws Exception {
+		tagAsSummary("Extract Method from a method with 500 locals and 5000 statements", Dimension.ELAPSED_PROCESS);
+
+		String source= MyTestSetup.fUnit.getSource();
+		int start= source.indexOf(SELECTION_START) + SELECTION_START.length();
+		int end= source.indexOf(SELECTION_END);
+		for (int i= 0; i < 7; i++) {
+			joinBackgroudActivities();
+			boolean measure= i >= 2;
+			if (measure)
+				startMeasuring();
+			// the selection writes locals that are read later, so the refactoring reports
+			// ambiguous return values, but only after the complete flow analysis
+			ExtractMethodRefactoring refactoring= new ExtractMethodRefactoring(MyTestSetup.fUnit, start, end - start);
+			RefactoringStatus status= refactoring.checkInitialConditions(new NullProgressMonitor());
+			if (measure)
+				stopMeasuring();
+			assertNotNull(status);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+}
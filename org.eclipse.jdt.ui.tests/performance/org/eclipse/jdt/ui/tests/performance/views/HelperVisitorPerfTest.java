@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.FusedHelperVisitor;
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+import org.eclipse.jdt.internal.common.VisitorEnum;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares the time needed to run the HelperVisitors of many clean ups over each compilation unit,
+ * once with one traversal per HelperVisitor and once with a single {@link FusedHelperVisitor}
+ * traversal.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HelperVisitorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			Assert.assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Number of clean ups simulated, each registering its own HelperVisitor.
+	 */
+	private static final int CLEAN_UP_COUNT= 30;
+
+	private static final VisitorEnum[] VISITED_KINDS= {
+			VisitorEnum.MethodInvocation,
+			VisitorEnum.InfixExpression,
+			VisitorEnum.IfStatement,
+			VisitorEnum.ForStatement,
+			VisitorEnum.EnhancedForStatement,
+			VisitorEnum.WhileStatement,
+			VisitorEnum.VariableDeclarationStatement,
+			VisitorEnum.ClassInstanceCreation,
+			VisitorEnum.StringLiteral,
+			VisitorEnum.ReturnStatement
+	};
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testFusedTraversal() throws Exception {
+		List<CompilationUnit> asts= createASTs();
+		for (int i= 0; i < 12; i++) {
+			boolean measure= i >= 2;
+			if (measure)
+				startMeasuring();
+			for (CompilationUnit ast : asts) {
+				FusedHelperVisitor fused= new FusedHelperVisitor();
+				for (int k= 0; k < CLEAN_UP_COUNT; k++) {
+					fused.add(createCleanUpVisitor(k));
+				}
+				fused.build(ast);
+			}
+			if (measure)
+				stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testSeparateTraversals() throws Exception {
+		List<CompilationUnit> asts= createASTs();
+		for (int i= 0; i < 12; i++) {
+			boolean measure= i >= 2;
+			if (measure)
+				startMeasuring();
+			for (CompilationUnit ast : asts) {
+				for (int k= 0; k < CLEAN_UP_COUNT; k++) {
+					createCleanUpVisitor(k).build(ast);
+				}
+			}
+			if (measure)
+				stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> createCleanUpVisitor(int index) {
+		HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> hv= new HelperVisitor<>(null, new ReferenceHolder<>());
+		VisitorEnum kind= VISITED_KINDS[index % VISITED_KINDS.length];
+		hv.add(kind, (node, holder) -> {
+			holder.merge(kind, 1, Integer::sum);
+			return true;
+		});
+		return hv;
+	}
+
+	private List<CompilationUnit> createASTs() throws JavaModelException {
+		List<ICompilationUnit> units= new ArrayList<>();
+		addAllCUs(units, MyTestSetup.fJProject1.getChildren());
+
+		List<CompilationUnit> result= new ArrayList<>();
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(MyTestSetup.fJProject1);
+		parser.setResolveBindings(true);
+		parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				result.add(ast);
+			}
+		}, null);
+		return result;
+	}
+
+	private void addAllCUs(List<ICompilationUnit> result, IJavaElement[] children) throws JavaModelException {
+		for (IJavaElement element : children) {
+			if (element instanceof ICompilationUnit) {
+				result.add((ICompilationUnit) element);
+			} else if (element instanceof IPackageFragmentRoot) {
+				IPackageFragmentRoot root= (IPackageFragmentRoot) element;
+				addAllCUs(result, root.getChildren());
+			} else if (element instanceof IPackageFragment) {
+				IPackageFragment pack= (IPackageFragment) element;
+				addAllCUs(result, pack.getChildren());
+			}
+		}
+	}
+}
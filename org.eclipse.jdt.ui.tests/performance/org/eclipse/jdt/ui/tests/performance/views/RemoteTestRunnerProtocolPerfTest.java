@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+import org.eclipse.jdt.launching.SocketUtil;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Replays a recorded test run with many short tests into a {@link RemoteTestRunnerClient}, once in
+ * the text protocol and once in the binary protocol of {@link BinaryMessageWriter}, and measures
+ * the time until the client has reported the end of the run.
+ */
+public class RemoteTestRunnerProtocolPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int TEST_COUNT= 25000;
+
+	/**
+	 * Every n-th test fails with a trace.
+	 */
+	private static final int FAILURE_RATE= 50;
+
+	private static final String TRACE;
+	static {
+		StringBuilder trace= new StringBuilder("junit.framework.AssertionFailedError: expected:<1> but was:<2>\n");
+		for (int i= 0; i < 20; i++) {
+			trace.append("\tat org.example.Frame").append(i).append(".method(Frame").append(i).append(".java:").append(i + 10).append(")\n");
+		}
+		TRACE= trace.toString();
+	}
+
+	private static class CountingListener implements ITestRunListener2 {
+		final AtomicInteger fStarted= new AtomicInteger();
+		final AtomicInteger fEnded= new AtomicInteger();
+		final AtomicInteger fFailed= new AtomicInteger();
+		final AtomicInteger fTreeEntries= new AtomicInteger();
+		final CountDownLatch fRunEnded= new CountDownLatch(1);
+
+		@Override
+		public void testRunStarted(int testCount) {
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fRunEnded.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			fStarted.incrementAndGet();
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			fEnded.incrementAndGet();
+		}
+
+		@Override
+		public void testRunTerminated() {
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			fTreeEntries.incrementAndGet();
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			Assert.assertEquals(TRACE, trace);
+			fFailed.incrementAndGet();
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+		}
+	}
+
+	@Test
+	public void testTextProtocol() throws Exception {
+		ByteArrayOutputStream recording= new ByteArrayOutputStream();
+		try (PrintWriter writer= new PrintWriter(new OutputStreamWriter(recording, StandardCharsets.UTF_8))) {
+			record(writer::println);
+		}
+		measure(recording.toByteArray());
+	}
+
+	@Test
+	public void testBinaryProtocol() throws Exception {
+		ByteArrayOutputStream recording= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(recording);
+		record(writer::sendMessage);
+		writer.close();
+		measure(recording.toByteArray());
+	}
+
+	private void measure(byte[] recording) throws Exception {
+		for (int i= 0; i < 12; i++) {
+			boolean measure= i >= 2;
+			CountingListener listener= new CountingListener();
+			RemoteTestRunnerClient client= new RemoteTestRunnerClient();
+			int port= SocketUtil.findFreePort();
+			client.startListening(new ITestRunListener2[] { listener }, port);
+			try (Socket socket= connect(port)) {
+				OutputStream out= socket.getOutputStream();
+				if (measure)
+					startMeasuring();
+				out.write(recording);
+				out.flush();
+				Assert.assertTrue("test run did not end", listener.fRunEnded.await(60, TimeUnit.SECONDS));
+				if (measure)
+					stopMeasuring();
+			}
+			Assert.assertEquals(TEST_COUNT, listener.fTreeEntries.get());
+			Assert.assertEquals(TEST_COUNT, listener.fStarted.get());
+			Assert.assertEquals(TEST_COUNT, listener.fEnded.get());
+			Assert.assertEquals(TEST_COUNT / FAILURE_RATE, listener.fFailed.get());
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static Socket connect(int port) throws IOException, InterruptedException {
+		for (int i= 0;; i++) {
+			try {
+				return new Socket("127.0.0.1", port);
+			} catch (ConnectException e) {
+				// the client has not opened its server socket yet
+				if (i == 50)
+					throw e;
+				Thread.sleep(100);
+			}
+		}
+	}
+
+	/**
+	 * Records the messages of a test run like RemoteTestRunner sends them.
+	 *
+	 * @param sender receives each message
+	 */
+	private static void record(Consumer<String> sender) {
+		sender.accept(MessageIds.TEST_RUN_START + TEST_COUNT + " v2");
+		for (int i= 0; i < TEST_COUNT; i++) {
+			sender.accept(MessageIds.TEST_TREE + i + ",test" + i + "(org.example.Test" + i / 100 + "),false,1,false,-1,test" + i + ",,");
+		}
+		for (int i= 0; i < TEST_COUNT; i++) {
+			String test= i + ",test" + i + "(org.example.Test" + i / 100 + ")";
+			sender.accept(MessageIds.TEST_START + test);
+			if (i % FAILURE_RATE == 0) {
+				sender.accept(MessageIds.TEST_FAILED + test);
+				sender.accept(MessageIds.TRACE_START);
+				sender.accept(TRACE.substring(0, TRACE.length() - 1));
+				sender.accept(MessageIds.TRACE_END);
+			}
+			sender.accept(MessageIds.TEST_END + test);
+		}
+		sender.accept(MessageIds.TEST_RUN_END + 1000);
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the search for the ripple methods of a method of an interface with many implementors,
+ * like a rename of <code>Listener.handle()</code>, and of a method that is related to partitions
+ * with several root types only through subtypes that inherit an implementation.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RippleMethodFinderPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int IMPLEMENTORS= 10000;
+
+	/**
+	 * Every n-th implementor also implements <code>Handler.handle()</code>, which is hence a
+	 * ripple method, too.
+	 */
+	private static final int HANDLER_INTERVAL= 100;
+
+	private static final int MARRIED_SUBTYPES= 2000;
+
+	/**
+	 * Number of pairs of interfaces that are united by one implementor each, so that their
+	 * partitions have two root types.
+	 */
+	private static final int ROOT_PAIRS= 50;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static IMethod fHandle;
+		public static IMethod fProcess;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("p", true, null);
+			JavaCore.run(monitor -> {
+				pack.createCompilationUnit("Listener.java", "package p;\npublic interface Listener {\n\tvoid handle();\n}\n", true, null);
+				pack.createCompilationUnit("Handler.java", "package p;\npublic interface Handler {\n\tvoid handle();\n}\n", true, null);
+				for (int i= 0; i < IMPLEMENTORS; i++) {
+					String interfaces= i % HANDLER_INTERVAL == 0 ? "Listener, Handler" : "Listener";
+					pack.createCompilationUnit("L" + i + ".java", "package p;\npublic class L" + i + " implements " + interfaces + " {\n\tpublic void handle() {}\n}\n", true, null);
+				}
+			}, null);
+			fHandle= pack.getCompilationUnit("Listener.java").getType("Listener").getMethod("handle", new String[0]);
+
+			// Source.process() is only related to the other process() methods through subtypes
+			// that inherit Base.process() without redeclaring it
+			IPackageFragment packQ= root.createPackageFragment("q", true, null);
+			JavaCore.run(monitor -> {
+				packQ.createCompilationUnit("Source.java", "package q;\npublic interface Source {\n\tvoid process();\n}\n", true, null);
+				packQ.createCompilationUnit("Sink.java", "package q;\npublic interface Sink {\n\tvoid process();\n}\n", true, null);
+				packQ.createCompilationUnit("S.java", "package q;\npublic class S implements Sink {\n\tpublic void process() {}\n}\n", true, null);
+				packQ.createCompilationUnit("Base.java", "package q;\npublic class Base {\n\tpublic void process() {}\n}\n", true, null);
+				for (int k= 0; k < ROOT_PAIRS; k++) {
+					packQ.createCompilationUnit("A" + k + ".java", "package q;\npublic interface A" + k + " {\n\tvoid process();\n}\n", true, null);
+					packQ.createCompilationUnit("B" + k + ".java", "package q;\npublic interface B" + k + " {\n\tvoid process();\n}\n", true, null);
+					packQ.createCompilationUnit("C" + k + ".java", "package q;\npublic class C" + k + " implements A" + k + ", B" + k + " {\n\tpublic void process() {}\n}\n", true, null);
+				}
+				for (int i= 0; i < MARRIED_SUBTYPES; i++) {
+					packQ.createCompilationUnit("E" + i + ".java", "package q;\npublic class E" + i + " extends Base implements Source, A" + i % ROOT_PAIRS + " {\n}\n", true, null);
+				}
+			}, null);
+			fProcess= packQ.getCompilationUnit("Source.java").getType("Source").getMethod("process", new String[0]);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testRippleOfHubInterface() throws Exception {
+		tagAsSummary("Ripple methods of an interface with 10000 implementors", Dimension.ELAPSED_PROCESS);
+
+		for (int i= 0; i < 7; i++) {
+			joinBackgroudActivities();
+			boolean measure= i >= 2;
+			if (measure)
+				startMeasuring();
+			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(MyTestSetup.fHandle, new NullProgressMonitor(), null);
+			if (measure)
+				stopMeasuring();
+			assertEquals(IMPLEMENTORS + 2, rippleMethods.length);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testRippleOfMarriedInterfaces() throws Exception {
+		tagAsSummary("Ripple methods of an interface married to partitions with several roots", Dimension.ELAPSED_PROCESS);
+
+		for (int i= 0; i < 7; i++) {
+			joinBackgroudActivities();
+			boolean measure= i >= 2;
+			if (measure)
+				startMeasuring();
+			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(MyTestSetup.fProcess, new NullProgressMonitor(), null);
+			if (measure)
+				stopMeasuring();
+			// Source, Base and the methods of all pairs, but not Sink and S
+			assertEquals(2 + 3 * ROOT_PAIRS, rippleMethods.length);
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+}
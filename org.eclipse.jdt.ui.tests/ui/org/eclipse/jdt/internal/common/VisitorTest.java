@@ -25,6 +25,9 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -569,6 +572,62 @@ public class VisitorTest {
 		}).build(result2);
 	}
 
+	/**
+	 * Several HelperVisitors run in one traversal see the same nodes as in separate traversals,
+	 * even if one of them skips the children of some nodes.
+	 */
+	@Test
+	public void fusedTest() {
+		ReferenceHolder<VisitorEnum, Integer> separatevisits = new ReferenceHolder<>();
+		ReferenceHolder<VisitorEnum, Integer> separateskipping = new ReferenceHolder<>();
+		createCountingVisitor(separatevisits, false).build(result2);
+		createCountingVisitor(separateskipping, true).build(result2);
+
+		ReferenceHolder<VisitorEnum, Integer> fusedvisits = new ReferenceHolder<>();
+		ReferenceHolder<VisitorEnum, Integer> fusedskipping = new ReferenceHolder<>();
+		new FusedHelperVisitor()
+				.add(createCountingVisitor(fusedvisits, false))
+				.add(createCountingVisitor(fusedskipping, true))
+				.build(result2);
+
+		assertEquals(separatevisits, fusedvisits);
+		assertEquals(separateskipping, fusedskipping);
+		assertNotEquals(fusedvisits, fusedskipping);
+	}
+
+	/**
+	 * Filter on the method name given for MethodInvocation is applied in the fused traversal too.
+	 */
+	@Test
+	public void fusedMethodInvocationTest() {
+		List<String> separate = new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv = new HelperVisitor<>(null, new ReferenceHolder<>());
+		hv.addMethodInvocation("println", (node, holder) -> separate.add(node.toString()));
+		hv.build(result);
+
+		List<String> fused = new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv2 = new HelperVisitor<>(null, new ReferenceHolder<>());
+		hv2.addMethodInvocation("println", (node, holder) -> fused.add(node.toString()));
+		new FusedHelperVisitor().add(hv2).build(result);
+
+		assertEquals(3, separate.size());
+		assertEquals(separate, fused);
+	}
+
+	private static HelperVisitor<ReferenceHolder<VisitorEnum,Integer>,VisitorEnum,Integer> createCountingVisitor(ReferenceHolder<VisitorEnum, Integer> dataholder, boolean skipwhilebody) {
+		HelperVisitor<ReferenceHolder<VisitorEnum,Integer>,VisitorEnum,Integer> hv = new HelperVisitor<>(null, dataholder);
+		VisitorEnum.stream().forEach(ve -> {
+			hv.add(ve, (node, holder) -> {
+				holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+				return !skipwhilebody || node.getNodeType() != ASTNode.WHILE_STATEMENT;
+			});
+		});
+		hv.addEnd(VisitorEnum.WhileStatement, (node, holder) -> {
+			holder.merge(VisitorEnum.Block, 100, Integer::sum);
+		});
+		return hv;
+	}
+
 	/**
 	 * This one is not really possible in "normal" visitors. Change visitors while visiting.
 	 */
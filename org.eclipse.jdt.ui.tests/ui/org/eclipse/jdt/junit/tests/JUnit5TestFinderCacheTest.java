@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.JUnit5TestFinder;
+
+/**
+ * Tests that the <code>JUnit5TestFinder</code> finds the same tests in a container when it uses
+ * the verdicts of earlier searches, and that edited classes are checked again.
+ */
+public class JUnit5TestFinderCacheTest {
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT5_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(fProject, cpe);
+		JavaProjectHelper.set18CompilerOptions(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testFindTestsInPackageRepeated() throws Exception {
+		IType aTest= createCU("ATest", """
+			package p;
+			import org.junit.jupiter.api.Test;
+			public class ATest {
+			    @Test void a() {}
+			}
+			""").findPrimaryType();
+		createCU("NoTest", """
+			package p;
+			public class NoTest {
+			    void a() {}
+			}
+			""");
+
+		// the second search uses the verdicts cached by the first one
+		assertThat(findTests(fPackage)).containsExactly(aTest);
+		assertThat(findTests(fPackage)).containsExactly(aTest);
+		assertThat(findTests(fProject)).containsExactly(aTest);
+	}
+
+	@Test
+	public void testFindTestsAfterEdit() throws Exception {
+		IType aTest= createCU("ATest", """
+			package p;
+			import org.junit.jupiter.api.Test;
+			public class ATest {
+			    @Test void a() {}
+			}
+			""").findPrimaryType();
+		IType noTest= createCU("NoTest", """
+			package p;
+			public class NoTest {
+			    void a() {}
+			}
+			""").findPrimaryType();
+		assertThat(findTests(fPackage)).containsExactly(aTest);
+
+		createCU("ATest", """
+			package p;
+			public class ATest {
+			    void a() {}
+			}
+			""");
+		createCU("NoTest", """
+			package p;
+			import org.junit.jupiter.api.Test;
+			public class NoTest {
+			    @Test void a() {}
+			}
+			""");
+		assertThat(findTests(fPackage)).containsExactly(noTest);
+	}
+
+	@Test
+	public void testFindTestsAfterSuperclassEdit() throws Exception {
+		createCU("Base", """
+			package p;
+			import org.junit.jupiter.api.Test;
+			public abstract class Base {
+			    @Test void inherited() {}
+			}
+			""");
+		IType subTest= createCU("SubTest", """
+			package p;
+			public class SubTest extends Base {
+			}
+			""").findPrimaryType();
+		assertThat(findTests(fPackage)).containsExactly(subTest);
+
+		// the verdict of SubTest depends on the file of its superclass
+		createCU("Base", """
+			package p;
+			public abstract class Base {
+			    void inherited() {}
+			}
+			""");
+		assertThat(findTests(fPackage)).isEmpty();
+	}
+
+	private ICompilationUnit createCU(String typeName, String contents) throws Exception {
+		return fPackage.createCompilationUnit(typeName + ".java", contents, true, null);
+	}
+
+	private static Set<IType> findTests(IJavaElement container) throws Exception {
+		Set<IType> result= new HashSet<>();
+		new JUnit5TestFinder().findTestsInContainer(container, result, null);
+		return result;
+	}
+}
@@ -26,6 +26,9 @@ import org.junit.runners.Suite;
 
 TestEnableAssertions.class,
 TestPriorization.class,
+TestPriorityListPriorization.class,
+TestPriorityOrdererTest.class,
+TestRunHistoryPrioritiesTest.class,
 TestTestSearchEngine.class,
 
 TestRunListenerTest3.class,
@@ -37,13 +40,18 @@ TestRunFilteredParameterizedRunnerTest4.class,
 
 TestRunSessionSerializationTests3.class,
 TestRunSessionSerializationTests4.class,
+TestRunSessionModelTest.class,
+TestRunSessionShardingTest.class,
+TestImpactIndexTest.class,
 
 JUnit3TestFinderTest.class,
 JUnitTestFinderTest.class,
 JUnit4TestFinderTest16.class,
 JUnit5TestFinderJupiterTest.class,
+JUnit5TestFinderCacheTest.class,
 
-TestSorting.class
+TestSorting.class,
+TestRunnerViewRefreshTest.class
 //LegacyTestRunListenerTest.class
 })
 public class JUnitJUnitTests {
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.TestImpactIndex;
+
+public class TestImpactIndexTest {
+	private IJavaProject fProject;
+	private IPackageFragment fPackage;
+	private TestImpactIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar(fProject);
+		IClasspathEntry cpe= JavaCore.newContainerEntry(JUnitCore.JUNIT3_CONTAINER_PATH);
+		JavaProjectHelper.addToClasspath(fProject, cpe);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+
+		fIndex= new TestImpactIndex();
+		JavaCore.addElementChangedListener(fIndex, ElementChangedEvent.POST_CHANGE);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaCore.removeElementChangedListener(fIndex);
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testTransitiveReferences() throws Exception {
+		ICompilationUnit a= createCU("A", """
+			package p;
+			public class A {
+			    int value() { return 1; }
+			}
+			""");
+		createCU("B", """
+			package p;
+			public class B {
+			    int twice() { return new A().value() * 2; }
+			}
+			""");
+		createCU("C", """
+			package p;
+			public class C {
+			}
+			""");
+		IType bTest= createCU("BTest", """
+			package p;
+			import junit.framework.TestCase;
+			public class BTest extends TestCase {
+			    public void testTwice() { assertEquals(2, new B().twice()); }
+			}
+			""").findPrimaryType();
+		IType cTest= createCU("CTest", """
+			package p;
+			import junit.framework.TestCase;
+			public class CTest extends TestCase {
+			    public void testC() { assertNotNull(new C()); }
+			}
+			""").findPrimaryType();
+		IType[] tests= { bTest, cTest };
+
+		assertImpacted(tests, new IType[0]);
+
+		a.becomeWorkingCopy(null);
+		try {
+			a.getBuffer().append("\n");
+			assertImpacted(tests, bTest);
+
+			// the index is updated from the delta of the new test
+			IType aTest= createCU("ATest", """
+				package p;
+				import junit.framework.TestCase;
+				public class ATest extends TestCase {
+				    public void testValue() { assertEquals(1, new A().value()); }
+				}
+				""").findPrimaryType();
+			assertImpacted(new IType[] { aTest, bTest, cTest }, aTest, bTest);
+		} finally {
+			a.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testRemovedUnit() throws Exception {
+		ICompilationUnit a= createCU("A", """
+			package p;
+			public class A {
+			    int value() { return 1; }
+			}
+			""");
+		createCU("B", """
+			package p;
+			public class B {
+			    int twice() { return new A().value() * 2; }
+			}
+			""");
+		IType bTest= createCU("BTest", """
+			package p;
+			import junit.framework.TestCase;
+			public class BTest extends TestCase {
+			    public void testTwice() { assertEquals(2, new B().twice()); }
+			}
+			""").findPrimaryType();
+		IType cTest= createCU("CTest", """
+			package p;
+			import junit.framework.TestCase;
+			public class CTest extends TestCase {
+			    public void testObject() { assertNotNull(new Object()); }
+			}
+			""").findPrimaryType();
+		IType[] tests= { bTest, cTest };
+
+		assertImpacted(tests, new IType[0]);
+		long time= System.currentTimeMillis();
+		Thread.sleep(10);
+
+		a.delete(true, null);
+		assertEquals(Arrays.asList(bTest), Arrays.asList(fIndex.getImpactedTests(fProject, tests, time, null)));
+	}
+
+	private ICompilationUnit createCU(String typeName, String contents) throws Exception {
+		return fPackage.createCompilationUnit(typeName + ".java", contents, false, null);
+	}
+
+	private void assertImpacted(IType[] tests, IType... expected) throws Exception {
+		// nothing was saved after the given time, so only unsaved changes count
+		List<IType> impacted= Arrays.asList(fIndex.getImpactedTests(fProject, tests, Long.MAX_VALUE, null));
+		assertEquals(Arrays.asList(expected), impacted);
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.junit.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.eclipse.jdt.internal.junit.runner.PriorityListPrioritizer;
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
+
+import junit.extensions.TestDecorator;
+import junit.extensions.TestSetup;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class TestPriorityListPriorization extends TestCase {
+
+	private static final String SUITE= "org.eclipse.jdt.junit.tests.TestPriorizationSuite";
+	private static final String SUITE1= "org.eclipse.jdt.junit.tests.TestPriorizationSuite1";
+	private static final String SUITE2= "org.eclipse.jdt.junit.tests.TestPriorizationSuite2";
+
+	private File fFile;
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fFile != null)
+			fFile.delete();
+	}
+
+	public void testReorderSimple() throws Exception {
+		TestSuite suite= createSuite(SUITE2, "testD", "testE", "testF");
+		Test prioritized= prioritize(suite, "testF(" + SUITE2 + ")", "testE(" + SUITE2 + ")");
+		assertEquals(Arrays.asList("testF", "testE", "testD"), collectOrder(prioritized));
+	}
+
+	public void testReorderWithPropagation() throws Exception {
+		// suite
+		//		suite1
+		//			A
+		//			B
+		//			C*
+		//		decorator
+		//			suite2
+		//				D
+		//				E
+		//				F*
+		TestSuite suite= new TestSuite();
+		suite.addTest(createSuite(SUITE1, "testA", "testB", "testC"));
+		suite.addTest(new TestSetup(createSuite(SUITE2, "testD", "testE", "testF")) {
+			@Override
+			protected void setUp() throws Exception {
+			}
+		});
+
+		Test prioritized= prioritize(suite, "testF(" + SUITE2 + ")", "testC(" + SUITE1 + ")");
+		assertEquals(Arrays.asList("testF", "testD", "testE", "testC", "testA", "testB"), collectOrder(prioritized));
+	}
+
+	public void testReorderByClassName() throws Exception {
+		// suite
+		//		suite
+		//			X
+		//			Y
+		//		suite1
+		//			A
+		//			B
+		//		suite2
+		//			D
+		//			E
+		TestSuite suite= new TestSuite();
+		suite.addTest(new TestSuite(SUITE) {
+			{
+				addTest(new TestPriorizationSuite("testX"));
+				addTest(new TestPriorizationSuite("testY"));
+			}
+		});
+		suite.addTest(createSuite(SUITE1, "testA", "testB"));
+		suite.addTest(new TestSuite(SUITE2) {
+			{
+				addTest(new TestPriorizationSuite2("testD"));
+				addTest(new TestPriorizationSuite2("testE"));
+			}
+		});
+
+		Test prioritized= prioritize(suite, SUITE2, "testY(" + SUITE + ")");
+		assertEquals(Arrays.asList("testD", "testE", "testY", "testX", "testA", "testB"), collectOrder(prioritized));
+	}
+
+	public void testSortClassNames() throws Exception {
+		TestPriorities priorities= TestPriorities.read(writePriorities(SUITE2, "testA(" + SUITE1 + ")", SUITE1));
+		String[] classNames= { SUITE, SUITE1, "Unlisted", SUITE2 };
+		priorities.sortClassNames(classNames);
+		assertEquals(Arrays.asList(SUITE2, SUITE1, SUITE, "Unlisted"), Arrays.asList(classNames));
+		assertEquals(1, priorities.getRank("testA", SUITE1));
+		assertEquals(TestPriorities.UNLISTED, priorities.getRank("testB", SUITE1));
+	}
+
+	private static TestSuite createSuite(String className, String... methodNames) {
+		TestSuite suite= new TestSuite();
+		for (String methodName : methodNames) {
+			if (SUITE1.equals(className))
+				suite.addTest(new TestPriorizationSuite1(methodName));
+			else
+				suite.addTest(new TestPriorizationSuite2(methodName));
+		}
+		return suite;
+	}
+
+	private static List<String> collectOrder(Test test) {
+		List<String> order= new ArrayList<>();
+		collectOrder(test, order);
+		return order;
+	}
+
+	private static void collectOrder(Test test, List<String> order) {
+		if (test instanceof TestCase) {
+			String s= test.toString();
+			order.add(s.substring(0, s.indexOf('(')));
+		} else if (test instanceof TestSuite) {
+			for (Enumeration<Test> e= ((TestSuite) test).tests(); e.hasMoreElements();) {
+				collectOrder(e.nextElement(), order);
+			}
+		} else if (test instanceof TestDecorator) {
+			collectOrder(((TestDecorator) test).getTest(), order);
+		}
+	}
+
+	private Test prioritize(Test suite, String... priority) throws IOException {
+		PriorityListPrioritizer prioritizer= new PriorityListPrioritizer(TestPriorities.read(writePriorities(priority)));
+		return prioritizer.prioritize(suite);
+	}
+
+	private String writePriorities(String... lines) throws IOException {
+		if (fFile != null)
+			fFile.delete();
+		fFile= File.createTempFile("testPriorities", ".txt");
+		Files.write(fFile.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return fFile.getAbsolutePath();
+	}
+}
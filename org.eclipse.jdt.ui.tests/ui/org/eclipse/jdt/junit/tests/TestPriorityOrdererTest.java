@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.runner.Description;
+
+import org.eclipse.jdt.internal.junit.runner.TestPriorities;
+import org.eclipse.jdt.internal.junit4.runner.PrioritySorter;
+import org.eclipse.jdt.internal.junit5.runner.JUnit5TestLoader;
+import org.eclipse.jdt.internal.junit5.runner.PriorityClassOrderer;
+import org.eclipse.jdt.internal.junit5.runner.PriorityMethodOrderer;
+
+/**
+ * Tests that the JUnit 4 and JUnit 5 runtimes apply the order of a {@link TestPriorities} file.
+ */
+public class TestPriorityOrdererTest {
+
+	private static final String SUITE1= TestPriorizationSuite1.class.getName();
+	private static final String SUITE2= TestPriorizationSuite2.class.getName();
+
+	private File fFile;
+
+	@After
+	public void tearDown() throws Exception {
+		if (fFile != null)
+			fFile.delete();
+	}
+
+	@Test
+	public void testPrioritySorter() throws Exception {
+		Description suite1= Description.createSuiteDescription(SUITE1);
+		Description testA= Description.createTestDescription(SUITE1, "testA");
+		Description testB= Description.createTestDescription(SUITE1, "testB");
+		Description testC= Description.createTestDescription(SUITE1, "testC");
+		suite1.addChild(testA);
+		suite1.addChild(testB);
+		suite1.addChild(testC);
+		Description suite2= Description.createSuiteDescription(SUITE2);
+		Description testD= Description.createTestDescription(SUITE2, "testD");
+		Description testE= Description.createTestDescription(SUITE2, "testE");
+		suite2.addChild(testD);
+		suite2.addChild(testE);
+
+		PrioritySorter sorter= new PrioritySorter(TestPriorities.read(writePriorities("testE(" + SUITE2 + ")", "testC(" + SUITE1 + ")")));
+
+		// unlisted tests keep their order
+		List<Description> tests= new ArrayList<>(Arrays.asList(testA, testB, testC));
+		tests.sort(sorter);
+		assertEquals(Arrays.asList(testC, testA, testB), tests);
+
+		// a suite ranks like its best ranked child
+		List<Description> suites= new ArrayList<>(Arrays.asList(suite1, suite2));
+		suites.sort(sorter);
+		assertEquals(Arrays.asList(suite2, suite1), suites);
+	}
+
+	@Test
+	public void testPriorityMethodOrderer() throws Exception {
+		String fileName= writePriorities("testF(" + SUITE2 + ")", "testD(" + SUITE2 + ")");
+		List<MethodDescriptor> methods= new ArrayList<>();
+		for (String name : new String[] { "testD", "testE", "testF" }) {
+			methods.add(new TestMethodDescriptor(TestPriorizationSuite2.class.getMethod(name)));
+		}
+
+		new PriorityMethodOrderer().orderMethods(new MethodOrdererContext() {
+			@Override
+			public Class<?> getTestClass() {
+				return TestPriorizationSuite2.class;
+			}
+
+			@Override
+			public List<? extends MethodDescriptor> getMethodDescriptors() {
+				return methods;
+			}
+
+			@Override
+			public Optional<String> getConfigurationParameter(String key) {
+				return JUnit5TestLoader.PRIORITIES_FILE.equals(key) ? Optional.of(fileName) : Optional.empty();
+			}
+		});
+
+		List<String> order= new ArrayList<>();
+		for (MethodDescriptor method : methods) {
+			order.add(method.getMethod().getName());
+		}
+		assertEquals(Arrays.asList("testF", "testD", "testE"), order);
+	}
+
+	@Test
+	public void testPriorityClassOrderer() throws Exception {
+		String fileName= writePriorities(SUITE2, "testA(" + SUITE1 + ")");
+		List<ClassDescriptor> classes= new ArrayList<>();
+		classes.add(new TestClassDescriptor(TestPriorizationSuite.class));
+		classes.add(new TestClassDescriptor(TestPriorizationSuite1.class));
+		classes.add(new TestClassDescriptor(TestPriorizationSuite2.class));
+
+		new PriorityClassOrderer().orderClasses(new ClassOrdererContext() {
+			@Override
+			public List<? extends ClassDescriptor> getClassDescriptors() {
+				return classes;
+			}
+
+			@Override
+			public Optional<String> getConfigurationParameter(String key) {
+				return JUnit5TestLoader.PRIORITIES_FILE.equals(key) ? Optional.of(fileName) : Optional.empty();
+			}
+		});
+
+		// classes are ranked by their own names only
+		List<Class<?>> order= new ArrayList<>();
+		for (ClassDescriptor descriptor : classes) {
+			order.add(descriptor.getTestClass());
+		}
+		assertEquals(Arrays.asList(TestPriorizationSuite2.class, TestPriorizationSuite.class, TestPriorizationSuite1.class), order);
+	}
+
+	private String writePriorities(String... lines) throws IOException {
+		if (fFile != null)
+			fFile.delete();
+		fFile= File.createTempFile("testPriorities", ".txt");
+		Files.write(fFile.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return fFile.getAbsolutePath();
+	}
+
+	private abstract static class AbstractDescriptor {
+
+		public boolean isAnnotated(Class<? extends Annotation> annotationType) {
+			return false;
+		}
+
+		public <A extends Annotation> Optional<A> findAnnotation(Class<A> annotationType) {
+			return Optional.empty();
+		}
+
+		public <A extends Annotation> List<A> findRepeatableAnnotations(Class<A> annotationType) {
+			return Collections.emptyList();
+		}
+	}
+
+	private static final class TestMethodDescriptor extends AbstractDescriptor implements MethodDescriptor {
+
+		private final Method fMethod;
+
+		TestMethodDescriptor(Method method) {
+			fMethod= method;
+		}
+
+		@Override
+		public Method getMethod() {
+			return fMethod;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fMethod.getName();
+		}
+	}
+
+	private static final class TestClassDescriptor extends AbstractDescriptor implements ClassDescriptor {
+
+		private final Class<?> fClass;
+
+		TestClassDescriptor(Class<?> clazz) {
+			fClass= clazz;
+		}
+
+		@Override
+		public Class<?> getTestClass() {
+			return fClass;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fClass.getSimpleName();
+		}
+	}
+}
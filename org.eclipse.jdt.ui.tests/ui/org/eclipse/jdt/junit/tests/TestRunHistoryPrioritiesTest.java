@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.junit.launcher.TestRunHistoryPriorities;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSummary;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests the order that {@link TestRunHistoryPriorities} computes from the recent runs of a launch.
+ */
+public class TestRunHistoryPrioritiesTest {
+
+	private IJavaProject fProject;
+
+	private IJavaElement[] fTestElements;
+
+	private List<TestRunSummary> fSummaries;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		IPackageFragment pack= JavaProjectHelper.addSourceContainer(fProject, "src").createPackageFragment("pack", true, null);
+		String[] classNames= { "ATest", "BTest", "CTest", "DTest" };
+		fTestElements= new IJavaElement[classNames.length];
+		for (int i= 0; i < classNames.length; i++) {
+			String source= "package pack;\npublic class " + classNames[i] + " {\n}\n";
+			fTestElements[i]= pack.createCompilationUnit(classNames[i] + ".java", source, true, null).getType(classNames[i]);
+		}
+
+		// pack.CTest was added after the latest run
+		TestRunBuilder latest= new TestRunBuilder();
+		latest.addTest("pack.ATest", "testA1", 1.0, true);
+		latest.addTest("pack.ATest", "testA2", 0.2, false);
+		latest.addTest("pack.BTest", "testB1", 0.3, false);
+		latest.addTest("pack.DTest", "testD1", 0.1, false);
+		TestRunBuilder older= new TestRunBuilder();
+		older.addTest("pack.ATest", "testA1", 2.0, false);
+		older.addTest("pack.BTest", "testB1", 0.5, true);
+		fSummaries= Arrays.asList(latest.getSummary(), older.getSummary());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testTiers() throws Exception {
+		List<String> order= TestRunHistoryPriorities.computeOrder(fSummaries, fProject, fTestElements, Long.MAX_VALUE, false);
+
+		// failed in the latest run, failed in an earlier run, added; shorter first within a tier
+		assertEquals(Arrays.asList(
+				"testA1(pack.ATest)", "pack.ATest",
+				"pack.BTest", "testB1(pack.BTest)",
+				"pack.CTest"), order);
+	}
+
+	@Test
+	public void testMarkChanged() throws Exception {
+		// all classes were changed after the latest run, only those without failures move
+		List<String> order= TestRunHistoryPriorities.computeOrder(fSummaries, fProject, fTestElements, 0, false);
+
+		assertEquals(Arrays.asList(
+				"testA1(pack.ATest)", "pack.ATest",
+				"pack.BTest", "testB1(pack.BTest)",
+				"pack.DTest", "testD1(pack.DTest)", "pack.CTest"), order);
+	}
+
+	@Test
+	public void testShortestFirst() throws Exception {
+		List<String> order= TestRunHistoryPriorities.computeOrder(fSummaries, fProject, fTestElements, Long.MAX_VALUE, true);
+
+		assertEquals(Arrays.asList(
+				"testA1(pack.ATest)", "pack.ATest",
+				"pack.BTest", "testB1(pack.BTest)",
+				"pack.CTest",
+				"pack.DTest", "testD1(pack.DTest)", "testA2(pack.ATest)"), order);
+	}
+
+	@Test
+	public void testNoHistory() throws Exception {
+		List<String> order= TestRunHistoryPriorities.computeOrder(Arrays.asList(), null, new IJavaElement[0], Long.MAX_VALUE, true);
+		assertEquals(Arrays.asList(), order);
+	}
+
+	private static final class TestRunBuilder {
+
+		private final TestRunSession fSession= new TestRunSession("TestRunHistoryPrioritiesTest", null);
+
+		private final Map<String, TestSuiteElement> fSuites= new HashMap<>();
+
+		private int fId;
+
+		void addTest(String className, String methodName, double time, boolean failed) {
+			TestSuiteElement suite= fSuites.computeIfAbsent(className,
+					name -> (TestSuiteElement) fSession.createTestElement(fSession.getTestRoot(), String.valueOf(fId++), name, true, 0, false, null, null, null));
+			TestElement test= fSession.createTestElement(suite, String.valueOf(fId++), methodName + "(" + className + ")", false, 1, false, null, null, null);
+			test.setElapsedTimeInSeconds(time);
+			if (failed)
+				fSession.registerTestFailureStatus(test, Status.FAILURE, "java.lang.AssertionError\n", null, null);
+		}
+
+		TestRunSummary getSummary() {
+			return fSession.getSummary();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSummary;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests the id lookup, the failure traces and the summary of a {@link TestRunSession}, including
+ * traces that are kept outside of the heap and a swap out and in of the session.
+ */
+public class TestRunSessionModelTest {
+
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() {
+		fSession= new TestRunSession("TestRunSessionModelTest", null);
+	}
+
+	@After
+	public void tearDown() {
+		fSession.removeSwapFile();
+	}
+
+	@Test
+	public void testIds() {
+		TestSuiteElement suite= (TestSuiteElement) fSession.createTestElement(fSession.getTestRoot(), "1", "pack.ATest", true, 0, false, null, null, null);
+		String[] ids= { "2", "0", "10000", "007", "-3", "abc", "" };
+		for (String id : ids) {
+			fSession.createTestElement(suite, id, "test" + id + "(pack.ATest)", false, 1, false, null, null, null);
+		}
+		assertSame(suite, fSession.getTestElement("1"));
+		for (String id : ids) {
+			assertEquals(id, fSession.getTestElement(id).getId());
+		}
+		assertNull(fSession.getTestElement("7"));
+		assertNull(fSession.getTestElement("3"));
+		assertNull(fSession.getTestElement("99"));
+	}
+
+	@Test
+	public void testTraces() {
+		TestSuiteElement suite= (TestSuiteElement) fSession.createTestElement(fSession.getTestRoot(), "1", "pack.ATest", true, 0, false, null, null, null);
+		TestElement shortFailure= fSession.createTestElement(suite, "2", "testShort(pack.ATest)", false, 1, false, null, null, null);
+		TestElement longFailure= fSession.createTestElement(suite, "3", "testLong(pack.ATest)", false, 1, false, null, null, null);
+		TestElement twoFailures= fSession.createTestElement(suite, "4", "testTwo(pack.ATest)", false, 1, false, null, null, null);
+
+		String shortTrace= "java.lang.AssertionError: short\n\tat pack.ATest.testShort(ATest.java:5)\n";
+		String longTrace= createTrace("long", 50);
+		String secondTrace= createTrace("second", 50);
+		fSession.registerTestFailureStatus(shortFailure, Status.FAILURE, shortTrace, null, null);
+		fSession.registerTestFailureStatus(longFailure, Status.FAILURE, longTrace, "expected", "actual");
+		fSession.registerTestFailureStatus(twoFailures, Status.ERROR, longTrace, null, null);
+		fSession.registerTestFailureStatus(twoFailures, Status.ERROR, secondTrace, null, null);
+
+		assertEquals(shortTrace, shortFailure.getTrace());
+		assertEquals(longTrace, longFailure.getTrace());
+		assertEquals("expected", longFailure.getExpected());
+		assertEquals("actual", longFailure.getActual());
+		assertEquals(longTrace + secondTrace, twoFailures.getTrace());
+		assertEquals(longTrace, longFailure.getFailureTrace().getTrace());
+		assertEquals(2, fSession.getFailureCount());
+		assertEquals(2, fSession.getErrorCount());
+
+		fSession.swapOut();
+
+		ITestElement[] children= ((TestSuiteElement) fSession.getTestRoot().getChildren()[0]).getChildren();
+		assertEquals(3, children.length);
+		assertEquals(shortTrace, ((TestCaseElement) children[0]).getTrace());
+		assertEquals(longTrace, ((TestCaseElement) children[1]).getTrace());
+		assertEquals("expected", ((TestCaseElement) children[1]).getExpected());
+		assertEquals(longTrace + secondTrace, ((TestCaseElement) children[2]).getTrace());
+	}
+
+	@Test
+	public void testSummary() {
+		TestSuiteElement suite= (TestSuiteElement) fSession.createTestElement(fSession.getTestRoot(), "1", "pack.ATest", true, 0, false, null, null, null);
+		TestElement passed= fSession.createTestElement(suite, "2", "testPassed(pack.ATest)", false, 1, false, null, null, null);
+		TestElement failed= fSession.createTestElement(suite, "3", "testFailed(pack.ATest)", false, 1, false, null, null, null);
+		fSession.registerTestFailureStatus(failed, Status.FAILURE, "java.lang.AssertionError\n", null, null);
+		passed.setElapsedTimeInSeconds(0.5);
+		failed.setElapsedTimeInSeconds(1.5);
+		suite.setElapsedTimeInSeconds(2.5);
+
+		fSession.swapOut();
+
+		TestRunSummary summary= fSession.getSummary();
+		assertEquals(2, summary.getTestCount());
+		assertEquals("testPassed(pack.ATest)", summary.getTestName(0));
+		assertFalse(summary.isErrorOrFailure(0));
+		assertEquals(0.5, summary.getElapsedTimeInSeconds(0), 0);
+		assertEquals("testFailed(pack.ATest)", summary.getTestName(1));
+		assertTrue(summary.isErrorOrFailure(1));
+		assertEquals(Map.of("pack.ATest", Double.valueOf(2.5)), summary.getClassDurations());
+	}
+
+	private static String createTrace(String message, int frames) {
+		StringBuilder trace= new StringBuilder("java.lang.AssertionError: ").append(message).append('\n');
+		for (int i= 0; i < frames; i++) {
+			trace.append("\tat pack.Frame").append(i).append(".method(Frame").append(i).append(".java:").append(i + 1).append(")\n");
+		}
+		return trace.toString();
+	}
+}
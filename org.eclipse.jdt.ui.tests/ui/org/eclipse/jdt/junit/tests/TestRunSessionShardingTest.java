@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+import org.eclipse.jdt.launching.SocketUtil;
+
+/**
+ * Tests that the events of several test runner VMs are merged into one {@link TestRunSession}.
+ */
+public class TestRunSessionShardingTest {
+
+	@Test
+	public void testMergeShards() throws Exception {
+		int port1= SocketUtil.findFreePort();
+		int port2;
+		do {
+			port2= SocketUtil.findFreePort();
+		} while (port2 == port1);
+
+		Launch launch= new Launch(null, ILaunchManager.RUN_MODE, null);
+		launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, port1 + "," + port2);
+		TestRunSession session= new TestRunSession(launch, JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("ShardingTest")), port1);
+
+		// both runners number their tests from 1
+		runShard(port1, "pack.ATest", false);
+		runShard(port2, "pack.BTest", true);
+
+		for (int i= 0; i < 100 && (session.isRunning() || session.getStartedCount() < 4); i++) {
+			Thread.sleep(100);
+		}
+		assertFalse(session.isRunning());
+		assertEquals(4, session.getTotalCount());
+		assertEquals(4, session.getStartedCount());
+		assertEquals(1, session.getFailureCount());
+
+		ITestElement[] suites= session.getTestRoot().getChildren();
+		assertEquals(2, suites.length);
+		Set<String> ids= new HashSet<>();
+		for (ITestElement suite : suites) {
+			ids.add(((TestSuiteElement) suite).getId());
+			ITestElement[] children= ((TestSuiteElement) suite).getChildren();
+			assertEquals(2, children.length);
+			for (ITestElement child : children) {
+				TestCaseElement test= (TestCaseElement) child;
+				ids.add(test.getId());
+				assertEquals(((TestSuiteElement) suite).getTestName(), test.getClassName());
+				assertNotNull(session.getTestElement(test.getId()));
+			}
+		}
+		assertEquals(6, ids.size());
+		assertEquals(Result.FAILURE, suites[1].getTestResult(true));
+	}
+
+	private static void runShard(int port, String className, boolean fail) throws Exception {
+		try (Socket socket= connect(port);
+				PrintWriter writer= new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+			writer.println(MessageIds.TEST_RUN_START + "2 v2");
+			writer.println(MessageIds.TEST_TREE + "1," + className + ",true,2,false,-1," + className + ",,");
+			writer.println(MessageIds.TEST_TREE + "2,testA(" + className + "),false,1,false,1,testA,,");
+			writer.println(MessageIds.TEST_TREE + "3,testB(" + className + "),false,1,false,1,testB,,");
+			for (int id= 2; id <= 3; id++) {
+				String test= id + "," + (id == 2 ? "testA(" : "testB(") + className + ")";
+				writer.println(MessageIds.TEST_START + test);
+				if (fail && id == 3) {
+					writer.println(MessageIds.TEST_FAILED + test);
+					writer.println(MessageIds.TRACE_START);
+					writer.println("java.lang.AssertionError: failed");
+					writer.println(MessageIds.TRACE_END);
+				}
+				writer.println(MessageIds.TEST_END + test);
+			}
+			writer.println(MessageIds.TEST_RUN_END + "100");
+		}
+	}
+
+	private static Socket connect(int port) throws IOException, InterruptedException {
+		for (int i= 0;; i++) {
+			try {
+				return new Socket("127.0.0.1", port);
+			} catch (ConnectException e) {
+				// the client has not opened its server socket yet
+				if (i == 50)
+					throw e;
+				Thread.sleep(100);
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.JUnitCore;
+import org.eclipse.jdt.junit.TestRunListener;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Table;
+
+import org.eclipse.jface.viewers.TableViewer;
+
+import org.eclipse.ui.IWorkbenchPage;
+
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.ui.JUnitPlugin;
+import org.eclipse.jdt.internal.junit.ui.TestRunnerViewPart;
+
+/**
+ * Tests how often the {@link TestRunnerViewPart} refreshes while tests are running and the values
+ * it reports about the last refresh.
+ */
+public class TestRunnerViewRefreshTest extends AbstractTestRunListenerTest {
+
+	@Test
+	public void testRefreshDelay() throws Exception {
+		// fast refreshes keep the minimal interval, slow ones are throttled up to the maximum
+		assertEquals(200, TestRunnerViewPart.getRefreshDelay(0));
+		assertEquals(200, TestRunnerViewPart.getRefreshDelay(50));
+		assertEquals(400, TestRunnerViewPart.getRefreshDelay(100));
+		assertEquals(2000, TestRunnerViewPart.getRefreshDelay(500));
+		assertEquals(2000, TestRunnerViewPart.getRefreshDelay(1000));
+	}
+
+	@Test
+	public void testRefreshAfterRun() throws Exception {
+		IWorkbenchPage activePage= JUnitPlugin.getActivePage();
+		TestRunnerViewPart testRunnerViewPart= (TestRunnerViewPart)activePage.showView(TestRunnerViewPart.NAME);
+		testRunnerViewPart.setLayoutMode(TestRunnerViewPart.LAYOUT_FLAT); // TableViewer
+
+		StringBuilder source= new StringBuilder();
+		source.append("package pack;\n");
+		source.append("import junit.framework.TestCase;\n");
+		source.append("public class ATestCase extends TestCase {\n");
+		for (int i= 0; i < 20; i++) {
+			source.append("    public void test").append(i).append("() throws Exception {\n");
+			source.append("        Thread.sleep(20);\n");
+			source.append("    }\n");
+		}
+		source.append("}\n");
+		IType aTestCase= createType(source.toString(), "pack", "ATestCase.java");
+
+		TestRunLog log= new TestRunLog();
+		final TestRunListener testRunListener= new TestRunListeners.SequenceTest(log);
+		JUnitCore.addTestRunListener(testRunListener);
+		try {
+			launchJUnit(aTestCase, log);
+		} finally {
+			JUnitCore.removeTestRunListener(testRunListener);
+		}
+		assertFalse(testRunnerViewPart.getTestRunSession().isRunning());
+
+		// the final refresh drains the queue of changed elements
+		boolean drained= new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return testRunnerViewPart.getTestViewer().getPendingUpdateCount() == 0;
+			}
+		}.waitForCondition(Display.getCurrent(), 5 * 1000, 100);
+		assertTrue("pending updates", drained);
+		assertTrue(testRunnerViewPart.getLastRefreshTime() >= 0);
+		assertTrue(testRunnerViewPart.getLastRefreshQueueDepth() >= 0);
+
+		Table table= ((TableViewer)testRunnerViewPart.getTestViewer().getActiveViewer()).getTable();
+		assertEquals(20, table.getItemCount());
+		for (int i= 0; i < table.getItemCount(); i++) {
+			assertTrue(table.getItem(i).getText(), table.getItem(i).getText().startsWith("test"));
+		}
+	}
+}
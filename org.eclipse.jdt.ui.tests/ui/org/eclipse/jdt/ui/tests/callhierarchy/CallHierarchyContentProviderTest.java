@@ -17,6 +17,7 @@ package org.eclipse.jdt.ui.tests.callhierarchy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -35,12 +36,14 @@ import org.eclipse.ui.intro.IIntroPart;
 
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.internal.ui.callhierarchy.CallHierarchyContentProvider;
 import org.eclipse.jdt.internal.ui.callhierarchy.CallHierarchyUI;
+import org.eclipse.jdt.internal.ui.callhierarchy.CallHierarchyViewPart;
 import org.eclipse.jdt.internal.ui.callhierarchy.TreeRoot;
 
 public class CallHierarchyContentProviderTest {
@@ -274,6 +277,35 @@ public class CallHierarchyContentProviderTest {
 				"Wrong number of third level children", 6, thirdLevelChildren.length);
 	}
 
+	/*
+	 * Tests that the callers found in the hierarchy of a view are found again when the hierarchy is
+	 * opened a second time, although the view creates a new search scope.
+	 */
+	@Test
+	public void testCallersCachedAcrossViewInputs() throws Exception {
+		helper.createSimpleClasses();
+		IWorkbenchWindow window= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+		IMember[] input= new IMember[] { helper.getMethod1() };
+		CallHierarchy callHierarchy= CallHierarchy.getDefault();
+
+		CallHierarchyViewPart view= CallHierarchyUI.openView(input, window);
+		assertNotNull(view);
+		try {
+			IJavaSearchScope scope= callHierarchy.getSearchScope();
+			TreeRoot root= wrapCallerRoot(helper.getMethod1());
+			helper.assertCalls(new IMember[] { helper.getMethod2(), helper.getMethod3()}, fProvider.getChildren(fProvider.getChildren(root)[0]));
+			int hitCount= callHierarchy.getCallerCacheHitCount();
+
+			assertNotNull(CallHierarchyUI.openView(input, window));
+			assertNotSame(scope, callHierarchy.getSearchScope());
+			root= wrapCallerRoot(helper.getMethod1());
+			helper.assertCalls(new IMember[] { helper.getMethod2(), helper.getMethod3()}, fProvider.getChildren(fProvider.getChildren(root)[0]));
+			assertTrue("callers not cached", callHierarchy.getCallerCacheHitCount() > hitCount);
+		} finally {
+			window.getActivePage().hideView(view);
+		}
+	}
+
     private void assertCalleeMethodWrapperChildren(Object[] children) {
     	for (Object child : children) {
     		assertTrue("Wrong class returned", child.getClass().getName().endsWith(".CalleeMethodWrapper"));
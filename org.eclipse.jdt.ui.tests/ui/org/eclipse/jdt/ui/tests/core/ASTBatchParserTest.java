@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests the batch sizes chosen by {@link ASTBatchParser} and the values it reports about them.
+ */
+public class ASTBatchParserTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPackage= sourceFolder.createPackageFragment("test1", false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private ICompilationUnit[] createUnits(int count) throws Exception {
+		ICompilationUnit[] result= new ICompilationUnit[count];
+		for (int i= 0; i < count; i++) {
+			String source= "package test1;\npublic class E" + i + " {\n    int f" + i + ";\n}\n";
+			result[i]= fPackage.createCompilationUnit("E" + i + ".java", source, false, null);
+		}
+		return result;
+	}
+
+	private static ASTBatchParser createParser(double heapShare) {
+		return new ASTBatchParser() {
+			@Override
+			protected double getHeapShare() {
+				return heapShare;
+			}
+		};
+	}
+
+	private static Set<ICompilationUnit> createASTs(ASTBatchParser parser, ICompilationUnit[] units) {
+		Set<ICompilationUnit> result= new HashSet<>();
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				result.add(source);
+			}
+		}, null);
+		return result;
+	}
+
+	@Test
+	public void testMinimalBatches() throws Exception {
+		ICompilationUnit[] units= createUnits(25);
+		ASTBatchParser parser= createParser(0);
+
+		// without a heap budget every batch holds the minimal number of units
+		assertEquals(25, createASTs(parser, units).size());
+		assertArrayEquals(new int[] { 10, 10, 5 }, parser.getBatchSizes());
+
+		long[] expectedSourceSizes= new long[3];
+		for (int i= 0; i < units.length; i++) {
+			expectedSourceSizes[i / 10]+= units[i].getSource().length();
+		}
+		assertArrayEquals(expectedSourceSizes, parser.getBatchSourceSizes());
+
+		double heapPerSourceByte= parser.getHeapPerSourceByte();
+		assertTrue(String.valueOf(heapPerSourceByte), heapPerSourceByte >= 20 && heapPerSourceByte <= 1000);
+	}
+
+	@Test
+	public void testSingleBatch() throws Exception {
+		ICompilationUnit[] units= createUnits(25);
+		ASTBatchParser parser= createParser(1);
+
+		assertEquals(25, createASTs(parser, units).size());
+		assertArrayEquals(new int[] { 25 }, parser.getBatchSizes());
+
+		// the values are those of the last run
+		createASTs(parser, new ICompilationUnit[0]);
+		assertEquals(0, parser.getBatchSizes().length);
+		assertEquals(0, parser.getBatchSourceSizes().length);
+	}
+
+	@Test
+	public void testWorkingCopySourceSize() throws Exception {
+		ICompilationUnit unit= createUnits(1)[0];
+		ICompilationUnit workingCopy= unit.getWorkingCopy(null);
+		try {
+			StringBuilder source= new StringBuilder("package test1;\npublic class E0 {\n");
+			for (int i= 0; i < 100; i++) {
+				source.append("    int g").append(i).append(";\n");
+			}
+			source.append("}\n");
+			workingCopy.getBuffer().setContents(source.toString());
+
+			// the unsaved contents are parsed, so they are counted instead of the file
+			ASTBatchParser parser= createParser(1);
+			assertEquals(1, createASTs(parser, new ICompilationUnit[] { workingCopy }).size());
+			assertArrayEquals(new long[] { source.length() }, parser.getBatchSourceSizes());
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+}
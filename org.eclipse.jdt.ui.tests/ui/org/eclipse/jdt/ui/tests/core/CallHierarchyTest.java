@@ -18,6 +18,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,7 +30,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
@@ -513,6 +517,86 @@ public class CallHierarchyTest {
         helper.assertCalls(Arrays.asList(helper.getAbsI1FooMethod(), helper.getAbsI2FooMethod()), secondLevel);
     }
 
+	@Test
+	public void expandCallers() throws Exception {
+		helper.createSimpleClasses();
+
+		MethodWrapper root= getSingleCallerRoot(helper.getMethod1());
+		assertEquals(1, CallHierarchy.getDefault().expand(new MethodWrapper[] { root }, 3, 1, new NullProgressMonitor()));
+		assertTrue(root.hasCachedCalls());
+		MethodWrapper[] calls= root.getCalls(new NullProgressMonitor());
+		helper.assertCalls(Arrays.asList(helper.getMethod2(), helper.getMethod3()), calls);
+		MethodWrapper method3Wrapper= helper.findMethodWrapper(helper.getMethod3(), calls);
+		assertFalse(method3Wrapper.hasCachedCalls());
+
+		root= getSingleCallerRoot(helper.getMethod1());
+		assertTrue(CallHierarchy.getDefault().expand(new MethodWrapper[] { root }, 3, 100, new NullProgressMonitor()) > 1);
+		calls= root.getCalls(new NullProgressMonitor());
+		method3Wrapper= helper.findMethodWrapper(helper.getMethod3(), calls);
+		assertTrue(method3Wrapper.hasCachedCalls());
+		helper.assertCalls(Arrays.asList(helper.getMethod4()), method3Wrapper.getCalls(new NullProgressMonitor()));
+
+		NullProgressMonitor canceled= new NullProgressMonitor();
+		canceled.setCanceled(true);
+		MethodWrapper method4Root= getSingleCallerRoot(helper.getMethod4());
+		try {
+			CallHierarchy.getDefault().expand(new MethodWrapper[] { method4Root }, 3, 100, canceled);
+			fail("expand should be canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void callerCacheInvalidation() throws Exception {
+		helper.createSimpleClasses();
+
+		IMethod method4= helper.getMethod4();
+		helper.assertCalls(new ArrayList<>(), getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()));
+
+		ICompilationUnit cu= method4.getCompilationUnit();
+		IBuffer buffer= cu.getBuffer();
+		String contents= buffer.getContents();
+		int index= contents.lastIndexOf('}');
+		buffer.replace(index, 0, "public void method5() { method4(); }\n");
+		cu.save(null, true);
+
+		Collection<IMember> expectedMethods= new ArrayList<>();
+		expectedMethods.add(method4.getDeclaringType().getMethod("method5", new String[0]));
+		helper.assertCalls(expectedMethods, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()));
+	}
+
+	@Test
+	public void callerCacheReconcile() throws Exception {
+		helper.createSimpleClasses();
+
+		IMethod method4= helper.getMethod4();
+		ICompilationUnit cu= method4.getCompilationUnit();
+		cu.becomeWorkingCopy(null);
+		try {
+			helper.assertCalls(new ArrayList<>(), getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()));
+
+			IBuffer buffer= cu.getBuffer();
+			String contents= buffer.getContents();
+			int index= contents.lastIndexOf('}');
+			buffer.replace(index, 0, "public void method5() { method4(); }\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			// the cached callers are reused, only the reconciled unit is searched again
+			int hitCount= CallHierarchy.getDefault().getCallerCacheHitCount();
+			Collection<IMember> expectedMethods= new ArrayList<>();
+			expectedMethods.add(method4.getDeclaringType().getMethod("method5", new String[0]));
+			helper.assertCalls(expectedMethods, getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()));
+			assertEquals(hitCount + 1, CallHierarchy.getDefault().getCallerCacheHitCount());
+
+			buffer.setContents(contents);
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			helper.assertCalls(new ArrayList<>(), getSingleCallerRoot(method4).getCalls(new NullProgressMonitor()));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
     @Test
     public void record_testGH571_callHierarchyOfComponent() throws Exception {
 		helper.createRecordWithCalleeClasses();
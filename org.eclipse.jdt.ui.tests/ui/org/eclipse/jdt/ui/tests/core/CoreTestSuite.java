@@ -26,6 +26,7 @@ import org.eclipse.jdt.internal.ui.compare.JavaTokenComparatorTest;
 AddImportTest.class,
 SourceActionTests.class,
 ASTNodesInsertTest.class,
+ASTBatchParserTest.class,
 BindingsHierarchyTest.class,
 BindingsNameTest.class,
 CallHierarchyTest.class,
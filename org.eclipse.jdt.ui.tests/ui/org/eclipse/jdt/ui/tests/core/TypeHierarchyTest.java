@@ -14,7 +14,10 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -36,6 +39,8 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache.CacheStatistics;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -86,6 +91,51 @@ public class TypeHierarchyTest {
 		assertNotNull("Type not found", type);
 	}
 
+	@Test
+	public void superTypeHierarchyCache() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+		IType a= pack1.getCompilationUnit("A.java").createType("public class A {\n}\n", null, true, null);
+		IType b= pack1.getCompilationUnit("B.java").createType("public class B extends A {\n}\n", null, true, null);
+		IType c= pack1.getCompilationUnit("C.java").createType("public class C {\n}\n", null, true, null);
+		IType d= pack1.getCompilationUnit("D.java").createType("public class D {\n}\n", null, true, null);
+
+		int capacity= SuperTypeHierarchyCache.getCapacity();
+		long idleTimeout= SuperTypeHierarchyCache.getIdleTimeout();
+		try {
+			SuperTypeHierarchyCache.setIdleTimeout(0);
+			SuperTypeHierarchyCache.setCapacity(5);
+			SuperTypeHierarchyCache.resetStatistics();
+
+			// B, A and Object
+			ITypeHierarchy hierarchyB= SuperTypeHierarchyCache.getTypeHierarchy(b);
+			assertSame(hierarchyB, SuperTypeHierarchyCache.getTypeHierarchy(a));
+			// C and Object
+			SuperTypeHierarchyCache.getTypeHierarchy(c);
+			CacheStatistics statistics= SuperTypeHierarchyCache.getStatistics();
+			assertEquals(1, statistics.getHits());
+			assertEquals(2, statistics.getMisses());
+			assertTrue(statistics.getWeight() <= 5);
+
+			// D and Object exceed the capacity, the least recently used hierarchy of B is evicted
+			SuperTypeHierarchyCache.getTypeHierarchy(d);
+			assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+			assertTrue(SuperTypeHierarchyCache.hasInCache(c));
+			assertTrue(SuperTypeHierarchyCache.hasInCache(d));
+			statistics= SuperTypeHierarchyCache.getStatistics();
+			assertTrue(statistics.getEvictions() >= 1);
+			assertTrue(statistics.getWeight() <= 5);
+
+			SuperTypeHierarchyCache.setIdleTimeout(1);
+			Thread.sleep(10);
+			assertFalse(SuperTypeHierarchyCache.hasInCache(c));
+			assertTrue(SuperTypeHierarchyCache.getStatistics().getIdleEvictions() >= 1);
+		} finally {
+			SuperTypeHierarchyCache.setIdleTimeout(idleTimeout);
+			SuperTypeHierarchyCache.setCapacity(capacity);
+		}
+	}
+
 	@Test
 	public void hierarchyWithWorkingCopy1() throws Exception {
 
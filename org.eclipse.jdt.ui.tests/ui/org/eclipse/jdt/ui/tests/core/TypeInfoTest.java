@@ -21,7 +21,10 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -49,6 +52,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -223,6 +227,73 @@ public class TypeInfoTest {
 		assertNotEquals(type1, type2);
 	}
 
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		JavaProjectHelper.addSourceContainerWithImport(fJProject2, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("com.oti", true, null);
+		ICompilationUnit cu1= pack1.getCompilationUnit("V.java");
+		cu1.createType("public class V {\n static class VInner {\n}\n}\n", null, true, null);
+
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		index.update(null);
+		assertTrue("index not ready", index.isReady());
+
+		IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+		String[] patterns= { "V", "vec", "VI", "TC", "TeCa", "TestCase<", "Vector ", "*Listener", "Te?t", "java.util.Ve", "" };
+		for (String pattern : patterns) {
+			TypeInfoFilter filter= new TypeInfoFilter(pattern, scope, IJavaSearchConstants.TYPE, null);
+			Set<String> expected= searchWithEngine(filter);
+			Set<String> actual= searchWithIndex(index, filter);
+			// camel case patterns also match by prefix, which the search engine does not do
+			if (filter.isCamelCasePattern())
+				assertTrue(pattern, actual.containsAll(expected));
+			else
+				assertEquals(pattern, expected, actual);
+		}
+		TypeInfoFilter vi= new TypeInfoFilter("VI", scope, IJavaSearchConstants.TYPE, null);
+		assertTrue(searchWithIndex(index, vi).contains("com.oti.V.VInner"));
+
+		cu1.getType("V").getType("VInner").rename("VRenamed", true, null);
+		index.update(null);
+		TypeInfoFilter filter= new TypeInfoFilter("VR", scope, IJavaSearchConstants.TYPE, null);
+		assertEquals(Collections.singleton("com.oti.V.VRenamed"), searchWithIndex(index, filter));
+		filter= new TypeInfoFilter("VInner", scope, IJavaSearchConstants.TYPE, null);
+		assertEquals(Collections.emptySet(), searchWithIndex(index, filter));
+	}
+
+	private Set<String> searchWithEngine(TypeInfoFilter filter) throws Exception {
+		ArrayList<TypeNameMatch> result= new ArrayList<>();
+		String packPattern= filter.getPackagePattern();
+		new SearchEngine().searchAllTypeNames(
+			packPattern == null ? null : packPattern.toCharArray(),
+			filter.getPackageFlags(),
+			filter.getNamePattern().toCharArray(),
+			filter.getSearchFlags(),
+			IJavaSearchConstants.TYPE,
+			filter.getSearchScope(),
+			new TypeNameMatchCollector(result),
+			IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+			null);
+		return getMatchingNames(filter, result);
+	}
+
+	private Set<String> searchWithIndex(TypeNameIndex index, TypeInfoFilter filter) {
+		ArrayList<TypeNameMatch> result= new ArrayList<>();
+		index.searchAllTypeNames(filter.getNamePattern(), filter.getSearchFlags(), new TypeNameMatchCollector(result), null);
+		return getMatchingNames(filter, result);
+	}
+
+	private Set<String> getMatchingNames(TypeInfoFilter filter, List<TypeNameMatch> matches) {
+		Set<String> result= new HashSet<>();
+		for (TypeNameMatch match : matches) {
+			if (filter.matchesHistoryElement(match))
+				result.add(match.getFullyQualifiedName());
+		}
+		return result;
+	}
+
 	@Test
 	public void testSimplifySearchText() {
 		// simple filename:
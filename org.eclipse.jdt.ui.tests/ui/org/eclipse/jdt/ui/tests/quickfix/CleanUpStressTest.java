@@ -16,12 +16,16 @@
 package org.eclipse.jdt.ui.tests.quickfix;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -30,12 +34,15 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -45,10 +52,13 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class CleanUpStressTest extends CleanUpTestCase {
 
 	@Rule
@@ -5315,6 +5325,68 @@ public class CleanUpStressTest extends CleanUpTestCase {
 		}
 	}
 
+	@Test
+	public void testCleanUpsInParallel() throws Exception {
+		List<IJavaElement> cus= new ArrayList<>();
+		addAllCUs(getProject().getChildren(), cus);
+
+		// only clean ups that can create fixes concurrently, see AbstractCleanUp#canCreateFixesConcurrently()
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_STATIC_QUALIFY_WITH_DECLARING_CLASS_METHOD);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_CONVERT_FOR_LOOP_TO_ENHANCED);
+
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_MEMBERS);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_METHODS);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_LOCAL_VARIABLES);
+
+		enable(CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL);
+		enable(CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL_LOCAL_VARIABLES);
+
+		enable(CleanUpConstants.REMOVE_REDUNDANT_MODIFIERS);
+		enable(CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS);
+
+		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
+		Map<ICompilationUnit, String> original= new HashMap<>();
+		for (ICompilationUnit cu : units) {
+			original.put(cu, cu.getBuffer().getContents());
+		}
+
+		CleanUpRefactoring sequential= new CleanUpRefactoring();
+		sequential.setUseOptionsFromProfile(true);
+		sequential.setParallelism(1);
+		performRefactoring(sequential, units, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+		assertEquals(0, sequential.getConcurrentlyFixedCount());
+
+		Map<ICompilationUnit, String> expected= new HashMap<>();
+		for (ICompilationUnit cu : units) {
+			expected.put(cu, cu.getBuffer().getContents());
+		}
+		assertNotEquals(original, expected);
+
+		RefactoringCore.getUndoManager().performUndo(null, new NullProgressMonitor());
+		for (ICompilationUnit cu : units) {
+			assertEquals(original.get(cu), cu.getBuffer().getContents());
+		}
+
+		CleanUpRefactoring parallel= new CleanUpRefactoring();
+		parallel.setUseOptionsFromProfile(true);
+		parallel.setParallelism(4);
+		performRefactoring(parallel, units, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+		assertTrue(parallel.getConcurrentlyFixedCount() > 0);
+
+		for (ICompilationUnit cu : units) {
+			assertEquals("Content not as expected for " + getCompilationUnitName(cu), expected.get(cu), cu.getBuffer().getContents());
+		}
+	}
+
 	private static String getCompilationUnitName(ICompilationUnit cu) {
 		StringBuffer result= new StringBuffer();
 		JavaElementLabels.getCompilationUnitLabel(cu, JavaElementLabels.CU_QUALIFIED, result);
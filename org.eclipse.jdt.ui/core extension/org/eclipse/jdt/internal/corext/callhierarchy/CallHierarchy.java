@@ -20,6 +20,8 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jdt.core.IJavaElement;
@@ -110,6 +112,22 @@ public class CallHierarchy {
         fgCallHierarchyCore.setSearchScope(searchScope);
     }
 
+    public void setSearchScope(IJavaSearchScope searchScope, String searchScopeKey) {
+        fgCallHierarchyCore.setSearchScope(searchScope, searchScopeKey);
+    }
+
+    public int expand(MethodWrapper[] wrappers, int maxDepth, int maxNodes, IProgressMonitor monitor) {
+        return fgCallHierarchyCore.expand(wrappers, maxDepth, maxNodes, monitor);
+    }
+
+    public void clearCallerCache() {
+        fgCallHierarchyCore.clearCallerCache();
+    }
+
+    public int getCallerCacheHitCount() {
+        return fgCallHierarchyCore.getCallerCacheHitCount();
+    }
+
     /**
      * Checks whether the fully qualified name is ignored by the set filters.
      *
@@ -13,17 +13,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.dom;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Hashtable;
 import java.util.List;
 
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.IBinding;
@@ -34,21 +41,54 @@ import org.eclipse.jdt.internal.ui.util.Progress;
  * Creates AST from a set of compilation units. Uses the
  * batch parser. Splits the set of compilation units in subsets
  * such that it is unlikely that a out of memory exception will occur.
+ * <p>
+ * The size of each subset is derived from the estimated source size of the
+ * compilation units and the heap that is currently available. After every
+ * batch, the estimate of heap used per source byte is adjusted based on the
+ * time spent in garbage collection while parsing the batch. The sizes of the
+ * batches of the last run are available through {@link #getBatchSizes()} and
+ * {@link #getBatchSourceSizes()}.
+ * </p>
  *
  * @since 3.4
  */
 public class ASTBatchParser {
 
-	private static final int MAX_AT_ONCE;
-	static {
-		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+	/**
+	 * Minimal and maximal number of compilation units parsed at once.
+	 */
+	private static final int MIN_AT_ONCE= 10;
+	private static final int MAX_AT_ONCE= 2000;
 
-		if      (maxMemory >= 2000) MAX_AT_ONCE= 400;
-		else if (maxMemory >= 1500) MAX_AT_ONCE= 300;
-		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
-		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
-		else                        MAX_AT_ONCE=  25;
-	}
+	/**
+	 * Initial, minimal and maximal estimate of heap bytes needed per source byte
+	 * when creating ASTs with bindings.
+	 */
+	private static final double INITIAL_HEAP_PER_SOURCE_BYTE= 60;
+	private static final double MIN_HEAP_PER_SOURCE_BYTE= 20;
+	private static final double MAX_HEAP_PER_SOURCE_BYTE= 1000;
+
+	/**
+	 * Share of the available heap a single batch may use.
+	 */
+	private static final double HEAP_SHARE= 0.4;
+
+	/**
+	 * A batch that spent more than <code>HIGH_GC_PRESSURE</code> of its time in
+	 * garbage collection shrinks the next batches, one with less than
+	 * <code>LOW_GC_PRESSURE</code> grows them.
+	 */
+	private static final double HIGH_GC_PRESSURE= 0.2;
+	private static final double LOW_GC_PRESSURE= 0.05;
+
+	/**
+	 * Assumed size of a compilation unit whose size cannot be determined.
+	 */
+	private static final long DEFAULT_SOURCE_SIZE= 8 * 1024;
+
+	private double fHeapPerSourceByte= INITIAL_HEAP_PER_SOURCE_BYTE;
+	private final List<Integer> fBatchSizes= new ArrayList<>();
+	private final List<Long> fBatchSourceSizes= new ArrayList<>();
 
 	/**
 	 * Creates ASTs for each compilation unit in <code>units</code>.
@@ -69,6 +109,8 @@ public class ASTBatchParser {
 	 * @see ASTParser#createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)
 	 */
 	public final void createASTs(ICompilationUnit[] compilationUnits, String[] bindingKeys, ASTRequestor requestor, IProgressMonitor monitor) {
+		fBatchSizes.clear();
+		fBatchSourceSizes.clear();
 		if (compilationUnits.length == 0)
 			return;
 
@@ -79,20 +121,29 @@ public class ASTBatchParser {
 		try {
 
 			for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
-				if (units.length <= MAX_AT_ONCE) {
-					createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, Progress.subMonitor(monitor, units.length));
-				} else {
-					List<ICompilationUnit> list= Arrays.asList(units);
-					int end= 0;
-					int cursor= 0;
-					while (cursor < units.length) {
-						end= Math.min(end + MAX_AT_ONCE, units.length);
-						List<ICompilationUnit> toParse= list.subList(cursor, end);
-
-						createParser(units[0].getJavaProject()).createASTs(toParse.toArray(new ICompilationUnit[toParse.size()]), bindingKeys, requestor,
-							Progress.subMonitor(monitor, toParse.size()));
-						cursor= end;
+				long[] sourceSizes= new long[units.length];
+				for (int i= 0; i < units.length; i++) {
+					sourceSizes[i]= estimateSourceSize(units[i]);
+				}
+
+				int cursor= 0;
+				while (cursor < units.length) {
+					int end= computeBatchEnd(sourceSizes, cursor);
+					ICompilationUnit[] toParse= cursor == 0 && end == units.length ? units : Arrays.copyOfRange(units, cursor, end);
+
+					long batchSourceSize= 0;
+					for (int i= cursor; i < end; i++) {
+						batchSourceSize+= sourceSizes[i];
 					}
+					fBatchSizes.add(Integer.valueOf(toParse.length));
+					fBatchSourceSizes.add(Long.valueOf(batchSourceSize));
+
+					long gcTimeBefore= getGarbageCollectionTime();
+					long timeBefore= System.currentTimeMillis();
+					createParser(units[0].getJavaProject()).createASTs(toParse, bindingKeys, requestor, Progress.subMonitor(monitor, toParse.length));
+					adjustHeapEstimate(getGarbageCollectionTime() - gcTimeBefore, System.currentTimeMillis() - timeBefore);
+
+					cursor= end;
 				}
 			}
 		} finally {
@@ -100,6 +151,115 @@ public class ASTBatchParser {
 		}
 	}
 
+	/**
+	 * Returns the number of compilation units of each batch passed to the parser
+	 * during the last call to {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}.
+	 *
+	 * @return the batch sizes, in the order the batches were parsed
+	 */
+	public int[] getBatchSizes() {
+		int[] result= new int[fBatchSizes.size()];
+		for (int i= 0; i < result.length; i++) {
+			result[i]= fBatchSizes.get(i).intValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the estimated source size in bytes of each batch passed to the parser
+	 * during the last call to {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}.
+	 *
+	 * @return the source sizes of the batches, in the order the batches were parsed
+	 */
+	public long[] getBatchSourceSizes() {
+		long[] result= new long[fBatchSourceSizes.size()];
+		for (int i= 0; i < result.length; i++) {
+			result[i]= fBatchSourceSizes.get(i).longValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the current estimate of heap bytes used per byte of source while parsing.
+	 *
+	 * @return the heap estimate per source byte
+	 */
+	public double getHeapPerSourceByte() {
+		return fHeapPerSourceByte;
+	}
+
+	/**
+	 * Returns the share of the available heap a single batch may use.
+	 * <p>
+	 * Subclasses may override, e.g. if several parsers run concurrently.
+	 * </p>
+	 *
+	 * @return the share of the available heap, between <code>0</code> and <code>1</code>
+	 */
+	protected double getHeapShare() {
+		return HEAP_SHARE;
+	}
+
+	private int computeBatchEnd(long[] sourceSizes, int start) {
+		Runtime runtime= Runtime.getRuntime();
+		long availableHeap= runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+		long budget= (long) (availableHeap * getHeapShare() / fHeapPerSourceByte);
+
+		int end= start;
+		long batchSize= 0;
+		int max= Math.min(sourceSizes.length, start + MAX_AT_ONCE);
+		while (end < max && (end - start < MIN_AT_ONCE || batchSize + sourceSizes[end] <= budget)) {
+			batchSize+= sourceSizes[end];
+			end++;
+		}
+		return end;
+	}
+
+	private void adjustHeapEstimate(long gcTime, long elapsedTime) {
+		if (gcTime < 0 || elapsedTime <= 0)
+			return;
+
+		double gcPressure= (double) gcTime / elapsedTime;
+		if (gcPressure > HIGH_GC_PRESSURE) {
+			fHeapPerSourceByte= Math.min(MAX_HEAP_PER_SOURCE_BYTE, fHeapPerSourceByte * 2);
+		} else if (gcPressure < LOW_GC_PRESSURE) {
+			fHeapPerSourceByte= Math.max(MIN_HEAP_PER_SOURCE_BYTE, fHeapPerSourceByte * 0.8);
+		}
+	}
+
+	private static long getGarbageCollectionTime() {
+		long result= 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			long time= bean.getCollectionTime();
+			if (time > 0)
+				result+= time;
+		}
+		return result;
+	}
+
+	private static long estimateSourceSize(ICompilationUnit unit) {
+		if (unit.isWorkingCopy()) {
+			// the parser reads the buffer, which may differ from the file
+			try {
+				IBuffer buffer= unit.getBuffer();
+				if (buffer != null && buffer.getLength() > 0)
+					return buffer.getLength();
+			} catch (JavaModelException e) {
+				// use the file
+			}
+		}
+		IResource resource= unit.getResource();
+		if (resource != null) {
+			IPath location= resource.getLocation();
+			if (location != null) {
+				long length= location.toFile().length();
+				if (length > 0)
+					return length;
+			}
+		}
+		return DEFAULT_SOURCE_SIZE;
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
@@ -14,11 +14,18 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -87,6 +94,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -239,12 +247,34 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return fIndex + fFlushCount;
 		}
 
+		public void advance(int count) {
+			fFlushCount+= count;
+		}
+
 		public String getSubTaskMessage(ICompilationUnit source) {
 			String typeName= BasicElementLabels.getFileName(source);
 			return Messages.format(FixMessages.CleanUpRefactoring_ProcessingCompilationUnit_message, new Object[] {Integer.valueOf(getIndex()), Integer.valueOf(fSize), typeName});
 		}
 	}
 
+	/**
+	 * Progress monitor handed to the workers computing fixes in parallel. Progress is not
+	 * reported through it, but cancellation of the main monitor is honored.
+	 */
+	private final static class WorkerProgressMonitor extends NullProgressMonitor {
+
+		private final IProgressMonitor fMainMonitor;
+
+		private WorkerProgressMonitor(IProgressMonitor mainMonitor) {
+			fMainMonitor= mainMonitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fMainMonitor.isCanceled();
+		}
+	}
+
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
 		private final List<ParseListElement> fUndoneElements;
@@ -328,17 +358,31 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
+		private final Set<ICompilationUnit> fTargetUnits; // primary compilation units in the order of the targets
 		private final Map<String, String> fCleanUpOptions;
+		private final ExecutorService fExecutor;
 		private final int fSize;
 		private int fIndex;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
+			fTargetUnits= new LinkedHashSet<>(targets.length);
 
 			fParseList= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
 				fParseList.add(new ParseListElement(target, cleanUps));
+				fTargetUnits.add(target.getCompilationUnit().getPrimary());
+			}
+
+			if (fParallelism > 1 && targets.length > 1 && canCreateFixesConcurrently(cleanUps)) {
+				fExecutor= Executors.newFixedThreadPool(Math.min(fParallelism, targets.length), runnable -> {
+					Thread thread= new Thread(runnable, "Clean Up Worker"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+			} else {
+				fExecutor= null;
 			}
 
 			fCleanUpOptions= new Hashtable<>();
@@ -382,24 +426,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				List<ParseListElement> undoneElements= new ArrayList<>();
 				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
+					ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
+					if (fExecutor != null && units.length > 1) {
+						undoneElements.addAll(calculateSolutionsInParallel(units, cuMonitor));
+					} else {
+						try {
+							createBatchParser(1).createASTs(units, new String[0], requestor, cuMonitor);
+						} catch (FixCalculationException e) {
+							throw e.getException();
 						}
-					};
-					try {
-						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
-					} catch (FixCalculationException e) {
-						throw e.getException();
 					}
 				}
 
@@ -412,13 +449,106 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 						throw new OperationCanceledException();
 				}
 
-				fParseList= requestor.getUndoneElements();
+				undoneElements.addAll(requestor.getUndoneElements());
+				fParseList= undoneElements;
 				fIndex= cuMonitor.getIndex();
 			} finally {
 			}
 		}
 
+		/**
+		 * @param workerCount the number of parsers that run at the same time
+		 * @return the parser for one worker
+		 */
+		private ASTBatchParser createBatchParser(int workerCount) {
+			return new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					options.putAll(fCleanUpOptions);
+					result.setCompilerOptions(options);
+					return result;
+				}
+
+				@Override
+				protected double getHeapShare() {
+					// parsers of all workers share the heap
+					return super.getHeapShare() / workerCount;
+				}
+			};
+		}
+
+		/**
+		 * Splits <code>units</code> into contiguous partitions and computes the fixes of each
+		 * partition on a worker thread. Every compilation unit belongs to exactly one partition,
+		 * hence the solutions of a unit are still computed and recorded in order by a single
+		 * thread. The undone elements are returned in partition order, which is the order the
+		 * sequential run would produce.
+		 *
+		 * @param units the compilation units to parse and fix
+		 * @param cuMonitor the monitor to report the completed partitions to
+		 * @return the elements with clean ups that need to be applied in another iteration
+		 * @throws CoreException if a fix could not be calculated
+		 */
+		private List<ParseListElement> calculateSolutionsInParallel(ICompilationUnit[] units, CleanUpRefactoringProgressMonitor cuMonitor) throws CoreException {
+			int partitionCount= Math.min(fParallelism, units.length);
+			int partitionSize= (units.length + partitionCount - 1) / partitionCount;
+			int workerCount= (units.length + partitionSize - 1) / partitionSize;
+
+			cuMonitor.beginTask("", units.length); //$NON-NLS-1$
+			List<Future<CleanUpASTRequestor>> futures= new ArrayList<>(partitionCount);
+			List<CleanUpRefactoringProgressMonitor> workerMonitors= new ArrayList<>(partitionCount);
+			try {
+				for (int start= 0; start < units.length; start+= partitionSize) {
+					int end= Math.min(start + partitionSize, units.length);
+					ICompilationUnit[] partition= new ICompilationUnit[end - start];
+					System.arraycopy(units, start, partition, 0, partition.length);
+
+					CleanUpRefactoringProgressMonitor workerMonitor= new CleanUpRefactoringProgressMonitor(new WorkerProgressMonitor(cuMonitor), partition.length, fSize, fIndex + start);
+					CleanUpASTRequestor workerRequestor= new CleanUpASTRequestor(fParseList, fSolutions, workerMonitor);
+					workerMonitors.add(workerMonitor);
+					futures.add(fExecutor.submit(() -> {
+						createBatchParser(workerCount).createASTs(partition, new String[0], workerRequestor, workerMonitor);
+						return workerRequestor;
+					}));
+				}
+
+				List<ParseListElement> result= new ArrayList<>();
+				for (int i= 0; i < futures.size(); i++) {
+					result.addAll(futures.get(i).get().getUndoneElements());
+
+					CleanUpRefactoringProgressMonitor workerMonitor= workerMonitors.get(i);
+					cuMonitor.worked(Math.min(partitionSize, units.length - i * partitionSize));
+					cuMonitor.advance(workerMonitor.getIndex() - (fIndex + i * partitionSize));
+				}
+				fConcurrentlyFixedCount+= units.length;
+				return result;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof FixCalculationException)
+					throw ((FixCalculationException) cause).getException();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+			} finally {
+				for (Future<CleanUpASTRequestor> future : futures) {
+					future.cancel(true);
+				}
+			}
+		}
+
 		public void dispose() {
+			if (fExecutor != null) {
+				fExecutor.shutdownNow();
+			}
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
 					cu.discardWorkingCopy();
@@ -429,6 +559,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			fWorkingCopies.clear();
 		}
 
+		private boolean canCreateFixesConcurrently(ICleanUp[] cleanUps) {
+			for (ICleanUp cleanUp : cleanUps) {
+				if (!(cleanUp instanceof AbstractCleanUp) || !((AbstractCleanUp) cleanUp).canCreateFixesConcurrently())
+					return false;
+			}
+			return true;
+		}
+
 		private boolean requiresAST(ICleanUp[] cleanUps) {
 			for (ICleanUp cleanUp : cleanUps) {
 				if (cleanUp.getRequirements().requiresAST()) {
@@ -442,9 +580,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			for (ICompilationUnit unit : fTargetUnits) {
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null)
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -469,6 +608,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				i++;
 			}
 
+			if (i < result.length)
+				return Arrays.copyOf(result, i);
 			return result;
 		}
 
@@ -502,6 +643,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Default number of worker threads used to compute fixes, can be set with the system property
+	 * <code>org.eclipse.jdt.ui.cleanup.parallelism</code>.
+	 */
+	private static final int DEFAULT_PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.cleanup.parallelism", 1).intValue()); //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -509,6 +656,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private int fParallelism;
+	private int fConcurrentlyFixedCount;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -519,12 +668,41 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= DEFAULT_PARALLELISM;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of threads used to parse and fix the compilation units of a project. With
+	 * a value greater than one the targets of a project are split into contiguous partitions which
+	 * are processed concurrently. The resulting change is the same as the one computed
+	 * sequentially. Fixes are only computed concurrently if every clean up is an
+	 * {@link AbstractCleanUp} that {@link AbstractCleanUp#canCreateFixesConcurrently() can create
+	 * fixes concurrently}, since other clean ups may keep state between calls to
+	 * {@link ICleanUp#createFix(CleanUpContext)}.
+	 *
+	 * @param parallelism the number of worker threads, <code>1</code> to compute the fixes on the
+	 *            calling thread
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= Math.max(1, parallelism);
+	}
+
+	public int getParallelism() {
+		return fParallelism;
+	}
+
+	/**
+	 * @return the number of compilation units whose fixes were computed on worker threads by the
+	 *         last {@link #checkFinalConditions(IProgressMonitor)}
+	 */
+	public int getConcurrentlyFixedCount() {
+		return fConcurrentlyFixedCount;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -610,6 +788,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		if (pm == null)
 			pm= new NullProgressMonitor();
 
+		fConcurrentlyFixedCount= 0;
 		if (fProjects.isEmpty() || fCleanUps.isEmpty()) {
 			pm.beginTask("", 1); //$NON-NLS-1$
 			pm.worked(1);
@@ -0,0 +1,923 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * A compact index of the simple names of all types in the workspace, used by the Open Type dialog
+ * to find the candidates for a name pattern without asking the search engine.
+ * <p>
+ * The index is split into one segment per package fragment root. A segment stores its entries
+ * (simple name, camel case key, modifiers and handle identifier relative to the root) together
+ * with two sorted offset tables, one by case folded name for prefix lookups and one by camel case
+ * key for camel case lookups. Segments are stored in a binary file in the plug-in's state location
+ * which is memory mapped on startup, so the index is usable without reading or decoding all
+ * entries. A segment is only reused if the time stamp of its root did not change. Segments that
+ * contain types of working copies with unsaved changes get no time stamp and are not saved, since
+ * the time stamps only cover the contents on disk.
+ * </p>
+ * <p>
+ * The index is kept up to date from Java element deltas by a background job. Clients must check
+ * {@link #isReady()} before querying and fall back to the search engine otherwise. The index only
+ * narrows down the candidates: every type that matches a pattern is reported, but not every type
+ * reported matches the pattern.
+ * </p>
+ */
+public class TypeNameIndex {
+
+	private class IndexDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	private class UpdateJob extends Job {
+		public UpdateJob() {
+			super(CorextMessages.TypeNameIndex_update);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				update(monitor);
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * An entry of the index as long as it is not encoded into a segment.
+	 */
+	private static class Entry {
+		final String fName;
+		final String fCamelKey;
+		final String fFoldedName;
+		final String fSuffix;
+		final int fModifiers;
+
+		Entry(String name, String suffix, int modifiers) {
+			fName= name;
+			fCamelKey= camelKey(name);
+			fFoldedName= fold(name);
+			fSuffix= suffix;
+			fModifiers= modifiers;
+		}
+	}
+
+	/**
+	 * The immutable entries of one package fragment root. The segment is laid out as follows:
+	 *
+	 * <pre>
+	 * int count
+	 * int[count] entry offsets sorted by case folded name
+	 * int[count] entry offsets sorted by camel case key
+	 * entries: int modifiers, string name, string camel case key, string handle suffix
+	 * </pre>
+	 *
+	 * Strings are stored as their length in chars followed by the chars.
+	 */
+	private static class Segment {
+		final String fKey;
+		final String fRootHandle;
+		final long fStamp;
+		final ByteBuffer fBuffer;
+
+		Segment(String key, String rootHandle, long stamp, ByteBuffer buffer) {
+			fKey= key;
+			fRootHandle= rootHandle;
+			fStamp= stamp;
+			fBuffer= buffer;
+		}
+
+		int size() {
+			return fBuffer.getInt(0);
+		}
+
+		int entryByName(int index) {
+			return fBuffer.getInt(4 + 4 * index);
+		}
+
+		int entryByCamelKey(int index) {
+			return fBuffer.getInt(4 + 4 * (size() + index));
+		}
+
+		int getModifiers(int entry) {
+			return fBuffer.getInt(entry);
+		}
+
+		int nameOffset(int entry) {
+			return entry + 4;
+		}
+
+		int camelKeyOffset(int entry) {
+			return skipString(nameOffset(entry));
+		}
+
+		int suffixOffset(int entry) {
+			return skipString(camelKeyOffset(entry));
+		}
+
+		private int skipString(int offset) {
+			return offset + 2 + 2 * fBuffer.getChar(offset);
+		}
+
+		String getString(int offset) {
+			int length= fBuffer.getChar(offset);
+			char[] chars= new char[length];
+			for (int i= 0; i < length; i++) {
+				chars[i]= fBuffer.getChar(offset + 2 + 2 * i);
+			}
+			return new String(chars);
+		}
+
+		/**
+		 * Compares the string at the given offset, cut to the length of the prefix, with the
+		 * prefix.
+		 *
+		 * @param offset the offset of the string in the segment
+		 * @param prefix the prefix, case folded if <code>folded</code> is set
+		 * @param folded whether the string is compared case folded
+		 * @return zero if the string starts with the prefix, a negative value if it is smaller and
+		 *         a positive value if it is greater
+		 */
+		int comparePrefix(int offset, String prefix, boolean folded) {
+			int length= fBuffer.getChar(offset);
+			int prefixLength= prefix.length();
+			int n= Math.min(length, prefixLength);
+			for (int i= 0; i < n; i++) {
+				char c= fBuffer.getChar(offset + 2 + 2 * i);
+				if (folded) {
+					c= fold(c);
+				}
+				int diff= c - prefix.charAt(i);
+				if (diff != 0) {
+					return diff;
+				}
+			}
+			return length < prefixLength ? -1 : 0;
+		}
+
+		List<Entry> getEntries() {
+			int size= size();
+			List<Entry> result= new ArrayList<>(size);
+			for (int i= 0; i < size; i++) {
+				int entry= entryByName(i);
+				result.add(new Entry(getString(nameOffset(entry)), getString(suffixOffset(entry)), getModifiers(entry)));
+			}
+			return result;
+		}
+	}
+
+	private static final String FILENAME= "TypeNameIndex.bin"; //$NON-NLS-1$
+	private static final String TMP_SUFFIX= ".tmp"; //$NON-NLS-1$
+	private static final int MAGIC= 0x4A544E49;
+	private static final int VERSION= 1;
+	private static final long UPDATE_DELAY= 200;
+
+	private static final boolean ENABLED= Boolean.parseBoolean(System.getProperty("org.eclipse.jdt.ui.typeNameIndex", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static TypeNameIndex fgInstance;
+
+	// Replaced as a whole by the update job, so queries never see a partial update.
+	private volatile Map<String, Segment> fSegments= Collections.emptyMap();
+	private volatile boolean fReady;
+
+	// Guarded by this.
+	private final Map<String, IPackageFragmentRoot> fStaleRoots= new HashMap<>();
+	private final Set<String> fStaleUnits= new LinkedHashSet<>();
+	private boolean fRootsChanged= true;
+
+	private final Object fUpdateLock= new Object();
+	private boolean fLoaded;
+
+	private final IElementChangedListener fDeltaListener;
+	private final UpdateJob fUpdateJob;
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		fgInstance.doShutdown();
+	}
+
+	private TypeNameIndex() {
+		fUpdateJob= new UpdateJob();
+		fUpdateJob.setPriority(Job.LONG);
+		fUpdateJob.setSystem(true);
+		if (ENABLED) {
+			fDeltaListener= new IndexDeltaListener();
+			JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			fUpdateJob.schedule();
+		} else {
+			fDeltaListener= null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the index reflects the current state of the workspace and can
+	 *         be queried
+	 */
+	public boolean isReady() {
+		return fReady;
+	}
+
+	/**
+	 * Reports all types of the index whose simple name may match the given pattern. Callers must
+	 * filter the reported types by the pattern, the package and the scope they are interested in.
+	 *
+	 * @param namePattern the simple name pattern as used by
+	 *            {@link org.eclipse.jdt.internal.ui.util.PatternMatcher}
+	 * @param matchRule the match kind of the pattern, one of the <code>R_*_MATCH</code> constants
+	 *            of {@link SearchPattern}
+	 * @param requestor the requestor to report the candidates to
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	public void searchAllTypeNames(String namePattern, int matchRule, TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+		for (Segment segment : fSegments.values()) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			switch (matchRule) {
+				case SearchPattern.R_PATTERN_MATCH:
+					reportByName(segment, fold(getLiteralPrefix(namePattern)), requestor);
+					break;
+				case SearchPattern.R_CAMELCASE_MATCH:
+					// camel case matches and the prefix matches used as fall back
+					String folded= fold(namePattern);
+					reportByName(segment, folded, requestor);
+					reportByCamelKey(segment, camelKey(namePattern), folded, requestor);
+					break;
+				case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH:
+					reportByCamelKey(segment, camelKey(namePattern), null, requestor);
+					break;
+				default:
+					reportByName(segment, fold(namePattern), requestor);
+			}
+		}
+	}
+
+	private static void reportByName(Segment segment, String foldedPrefix, TypeNameMatchRequestor requestor) {
+		int size= segment.size();
+		int start= lowerBound(segment, false, foldedPrefix, 0, size);
+		for (int i= start; i < size; i++) {
+			int entry= segment.entryByName(i);
+			if (segment.comparePrefix(segment.nameOffset(entry), foldedPrefix, true) != 0)
+				break;
+			report(segment, entry, requestor);
+		}
+	}
+
+	private static void reportByCamelKey(Segment segment, String camelKey, String reportedPrefix, TypeNameMatchRequestor requestor) {
+		int size= segment.size();
+		int start= lowerBound(segment, true, camelKey, 0, size);
+		for (int i= start; i < size; i++) {
+			int entry= segment.entryByCamelKey(i);
+			if (segment.comparePrefix(segment.camelKeyOffset(entry), camelKey, false) != 0)
+				break;
+			if (reportedPrefix != null && segment.comparePrefix(segment.nameOffset(entry), reportedPrefix, true) == 0)
+				continue;
+			report(segment, entry, requestor);
+		}
+	}
+
+	/*
+	 * Returns the first index in the given range whose string is not smaller than the prefix.
+	 */
+	private static int lowerBound(Segment segment, boolean byCamelKey, String prefix, int from, int to) {
+		int low= from;
+		int high= to;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			int cmp;
+			if (byCamelKey) {
+				cmp= segment.comparePrefix(segment.camelKeyOffset(segment.entryByCamelKey(mid)), prefix, false);
+			} else {
+				cmp= segment.comparePrefix(segment.nameOffset(segment.entryByName(mid)), prefix, true);
+			}
+			if (cmp < 0) {
+				low= mid + 1;
+			} else {
+				high= mid;
+			}
+		}
+		return low;
+	}
+
+	private static void report(Segment segment, int entry, TypeNameMatchRequestor requestor) {
+		IJavaElement element= JavaCore.create(segment.fRootHandle + segment.getString(segment.suffixOffset(entry)));
+		if (element instanceof IType) {
+			requestor.acceptTypeNameMatch(SearchEngine.createTypeNameMatch((IType) element, segment.getModifiers(entry)));
+		}
+	}
+
+	private static String getLiteralPrefix(String pattern) {
+		for (int i= 0; i < pattern.length(); i++) {
+			char ch= pattern.charAt(i);
+			if (ch == '*' || ch == '?')
+				return pattern.substring(0, i);
+		}
+		return pattern;
+	}
+
+	/*
+	 * The first character followed by all upper case characters. A camel case pattern can only
+	 * match a name if the key of the pattern is a prefix of the key of the name.
+	 */
+	static String camelKey(String name) {
+		if (name.isEmpty())
+			return name;
+		StringBuilder buf= new StringBuilder();
+		buf.append(name.charAt(0));
+		for (int i= 1; i < name.length(); i++) {
+			char ch= name.charAt(i);
+			if (Character.isUpperCase(ch))
+				buf.append(ch);
+		}
+		return buf.toString();
+	}
+
+	/*
+	 * Two characters are equal ignoring case (as in String#regionMatches) if and only if their
+	 * folded characters are equal.
+	 */
+	static char fold(char ch) {
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
+	static String fold(String s) {
+		char[] chars= s.toCharArray();
+		for (int i= 0; i < chars.length; i++) {
+			chars[i]= fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	//---- updating ----------------------------------------------------------------------------
+
+	private void processDelta(IJavaElementDelta delta) {
+		if (collectChanges(delta)) {
+			fReady= false;
+			fUpdateJob.schedule(UPDATE_DELAY);
+		}
+	}
+
+	/*
+	 * Records the roots and compilation units that need to be indexed again. Returns whether
+	 * anything was recorded.
+	 */
+	private boolean collectChanges(IJavaElementDelta delta) {
+		IJavaElement elem= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		boolean isAddedOrRemoved= kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
+
+		switch (elem.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				return collectChildrenChanges(delta);
+			case IJavaElement.JAVA_PROJECT:
+				if (isAddedOrRemoved || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					synchronized (this) {
+						fRootsChanged= true;
+					}
+					collectChildrenChanges(delta);
+					return true;
+				}
+				return collectChildrenChanges(delta);
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (isAddedOrRemoved || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+						| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					synchronized (this) {
+						fRootsChanged= true;
+					}
+					markStale((IPackageFragmentRoot) elem);
+					return true;
+				}
+				return collectChildrenChanges(delta);
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (isAddedOrRemoved) {
+					markStale((IPackageFragmentRoot) elem.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+					return true;
+				}
+				return collectChildrenChanges(delta);
+			case IJavaElement.CLASS_FILE:
+				markStale((IPackageFragmentRoot) elem.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+				return true;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) elem;
+				// Not the primary compilation unit. Ignore it
+				if (!JavaModelUtil.isPrimary(cu))
+					return false;
+				if (isAddedOrRemoved || hasTypeChanges(delta)) {
+					synchronized (this) {
+						fStaleUnits.add(cu.getPrimary().getHandleIdentifier());
+					}
+					return true;
+				}
+				return false;
+			default:
+				return false;
+		}
+	}
+
+	private boolean collectChildrenChanges(IJavaElementDelta delta) {
+		boolean changed= false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			changed|= collectChanges(child);
+		}
+		return changed;
+	}
+
+	private static boolean hasTypeChanges(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		if ((flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0)
+			return true;
+		if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() != IJavaElement.TYPE)
+				continue;
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0)
+				return true;
+			if (hasTypeChanges(child))
+				return true;
+		}
+		return false;
+	}
+
+	private synchronized void markStale(IPackageFragmentRoot root) {
+		if (root != null) {
+			fStaleRoots.put(getKey(root), root);
+		}
+	}
+
+	/**
+	 * Brings the index up to date with all changes recorded so far.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws CoreException if the search engine failed to report the types of a root
+	 */
+	public void update(IProgressMonitor monitor) throws CoreException {
+		if (!ENABLED)
+			return;
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+		synchronized (fUpdateLock) {
+			Map<String, IPackageFragmentRoot> staleRoots;
+			Set<String> staleUnits;
+			boolean rootsChanged;
+			synchronized (this) {
+				staleRoots= new HashMap<>(fStaleRoots);
+				staleUnits= new LinkedHashSet<>(fStaleUnits);
+				rootsChanged= fRootsChanged;
+				fStaleRoots.clear();
+				fStaleUnits.clear();
+				fRootsChanged= false;
+			}
+			boolean success= false;
+			try {
+				if (!fLoaded) {
+					fSegments= load();
+					fLoaded= true;
+					rootsChanged= true;
+				}
+				Map<String, Segment> segments= new HashMap<>(fSegments);
+				Map<String, IPackageFragmentRoot> toBuild= new LinkedHashMap<>();
+				if (rootsChanged) {
+					Map<String, IPackageFragmentRoot> roots= computeRoots();
+					segments.keySet().retainAll(roots.keySet());
+					for (Map.Entry<String, IPackageFragmentRoot> e : roots.entrySet()) {
+						Segment segment= segments.get(e.getKey());
+						if (segment == null || staleRoots.containsKey(e.getKey()) || segment.fStamp == IResource.NULL_STAMP
+								|| segment.fStamp != computeStamp(e.getValue())) {
+							toBuild.put(e.getKey(), e.getValue());
+						}
+					}
+				} else {
+					for (Map.Entry<String, IPackageFragmentRoot> e : staleRoots.entrySet()) {
+						if (segments.containsKey(e.getKey()))
+							toBuild.put(e.getKey(), e.getValue());
+					}
+				}
+				if (!toBuild.isEmpty()) {
+					segments.putAll(buildSegments(toBuild, monitor));
+				}
+				updateUnits(segments, staleUnits, toBuild.keySet());
+				fSegments= Collections.unmodifiableMap(segments);
+				success= true;
+			} finally {
+				synchronized (this) {
+					if (!success) {
+						staleRoots.putAll(fStaleRoots);
+						fStaleRoots.putAll(staleRoots);
+						fStaleUnits.addAll(staleUnits);
+						fRootsChanged|= rootsChanged;
+					}
+					fReady= success && fStaleRoots.isEmpty() && fStaleUnits.isEmpty() && !fRootsChanged;
+				}
+			}
+		}
+	}
+
+	private static Map<String, IPackageFragmentRoot> computeRoots() throws JavaModelException {
+		Map<String, IPackageFragmentRoot> roots= new LinkedHashMap<>();
+		for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+			try {
+				for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+					roots.putIfAbsent(getKey(root), root);
+				}
+			} catch (JavaModelException e) {
+				// the project is not accessible, do not index it
+			}
+		}
+		return roots;
+	}
+
+	/*
+	 * The same archive is referenced by a different root in each project, so roots are
+	 * identified by their path. Modules of the system library share the path of the JRT file
+	 * system and are told apart by their name.
+	 */
+	private static String getKey(IPackageFragmentRoot root) {
+		return root.getPath().toString() + '|' + root.getElementName();
+	}
+
+	private static long computeStamp(IPackageFragmentRoot root) {
+		IResource resource= root.getResource();
+		if (resource instanceof IContainer) {
+			// source folders and class folders: combine the modification stamps of all files
+			long[] stamp= { 17 };
+			try {
+				resource.accept((IResourceProxy proxy) -> {
+					if (proxy.getType() == IResource.FILE) {
+						stamp[0]= 31 * stamp[0] + proxy.getModificationStamp();
+					}
+					return true;
+				}, IResource.NONE);
+			} catch (CoreException e) {
+				return IResource.NULL_STAMP;
+			}
+			return stamp[0] == IResource.NULL_STAMP ? 0 : stamp[0];
+		}
+		File file;
+		if (resource != null) {
+			IPath location= resource.getLocation();
+			if (location == null)
+				return IResource.NULL_STAMP;
+			file= location.toFile();
+		} else {
+			file= root.getPath().toFile();
+		}
+		long lastModified= file.lastModified();
+		return lastModified == 0 ? IResource.NULL_STAMP : lastModified;
+	}
+
+	private static Map<String, Segment> buildSegments(Map<String, IPackageFragmentRoot> roots, IProgressMonitor monitor) throws CoreException {
+		Map<String, Long> stamps= new HashMap<>();
+		Map<String, List<Entry>> entries= new HashMap<>();
+		for (Map.Entry<String, IPackageFragmentRoot> e : roots.entrySet()) {
+			stamps.put(e.getKey(), Long.valueOf(computeStamp(e.getValue())));
+			entries.put(e.getKey(), new ArrayList<>());
+		}
+		// the search engine reports the types of the working copies
+		for (String key : getUnsavedRoots()) {
+			if (stamps.containsKey(key))
+				stamps.put(key, Long.valueOf(IResource.NULL_STAMP));
+		}
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				IPackageFragmentRoot root= match.getPackageFragmentRoot();
+				List<Entry> list= entries.get(getKey(root));
+				if (list != null) {
+					String suffix= match.getType().getHandleIdentifier().substring(root.getHandleIdentifier().length());
+					list.add(new Entry(match.getSimpleTypeName(), suffix, match.getModifiers()));
+				}
+			}
+		};
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(roots.values().toArray(new IJavaElement[roots.size()]));
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, null, SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.TYPE, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		Map<String, Segment> result= new HashMap<>();
+		for (Map.Entry<String, IPackageFragmentRoot> e : roots.entrySet()) {
+			String key= e.getKey();
+			result.put(key, new Segment(key, e.getValue().getHandleIdentifier(), stamps.get(key).longValue(), encode(entries.get(key))));
+		}
+		return result;
+	}
+
+	private static void updateUnits(Map<String, Segment> segments, Set<String> unitHandles, Set<String> rebuilt) {
+		Map<String, List<Entry>> changed= new HashMap<>();
+		Map<String, IPackageFragmentRoot> changedRoots= new HashMap<>();
+		for (String handle : unitHandles) {
+			IJavaElement element= JavaCore.create(handle);
+			if (!(element instanceof ICompilationUnit))
+				continue;
+			ICompilationUnit cu= (ICompilationUnit) element;
+			IPackageFragmentRoot root= (IPackageFragmentRoot) cu.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			String key= getKey(root);
+			Segment segment= segments.get(key);
+			if (segment == null || rebuilt.contains(key) || !handle.startsWith(segment.fRootHandle))
+				continue;
+			List<Entry> entries= changed.get(key);
+			if (entries == null) {
+				entries= segment.getEntries();
+				changed.put(key, entries);
+				changedRoots.put(key, root);
+			}
+			String typePrefix= handle.substring(segment.fRootHandle.length()) + '[';
+			entries.removeIf(entry -> entry.fSuffix.startsWith(typePrefix));
+			try {
+				if (cu.exists()) {
+					for (IType type : cu.getAllTypes()) {
+						String suffix= type.getHandleIdentifier().substring(segment.fRootHandle.length());
+						entries.add(new Entry(type.getElementName(), suffix, type.getFlags()));
+					}
+				}
+			} catch (JavaModelException e) {
+				// the unit is gone, its types are removed
+			}
+		}
+		Set<String> unsaved= changed.isEmpty() ? Collections.emptySet() : getUnsavedRoots();
+		for (Map.Entry<String, List<Entry>> e : changed.entrySet()) {
+			String key= e.getKey();
+			Segment segment= segments.get(key);
+			long stamp= unsaved.contains(key) ? IResource.NULL_STAMP : computeStamp(changedRoots.get(key));
+			segments.put(key, new Segment(key, segment.fRootHandle, stamp, encode(e.getValue())));
+		}
+	}
+
+	/*
+	 * Returns the keys of the roots that contain primary working copies with unsaved changes.
+	 * Entries of these roots are read from the working copies, not from the files on disk.
+	 */
+	private static Set<String> getUnsavedRoots() {
+		Set<String> result= new HashSet<>();
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			try {
+				if (workingCopy.hasUnsavedChanges())
+					result.add(getKey((IPackageFragmentRoot) workingCopy.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)));
+			} catch (JavaModelException e) {
+				// the working copy is gone
+			}
+		}
+		return result;
+	}
+
+	private static ByteBuffer encode(List<Entry> entries) {
+		int count= 0;
+		int size= 4;
+		for (Entry entry : entries) {
+			if (entry.fName.isEmpty() || entry.fSuffix.length() > Character.MAX_VALUE)
+				continue;
+			count++;
+			size+= 8 + 4 + 6 + 2 * (entry.fName.length() + entry.fCamelKey.length() + entry.fSuffix.length());
+		}
+		Entry[] valid= new Entry[count];
+		int[] offsets= new int[count];
+		ByteBuffer buffer= ByteBuffer.allocate(size);
+		buffer.putInt(count);
+		buffer.position(4 + 8 * count);
+		int i= 0;
+		for (Entry entry : entries) {
+			if (entry.fName.isEmpty() || entry.fSuffix.length() > Character.MAX_VALUE)
+				continue;
+			valid[i]= entry;
+			offsets[i]= buffer.position();
+			buffer.putInt(entry.fModifiers);
+			putString(buffer, entry.fName);
+			putString(buffer, entry.fCamelKey);
+			putString(buffer, entry.fSuffix);
+			i++;
+		}
+		Integer[] byName= new Integer[count];
+		Integer[] byCamelKey= new Integer[count];
+		for (i= 0; i < count; i++) {
+			byName[i]= Integer.valueOf(i);
+			byCamelKey[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(byName, (a, b) -> valid[a.intValue()].fFoldedName.compareTo(valid[b.intValue()].fFoldedName));
+		Arrays.sort(byCamelKey, (a, b) -> valid[a.intValue()].fCamelKey.compareTo(valid[b.intValue()].fCamelKey));
+		for (i= 0; i < count; i++) {
+			buffer.putInt(4 + 4 * i, offsets[byName[i].intValue()]);
+			buffer.putInt(4 + 4 * (count + i), offsets[byCamelKey[i].intValue()]);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	private static void putString(ByteBuffer buffer, String s) {
+		buffer.putChar((char) s.length());
+		for (int i= 0; i < s.length(); i++) {
+			buffer.putChar(s.charAt(i));
+		}
+	}
+
+	//---- persistence -------------------------------------------------------------------------
+
+	private static File getIndexFile() {
+		return JavaPlugin.getDefault().getStateLocation().append(FILENAME).toFile();
+	}
+
+	/*
+	 * Maps the index file into memory. The segments stay backed by the mapped file until they
+	 * are replaced by an update.
+	 */
+	private static Map<String, Segment> load() {
+		File file= getIndexFile();
+		File tmp= new File(file.getPath() + TMP_SUFFIX);
+		if (tmp.isFile()) {
+			// the last save could not replace the mapped file
+			try {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				JavaPlugin.log(e);
+			}
+		}
+		if (!file.isFile())
+			return Collections.emptyMap();
+
+		Map<String, Segment> segments= new HashMap<>();
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+				return Collections.emptyMap();
+			int count= buffer.getInt();
+			for (int i= 0; i < count; i++) {
+				String key= readString(buffer);
+				String rootHandle= readString(buffer);
+				long stamp= buffer.getLong();
+				int length= buffer.getInt();
+				int start= buffer.position();
+				buffer.limit(start + length);
+				ByteBuffer segmentBuffer= buffer.slice();
+				buffer.limit(buffer.capacity());
+				buffer.position(start + length);
+				segments.put(key, new Segment(key, rootHandle, stamp, segmentBuffer));
+			}
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			// a missing or corrupt index is built again
+			JavaPlugin.log(e);
+			return Collections.emptyMap();
+		}
+		return segments;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length= buffer.getChar();
+		char[] chars= new char[length];
+		for (int i= 0; i < length; i++) {
+			chars[i]= buffer.getChar();
+		}
+		return new String(chars);
+	}
+
+	private void save() {
+		Map<String, Segment> segments= new HashMap<>(fSegments);
+		synchronized (this) {
+			if (!fLoaded)
+				return;
+			// changes that did not make it into the index are not covered by the time stamps
+			segments.keySet().removeAll(fStaleRoots.keySet());
+			for (String handle : fStaleUnits) {
+				IJavaElement element= JavaCore.create(handle);
+				if (element != null) {
+					IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+					if (root != null)
+						segments.remove(getKey(root));
+				}
+			}
+		}
+		// segments without a time stamp may contain unsaved contents and are built again on the next load
+		segments.values().removeIf(segment -> segment.fStamp == IResource.NULL_STAMP);
+
+		File file= getIndexFile();
+		File tmp= new File(file.getPath() + TMP_SUFFIX);
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(segments.size());
+			byte[] bytes= new byte[8192];
+			for (Segment segment : segments.values()) {
+				writeString(out, segment.fKey);
+				writeString(out, segment.fRootHandle);
+				out.writeLong(segment.fStamp);
+				ByteBuffer buffer= segment.fBuffer.duplicate();
+				buffer.clear();
+				out.writeInt(buffer.remaining());
+				while (buffer.hasRemaining()) {
+					int n= Math.min(bytes.length, buffer.remaining());
+					buffer.get(bytes, 0, n);
+					out.write(bytes, 0, n);
+				}
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			return;
+		}
+		try {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// the old file may still be mapped, the temporary file is picked up on the next load
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		out.writeChar(s.length());
+		out.writeChars(s);
+	}
+
+	private void doShutdown() {
+		if (!ENABLED)
+			return;
+		JavaCore.removeElementChangedListener(fDeltaListener);
+		fUpdateJob.cancel();
+		try {
+			fUpdateJob.join();
+		} catch (InterruptedException e) {
+			// save what we have
+		}
+		synchronized (fUpdateLock) {
+			save();
+		}
+	}
+}
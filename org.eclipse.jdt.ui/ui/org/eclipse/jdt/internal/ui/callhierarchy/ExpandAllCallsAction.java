@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.RealCallers;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
+
+/**
+ * The action to expand the calls of the selected members down to the maximum call depth. The
+ * calls of all members on one level are searched concurrently, and the search stops after
+ * {@link #MAX_EXPANDED_MEMBERS} members, so that a member with many callers cannot start an
+ * unbounded number of searches.
+ */
+class ExpandAllCallsAction extends Action {
+
+	/**
+	 * The maximum number of members whose calls are searched by one run of the action.
+	 */
+	private static final int MAX_EXPANDED_MEMBERS= 500;
+
+	/**
+	 * The call hierarchy view part.
+	 */
+	private final CallHierarchyViewPart fPart;
+
+	/**
+	 * The call hierarchy viewer.
+	 */
+	private final CallHierarchyViewer fCallHierarchyViewer;
+
+	/**
+	 * Creates the action to expand all calls of the selected members.
+	 *
+	 * @param callHierarchyViewPart the call hierarchy view part
+	 * @param callHierarchyViewer the call hierarchy viewer
+	 */
+	public ExpandAllCallsAction(CallHierarchyViewPart callHierarchyViewPart, CallHierarchyViewer callHierarchyViewer) {
+		super(CallHierarchyMessages.ExpandAllCallsAction_text);
+		fPart= callHierarchyViewPart;
+		fCallHierarchyViewer= callHierarchyViewer;
+		setDescription(CallHierarchyMessages.ExpandAllCallsAction_description);
+		setToolTipText(CallHierarchyMessages.ExpandAllCallsAction_tooltip);
+	}
+
+	/*
+	 * @see Action#run
+	 */
+	@Override
+	public void run() {
+		MethodWrapper[] wrappers= getSelectedWrappers();
+		if (wrappers.length == 0)
+			return;
+
+		int maxCallDepth= CallHierarchyUI.getDefault().getMaxCallDepth();
+		int depth= maxCallDepth;
+		for (MethodWrapper wrapper : wrappers) {
+			depth= Math.min(depth, maxCallDepth - wrapper.getLevel() + 1);
+		}
+		int levels= Math.max(depth, 1);
+		try {
+			JavaPlugin.getActiveWorkbenchWindow().run(true, true, monitor -> {
+				try {
+					CallHierarchy.getDefault().expand(wrappers, levels, MAX_EXPANDED_MEMBERS, monitor);
+				} catch (OperationCanceledException e) {
+					throw new InterruptedException();
+				}
+			});
+		} catch (InvocationTargetException e) {
+			ExceptionHandler.handle(e, CallHierarchyMessages.CallHierarchyContentProvider_searchError_title, CallHierarchyMessages.CallHierarchyContentProvider_searchError_message);
+			return;
+		} catch (InterruptedException e) {
+			// canceled: show what has been found so far
+		}
+
+		for (MethodWrapper wrapper : wrappers) {
+			expandComputedCalls(wrapper, levels);
+		}
+	}
+
+	/**
+	 * Expands the given wrapper and its descendants as long as their calls are already known, so
+	 * that expanding does not start new searches.
+	 *
+	 * @param wrapper the wrapper to expand
+	 * @param levels the number of levels to expand
+	 */
+	private void expandComputedCalls(MethodWrapper wrapper, int levels) {
+		if (levels == 0 || wrapper.isRecursive() || !wrapper.hasCachedCalls()
+				|| CallHierarchyContentProvider.isExpandWithConstructors(wrapper))
+			return;
+		fCallHierarchyViewer.setExpandedState(wrapper, true);
+		for (MethodWrapper child : wrapper.getCalls(null)) {
+			expandComputedCalls(child, levels - 1);
+		}
+	}
+
+	private MethodWrapper[] getSelectedWrappers() {
+		ISelection selection= fPart.getSelection();
+		if (!(selection instanceof IStructuredSelection))
+			return new MethodWrapper[0];
+		List<MethodWrapper> wrappers= new ArrayList<>();
+		for (Object element : (IStructuredSelection) selection) {
+			if (element instanceof MethodWrapper && !(element instanceof RealCallers))
+				wrappers.add((MethodWrapper) element);
+		}
+		return wrappers.toArray(new MethodWrapper[wrappers.size()]);
+	}
+
+	/**
+	 * Checks whether this action can be added for the selected elements in the call hierarchy.
+	 *
+	 * @return <code>true</code> if the action can be added, <code>false</code> otherwise
+	 */
+	public boolean canActionBeAdded() {
+		for (MethodWrapper wrapper : getSelectedWrappers()) {
+			if (wrapper.canHaveChildren() && !wrapper.isRecursive())
+				return true;
+		}
+		return false;
+	}
+}
@@ -38,6 +38,17 @@ abstract class SearchScopeAction extends Action {
 	 */
 	public abstract IJavaSearchScope getSearchScope(int includeMask);
 
+	/**
+	 * Fetches a key that identifies the search scope with the appropriate include mask. Scopes
+	 * that enclose the same elements with the same include mask have equal keys, so that the
+	 * callers found in one scope can be reused for the other.
+	 *
+	 * @param includeMask the include mask
+	 * @return the key of the search scope with the appropriate include mask, or <code>null</code>
+	 *         if there is no search scope
+	 */
+	public abstract String getSearchScopeKey(int includeMask);
+
 	public abstract int getSearchScopeType();
 
 	@Override
@@ -82,6 +82,21 @@ class SearchScopeActionGroup extends ActionGroup {
 		return null;
 	}
 
+	/**
+	 * Returns the key of the current search scope.
+	 *
+	 * @param includeMask the include mask
+	 * @return the key of the current search scope, or <code>null</code> if there is none
+	 * @see SearchScopeAction#getSearchScopeKey(int)
+	 */
+	public String getSearchScopeKey(int includeMask) {
+		if (fSelectedAction != null) {
+			return fSelectedAction.getSearchScopeKey(includeMask);
+		}
+
+		return null;
+	}
+
 	@Override
 	public void fillActionBars(IActionBars actionBars) {
 		super.fillActionBars(actionBars);
@@ -19,6 +19,7 @@
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
 import java.util.HashSet;
+import java.util.TreeSet;
 
 import org.eclipse.ui.PlatformUI;
 
@@ -57,6 +58,20 @@ class SearchScopeProjectAction extends SearchScopeAction {
 				includeMask);
 	}
 
+	@Override
+	public String getSearchScopeKey(int includeMask) {
+		IMember[] members= fGroup.getView().getInputElements();
+		if (members == null) {
+			return null;
+		}
+
+		TreeSet<String> projects= new TreeSet<>();
+		for (IMember member : members) {
+			projects.add(member.getJavaProject().getHandleIdentifier());
+		}
+		return "projects;" + includeMask + ";" + String.join(";", projects); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
 	@Override
 	public int getSearchScopeType() {
 		return SearchScopeActionGroup.SEARCH_SCOPE_TYPE_PROJECT;
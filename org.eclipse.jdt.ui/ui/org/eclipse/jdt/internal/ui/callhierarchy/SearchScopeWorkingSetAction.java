@@ -16,9 +16,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.IAdaptable;
+
+import org.eclipse.core.resources.IResource;
+
 import org.eclipse.ui.IWorkingSet;
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 
 import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
@@ -41,6 +48,32 @@ class SearchScopeWorkingSetAction extends SearchScopeAction {
 		return JavaSearchScopeFactory.getInstance().createJavaSearchScope(fWorkingSets, includeMask);
 	}
 
+	@Override
+	public String getSearchScopeKey(int includeMask) {
+		if (fWorkingSets == null || fWorkingSets.length < 1)
+			return null;
+
+		TreeSet<String> elements= new TreeSet<>();
+		for (IWorkingSet workingSet : fWorkingSets) {
+			if (workingSet.isAggregateWorkingSet() && workingSet.isEmpty()) {
+				// the scope is the workspace, see JavaSearchScopeFactory#createJavaSearchScope(IWorkingSet[], int)
+				return SearchScopeWorkspaceAction.getWorkspaceScopeKey(includeMask);
+			}
+			for (IAdaptable element : workingSet.getElements()) {
+				IJavaElement javaElement= element.getAdapter(IJavaElement.class);
+				if (javaElement != null) {
+					elements.add(javaElement.getHandleIdentifier());
+					continue;
+				}
+				IResource resource= element.getAdapter(IResource.class);
+				if (resource != null) {
+					elements.add(resource.getFullPath().toString());
+				}
+			}
+		}
+		return "workingsets;" + includeMask + ";" + String.join(";", elements); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
 	/**
 	 * @return returns the working sets
 	 */
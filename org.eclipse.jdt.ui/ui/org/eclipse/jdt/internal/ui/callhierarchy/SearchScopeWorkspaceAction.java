@@ -37,6 +37,15 @@ class SearchScopeWorkspaceAction extends SearchScopeAction {
 		return fFactory.createWorkspaceScope(includeMask);
 	}
 
+	@Override
+	public String getSearchScopeKey(int includeMask) {
+		return getWorkspaceScopeKey(includeMask);
+	}
+
+	static String getWorkspaceScopeKey(int includeMask) {
+		return "workspace;" + includeMask; //$NON-NLS-1$
+	}
+
 	@Override
 	public int getSearchScopeType() {
 		return SearchScopeActionGroup.SEARCH_SCOPE_TYPE_WORKSPACE;
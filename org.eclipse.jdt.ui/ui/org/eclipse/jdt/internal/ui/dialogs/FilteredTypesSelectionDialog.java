@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -474,6 +475,16 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		String packPattern= typeSearchFilter.getPackagePattern();
 		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
 
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		if (index.isReady()) {
+			/*
+			 * The index only narrows down the candidates by the name pattern, the filter
+			 * is left enabled and checks package, element kind and scope of each of them.
+			 */
+			index.searchAllTypeNames(typeSearchFilter.getNamePattern(), typeSearchFilter.getMatchRule(), requestor, progressMonitor);
+			return;
+		}
+
 		/*
 		 * Setting the filter into match everything mode avoids filtering twice
 		 * by the same pattern (the search engine only provides filtered
@@ -84,6 +84,11 @@ public class AddAllCleanUp extends AbstractMultiFix implements ICleanUpFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_ADD_ALL)) {
@@ -66,6 +66,11 @@ public class BitwiseConditionalExpressionCleanup extends AbstractMultiFix {
 		return new CleanUpRequirements(requireAST, false, false, requiredOptions);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.CHECK_SIGN_OF_BITWISE_OPERATION)) {
@@ -63,6 +63,11 @@ public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpF
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.PREFER_BOOLEAN_LITERAL)) {
@@ -75,6 +75,11 @@ public class CodeFormatCleanUp extends AbstractCleanUp {
 		}
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		ArrayList<String> result= new ArrayList<>();
@@ -66,6 +66,11 @@ public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpF
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.DOUBLE_NEGATION)) {
@@ -63,6 +63,11 @@ public class EmbeddedIfCleanUp extends AbstractMultiFix implements ICleanUpFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.RAISE_EMBEDDED_IF)) {
@@ -68,6 +68,11 @@ public class EvaluateNullableCleanUp extends AbstractMultiFix implements ICleanU
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.EVALUATE_NULLABLE)) {
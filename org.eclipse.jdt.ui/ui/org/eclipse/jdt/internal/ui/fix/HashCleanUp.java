@@ -102,6 +102,11 @@ public class HashCleanUp extends AbstractMultiFix implements ICleanUpFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.MODERNIZE_HASH)) {
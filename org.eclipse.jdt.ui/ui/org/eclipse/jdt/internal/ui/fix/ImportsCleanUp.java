@@ -63,6 +63,12 @@ public class ImportsCleanUp extends AbstractCleanUp {
 				isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), fStatus);
 	}
 
+    @Override
+	public boolean canCreateFixesConcurrently() {
+		// problems are recorded in fStatus
+		return !isEnabled(CleanUpConstants.ORGANIZE_IMPORTS);
+	}
+
     @Override
 	public RefactoringStatus checkPreConditions(IJavaProject project, ICompilationUnit[] compilationUnits, IProgressMonitor monitor) throws CoreException {
 
@@ -115,6 +115,11 @@ public class Java50CleanUp extends AbstractMultiFix {
 		return result;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -96,6 +96,11 @@ public class JoinCleanUp extends AbstractMultiFix implements ICleanUpFix {
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.JOIN)) {
@@ -77,6 +77,11 @@ public class ObjectsEqualsCleanUp extends AbstractMultiFix implements ICleanUpFi
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.USE_OBJECTS_EQUALS)) {
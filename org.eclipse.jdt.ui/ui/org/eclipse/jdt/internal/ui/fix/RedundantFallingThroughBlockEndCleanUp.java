@@ -82,6 +82,11 @@ public class RedundantFallingThroughBlockEndCleanUp extends AbstractMultiFix imp
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REDUNDANT_FALLING_THROUGH_BLOCK_END)) {
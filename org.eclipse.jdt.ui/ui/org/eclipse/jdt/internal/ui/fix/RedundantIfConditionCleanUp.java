@@ -65,6 +65,11 @@ public class RedundantIfConditionCleanUp extends AbstractMultiFix implements ICl
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REDUNDANT_IF_CONDITION)) {
@@ -59,6 +59,11 @@ public class RedundantSuperCallCleanUp extends AbstractMultiFix implements IClea
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.REDUNDANT_SUPER_CALL)) {
@@ -71,6 +71,12 @@ public class SortMembersCleanUp extends AbstractCleanUp {
 		return fix;
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		// fixes are recorded in fTouchedFiles
+		return !isEnabled(CleanUpConstants.SORT_MEMBERS);
+	}
+
 	@Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
 		if (fTouchedFiles == null) {
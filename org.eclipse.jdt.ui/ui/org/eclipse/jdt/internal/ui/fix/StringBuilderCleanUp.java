@@ -103,6 +103,11 @@ public class StringBuilderCleanUp extends AbstractMultiFix implements ICleanUpFi
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.STRINGBUILDER)) {
@@ -61,6 +61,12 @@ public class StringCleanUp extends AbstractMultiFix {
 		       isEnabled(CleanUpConstants.REMOVE_UNNECESSARY_NLS_TAGS);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		// fixes are created for fSavedCompilationUnit
+		return !requireAST();
+	}
+
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit compilationUnit) throws CoreException {
 		if (compilationUnit == null)
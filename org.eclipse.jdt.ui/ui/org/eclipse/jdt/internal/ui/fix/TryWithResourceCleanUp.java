@@ -49,6 +49,11 @@ public class TryWithResourceCleanUp extends AbstractMultiFix implements ICleanUp
 		return new CleanUpRequirements(requireAST, false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.TRY_WITH_RESOURCE)) {
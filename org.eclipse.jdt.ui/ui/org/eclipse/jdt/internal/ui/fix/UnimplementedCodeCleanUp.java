@@ -52,6 +52,11 @@ public class UnimplementedCodeCleanUp extends AbstractMultiFix {
 		super(settings);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.ADD_MISSING_METHODES))
@@ -57,6 +57,11 @@ public class UseStringIsBlankCleanUp extends AbstractCleanUp {
 		return new CleanUpRequirements(isEnabled(CleanUpConstants.USE_STRING_IS_BLANK), false, false, null);
 	}
 
+	@Override
+	public boolean canCreateFixesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		if (isEnabled(CleanUpConstants.USE_STRING_IS_BLANK)) {
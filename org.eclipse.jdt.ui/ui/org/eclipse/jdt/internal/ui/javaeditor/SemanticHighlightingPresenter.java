@@ -47,11 +47,70 @@ import org.eclipse.jdt.internal.ui.text.JavaPresentationReconciler;
 public class SemanticHighlightingPresenter extends SemanticHighlightingPresenterCore
 	implements ITextPresentationListener, ITextInputListener, IDocumentListener {
 
+	/**
+	 * The region of the document changed since the positions have last been reconciled.
+	 * <p>
+	 * The region is in the coordinates of the document at the time it was returned by
+	 * {@link SemanticHighlightingPresenter#getChangedRegion()}; it is only valid as long as
+	 * {@link SemanticHighlightingPresenter#isCurrent(ChangedRegion)} returns <code>true</code>.
+	 * </p>
+	 *
+	 * @since 3.33
+	 */
+	public static final class ChangedRegion {
+
+		private final boolean fIsKnown;
+		private final int fOffset;
+		private final int fEnd;
+		private final long fModificationStamp;
+
+		ChangedRegion(boolean isKnown, int offset, int end, long modificationStamp) {
+			fIsKnown= isKnown;
+			fOffset= offset;
+			fEnd= end;
+			fModificationStamp= modificationStamp;
+		}
+
+		/**
+		 * @return <code>true</code> iff the changed region is known, <code>false</code> if all
+		 *         positions must be reconciled
+		 */
+		public boolean isKnown() {
+			return fIsKnown;
+		}
+
+		/**
+		 * @return <code>true</code> iff the document has not been changed
+		 */
+		public boolean isEmpty() {
+			return fOffset == -1;
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public int getLength() {
+			return fEnd - fOffset;
+		}
+	}
+
 	/** The source viewer this semantic highlighting reconciler is installed on */
 	private JavaSourceViewer fSourceViewer;
 	/** The background presentation reconciler */
 	private JavaPresentationReconciler fPresentationReconciler;
 
+	/** Lock for the changed region fields */
+	private final Object fChangedRegionLock= new Object();
+	/** <code>true</code> iff the changed region is known */
+	private boolean fIsChangedRegionKnown= false;
+	/** Start of the changed region, <code>-1</code> if the document has not been changed */
+	private int fChangedStart= -1;
+	/** End of the changed region */
+	private int fChangedEnd= -1;
+	/** Incremented on each document change */
+	private long fModificationStamp;
+
 	/**
 	 * Creates and returns a new highlighted position with the given offset, length and highlighting.
 	 * <p>
@@ -344,6 +403,80 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 	 */
 	@Override
 	public void documentChanged(DocumentEvent event) {
+		int offset= event.getOffset();
+		int oldLength= event.getLength();
+		String text= event.getText();
+		int newEnd= offset + (text == null ? 0 : text.length());
+		int delta= newEnd - offset - oldLength;
+		synchronized (fChangedRegionLock) {
+			fModificationStamp++;
+			if (!fIsChangedRegionKnown)
+				return;
+			if (fChangedStart == -1) {
+				fChangedStart= offset;
+				fChangedEnd= newEnd;
+				return;
+			}
+			if (offset + oldLength <= fChangedStart) {
+				fChangedStart+= delta;
+				fChangedEnd+= delta;
+			} else if (offset <= fChangedEnd) {
+				fChangedEnd+= delta;
+			}
+			fChangedStart= Math.min(fChangedStart, offset);
+			fChangedEnd= Math.max(fChangedEnd, newEnd);
+		}
+	}
+
+	/**
+	 * Returns the region of the document changed since the positions have last been reconciled.
+	 * <p>
+	 * NOTE: Also called from background thread.
+	 * </p>
+	 *
+	 * @return the changed region
+	 * @since 3.33
+	 */
+	public ChangedRegion getChangedRegion() {
+		synchronized (fChangedRegionLock) {
+			return new ChangedRegion(fIsChangedRegionKnown, fChangedStart, fChangedEnd, fModificationStamp);
+		}
+	}
+
+	/**
+	 * Tells whether the document has not been changed since the given region has been returned.
+	 * <p>
+	 * NOTE: Also called from background thread.
+	 * </p>
+	 *
+	 * @param region the changed region
+	 * @return <code>true</code> iff the region is still valid
+	 * @since 3.33
+	 */
+	public boolean isCurrent(ChangedRegion region) {
+		synchronized (fChangedRegionLock) {
+			return region.fModificationStamp == fModificationStamp;
+		}
+	}
+
+	/**
+	 * Marks the document as unchanged if it has not been changed since the given region has been
+	 * returned, i.e. all positions have been reconciled with the document.
+	 * <p>
+	 * NOTE: Also called from background thread.
+	 * </p>
+	 *
+	 * @param region the changed region that has been reconciled
+	 * @since 3.33
+	 */
+	public void clearChangedRegion(ChangedRegion region) {
+		synchronized (fChangedRegionLock) {
+			if (region.fModificationStamp == fModificationStamp) {
+				fIsChangedRegionKnown= true;
+				fChangedStart= -1;
+				fChangedEnd= -1;
+			}
+		}
 	}
 
 	/**
@@ -485,6 +618,10 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 		synchronized (fPositionLock) {
 			fPositions.clear();
 		}
+		synchronized (fChangedRegionLock) {
+			fModificationStamp++;
+			fIsChangedRegionKnown= false;
+		}
 	}
 
 	/**
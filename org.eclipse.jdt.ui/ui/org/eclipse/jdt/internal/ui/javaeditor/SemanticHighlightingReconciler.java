@@ -37,13 +37,19 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -55,6 +61,7 @@ import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.Highlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter.ChangedRegion;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.DeprecatedMemberHighlighting;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.RestrictedIdentifiersHighlighting;
 import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
@@ -323,6 +330,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * <code>true</code> if a reconcile caused by typing only visits the method or initializer that
+	 * contains the changed region. Can be disabled with the system property
+	 * <code>org.eclipse.jdt.ui.semanticHighlighting.incremental=false</code>.
+	 */
+	private static final boolean INCREMENTAL= !"false".equals(System.getProperty("org.eclipse.jdt.ui.semanticHighlighting.incremental")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/** Position collector */
 	private PositionCollector fCollector= new PositionCollector();
 
@@ -373,12 +387,24 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private Highlighting fJobDeprecatedMemberHighlighting;
 
+	/**
+	 * The region changed before the reconcile that is about to start, <code>null</code> if not known.
+	 * @since 3.33
+	 */
+	private volatile ChangedRegion fChangedRegion;
+	/**
+	 * Number of type members in the AST of the last reconcile, <code>-1</code> if not known.
+	 * @since 3.33
+	 */
+	private int fBodyDeclarationCount= -1;
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#aboutToBeReconciled()
 	 */
 	@Override
 	public void aboutToBeReconciled() {
-		// Do nothing
+		SemanticHighlightingPresenter presenter= fPresenter;
+		fChangedRegion= presenter != null ? presenter.getChangedRegion() : null;
 	}
 
 	/*
@@ -396,6 +422,10 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fJobPresenter= fPresenter;
 		fJobSemanticHighlightings= fSemanticHighlightings;
 		fJobHighlightings= fHighlightings;
+		// a forced reconcile does not consume the changed region, it remains for the next reconcile
+		ChangedRegion changedRegion= forced ? null : fChangedRegion;
+		if (!forced)
+			fChangedRegion= null;
 
 		try {
 			if (fJobPresenter == null || fJobSemanticHighlightings == null || fJobHighlightings == null)
@@ -406,11 +436,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			ASTNode[] subtrees= getAffectedSubtrees(ast, changedRegion);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees);
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -431,6 +461,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
 
+			if (changedRegion != null && !fJobPresenter.isCanceled())
+				fJobPresenter.clearChangedRegion(changedRegion);
+
 			stopReconcilingPositions();
 		} finally {
 			fJobPresenter= null;
@@ -444,19 +477,85 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
+	 * Returns the subtrees whose positions must be reconciled. When the document has only been
+	 * changed inside the body of one method or initializer, and the number of type members is
+	 * unchanged, this is the outermost method or initializer around the change: a change inside a
+	 * body can only add or remove local declarations and their references, which do not affect the
+	 * highlighting of other members.
+	 *
+	 * @param ast the AST
+	 * @param changedRegion the region changed since the last reconcile, <code>null</code> if not
+	 *            known
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, ChangedRegion changedRegion) {
+		int bodyDeclarationCount= countBodyDeclarations(ast.types());
+		boolean sameMembers= bodyDeclarationCount == fBodyDeclarationCount;
+		fBodyDeclarationCount= bodyDeclarationCount;
+
+		if (INCREMENTAL && sameMembers && changedRegion != null && changedRegion.isKnown() && !changedRegion.isEmpty()
+				&& fJobPresenter.isCurrent(changedRegion)) {
+			ASTNode bodyDeclaration= getEnclosingBodyDeclaration(ast, changedRegion.getOffset(), changedRegion.getLength());
+			if (bodyDeclaration != null)
+				return new ASTNode[] { bodyDeclaration };
+		}
+		return new ASTNode[] { ast };
+	}
+
+	/**
+	 * Returns the outermost method or initializer whose body contains the given range.
+	 *
+	 * @param ast the AST
+	 * @param offset the range offset
+	 * @param length the range length
+	 * @return the method or initializer, or <code>null</code> if the range is not inside a body
+	 */
+	private static ASTNode getEnclosingBodyDeclaration(CompilationUnit ast, int offset, int length) {
+		BodyDeclaration result= null;
+		for (ASTNode node= NodeFinder.perform(ast, offset, length); node != null; node= node.getParent()) {
+			if (node instanceof MethodDeclaration || node instanceof Initializer)
+				result= (BodyDeclaration) node;
+		}
+		if (result == null)
+			return null;
+		Block body= result instanceof MethodDeclaration ? ((MethodDeclaration) result).getBody() : ((Initializer) result).getBody();
+		if (body == null)
+			return null;
+		// the change must not touch the braces of the body
+		int bodyStart= body.getStartPosition();
+		int bodyEnd= bodyStart + body.getLength();
+		if (offset <= bodyStart || offset + length >= bodyEnd)
+			return null;
+		return result;
+	}
+
+	/**
+	 * @param types the type declarations
+	 * @return the number of members of the given types and their member types
+	 */
+	private static int countBodyDeclarations(List<?> types) {
+		int count= 0;
+		for (Object type : types) {
+			if (type instanceof AbstractTypeDeclaration) {
+				List<?> bodyDeclarations= ((AbstractTypeDeclaration) type).bodyDeclarations();
+				count+= bodyDeclarations.size() + countBodyDeclarations(bodyDeclarations);
+			}
+		}
+		return count;
 	}
 
 	/**
 	 * Start reconciling positions.
+	 *
+	 * @param subtrees the AST subtrees whose positions are reconciled
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
+	private void startReconcilingPositions(ASTNode[] subtrees) {
+		if (subtrees.length == 1 && subtrees[0] instanceof CompilationUnit) {
+			fJobPresenter.addAllPositions(fRemovedPositions);
+		} else {
+			for (ASTNode subtree : subtrees)
+				fJobPresenter.addPositions(fRemovedPositions, subtree.getStartPosition(), subtree.getLength());
+		}
 		fNOfRemovedPositions= fRemovedPositions.size();
 	}
 
@@ -466,10 +565,6 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param subtrees the AST subtrees
 	 */
 	private void reconcilePositions(ASTNode[] subtrees) {
-		// FIXME: remove positions not covered by subtrees
-
-
-
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 		List<Position> oldPositions= fRemovedPositions;
@@ -630,7 +725,8 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 							return Status.CANCEL_STATUS;
 						JavaCore.runReadOnly(() -> {
 							CompilationUnit ast= SharedASTProviderCore.getAST(element, SharedASTProviderCore.WAIT_YES, monitor);
-							reconciled(ast, false, monitor);
+							// not caused by typing: reconcile all positions
+							reconciled(ast, true, monitor);
 						});
 						synchronized (fJobLock) {
 							// allow the job to be gc'ed
@@ -0,0 +1,451 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Counts the references of all elements that show a {@link JavaReferenceCodeMining} in one editor.
+ * <p>
+ * Methods and fields whose name is unique among these elements are counted by one search for an
+ * OR pattern; a match is attributed to an element by the name found in the source range of the
+ * match. Types, constructors and overloaded members, as well as all members of a batch that has a
+ * match whose name cannot be read, are counted by one search each. All searches run on a small
+ * shared executor, so that many editors cannot exhaust the common pool.
+ * </p>
+ * <p>
+ * Counts are cached by element handle until a Java element delta reports a change that may add or
+ * remove references.
+ * </p>
+ * <p>
+ * Elements are added by the code mining provider while the counts are computed on the executor, so
+ * all accesses to the futures of the elements are synchronized.
+ * </p>
+ */
+public final class JavaReferenceCounter {
+
+	private static final int THREAD_COUNT= Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+
+	private static final ExecutorService EXECUTOR;
+
+	static {
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Java Reference Code Mining"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR= executor;
+	}
+
+	private static final Map<String, Long> fgCounts= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever the cached counts are cleared, so that counts computed concurrently
+	 * with a change are not cached.
+	 */
+	private static final AtomicInteger fgGeneration= new AtomicInteger();
+
+	private static final AtomicBoolean fgListenerInstalled= new AtomicBoolean();
+
+	private final Map<IJavaElement, CompletableFuture<Long>> fCounts= new LinkedHashMap<>();
+
+	private final boolean fIgnoreInaccurate;
+
+	private final AtomicBoolean fStarted= new AtomicBoolean();
+
+	/**
+	 * Creates a reference counter.
+	 *
+	 * @param ignoreInaccurate <code>true</code> if inaccurate matches are not counted
+	 */
+	public JavaReferenceCounter(boolean ignoreInaccurate) {
+		fIgnoreInaccurate= ignoreInaccurate;
+		if (fgListenerInstalled.compareAndSet(false, true)) {
+			JavaCore.addElementChangedListener(new CacheInvalidator(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Adds an element whose references are counted. Must be called before the first call to
+	 * {@link #getReferenceCount(IJavaElement, IProgressMonitor)}.
+	 *
+	 * @param element the element
+	 */
+	public void add(IJavaElement element) {
+		synchronized (fCounts) {
+			fCounts.putIfAbsent(element, new CompletableFuture<>());
+		}
+	}
+
+	/**
+	 * Returns the number of references of the given element. The first call starts counting the
+	 * references of all added elements.
+	 *
+	 * @param element an element that has been added to this counter
+	 * @param monitor the progress monitor used to cancel the searches
+	 * @return the future reference count
+	 */
+	public CompletableFuture<Long> getReferenceCount(IJavaElement element, IProgressMonitor monitor) {
+		CompletableFuture<Long> count= getCount(element);
+		if (count == null) {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return Long.valueOf(countReferences(element, monitor));
+				} catch (CoreException e) {
+					throw new IllegalStateException(e);
+				}
+			}, EXECUTOR);
+		}
+		if (fStarted.compareAndSet(false, true)) {
+			EXECUTOR.execute(() -> countAll(monitor));
+		}
+		return count;
+	}
+
+	private CompletableFuture<Long> getCount(IJavaElement element) {
+		synchronized (fCounts) {
+			return fCounts.get(element);
+		}
+	}
+
+	private void countAll(IProgressMonitor monitor) {
+		Map<IJavaElement, CompletableFuture<Long>> counts;
+		synchronized (fCounts) {
+			counts= new LinkedHashMap<>(fCounts);
+		}
+		try {
+			Map<String, List<IJavaElement>> batchCandidates= new HashMap<>();
+			List<IJavaElement> single= new ArrayList<>();
+			for (Map.Entry<IJavaElement, CompletableFuture<Long>> entry : counts.entrySet()) {
+				IJavaElement element= entry.getKey();
+				Long cached= fgCounts.get(getCacheKey(element));
+				if (cached != null) {
+					entry.getValue().complete(cached);
+				} else if (canBatch(element)) {
+					batchCandidates.computeIfAbsent(element.getElementName(), name -> new ArrayList<>()).add(element);
+				} else {
+					single.add(element);
+				}
+			}
+
+			Map<String, IJavaElement> batch= new HashMap<>();
+			for (List<IJavaElement> elements : batchCandidates.values()) {
+				if (elements.size() == 1) {
+					batch.put(elements.get(0).getElementName(), elements.get(0));
+				} else {
+					single.addAll(elements);
+				}
+			}
+			if (batch.size() > 1) {
+				if (!countBatch(batch, monitor)) {
+					single.addAll(batch.values());
+				}
+			} else {
+				single.addAll(batch.values());
+			}
+
+			for (IJavaElement element : single) {
+				checkCanceled(monitor);
+				int generation= fgGeneration.get();
+				complete(element, countReferences(element, monitor), generation);
+			}
+		} catch (CoreException | RuntimeException e) {
+			for (CompletableFuture<Long> count : counts.values()) {
+				count.completeExceptionally(e);
+			}
+		} finally {
+			for (CompletableFuture<Long> count : counts.values()) {
+				count.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Counts the references of the given elements by one search.
+	 *
+	 * @param batch the elements to count by their names, the names are unique
+	 * @param monitor the progress monitor
+	 * @return <code>true</code> if all matches could be attributed and the counts are complete,
+	 *         <code>false</code> if the elements must be counted one by one
+	 * @throws CoreException if the search fails
+	 */
+	private boolean countBatch(Map<String, IJavaElement> batch, IProgressMonitor monitor) throws CoreException {
+		SearchPattern pattern= null;
+		IJavaElement scopeElement= null;
+		for (IJavaElement element : batch.values()) {
+			SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern == null) {
+				return false;
+			}
+			pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			scopeElement= element;
+		}
+
+		int generation= fgGeneration.get();
+		Map<String, AtomicLong> counts= new HashMap<>();
+		for (String name : batch.keySet()) {
+			counts.put(name, new AtomicLong());
+		}
+		AtomicBoolean unattributed= new AtomicBoolean();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(scopeElement), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						IJavaElement element= getCountedElement(match);
+						if (element == null) {
+							return;
+						}
+						String name= getReferencedName(element, match, batch.keySet());
+						if (name != null) {
+							counts.get(name).incrementAndGet();
+						} else {
+							unattributed.set(true);
+						}
+					}
+				}, monitor);
+		if (unattributed.get()) {
+			return false;
+		}
+		for (Map.Entry<String, IJavaElement> entry : batch.entrySet()) {
+			complete(entry.getValue(), counts.get(entry.getKey()).get(), generation);
+		}
+		return true;
+	}
+
+	private void complete(IJavaElement element, long count, int generation) {
+		Long value= Long.valueOf(count);
+		if (fgGeneration.get() == generation) {
+			fgCounts.put(getCacheKey(element), value);
+		}
+		getCount(element).complete(value);
+	}
+
+	private String getCacheKey(IJavaElement element) {
+		return fIgnoreInaccurate ? element.getHandleIdentifier() + "#exact" : element.getHandleIdentifier(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Return the number of references for the given java element.
+	 *
+	 * @param element the java element.
+	 * @param monitor the monitor
+	 * @return the number of references for the given java element.
+	 * @throws CoreException throws when java error.
+	 */
+	private long countReferences(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+		if (element == null) {
+			return 0;
+		}
+		final AtomicLong count= new AtomicLong(0);
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return 0;
+		}
+		SearchEngine engine= new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(element), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (getCountedElement(match) != null) {
+							count.incrementAndGet();
+						}
+					}
+				}, monitor);
+
+		return count.get();
+	}
+
+	/**
+	 * Returns the element enclosing the given match if the match is counted.
+	 *
+	 * @param match the search match
+	 * @return the enclosing element, or <code>null</code> if the match is not counted
+	 */
+	private IJavaElement getCountedElement(SearchMatch match) {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE && fIgnoreInaccurate) {
+			return null;
+		}
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement) o;
+			if (e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the first identifier in the source range of the match that is one of the given
+	 * names.
+	 *
+	 * @param element the element enclosing the match
+	 * @param match the search match
+	 * @param names the names of the searched elements
+	 * @return the name, or <code>null</code> if the source is not available or does not contain
+	 *         any of the names
+	 * @throws JavaModelException if the source cannot be read
+	 */
+	private static String getReferencedName(IJavaElement element, SearchMatch match, Set<String> names) throws JavaModelException {
+		IOpenable openable= element.getOpenable();
+		IBuffer buffer= openable != null ? openable.getBuffer() : null;
+		int offset= match.getOffset();
+		int end= offset + match.getLength();
+		if (buffer == null || offset < 0 || end > buffer.getLength()) {
+			return null;
+		}
+		String text= buffer.getText(offset, match.getLength());
+		int i= 0;
+		while (i < text.length()) {
+			if (Character.isJavaIdentifierStart(text.charAt(i))) {
+				int start= i;
+				while (i < text.length() && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				String identifier= text.substring(start, i);
+				if (names.contains(identifier)) {
+					return identifier;
+				}
+			} else {
+				i++;
+			}
+		}
+		return null;
+	}
+
+	private static boolean canBatch(IJavaElement element) {
+		try {
+			switch (element.getElementType()) {
+				case IJavaElement.FIELD:
+					return true;
+				case IJavaElement.METHOD:
+					return !((IMethod) element).isConstructor();
+				default:
+					return false;
+			}
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private static void checkCanceled(IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE= factory.isInsideJRE(element);
+		return factory.createWorkspaceScope(isInsideJRE);
+	}
+
+	/**
+	 * Clears the cached counts when references may have been added or removed. The search engine
+	 * also finds references in working copies, hence reconcile deltas are considered as well.
+	 */
+	private static class CacheInvalidator implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (!fgCounts.isEmpty() && affectsReferences(event.getDelta())) {
+				fgGeneration.incrementAndGet();
+				fgCounts.clear();
+			}
+		}
+
+		private static boolean affectsReferences(IJavaElementDelta delta) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED) {
+				return true;
+			}
+			int flags= delta.getFlags();
+			switch (delta.getElement().getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+				case IJavaElement.PACKAGE_FRAGMENT:
+					break;
+				case IJavaElement.JAVA_PROJECT:
+					if ((flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						return true;
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if ((flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+							| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+						return true;
+					}
+					break;
+				case IJavaElement.COMPILATION_UNIT:
+					return (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED)) != 0;
+				default:
+					return true;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsReferences(child)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
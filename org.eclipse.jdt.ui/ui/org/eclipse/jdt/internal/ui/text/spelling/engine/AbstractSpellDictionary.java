@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,15 +22,18 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -108,17 +112,32 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 */
 	protected static final float LOAD_FACTOR= 0.85f;
 
+	/**
+	 * <code>true</code> if dictionaries that provide a {@link #getCompactFile(URL) compact file}
+	 * store their word list in a {@link CompactWordTable}. Can be disabled with the system property
+	 * <code>org.eclipse.jdt.ui.spelling.compactDictionary=false</code>.
+	 * @since 3.33
+	 */
+	private static final boolean COMPACT= !"false".equals(System.getProperty("org.eclipse.jdt.ui.spelling.compactDictionary")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
 	/** The mapping from phonetic hashes to word lists */
 	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
 
+	/**
+	 * The words loaded from the word list, or <code>null</code> if the words are stored in
+	 * {@link #fHashBuckets}. Words added later are always stored in {@link #fHashBuckets}.
+	 * @since 3.33
+	 */
+	private CompactWordTable fCompactTable;
+
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
-	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
+	/** Is the dictionary already loaded? Volatile, since it is read without a lock. */
+	private volatile boolean fLoaded= false;
 	/**
 	 * Must the dictionary be loaded?
 	 * @since 3.2
@@ -156,7 +175,23 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			JavaPlugin.log(e);
 			return null;
 		}
-		return fHashBuckets.get(hashBytes);
+		Object bucket= fHashBuckets.get(hashBytes);
+		CompactWordTable table= fCompactTable;
+		if (table == null)
+			return bucket;
+
+		ArrayList<byte[]> candidates= new ArrayList<>();
+		table.getWords(hashBytes.byteArray, candidates);
+		if (bucket instanceof byte[]) {
+			candidates.add((byte[])bucket);
+		} else if (bucket != null) {
+			@SuppressWarnings("unchecked")
+			ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
+			candidates.addAll(bucketList);
+		}
+		if (candidates.isEmpty())
+			return null;
+		return candidates.size() == 1 ? candidates.get(0) : candidates;
 	}
 
 	/**
@@ -314,7 +349,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		return fHashBuckets.isEmpty() && (fCompactTable == null || fCompactTable.isEmpty());
 	}
 
 	/**
@@ -506,7 +541,26 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			// Do nothing
 		}
 
-		final Object candidates= getCandidates(fHashProvider.getHash(word));
+		final String hash= fHashProvider.getHash(word);
+		CompactWordTable table= fCompactTable;
+		if (table != null) {
+			try {
+				if (table.contains(hash.getBytes(UTF_8), word.getBytes(UTF_8), word.toLowerCase().getBytes(UTF_8)))
+					return true;
+			} catch (UnsupportedEncodingException e) {
+				JavaPlugin.log(e);
+				return false;
+			}
+		}
+
+		ByteArrayWrapper hashBytes;
+		try {
+			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
+		} catch (UnsupportedEncodingException e) {
+			JavaPlugin.log(e);
+			return false;
+		}
+		final Object candidates= fHashBuckets.get(hashBytes);
 		if (candidates == null)
 			return false;
 		else if (candidates instanceof byte[]) {
@@ -574,7 +628,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || fHashBuckets.size() > 0 || fCompactTable != null;
 	}
 
 	/**
@@ -589,6 +643,44 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		 if (!fMustLoad)
 			 return fLoaded;
 
+		File file= COMPACT && url != null ? getCompactFile(url) : null;
+		if (file == null)
+			return loadWordList(url);
+
+		String stamp= getCompactStamp(url);
+		CompactWordTable table= CompactWordTable.map(file, stamp);
+		if (table != null) {
+			fCompactTable= table;
+			fMustLoad= false;
+			return true;
+		}
+
+		if (!loadWordList(url))
+			return false;
+		table= createCompactTable(stamp);
+		if (table != null) {
+			// prefer the mapped file, so that the table does not stay on the heap
+			if (table.save(file)) {
+				CompactWordTable mapped= CompactWordTable.map(file, stamp);
+				if (mapped != null)
+					table= mapped;
+			}
+			fCompactTable= table;
+			fHashBuckets.clear();
+		}
+		return true;
+	}
+
+	/**
+	 * Loads a dictionary word list from disk into {@link #fHashBuckets}.
+	 *
+	 * @param url
+	 *                   The URL of the word list to load
+	 * @return <code>true</code> iff the word list could be loaded, <code>false</code>
+	 *               otherwise
+	 * @since 3.33
+	 */
+	private boolean loadWordList(final URL url) {
 		if (url != null) {
 			InputStream stream= null;
 			int line= 0;
@@ -636,7 +728,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 					JavaPlugin.log(ex);
 				else
 					try {
-						return load(new URL(lowercaseUrlString));
+						return loadWordList(new URL(lowercaseUrlString));
 					} catch (MalformedURLException e) {
 						JavaPlugin.log(e);
 					}
@@ -659,6 +751,83 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Returns the file used to save the word list of this dictionary as a
+	 * {@link CompactWordTable}, which can be loaded much faster than the word list.
+	 * <p>
+	 * The default implementation returns <code>null</code>, which loads the word list every
+	 * time. Subclasses with large word lists should override.
+	 * </p>
+	 *
+	 * @param url
+	 *                   The URL of the word list
+	 * @return the file for the compact word list, or <code>null</code> if the word list
+	 *               should not be saved
+	 * @since 3.33
+	 */
+	protected File getCompactFile(final URL url) {
+		return null;
+	}
+
+	/**
+	 * Returns a stamp that changes whenever the given word list or the way it is hashed
+	 * changes.
+	 *
+	 * @param url
+	 *                   The URL of the word list
+	 * @return the stamp
+	 * @since 3.33
+	 */
+	private String getCompactStamp(final URL url) {
+		long modified= 0;
+		long length= -1;
+		try {
+			URLConnection connection= url.openConnection();
+			modified= connection.getLastModified();
+			length= connection.getContentLengthLong();
+			try {
+				connection.getInputStream().close();
+			} catch (IOException e) {
+				// the word list does not exist
+			}
+		} catch (IOException e) {
+			// use the URL only
+		}
+		return url.toExternalForm() + '|' + modified + '|' + length + '|' + getEncoding() + '|' + fHashProvider.getClass().getName();
+	}
+
+	/**
+	 * Creates a compact word table from the words in {@link #fHashBuckets}.
+	 *
+	 * @param stamp
+	 *                   The stamp of the word list
+	 * @return the table, or <code>null</code> if a word is too long to be stored in the table
+	 * @since 3.33
+	 */
+	private CompactWordTable createCompactTable(final String stamp) {
+		CompactWordTable.Writer writer= new CompactWordTable.Writer(stamp, fHashBuckets.size());
+		for (Map.Entry<ByteArrayWrapper, Object> entry : fHashBuckets.entrySet()) {
+			byte[] hash= entry.getKey().byteArray;
+			Object bucket= entry.getValue();
+			List<byte[]> words;
+			if (bucket instanceof byte[]) {
+				words= Collections.singletonList((byte[])bucket);
+			} else {
+				@SuppressWarnings("unchecked")
+				ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
+				words= bucketList;
+			}
+			if (hash.length > CompactWordTable.MAX_LENGTH)
+				return null;
+			for (byte[] word : words) {
+				if (word.length > CompactWordTable.MAX_LENGTH)
+					return null;
+			}
+			writer.add(hash, words);
+		}
+		return writer.toTable();
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
@@ -698,6 +867,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		fCompactTable= null;
 	}
 
 	@Override
@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Read-only word table of a spell dictionary, keyed by phonetic hash.
+ * <p>
+ * All words are stored in one byte buffer: a header, an open addressing table of
+ * <code>int</code> entry offsets, and the entries. Each entry holds the UTF-8 bytes of a
+ * phonetic hash followed by the UTF-8 bytes of all words with that hash. Since the buffer
+ * contains no object references, it can be written to a file as is and later be memory mapped,
+ * which makes loading a saved table independent of the size of the word list.
+ * </p>
+ * <p>
+ * The header contains a stamp that describes the word list the table was built from. A saved
+ * table is only used if its stamp matches the current stamp of the word list.
+ * </p>
+ *
+ * @since 3.33
+ */
+final class CompactWordTable {
+
+	/**
+	 * Collects the words of a table and creates it.
+	 */
+	static final class Writer {
+
+		private final String fStamp;
+
+		private final ByteArrayOutputStream fEntryBytes= new ByteArrayOutputStream();
+
+		private final DataOutputStream fEntries= new DataOutputStream(fEntryBytes);
+
+		private int[] fHashCodes;
+
+		private int[] fOffsets;
+
+		private int fCount;
+
+		/**
+		 * Creates a new writer.
+		 *
+		 * @param stamp the stamp of the word list
+		 * @param expectedEntries the expected number of phonetic hashes
+		 */
+		Writer(String stamp, int expectedEntries) {
+			fStamp= stamp;
+			fHashCodes= new int[Math.max(expectedEntries, 16)];
+			fOffsets= new int[fHashCodes.length];
+		}
+
+		/**
+		 * Adds all words with the given phonetic hash. Each phonetic hash must only be added once,
+		 * hashes and words must not be longer than {@link CompactWordTable#MAX_LENGTH} bytes.
+		 *
+		 * @param hash the UTF-8 bytes of the phonetic hash
+		 * @param words the UTF-8 bytes of the words
+		 */
+		void add(byte[] hash, List<byte[]> words) {
+			if (fCount == fHashCodes.length) {
+				fHashCodes= Arrays.copyOf(fHashCodes, fCount * 2);
+				fOffsets= Arrays.copyOf(fOffsets, fCount * 2);
+			}
+			fHashCodes[fCount]= hashCode(hash);
+			fOffsets[fCount]= fEntries.size();
+			fCount++;
+			try {
+				fEntries.writeShort(hash.length);
+				fEntries.write(hash);
+				fEntries.writeInt(words.size());
+				for (byte[] word : words) {
+					fEntries.writeShort(word.length);
+					fEntries.write(word);
+				}
+			} catch (IOException e) {
+				// cannot happen, the stream writes to memory
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Creates the table from the added words.
+		 *
+		 * @return the table
+		 */
+		CompactWordTable toTable() {
+			byte[] stamp= fStamp.getBytes(StandardCharsets.UTF_8);
+			int tableSize= Integer.highestOneBit(Math.max(fCount, 1) * 2 - 1) << 1; // load factor of at most 0.5
+			int headerSize= HEADER_SIZE + stamp.length + 8;
+			int entriesStart= headerSize + 4 * tableSize;
+
+			ByteBuffer buffer= ByteBuffer.allocate(entriesStart + fEntryBytes.size());
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putInt(stamp.length);
+			buffer.put(stamp);
+			buffer.putInt(fCount);
+			buffer.putInt(tableSize);
+			int mask= tableSize - 1;
+			for (int i= 0; i < fCount; i++) {
+				int slot= fHashCodes[i] & mask;
+				while (buffer.getInt(headerSize + 4 * slot) != 0)
+					slot= (slot + 1) & mask;
+				buffer.putInt(headerSize + 4 * slot, entriesStart + fOffsets[i]);
+			}
+			buffer.position(entriesStart);
+			buffer.put(fEntryBytes.toByteArray());
+			buffer.rewind();
+			return new CompactWordTable(buffer);
+		}
+	}
+
+	/** The maximum length in bytes of a phonetic hash or word */
+	static final int MAX_LENGTH= 0xFFFF;
+
+	/** The name of the folder in the state location that contains the saved tables */
+	private static final String FOLDER= "spelling"; //$NON-NLS-1$
+
+	/** The file extension of saved tables */
+	private static final String EXTENSION= ".dict"; //$NON-NLS-1$
+
+	/** The magic number at the start of a saved table */
+	private static final int MAGIC= 0x4A545744;
+
+	/** The version of the table layout */
+	private static final int VERSION= 1;
+
+	/** The size of magic number, version and stamp length */
+	private static final int HEADER_SIZE= 12;
+
+	private final ByteBuffer fBuffer;
+
+	private final int fTableStart;
+
+	private final int fTableMask;
+
+	private final int fCount;
+
+	private CompactWordTable(ByteBuffer buffer) {
+		fBuffer= buffer;
+		int stampLength= buffer.getInt(8);
+		fCount= buffer.getInt(HEADER_SIZE + stampLength);
+		fTableStart= HEADER_SIZE + stampLength + 8;
+		fTableMask= buffer.getInt(HEADER_SIZE + stampLength + 4) - 1;
+	}
+
+	/**
+	 * Returns the file in the state location of the plug-in that is used to save the table of the
+	 * dictionary with the given name.
+	 *
+	 * @param name the name of the dictionary
+	 * @return the file for the table
+	 */
+	static File getFile(String name) {
+		return JavaPlugin.getDefault().getStateLocation().append(FOLDER).append(name + EXTENSION).toFile();
+	}
+
+	/**
+	 * Maps a saved table into memory.
+	 *
+	 * @param file the file of the table
+	 * @param stamp the current stamp of the word list
+	 * @return the table, or <code>null</code> if the file does not exist, is invalid or was built
+	 *         from another version of the word list
+	 */
+	static CompactWordTable map(File file, String stamp) {
+		if (!file.isFile())
+			return null;
+		// check the header before mapping, a mapped file cannot be replaced on all platforms
+		try (InputStream stream= new FileInputStream(file)) {
+			DataInputStream input= new DataInputStream(stream);
+			if (input.readInt() != MAGIC || input.readInt() != VERSION)
+				return null;
+			byte[] expected= stamp.getBytes(StandardCharsets.UTF_8);
+			if (input.readInt() != expected.length)
+				return null;
+			byte[] saved= new byte[expected.length];
+			input.readFully(saved);
+			if (!Arrays.equals(saved, expected))
+				return null;
+		} catch (IOException e) {
+			return null;
+		}
+
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			CompactWordTable table= new CompactWordTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			return table.isValid() ? table : null;
+		} catch (IOException | IndexOutOfBoundsException | BufferUnderflowException e) {
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Saves this table. The file is replaced atomically, so that a concurrent {@link #map(File, String)}
+	 * never sees a partially written table.
+	 *
+	 * @param file the file of the table
+	 * @return <code>true</code> if the table has been saved, <code>false</code> otherwise
+	 */
+	boolean save(File file) {
+		File folder= file.getParentFile();
+		if (!folder.isDirectory() && !folder.mkdirs())
+			return false;
+		File temp= null;
+		try {
+			temp= File.createTempFile(file.getName(), null, folder);
+			try (FileChannel channel= FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+				ByteBuffer buffer= fBuffer.duplicate();
+				buffer.rewind();
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			if (temp != null)
+				temp.delete();
+			return false;
+		}
+	}
+
+	/**
+	 * Tells whether this table contains no words.
+	 *
+	 * @return <code>true</code> if this table is empty
+	 */
+	boolean isEmpty() {
+		return fCount == 0;
+	}
+
+	/**
+	 * Tells whether one of the given words is stored with the given phonetic hash.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @param words the UTF-8 bytes of the words to look for
+	 * @return <code>true</code> if one of the words is contained, <code>false</code> otherwise
+	 */
+	boolean contains(byte[] hash, byte[]... words) {
+		int entry= find(hash);
+		if (entry == -1)
+			return false;
+		int position= entry + 2 + (fBuffer.getShort(entry) & 0xFFFF);
+		int count= fBuffer.getInt(position);
+		position+= 4;
+		for (int i= 0; i < count; i++) {
+			int length= fBuffer.getShort(position) & 0xFFFF;
+			position+= 2;
+			for (byte[] word : words) {
+				if (equals(position, length, word))
+					return true;
+			}
+			position+= length;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds all words stored with the given phonetic hash to the given list.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @param result the list to add the UTF-8 bytes of the words to
+	 */
+	void getWords(byte[] hash, List<byte[]> result) {
+		int entry= find(hash);
+		if (entry == -1)
+			return;
+		int position= entry + 2 + (fBuffer.getShort(entry) & 0xFFFF);
+		int count= fBuffer.getInt(position);
+		position+= 4;
+		if (result instanceof ArrayList)
+			((ArrayList<byte[]>) result).ensureCapacity(result.size() + count);
+		for (int i= 0; i < count; i++) {
+			byte[] word= new byte[fBuffer.getShort(position) & 0xFFFF];
+			position+= 2;
+			for (int j= 0; j < word.length; j++)
+				word[j]= fBuffer.get(position + j);
+			position+= word.length;
+			result.add(word);
+		}
+	}
+
+	/**
+	 * Returns the offset of the entry for the given phonetic hash.
+	 *
+	 * @param hash the UTF-8 bytes of the phonetic hash
+	 * @return the offset of the entry, or <code>-1</code> if the hash is not contained
+	 */
+	private int find(byte[] hash) {
+		int slot= hashCode(hash) & fTableMask;
+		while (true) {
+			int entry= fBuffer.getInt(fTableStart + 4 * slot);
+			if (entry == 0)
+				return -1;
+			if ((fBuffer.getShort(entry) & 0xFFFF) == hash.length && equals(entry + 2, hash.length, hash))
+				return entry;
+			slot= (slot + 1) & fTableMask;
+		}
+	}
+
+	private boolean equals(int position, int length, byte[] bytes) {
+		if (length != bytes.length)
+			return false;
+		for (int i= 0; i < length; i++) {
+			if (fBuffer.get(position + i) != bytes[i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks that the table fits into the buffer and that all table slots point into the buffer.
+	 *
+	 * @return <code>true</code> if the table is valid, <code>false</code> otherwise
+	 */
+	private boolean isValid() {
+		int limit= fBuffer.limit();
+		int tableSize= fTableMask + 1;
+		if (tableSize <= 0 || Integer.bitCount(tableSize) != 1 || fCount < 0 || fCount >= tableSize)
+			return false;
+		int entriesStart= fTableStart + 4 * tableSize;
+		if (entriesStart > limit)
+			return false;
+		for (int slot= 0; slot < tableSize; slot++) {
+			int entry= fBuffer.getInt(fTableStart + 4 * slot);
+			if (entry != 0 && (entry < entriesStart || entry + 2 > limit))
+				return false;
+		}
+		return true;
+	}
+
+	private static int hashCode(byte[] bytes) {
+		int hash= 0x811C9DC5;
+		for (byte b : bytes) {
+			hash^= b;
+			hash*= 0x01000193;
+		}
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -33,6 +41,98 @@ import org.eclipse.jdt.ui.PreferenceConstants;
  */
 public class DefaultSpellChecker implements ISpellChecker {
 
+	/**
+	 * The words of a region, read ahead from the spell-check iterator so that they can be checked
+	 * in parallel.
+	 * @since 3.33
+	 */
+	private static final class Word {
+
+		final String fWord;
+		final int fBegin;
+		final int fEnd;
+		final boolean fStartsSentence;
+		int fResult;
+
+		Word(String word, int begin, int end, boolean startsSentence) {
+			fWord= word;
+			fBegin= begin;
+			fEnd= end;
+			fStartsSentence= startsSentence;
+		}
+	}
+
+	/**
+	 * The preferences that decide which words are reported, read once per execution.
+	 * @since 3.33
+	 */
+	private static final class Options {
+
+		final boolean fIgnoreDigits;
+		final boolean fIgnoreMixed;
+		final boolean fIgnoreSentence;
+		final boolean fIgnoreUpper;
+		final boolean fIgnoreURLS;
+
+		Options(IPreferenceStore store) {
+			fIgnoreDigits= store.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS);
+			fIgnoreMixed= store.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED);
+			fIgnoreSentence= store.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE);
+			fIgnoreUpper= store.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER);
+			fIgnoreURLS= store.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS);
+		}
+	}
+
+	/** Result of a word that is not reported */
+	private static final int CORRECT= 0;
+
+	/** Result of a misspelled word */
+	private static final int MISSPELLED= 1;
+
+	/** Result of a correct word that starts a sentence but is not capitalized */
+	private static final int NOT_CAPITALIZED= 2;
+
+	/**
+	 * The number of words a region must have to be checked in parallel. Smaller regions, like
+	 * most comments, are checked in the calling thread.
+	 * @since 3.33
+	 */
+	private static final int PARALLEL_THRESHOLD= 2000;
+
+	/**
+	 * The number of words read ahead and checked in parallel at once. Since words are reported in
+	 * batches, at most this many words are checked after the problems threshold has been reached.
+	 * @since 3.33
+	 */
+	private static final int BATCH_SIZE= 8000;
+
+	/**
+	 * The minimum number of words checked by one thread.
+	 * @since 3.33
+	 */
+	private static final int MIN_CHUNK_SIZE= 500;
+
+	private static final int THREAD_COUNT= Math.max(0, Math.min(3, Runtime.getRuntime().availableProcessors() - 1));
+
+	/**
+	 * <code>true</code> if large regions are checked in parallel. Can be disabled with the system
+	 * property <code>org.eclipse.jdt.ui.spelling.parallel=false</code>.
+	 * @since 3.33
+	 */
+	private static final boolean PARALLEL= THREAD_COUNT > 0 && !"false".equals(System.getProperty("org.eclipse.jdt.ui.spelling.parallel")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final ExecutorService EXECUTOR;
+
+	static {
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(Math.max(1, THREAD_COUNT), Math.max(1, THREAD_COUNT), 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Spell Checking"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR= executor;
+	}
+
 	/** Array of URL prefixes */
 	public static final String[] URL_PREFIXES= new String[] { "http://", "https://", "www.", "ftp://", "ftps://", "news://", "mailto://" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
 
@@ -124,15 +224,15 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	/**
-	 * The dictionaries to use for spell checking. Synchronized to avoid
-	 * concurrent modifications.
+	 * The dictionaries to use for spell checking. Copied on write, so that
+	 * lookups, which happen for every checked word, do not need a lock.
 	 */
-	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
+	private final Set<ISpellDictionary> fDictionaries= new CopyOnWriteArraySet<>();
 
 	/**
-	 * The words to be ignored. Synchronized to avoid concurrent modifications.
+	 * The words to be ignored. Concurrent to allow lookups without a lock.
 	 */
-	private final Set<String> fIgnored= Collections.synchronizedSet(new HashSet<String>());
+	private final Set<String> fIgnored= ConcurrentHashMap.newKeySet();
 
 	/**
 	 * The preference store. Assumes the <code>IPreferenceStore</code>
@@ -162,21 +262,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void addDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.add(dictionary);
 	}
 
 	@Override
 	public boolean acceptsWords() {
-		// synchronizing might not be needed here since acceptWords is
-		// a read-only access and only called in the same thread as
-		// the modifying methods add/checkWord (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 
 			if (dictionary.acceptsWords())
 				return true;
@@ -186,14 +277,8 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void addWord(final String word) {
-		// synchronizing is necessary as this is a write access
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final String addable= word.toLowerCase();
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
@@ -202,30 +287,28 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void checkWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
 	}
 
 	@Override
 	public void execute(final ISpellEventListener listener, final ISpellCheckIterator iterator) {
 
-		final boolean ignoreDigits= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_DIGITS);
-		final boolean ignoreMixed= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_MIXED);
-		final boolean ignoreSentence= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SENTENCE);
-		final boolean ignoreUpper= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_UPPER);
-		final boolean ignoreURLS= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_URLS);
+		final Options options= new Options(fPreferences);
 		final boolean ignoreNonLetters= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_NON_LETTERS);
 		final boolean ignoreSingleLetters= fPreferences.getBoolean(PreferenceConstants.SPELLING_IGNORE_SINGLE_LETTERS);
 		final int problemsThreshold= PreferenceConstants.getPreferenceStore().getInt(PreferenceConstants.SPELLING_PROBLEMS_THRESHOLD);
 
 		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
 
-		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
-		while (iter.hasNext())
-			iter.next().setStripNonLetters(ignoreNonLetters);
+		for (ISpellDictionary dictionary : fDictionaries)
+			dictionary.setStripNonLetters(ignoreNonLetters);
+
+		if (checksInParallel()) {
+			executeInBatches(listener, iterator, options, problemsThreshold);
+			return;
+		}
 
 		String word= null;
-		boolean starts= false;
 		int problemCount= 0;
 
 		while (problemCount <= problemsThreshold && iterator.hasNext()) {
@@ -233,48 +316,153 @@ public class DefaultSpellChecker implements ISpellChecker {
 			word= iterator.next();
 			if (word != null) {
 
-				// synchronizing is necessary as this is called inside the reconciler
-				if (!fIgnored.contains(word)) {
+				boolean starts= iterator.startsSentence();
+				int result= check(word, starts, options);
+				if (result != CORRECT) {
+					listener.handle(new SpellEvent(this, word, iterator.getBegin(), iterator.getEnd(), starts, result == NOT_CAPITALIZED));
+					problemCount++;
+				}
+			}
+		}
+	}
 
-					starts= iterator.startsSentence();
-					if (!isCorrect(word)) {
+	/**
+	 * Tells whether regions with many words are checked in parallel.
+	 *
+	 * @return <code>true</code> if large regions are checked in parallel, <code>false</code>
+	 *         if all words are checked in the calling thread
+	 * @since 3.33
+	 */
+	protected boolean checksInParallel() {
+		return PARALLEL;
+	}
 
-						boolean isMixed=  isMixedCase(word, true);
-						boolean isUpper= isUpperCase(word);
-						boolean isDigits= isDigits(word);
-						boolean isURL= isUrl(word);
+	/**
+	 * Checks the words of the iterator in batches. Once a region turns out to be large, the words
+	 * of the following batches are checked in parallel. The events are always sent in the calling thread and
+	 * in the order of the words.
+	 *
+	 * @param listener the listener to send the events to
+	 * @param iterator the iterator of the words to check
+	 * @param options the options of this execution
+	 * @param problemsThreshold the maximum number of reported problems
+	 * @since 3.33
+	 */
+	private void executeInBatches(final ISpellEventListener listener, final ISpellCheckIterator iterator, final Options options, final int problemsThreshold) {
+		int problemCount= 0;
+		boolean parallel= false;
 
-						if ( !ignoreMixed && isMixed || !ignoreUpper && isUpper || !ignoreDigits && isDigits || !ignoreURLS && isURL || (!isMixed && !isUpper && !isDigits && !isURL)) {
-							listener.handle(new SpellEvent(this, word, iterator.getBegin(), iterator.getEnd(), starts, false));
-							problemCount++;
-						}
+		while (problemCount <= problemsThreshold && iterator.hasNext()) {
 
-					} else {
+			final List<Word> words= new ArrayList<>(parallel ? BATCH_SIZE : PARALLEL_THRESHOLD);
+			while (words.size() < (parallel ? BATCH_SIZE : PARALLEL_THRESHOLD) && iterator.hasNext()) {
+				final String word= iterator.next();
+				if (word != null)
+					words.add(new Word(word, iterator.getBegin(), iterator.getEnd(), iterator.startsSentence()));
+			}
 
-						if (!ignoreSentence && starts && Character.isLowerCase(word.charAt(0))) {
-							listener.handle(new SpellEvent(this, word, iterator.getBegin(), iterator.getEnd(), true, true));
-							problemCount++;
-						}
-					}
+			if (parallel)
+				checkInParallel(words, options);
+			else
+				check(words, options);
+			// the first batch is always checked here, which also loads the dictionaries before other threads use them
+			parallel= iterator.hasNext();
+
+			for (Word word : words) {
+				if (problemCount > problemsThreshold)
+					break;
+				if (word.fResult != CORRECT) {
+					listener.handle(new SpellEvent(this, word.fWord, word.fBegin, word.fEnd, word.fStartsSentence, word.fResult == NOT_CAPITALIZED));
+					problemCount++;
 				}
 			}
 		}
 	}
 
-	@Override
-	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
+	/**
+	 * Checks the given words in chunks on the spell checking threads and in the calling thread.
+	 *
+	 * @param words the words to check
+	 * @param options the options of this execution
+	 * @since 3.33
+	 */
+	private void checkInParallel(final List<Word> words, final Options options) {
+		final int chunkCount= Math.max(1, Math.min(THREAD_COUNT + 1, words.size() / MIN_CHUNK_SIZE));
+		final int chunkSize= (words.size() + chunkCount - 1) / chunkCount;
+
+		final List<List<Word>> chunks= new ArrayList<>(chunkCount);
+		final List<Future<?>> futures= new ArrayList<>(chunkCount);
+		for (int start= chunkSize; start < words.size(); start+= chunkSize) {
+			final List<Word> chunk= words.subList(start, Math.min(start + chunkSize, words.size()));
+			chunks.add(chunk);
+			futures.add(EXECUTOR.submit(() -> check(chunk, options)));
+		}
+
+		check(words.subList(0, Math.min(chunkSize, words.size())), options);
+
+		boolean interrupted= false;
+		for (int index= 0; index < futures.size(); index++) {
+			try {
+				futures.get(index).get();
+			} catch (InterruptedException e) {
+				// check the chunk here, checking a word twice is harmless
+				interrupted= true;
+				futures.get(index).cancel(false);
+				check(chunks.get(index), options);
+			} catch (ExecutionException e) {
+				final Throwable cause= e.getCause();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new IllegalStateException(cause);
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	private void check(final List<Word> words, final Options options) {
+		for (Word word : words)
+			word.fResult= check(word.fWord, word.fStartsSentence, options);
+	}
+
+	/**
+	 * Checks a single word.
+	 *
+	 * @param word the word to check
+	 * @param starts <code>true</code> if the word starts a sentence
+	 * @param options the options of this execution
+	 * @return one of {@link #CORRECT}, {@link #MISSPELLED} and {@link #NOT_CAPITALIZED}
+	 * @since 3.33
+	 */
+	private int check(final String word, final boolean starts, final Options options) {
+		if (fIgnored.contains(word))
+			return CORRECT;
 
-		// synchronizing might not be needed here since getProposals is
-		// a read-only access and only called in the same thread as
-		// the modifing methods add/removeDictionary (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
+		if (!isCorrect(word)) {
+
+			boolean isMixed=  isMixedCase(word, true);
+			boolean isUpper= isUpperCase(word);
+			boolean isDigits= isDigits(word);
+			boolean isURL= isUrl(word);
+
+			if ( !options.fIgnoreMixed && isMixed || !options.fIgnoreUpper && isUpper || !options.fIgnoreDigits && isDigits || !options.fIgnoreURLS && isURL || (!isMixed && !isUpper && !isDigits && !isURL))
+				return MISSPELLED;
+			return CORRECT;
 		}
 
+		if (!options.fIgnoreSentence && starts && Character.isLowerCase(word.charAt(0)))
+			return NOT_CAPITALIZED;
+		return CORRECT;
+	}
+
+	@Override
+	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
+
 		final HashSet<RankedWordProposal> proposals= new HashSet<>();
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			proposals.addAll(dictionary.getProposals(word, sentence));
 		}
 		return proposals;
@@ -282,22 +470,15 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void ignoreWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.isCorrect(word))
 				return true;
 		}
@@ -306,7 +487,6 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.remove(dictionary);
 	}
 
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
@@ -83,4 +84,9 @@ public class PersistentSpellDictionary extends AbstractSpellDictionary {
 	protected final URL getURL() {
 		return fLocation;
 	}
+
+	@Override
+	protected File getCompactFile(final URL url) {
+		return CompactWordTable.getFile("user-" + Integer.toHexString(url.toExternalForm().hashCode())); //$NON-NLS-1$
+	}
 }